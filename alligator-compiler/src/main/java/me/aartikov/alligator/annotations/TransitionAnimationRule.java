@@ -0,0 +1,26 @@
+package me.aartikov.alligator.annotations;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+import me.aartikov.alligator.DestinationType;
+import me.aartikov.alligator.Screen;
+import me.aartikov.alligator.TransitionType;
+
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.CLASS)
+public @interface TransitionAnimationRule {
+	TransitionType[] transitionType() default {};
+
+	DestinationType[] destinationType() default {};
+
+	Class<? extends Screen> from() default Screen.class;
+
+	Class<? extends Screen> to() default Screen.class;
+
+	int enterAnimation();
+
+	int exitAnimation();
+}
@@ -0,0 +1,12 @@
+package me.aartikov.alligator.annotations;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.CLASS)
+public @interface TransitionAnimationRules {
+	TransitionAnimationRule[] value();
+}
@@ -2,8 +2,12 @@ package me.aartikov.alligatorcompiler;
 
 import java.io.IOException;
 import java.util.ArrayList;
-import java.util.Collections;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 import com.squareup.javapoet.JavaFile;
@@ -16,11 +20,21 @@ import javax.lang.model.element.Element;
 import javax.lang.model.element.TypeElement;
 import javax.tools.Diagnostic;
 
+import me.aartikov.alligator.DestinationType;
+import me.aartikov.alligator.TransitionType;
+import me.aartikov.alligator.annotations.DeepLink;
 import me.aartikov.alligator.annotations.RegisterScreen;
+import me.aartikov.alligator.annotations.TransitionAnimationRule;
+import me.aartikov.alligator.annotations.TransitionAnimationRules;
 
 public class AlligatorCompiler extends AbstractProcessor {
 	private RegistrationAnnotatedClassCreator annotatedClassCreator;
 	private NavigationFactoryGenerator navigationFactoryGenerator;
+	private FragmentFactoryGenerator fragmentFactoryGenerator;
+	private DeepLinkAnnotatedClassCreator deepLinkAnnotatedClassCreator;
+	private DeepLinkRouterGenerator deepLinkRouterGenerator;
+	private AnimationRuleCreator animationRuleCreator;
+	private TransitionAnimationProviderGenerator transitionAnimationProviderGenerator;
 
 	@Override
 	public synchronized void init(ProcessingEnvironment processingEnv) {
@@ -28,11 +42,17 @@ public class AlligatorCompiler extends AbstractProcessor {
 		ProcessingUtils utils = new ProcessingUtils(processingEnv);
 		annotatedClassCreator = new RegistrationAnnotatedClassCreator(utils);
 		navigationFactoryGenerator = new NavigationFactoryGenerator(utils);
+		fragmentFactoryGenerator = new FragmentFactoryGenerator(utils);
+		deepLinkAnnotatedClassCreator = new DeepLinkAnnotatedClassCreator();
+		deepLinkRouterGenerator = new DeepLinkRouterGenerator();
+		animationRuleCreator = new AnimationRuleCreator(utils);
+		transitionAnimationProviderGenerator = new TransitionAnimationProviderGenerator();
 	}
 
 	@Override
 	public Set<String> getSupportedAnnotationTypes() {
-		return Collections.singleton(RegisterScreen.class.getCanonicalName());
+		return new HashSet<>(Arrays.asList(RegisterScreen.class.getCanonicalName(), DeepLink.class.getCanonicalName(),
+				TransitionAnimationRule.class.getCanonicalName(), TransitionAnimationRules.class.getCanonicalName()));
 	}
 
 	@Override
@@ -44,14 +64,50 @@ public class AlligatorCompiler extends AbstractProcessor {
 	public boolean process(final Set<? extends TypeElement> annotations, final RoundEnvironment roundEnv) {
 		try {
 			List<RegistrationAnnotatedClass> annotatedClasses = new ArrayList<>();
+			Map<String, RegistrationAnnotatedClass> registeredScreens = new HashMap<>();
 			for (Element element : roundEnv.getElementsAnnotatedWith(RegisterScreen.class)) {
 				RegistrationAnnotatedClass annotatedClass = annotatedClassCreator.create(element);
-				checkThatScreenIsNotAlreadyRegistered(annotatedClasses, annotatedClass);
+				checkThatScreenIsNotAlreadyRegistered(registeredScreens, annotatedClass);
 				annotatedClasses.add(annotatedClass);
 			}
 
 			if (!annotatedClasses.isEmpty()) {
-				JavaFile javaFile = navigationFactoryGenerator.generate(annotatedClasses);
+				List<TypeElement> fragmentElements = fragmentFactoryGenerator.getFragmentElements(annotatedClasses);
+				if (!fragmentElements.isEmpty()) {
+					fragmentFactoryGenerator.generate(fragmentElements).writeTo(processingEnv.getFiler());
+				}
+
+				JavaFile javaFile = navigationFactoryGenerator.generate(annotatedClasses, !fragmentElements.isEmpty());
+				javaFile.writeTo(processingEnv.getFiler());
+			}
+
+			List<DeepLinkAnnotatedClass> deepLinkAnnotatedClasses = new ArrayList<>();
+			Map<String, DeepLinkAnnotatedClass> patternShapes = new HashMap<>();
+			for (Element element : roundEnv.getElementsAnnotatedWith(DeepLink.class)) {
+				DeepLinkAnnotatedClass deepLinkAnnotatedClass = deepLinkAnnotatedClassCreator.create(element);
+				checkThatDeepLinksAreNotAlreadyRegistered(patternShapes, deepLinkAnnotatedClass);
+				deepLinkAnnotatedClasses.add(deepLinkAnnotatedClass);
+			}
+
+			if (!deepLinkAnnotatedClasses.isEmpty()) {
+				JavaFile javaFile = deepLinkRouterGenerator.generate(deepLinkAnnotatedClasses);
+				javaFile.writeTo(processingEnv.getFiler());
+			}
+
+			Set<Element> animationRuleElements = new LinkedHashSet<>();
+			animationRuleElements.addAll(roundEnv.getElementsAnnotatedWith(TransitionAnimationRule.class));
+			animationRuleElements.addAll(roundEnv.getElementsAnnotatedWith(TransitionAnimationRules.class));
+			List<AnimationRule> animationRules = new ArrayList<>();
+			Map<String, AnimationRule> animationRuleEntries = new HashMap<>();
+			for (Element element : animationRuleElements) {
+				for (AnimationRule animationRule : animationRuleCreator.create(element)) {
+					checkThatAnimationRulesDoNotConflict(animationRuleEntries, animationRule);
+					animationRules.add(animationRule);
+				}
+			}
+
+			if (!animationRules.isEmpty()) {
+				JavaFile javaFile = transitionAnimationProviderGenerator.generate(animationRules);
 				javaFile.writeTo(processingEnv.getFiler());
 			}
 		} catch (ProcessingException e) {
@@ -62,10 +118,29 @@ public class AlligatorCompiler extends AbstractProcessor {
 		return true;
 	}
 
-	private void checkThatScreenIsNotAlreadyRegistered(List<RegistrationAnnotatedClass> annotatedClasses, RegistrationAnnotatedClass newAnnotatedClass) throws ProcessingException {
-		for (RegistrationAnnotatedClass annotatedClass : annotatedClasses) {
-			if (annotatedClass.getScreenClassName().equals(newAnnotatedClass.getScreenClassName())) {
-				throw new ProcessingException(newAnnotatedClass.getClassElement(), "Screen %s is already registered.", newAnnotatedClass.getScreenClassName());
+	private void checkThatScreenIsNotAlreadyRegistered(Map<String, RegistrationAnnotatedClass> registeredScreens, RegistrationAnnotatedClass newAnnotatedClass) throws ProcessingException {
+		if (registeredScreens.put(newAnnotatedClass.getScreenClassName(), newAnnotatedClass) != null) {
+			throw new ProcessingException(newAnnotatedClass.getClassElement(), "Screen %s is already registered.", newAnnotatedClass.getScreenClassName());
+		}
+	}
+
+	private void checkThatDeepLinksAreNotAlreadyRegistered(Map<String, DeepLinkAnnotatedClass> patternShapes, DeepLinkAnnotatedClass newAnnotatedClass) throws ProcessingException {
+		for (String pattern : newAnnotatedClass.getPatterns()) {
+			DeepLinkAnnotatedClass annotatedClass = patternShapes.put(deepLinkAnnotatedClassCreator.getPatternShape(pattern), newAnnotatedClass);
+			if (annotatedClass != null) {
+				throw new ProcessingException(newAnnotatedClass.getClassElement(), "Deep link %s conflicts with a deep link of %s.", pattern, annotatedClass.getClassElement().getQualifiedName());
+			}
+		}
+	}
+
+	private void checkThatAnimationRulesDoNotConflict(Map<String, AnimationRule> animationRuleEntries, AnimationRule newAnimationRule) throws ProcessingException {
+		for (TransitionType transitionType : newAnimationRule.getTransitionTypes()) {
+			for (DestinationType destinationType : newAnimationRule.getDestinationTypes()) {
+				AnimationRule animationRule = animationRuleEntries.put(animationRuleCreator.getEntryKey(transitionType, destinationType, newAnimationRule), newAnimationRule);
+				if (animationRule != null) {
+					throw new ProcessingException(newAnimationRule.getClassElement(), "@TransitionAnimationRule for %s %s transitions conflicts with a rule of %s.",
+							transitionType, destinationType, animationRule.getClassElement().getQualifiedName());
+				}
 			}
 		}
 	}
@@ -0,0 +1,63 @@
+package me.aartikov.alligatorcompiler;
+
+import java.util.List;
+
+import javax.lang.model.element.TypeElement;
+
+import me.aartikov.alligator.DestinationType;
+import me.aartikov.alligator.TransitionType;
+
+public class AnimationRule {
+	private TypeElement classElement;
+	private List<TransitionType> transitionTypes;
+	private List<DestinationType> destinationTypes;
+	private String screenClassFromName;
+	private String screenClassToName;
+	private int enterAnimation;
+	private int exitAnimation;
+
+	public AnimationRule(TypeElement classElement, List<TransitionType> transitionTypes, List<DestinationType> destinationTypes,
+			String screenClassFromName, String screenClassToName, int enterAnimation, int exitAnimation) {
+		this.classElement = classElement;
+		this.transitionTypes = transitionTypes;
+		this.destinationTypes = destinationTypes;
+		this.screenClassFromName = screenClassFromName;
+		this.screenClassToName = screenClassToName;
+		this.enterAnimation = enterAnimation;
+		this.exitAnimation = exitAnimation;
+	}
+
+	public TypeElement getClassElement() {
+		return classElement;
+	}
+
+	public List<TransitionType> getTransitionTypes() {
+		return transitionTypes;
+	}
+
+	public List<DestinationType> getDestinationTypes() {
+		return destinationTypes;
+	}
+
+	/**
+	 * Returns {@code null} if the rule is applied to transitions from any screen.
+	 */
+	public String getScreenClassFromName() {
+		return screenClassFromName;
+	}
+
+	/**
+	 * Returns {@code null} if the rule is applied to transitions to any screen.
+	 */
+	public String getScreenClassToName() {
+		return screenClassToName;
+	}
+
+	public int getEnterAnimation() {
+		return enterAnimation;
+	}
+
+	public int getExitAnimation() {
+		return exitAnimation;
+	}
+}
@@ -0,0 +1,101 @@
+package me.aartikov.alligatorcompiler;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.MirroredTypeException;
+
+import me.aartikov.alligator.DestinationType;
+import me.aartikov.alligator.Screen;
+import me.aartikov.alligator.TransitionType;
+import me.aartikov.alligator.annotations.TransitionAnimationRule;
+import me.aartikov.alligator.annotations.TransitionAnimationRules;
+
+public class AnimationRuleCreator {
+	private ProcessingUtils utils;
+
+	public AnimationRuleCreator(ProcessingUtils utils) {
+		this.utils = utils;
+	}
+
+	public List<AnimationRule> create(Element element) throws ProcessingException {
+		TypeElement classElement = obtainClassElement(element);
+		List<TransitionAnimationRule> annotations = new ArrayList<>();
+		TransitionAnimationRule ruleAnnotation = classElement.getAnnotation(TransitionAnimationRule.class);
+		if (ruleAnnotation != null) {
+			annotations.add(ruleAnnotation);
+		}
+		TransitionAnimationRules rulesAnnotation = classElement.getAnnotation(TransitionAnimationRules.class);
+		if (rulesAnnotation != null) {
+			annotations.addAll(Arrays.asList(rulesAnnotation.value()));
+		}
+
+		boolean isScreen = utils.isScreen(classElement);
+		List<AnimationRule> rules = new ArrayList<>(annotations.size());
+		for (TransitionAnimationRule annotation : annotations) {
+			String screenClassFromName = obtainScreenClassFromName(annotation);
+			String screenClassToName = obtainScreenClassToName(annotation);
+			if (screenClassToName == null && screenClassFromName == null && isScreen) {
+				screenClassToName = classElement.getQualifiedName().toString();
+			}
+			rules.add(new AnimationRule(classElement, obtainTransitionTypes(annotation), obtainDestinationTypes(annotation),
+					screenClassFromName, screenClassToName, annotation.enterAnimation(), annotation.exitAnimation()));
+		}
+		return rules;
+	}
+
+	/**
+	 * Returns a key of a table entry. Rules with equal keys define an animation for the same transition.
+	 */
+	public String getEntryKey(TransitionType transitionType, DestinationType destinationType, AnimationRule rule) {
+		return transitionType + " " + destinationType + " " + rule.getScreenClassFromName() + " " + rule.getScreenClassToName();
+	}
+
+	private TypeElement obtainClassElement(Element element) throws ProcessingException {
+		if (element.getKind() != ElementKind.CLASS && element.getKind() != ElementKind.INTERFACE) {
+			throw new ProcessingException(element, "Only classes and interfaces can be annotated with @TransitionAnimationRule.");
+		}
+		return (TypeElement) element;
+	}
+
+	private List<TransitionType> obtainTransitionTypes(TransitionAnimationRule annotation) {
+		TransitionType[] values = annotation.transitionType();
+		return Arrays.asList(values.length != 0 ? values : TransitionType.values());
+	}
+
+	private List<DestinationType> obtainDestinationTypes(TransitionAnimationRule annotation) {
+		DestinationType[] values = annotation.destinationType();
+		return Arrays.asList(values.length != 0 ? values : DestinationType.values());
+	}
+
+	private String obtainScreenClassFromName(TransitionAnimationRule annotation) {
+		try {
+			return getScreenClassName(annotation.from().getCanonicalName());
+		} catch (MirroredTypeException mte) {
+			return getScreenClassName(getClassName(mte));
+		}
+	}
+
+	private String obtainScreenClassToName(TransitionAnimationRule annotation) {
+		try {
+			return getScreenClassName(annotation.to().getCanonicalName());
+		} catch (MirroredTypeException mte) {
+			return getScreenClassName(getClassName(mte));
+		}
+	}
+
+	private String getClassName(MirroredTypeException mte) {
+		DeclaredType type = (DeclaredType) mte.getTypeMirror();
+		TypeElement typeElement = (TypeElement) type.asElement();
+		return typeElement.getQualifiedName().toString();
+	}
+
+	private String getScreenClassName(String name) {
+		return name.equals(Screen.class.getCanonicalName()) ? null : name;
+	}
+}
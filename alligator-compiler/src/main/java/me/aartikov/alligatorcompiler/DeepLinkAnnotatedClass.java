@@ -0,0 +1,35 @@
+package me.aartikov.alligatorcompiler;
+
+import java.util.List;
+
+import javax.lang.model.element.TypeElement;
+
+public class DeepLinkAnnotatedClass {
+	private TypeElement classElement;
+	private String screenClassName;
+	private List<String> patterns;
+	private boolean screenHasParametersConstructor;
+
+	public DeepLinkAnnotatedClass(TypeElement classElement, String screenClassName, List<String> patterns, boolean screenHasParametersConstructor) {
+		this.classElement = classElement;
+		this.screenClassName = screenClassName;
+		this.patterns = patterns;
+		this.screenHasParametersConstructor = screenHasParametersConstructor;
+	}
+
+	public TypeElement getClassElement() {
+		return classElement;
+	}
+
+	public String getScreenClassName() {
+		return screenClassName;
+	}
+
+	public List<String> getPatterns() {
+		return patterns;
+	}
+
+	public boolean screenHasParametersConstructor() {
+		return screenHasParametersConstructor;
+	}
+}
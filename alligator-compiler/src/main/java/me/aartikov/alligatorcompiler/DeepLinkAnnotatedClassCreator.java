@@ -0,0 +1,135 @@
+package me.aartikov.alligatorcompiler;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.MirroredTypeException;
+import javax.lang.model.util.ElementFilter;
+
+import me.aartikov.alligator.annotations.DeepLink;
+import me.aartikov.alligator.annotations.RegisterScreen;
+
+public class DeepLinkAnnotatedClassCreator {
+	private static final String DEEP_LINK_PARAMETERS_CLASS_NAME = "me.aartikov.alligator.deeplinks.DeepLinkParameters";
+
+	public DeepLinkAnnotatedClass create(Element element) throws ProcessingException {
+		RegisterScreen registerScreenAnnotation = element.getAnnotation(RegisterScreen.class);
+		if (registerScreenAnnotation == null) {
+			throw new ProcessingException(element, "Only classes annotated with @RegisterScreen can be annotated with @DeepLink.");
+		}
+
+		TypeElement classElement = (TypeElement) element;
+		TypeElement screenClassElement = obtainScreenClassElement(registerScreenAnnotation);
+		List<String> patterns = obtainPatterns(classElement);
+		boolean screenHasParametersConstructor = checkScreenConstructors(classElement, screenClassElement);
+		return new DeepLinkAnnotatedClass(classElement, screenClassElement.getQualifiedName().toString(), patterns, screenHasParametersConstructor);
+	}
+
+	/**
+	 * Returns a pattern with parameter names removed. Patterns with equal shapes match the same deep links.
+	 */
+	public String getPatternShape(String pattern) {
+		int authorityEnd = pattern.indexOf('/', pattern.indexOf("://") + 3);
+		if (authorityEnd == -1) {
+			authorityEnd = pattern.length();
+		}
+
+		StringBuilder builder = new StringBuilder(pattern.substring(0, authorityEnd).toLowerCase(Locale.US));
+		for (String segment : pattern.substring(authorityEnd).split("/")) {
+			if (segment.isEmpty()) {
+				continue;
+			}
+			builder.append('/').append(isParameter(segment) ? "{}" : segment);
+		}
+		return builder.toString();
+	}
+
+	private TypeElement obtainScreenClassElement(RegisterScreen annotation) {
+		try {
+			annotation.value();
+			throw new IllegalStateException("Screen class is expected to be unavailable at compile time.");
+		} catch (MirroredTypeException mte) {
+			DeclaredType type = (DeclaredType) mte.getTypeMirror();
+			return (TypeElement) type.asElement();
+		}
+	}
+
+	private List<String> obtainPatterns(TypeElement classElement) throws ProcessingException {
+		String[] values = classElement.getAnnotation(DeepLink.class).value();
+		if (values.length == 0) {
+			throw new ProcessingException(classElement, "@DeepLink of %s has no patterns.", classElement.getQualifiedName());
+		}
+
+		List<String> patterns = new ArrayList<>(values.length);
+		for (String pattern : values) {
+			checkPattern(classElement, pattern);
+			patterns.add(pattern);
+		}
+		return patterns;
+	}
+
+	private void checkPattern(TypeElement classElement, String pattern) throws ProcessingException {
+		int schemeEnd = pattern.indexOf("://");
+		if (schemeEnd <= 0) {
+			throw new ProcessingException(classElement, "Deep link pattern %s has no scheme.", pattern);
+		}
+
+		if (pattern.indexOf('?') != -1 || pattern.indexOf('#') != -1) {
+			throw new ProcessingException(classElement, "Deep link pattern %s can't contain a query or a fragment.", pattern);
+		}
+
+		int authorityEnd = pattern.indexOf('/', schemeEnd + 3);
+		if (authorityEnd == -1) {
+			authorityEnd = pattern.length();
+		}
+		String schemeAndAuthority = pattern.substring(0, authorityEnd);
+		if (schemeAndAuthority.indexOf('{') != -1 || schemeAndAuthority.indexOf('}') != -1) {
+			throw new ProcessingException(classElement, "Deep link pattern %s can have parameters only in a path.", pattern);
+		}
+
+		List<String> parameterNames = new ArrayList<>();
+		for (String segment : pattern.substring(authorityEnd).split("/")) {
+			if (isParameter(segment)) {
+				String parameterName = segment.substring(1, segment.length() - 1);
+				if (parameterName.isEmpty() || parameterNames.contains(parameterName)) {
+					throw new ProcessingException(classElement, "Deep link pattern %s has an invalid parameter name.", pattern);
+				}
+				parameterNames.add(parameterName);
+			} else if (segment.indexOf('{') != -1 || segment.indexOf('}') != -1) {
+				throw new ProcessingException(classElement, "Deep link pattern %s has a parameter that is not a whole path segment.", pattern);
+			}
+		}
+	}
+
+	private boolean isParameter(String segment) {
+		return segment.startsWith("{") && segment.endsWith("}");
+	}
+
+	private boolean checkScreenConstructors(TypeElement classElement, TypeElement screenClassElement) throws ProcessingException {
+		boolean hasDefaultConstructor = false;
+		for (ExecutableElement constructor : ElementFilter.constructorsIn(screenClassElement.getEnclosedElements())) {
+			if (!constructor.getModifiers().contains(Modifier.PUBLIC)) {
+				continue;
+			}
+
+			if (constructor.getParameters().size() == 1
+					&& constructor.getParameters().get(0).asType().toString().equals(DEEP_LINK_PARAMETERS_CLASS_NAME)) {
+				return true;
+			} else if (constructor.getParameters().isEmpty()) {
+				hasDefaultConstructor = true;
+			}
+		}
+
+		if (!hasDefaultConstructor) {
+			throw new ProcessingException(classElement, "Screen %s should have a public constructor with a single DeepLinkParameters argument or a public constructor without arguments to be used with @DeepLink.",
+					screenClassElement.getQualifiedName());
+		}
+		return false;
+	}
+}
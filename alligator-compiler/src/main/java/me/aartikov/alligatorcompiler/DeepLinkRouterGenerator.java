@@ -0,0 +1,64 @@
+package me.aartikov.alligatorcompiler;
+
+import java.util.List;
+
+import com.squareup.javapoet.ClassName;
+import com.squareup.javapoet.JavaFile;
+import com.squareup.javapoet.MethodSpec;
+import com.squareup.javapoet.ParameterizedTypeName;
+import com.squareup.javapoet.TypeName;
+import com.squareup.javapoet.TypeSpec;
+
+import javax.lang.model.element.Modifier;
+
+public class DeepLinkRouterGenerator {
+	private static final String PACKAGE = "me.aartikov.alligator.deeplinks";
+	private static final String CLASS_NAME = "GeneratedDeepLinkRouter";
+	private static final String SUPERCLASS_NAME = "RegistryDeepLinkRouter";
+	private static final ClassName SCREEN_FACTORY_CLASS_NAME = ClassName.get(PACKAGE, "DeepLinkScreenFactory");
+	private static final ClassName PARAMETERS_CLASS_NAME = ClassName.get(PACKAGE, "DeepLinkParameters");
+
+	public JavaFile generate(List<DeepLinkAnnotatedClass> annotatedClasses) {
+		MethodSpec.Builder constructorBuilder = MethodSpec.constructorBuilder()
+				.addModifiers(Modifier.PUBLIC);
+
+		for (int i = 0; i < annotatedClasses.size(); i++) {
+			DeepLinkAnnotatedClass annotatedClass = annotatedClasses.get(i);
+			ClassName screenClassName = ClassName.bestGuess(annotatedClass.getScreenClassName());
+			TypeName screenFactoryType = ParameterizedTypeName.get(SCREEN_FACTORY_CLASS_NAME, screenClassName);
+			String screenFactoryName = "screenFactory" + i;
+
+			constructorBuilder.addStatement("$T $N = $L", screenFactoryType, screenFactoryName, createScreenFactory(annotatedClass, screenClassName, screenFactoryType));
+			for (String pattern : annotatedClass.getPatterns()) {
+				constructorBuilder.addStatement("registerDeepLink($S, $N)", pattern, screenFactoryName);
+			}
+		}
+
+		TypeSpec deepLinkRouter = TypeSpec.classBuilder(CLASS_NAME)
+				.addModifiers(Modifier.PUBLIC)
+				.superclass(ClassName.get(PACKAGE, SUPERCLASS_NAME))
+				.addMethod(constructorBuilder.build())
+				.build();
+
+		return JavaFile.builder(PACKAGE, deepLinkRouter).build();
+	}
+
+	private TypeSpec createScreenFactory(DeepLinkAnnotatedClass annotatedClass, ClassName screenClassName, TypeName screenFactoryType) {
+		MethodSpec.Builder createScreenBuilder = MethodSpec.methodBuilder("createScreen")
+				.addAnnotation(Override.class)
+				.addModifiers(Modifier.PUBLIC)
+				.returns(screenClassName)
+				.addParameter(PARAMETERS_CLASS_NAME, "parameters");
+
+		if (annotatedClass.screenHasParametersConstructor()) {
+			createScreenBuilder.addStatement("return new $T(parameters)", screenClassName);
+		} else {
+			createScreenBuilder.addStatement("return new $T()", screenClassName);
+		}
+
+		return TypeSpec.anonymousClassBuilder("")
+				.addSuperinterface(screenFactoryType)
+				.addMethod(createScreenBuilder.build())
+				.build();
+	}
+}
@@ -0,0 +1,70 @@
+package me.aartikov.alligatorcompiler;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.squareup.javapoet.ClassName;
+import com.squareup.javapoet.JavaFile;
+import com.squareup.javapoet.MethodSpec;
+import com.squareup.javapoet.ParameterSpec;
+import com.squareup.javapoet.TypeSpec;
+
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.TypeElement;
+
+public class FragmentFactoryGenerator {
+	private static final String PACKAGE = "me.aartikov.alligator.navigationfactories";
+	private static final String CLASS_NAME = "GeneratedFragmentFactory";
+	private static final String SUPERCLASS_NAME = "ScreenFragmentFactory";
+	private static final ClassName FRAGMENT_CLASS_NAME = ClassName.get("androidx.fragment.app", "Fragment");
+	private static final ClassName NON_NULL_CLASS_NAME = ClassName.get("androidx.annotation", "NonNull");
+	private static final ClassName NULLABLE_CLASS_NAME = ClassName.get("androidx.annotation", "Nullable");
+
+	private ProcessingUtils utils;
+
+	public FragmentFactoryGenerator(ProcessingUtils utils) {
+		this.utils = utils;
+	}
+
+	// Fragments without a public constructor without arguments are left to reflection.
+	public List<TypeElement> getFragmentElements(List<RegistrationAnnotatedClass> annotatedClasses) {
+		List<TypeElement> fragmentElements = new ArrayList<>();
+		for (RegistrationAnnotatedClass annotatedClass : annotatedClasses) {
+			ScreenType screenType = annotatedClass.getScreenType();
+			TypeElement classElement = annotatedClass.getClassElement();
+			if ((screenType == ScreenType.FRAGMENT || screenType == ScreenType.DIALOG_FRAGMENT) && utils.hasPublicDefaultConstructor(classElement)) {
+				fragmentElements.add(classElement);
+			}
+		}
+		return fragmentElements;
+	}
+
+	public JavaFile generate(List<TypeElement> fragmentElements) {
+		MethodSpec.Builder createFragmentBuilder = MethodSpec.methodBuilder("createFragment")
+				.addAnnotation(Override.class)
+				.addAnnotation(NULLABLE_CLASS_NAME)
+				.addModifiers(Modifier.PUBLIC)
+				.returns(FRAGMENT_CLASS_NAME)
+				.addParameter(ParameterSpec.builder(String.class, "className").addAnnotation(NON_NULL_CLASS_NAME).build())
+				.beginControlFlow("switch (className)");
+
+		for (TypeElement fragmentElement : fragmentElements) {
+			createFragmentBuilder.addCode("case $S:\n$>", utils.getBinaryName(fragmentElement))
+					.addStatement("return new $T()", ClassName.get(fragmentElement))
+					.addCode("$<");
+		}
+
+		createFragmentBuilder.addCode("default:\n$>")
+				.addStatement("return null")
+				.addCode("$<")
+				.endControlFlow();
+
+		TypeSpec fragmentFactory = TypeSpec.classBuilder(CLASS_NAME)
+				.addModifiers(Modifier.PUBLIC)
+				.superclass(ClassName.get(PACKAGE, SUPERCLASS_NAME))
+				.addMethod(createFragmentBuilder.build())
+				.build();
+
+		return JavaFile.builder(PACKAGE, fragmentFactory).build();
+	}
+}
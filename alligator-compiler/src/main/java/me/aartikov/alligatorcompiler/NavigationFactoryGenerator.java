@@ -13,6 +13,7 @@ public class NavigationFactoryGenerator {
 	private static final String PACKAGE = "me.aartikov.alligator.navigationfactories";
 	private static final String CLASS_NAME = "GeneratedNavigationFactory";
 	private static final String SUPERCLASS_NAME = "RegistryNavigationFactory";
+	private static final String FRAGMENT_FACTORY_CLASS_NAME = "GeneratedFragmentFactory";
 
 	private ProcessingUtils utils;
 
@@ -20,10 +21,14 @@ public class NavigationFactoryGenerator {
 		this.utils = utils;
 	}
 
-	public JavaFile generate(List<RegistrationAnnotatedClass> annotatedClasses) throws ProcessingException {
+	public JavaFile generate(List<RegistrationAnnotatedClass> annotatedClasses, boolean hasFragmentFactory) throws ProcessingException {
 		MethodSpec.Builder constructorBuilder = MethodSpec.constructorBuilder()
 				.addModifiers(Modifier.PUBLIC);
 
+		if (hasFragmentFactory) {
+			constructorBuilder.addStatement("setFragmentFactory(new $T())", ClassName.get(PACKAGE, FRAGMENT_FACTORY_CLASS_NAME));
+		}
+
 		for (RegistrationAnnotatedClass annotatedClass : annotatedClasses) {
 			ClassName annotatedClassName = ClassName.get(annotatedClass.getClassElement());
 			ClassName screenClassName = ClassName.bestGuess(annotatedClass.getScreenClassName());
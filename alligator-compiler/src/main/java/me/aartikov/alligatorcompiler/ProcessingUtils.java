@@ -1,32 +1,68 @@
 package me.aartikov.alligatorcompiler;
 
+import java.util.HashMap;
+import java.util.Map;
+
 import javax.annotation.processing.ProcessingEnvironment;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
 import javax.lang.model.element.TypeElement;
-import javax.lang.model.type.TypeKind;
 import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.lang.model.util.Elements;
 import javax.lang.model.util.Types;
 
 public class ProcessingUtils {
+	private static final String SCREEN_CLASS_NAME = "me.aartikov.alligator.Screen";
+
 	private Types typeUtils;
+	private Elements elementUtils;
+	private Map<String, TypeMirror> erasedTypes = new HashMap<>();
 
 	public ProcessingUtils(ProcessingEnvironment processingEnv) {
 		typeUtils = processingEnv.getTypeUtils();
+		elementUtils = processingEnv.getElementUtils();
 	}
 
 	public boolean isAssignableFrom(TypeElement classElement, String className) {
-		TypeElement currentClassElement = classElement;
-		while (true) {
-			TypeMirror superClassType = currentClassElement.getSuperclass();
-			if (superClassType.getKind() == TypeKind.NONE) {
+		TypeMirror superType = getErasedType(className);
+		if (superType == null) {
+			return false;
+		}
+
+		TypeMirror classType = typeUtils.erasure(classElement.asType());
+		return typeUtils.isSubtype(classType, superType) && !typeUtils.isSameType(classType, superType);
+	}
+
+	public boolean isScreen(TypeElement classElement) {
+		TypeMirror screenType = getErasedType(SCREEN_CLASS_NAME);
+		return screenType != null && typeUtils.isAssignable(classElement.asType(), screenType);
+	}
+
+	public boolean hasPublicDefaultConstructor(TypeElement classElement) {
+		if (classElement.getModifiers().contains(Modifier.ABSTRACT)) {
+			return false;
+		}
+
+		// The class and all its enclosing classes should be public, nested classes should be static.
+		for (Element element = classElement; element instanceof TypeElement; element = element.getEnclosingElement()) {
+			boolean isNested = element.getEnclosingElement() instanceof TypeElement;
+			if (!element.getModifiers().contains(Modifier.PUBLIC) || (isNested && !element.getModifiers().contains(Modifier.STATIC))) {
 				return false;
 			}
+		}
 
-			if (superClassType.toString().equals(className)) {
+		for (ExecutableElement constructor : ElementFilter.constructorsIn(classElement.getEnclosedElements())) {
+			if (constructor.getParameters().isEmpty() && constructor.getModifiers().contains(Modifier.PUBLIC)) {
 				return true;
 			}
-
-			currentClassElement = (TypeElement) typeUtils.asElement(superClassType);
 		}
+		return false;
+	}
+
+	public String getBinaryName(TypeElement classElement) {
+		return elementUtils.getBinaryName(classElement).toString();
 	}
 
 	public String getSimpleClassName(String className) {
@@ -37,4 +73,13 @@ public class ProcessingUtils {
 			return className.substring(dotIndex + 1);
 		}
 	}
+
+	// Types are looked up once, because there are a few base classes and a lot of annotated classes.
+	private TypeMirror getErasedType(String className) {
+		if (!erasedTypes.containsKey(className)) {
+			TypeElement element = elementUtils.getTypeElement(className);
+			erasedTypes.put(className, element == null ? null : typeUtils.erasure(element.asType()));
+		}
+		return erasedTypes.get(className);
+	}
 }
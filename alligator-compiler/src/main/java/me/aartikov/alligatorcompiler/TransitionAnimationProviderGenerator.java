@@ -0,0 +1,82 @@
+package me.aartikov.alligatorcompiler;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.squareup.javapoet.ClassName;
+import com.squareup.javapoet.CodeBlock;
+import com.squareup.javapoet.FieldSpec;
+import com.squareup.javapoet.JavaFile;
+import com.squareup.javapoet.MethodSpec;
+import com.squareup.javapoet.TypeSpec;
+
+import javax.lang.model.element.Modifier;
+
+import me.aartikov.alligator.DestinationType;
+import me.aartikov.alligator.TransitionType;
+
+public class TransitionAnimationProviderGenerator {
+	private static final String PACKAGE = "me.aartikov.alligator.animations.providers";
+	private static final String CLASS_NAME = "GeneratedTransitionAnimationProvider";
+	private static final String SUPERCLASS_NAME = "TableTransitionAnimationProvider";
+	private static final ClassName PROVIDER_CLASS_NAME = ClassName.get(PACKAGE, "TransitionAnimationProvider");
+	private static final ClassName DEFAULT_PROVIDER_CLASS_NAME = ClassName.get(PACKAGE, "DefaultTransitionAnimationProvider");
+	private static final ClassName ANIMATION_CLASS_NAME = ClassName.get("me.aartikov.alligator.animations", "TransitionAnimation");
+	private static final ClassName SIMPLE_ANIMATION_CLASS_NAME = ClassName.get("me.aartikov.alligator.animations", "SimpleTransitionAnimation");
+	private static final ClassName TRANSITION_TYPE_CLASS_NAME = ClassName.get("me.aartikov.alligator", "TransitionType");
+	private static final ClassName DESTINATION_TYPE_CLASS_NAME = ClassName.get("me.aartikov.alligator", "DestinationType");
+
+	public JavaFile generate(List<AnimationRule> rules) {
+		TypeSpec.Builder providerBuilder = TypeSpec.classBuilder(CLASS_NAME)
+				.addModifiers(Modifier.PUBLIC)
+				.superclass(ClassName.get(PACKAGE, SUPERCLASS_NAME));
+
+		// Rules with the same anim resources share an animation instance.
+		Map<String, String> animationFields = new LinkedHashMap<>();
+		MethodSpec.Builder constructorBuilder = MethodSpec.constructorBuilder()
+				.addModifiers(Modifier.PUBLIC)
+				.addParameter(PROVIDER_CLASS_NAME, "fallbackProvider")
+				.addStatement("super(fallbackProvider)");
+
+		for (AnimationRule rule : rules) {
+			String animationKey = rule.getEnterAnimation() + ":" + rule.getExitAnimation();
+			String animationField = animationFields.get(animationKey);
+			if (animationField == null) {
+				animationField = "ANIMATION_" + animationFields.size();
+				animationFields.put(animationKey, animationField);
+				providerBuilder.addField(FieldSpec.builder(ANIMATION_CLASS_NAME, animationField, Modifier.PRIVATE, Modifier.STATIC, Modifier.FINAL)
+						.initializer("new $T($L, $L)", SIMPLE_ANIMATION_CLASS_NAME, rule.getEnterAnimation(), rule.getExitAnimation())
+						.build());
+			}
+
+			CodeBlock screenClassFrom = getScreenClassCode(rule.getScreenClassFromName());
+			CodeBlock screenClassTo = getScreenClassCode(rule.getScreenClassToName());
+			for (TransitionType transitionType : rule.getTransitionTypes()) {
+				for (DestinationType destinationType : rule.getDestinationTypes()) {
+					constructorBuilder.addStatement("addAnimation($T.$L, $T.$L, $L, $L, $N)", TRANSITION_TYPE_CLASS_NAME, transitionType.name(),
+							DESTINATION_TYPE_CLASS_NAME, destinationType.name(), screenClassFrom, screenClassTo, animationField);
+				}
+			}
+		}
+
+		MethodSpec defaultConstructor = MethodSpec.constructorBuilder()
+				.addModifiers(Modifier.PUBLIC)
+				.addStatement("this(new $T())", DEFAULT_PROVIDER_CLASS_NAME)
+				.build();
+
+		TypeSpec provider = providerBuilder
+				.addMethod(defaultConstructor)
+				.addMethod(constructorBuilder.build())
+				.build();
+
+		return JavaFile.builder(PACKAGE, provider).build();
+	}
+
+	private CodeBlock getScreenClassCode(String screenClassName) {
+		if (screenClassName == null) {
+			return CodeBlock.of("null");
+		}
+		return CodeBlock.of("$T.class", ClassName.bestGuess(screenClassName));
+	}
+}
@@ -0,0 +1,242 @@
+package me.aartikov.alligatorcompiler;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.net.URI;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.annotation.processing.Processor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
+import javax.tools.Diagnostic;
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.SimpleJavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Runs the annotation processor over synthetic sources of thousands of screens and counts calls of {@link Types} and {@link Elements}.
+ * Base types should be looked up once, and type checks should take a fixed number of calls per screen that doesn't depend on a depth of a class hierarchy.
+ */
+public class AlligatorCompilerScalingTest {
+	private static final int SCREEN_COUNT = 5000;
+	private static final int BASE_FRAGMENT_DEPTH = 10;
+	private static final int MAX_TYPE_ELEMENT_LOOKUP_COUNT = 10;
+	private static final int MAX_TYPE_CALLS_PER_SCREEN = 8;
+
+	private File outputDir;
+
+	@Before
+	public void setUp() throws IOException {
+		outputDir = Files.createTempDirectory("alligator-compiler-scaling").toFile();
+	}
+
+	@After
+	public void tearDown() {
+		delete(outputDir);
+	}
+
+	@Test
+	public void typeChecksDoNotDependOnScreenCount() throws IOException {
+		Map<String, Integer> callCounts = runProcessor(createSources(), outputDir);
+
+		int typeElementLookupCount = getCount(callCounts, "Elements.getTypeElement");
+		assertTrue("Base types are looked up " + typeElementLookupCount + " times", typeElementLookupCount <= MAX_TYPE_ELEMENT_LOOKUP_COUNT);
+
+		int typeCallCount = 0;
+		for (Map.Entry<String, Integer> entry : callCounts.entrySet()) {
+			if (entry.getKey().startsWith("Types.")) {
+				typeCallCount += entry.getValue();
+			}
+		}
+		assertTrue("Types are called " + typeCallCount + " times: " + callCounts, typeCallCount <= SCREEN_COUNT * MAX_TYPE_CALLS_PER_SCREEN);
+	}
+
+	private Map<String, Integer> runProcessor(List<JavaFileObject> sources, File runDir) throws IOException {
+		File classesDir = new File(runDir, "classes");
+		File generatedDir = new File(runDir, "generated");
+		assertTrue(classesDir.mkdirs() && generatedDir.mkdirs());
+
+		JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+		DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+		StandardJavaFileManager fileManager = compiler.getStandardFileManager(diagnostics, null, null);
+		List<String> options = Arrays.asList("-proc:only", "-d", classesDir.getPath(), "-s", generatedDir.getPath(),
+				"-cp", System.getProperty("java.class.path"));
+		CountingProcessor processor = new CountingProcessor(new AlligatorCompiler());
+
+		JavaCompiler.CompilationTask task = compiler.getTask(null, fileManager, diagnostics, options, null, sources);
+		task.setProcessors(Collections.<Processor>singletonList(processor));
+		task.call();
+		fileManager.close();
+
+		// Generated code refers to Android classes that are not on the classpath, so only processor errors are checked.
+		for (Diagnostic<? extends JavaFileObject> diagnostic : diagnostics.getDiagnostics()) {
+			if (diagnostic.getKind() == Diagnostic.Kind.ERROR && !isGeneratedSource(diagnostic.getSource(), generatedDir)) {
+				throw new AssertionError(diagnostic.toString());
+			}
+		}
+
+		String navigationFactory = new String(Files.readAllBytes(
+				new File(generatedDir, "me/aartikov/alligator/navigationfactories/GeneratedNavigationFactory.java").toPath()), "UTF-8");
+		assertEquals(SCREEN_COUNT, countOccurrences(navigationFactory, "register"));
+		return processor.getCallCounts();
+	}
+
+	// Screens are spread over activities, dialog fragments and fragments with a deep generic class hierarchy.
+	private List<JavaFileObject> createSources() {
+		List<JavaFileObject> sources = new ArrayList<>();
+		sources.add(createSource("android.app.Activity", "package android.app; public class Activity {}"));
+		sources.add(createSource("androidx.fragment.app.Fragment", "package androidx.fragment.app; public class Fragment {}"));
+		sources.add(createSource("androidx.fragment.app.DialogFragment", "package androidx.fragment.app; public class DialogFragment extends Fragment {}"));
+
+		StringBuilder screens = new StringBuilder("package bench;\n\npublic class Screens {\n");
+		StringBuilder destinations = new StringBuilder("package bench;\n\nimport me.aartikov.alligator.annotations.RegisterScreen;\n\npublic class Destinations {\n")
+				.append("\tpublic static class BaseActivity extends android.app.Activity {}\n")
+				.append("\tpublic static class BaseFragment0<T> extends androidx.fragment.app.Fragment {}\n");
+		for (int i = 1; i < BASE_FRAGMENT_DEPTH; i++) {
+			destinations.append("\tpublic static class BaseFragment").append(i).append("<T> extends BaseFragment").append(i - 1).append("<T> {}\n");
+		}
+		String baseFragment = "BaseFragment" + (BASE_FRAGMENT_DEPTH - 1) + "<String>";
+		for (int i = 0; i < SCREEN_COUNT; i++) {
+			screens.append("\tpublic static class Screen").append(i).append(" implements me.aartikov.alligator.Screen {}\n");
+			String superclass = i % 5 == 3 ? "BaseActivity" : i % 5 == 4 ? "androidx.fragment.app.DialogFragment" : baseFragment;
+			destinations.append("\t@RegisterScreen(Screens.Screen").append(i).append(".class)\n")
+					.append("\tpublic static class Destination").append(i).append(" extends ").append(superclass).append(" {}\n");
+		}
+		sources.add(createSource("bench.Screens", screens.append("}\n").toString()));
+		sources.add(createSource("bench.Destinations", destinations.append("}\n").toString()));
+		return sources;
+	}
+
+	private static JavaFileObject createSource(String className, final String code) {
+		URI uri = URI.create("string:///" + className.replace('.', '/') + JavaFileObject.Kind.SOURCE.extension);
+		return new SimpleJavaFileObject(uri, JavaFileObject.Kind.SOURCE) {
+			@Override
+			public CharSequence getCharContent(boolean ignoreEncodingErrors) {
+				return code;
+			}
+		};
+	}
+
+	private static int getCount(Map<String, Integer> callCounts, String method) {
+		Integer count = callCounts.get(method);
+		return count != null ? count : 0;
+	}
+
+	private static boolean isGeneratedSource(JavaFileObject source, File generatedDir) {
+		return source != null && source.toUri().getPath().startsWith(generatedDir.getAbsolutePath());
+	}
+
+	private static int countOccurrences(String string, String substring) {
+		int count = 0;
+		for (int index = string.indexOf(substring); index != -1; index = string.indexOf(substring, index + substring.length())) {
+			count++;
+		}
+		return count;
+	}
+
+	private static void delete(File file) {
+		File[] children = file.listFiles();
+		if (children != null) {
+			for (File child : children) {
+				delete(child);
+			}
+		}
+		file.delete();
+	}
+
+	// Wraps type utilities of a processing environment, so calls made by the processor are counted.
+	private static class CountingProcessor extends AbstractProcessor {
+		private Processor processor;
+		private Map<String, Integer> callCounts = new HashMap<>();
+
+		CountingProcessor(Processor processor) {
+			this.processor = processor;
+		}
+
+		@Override
+		public synchronized void init(final ProcessingEnvironment processingEnv) {
+			super.init(processingEnv);
+			final Types types = createCountingProxy(Types.class, processingEnv.getTypeUtils());
+			final Elements elements = createCountingProxy(Elements.class, processingEnv.getElementUtils());
+			processor.init(createProxy(ProcessingEnvironment.class, new InvocationHandler() {
+				@Override
+				public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+					if (method.getName().equals("getTypeUtils")) {
+						return types;
+					} else if (method.getName().equals("getElementUtils")) {
+						return elements;
+					}
+					return invokeMethod(processingEnv, method, args);
+				}
+			}));
+		}
+
+		@Override
+		public Set<String> getSupportedAnnotationTypes() {
+			return processor.getSupportedAnnotationTypes();
+		}
+
+		@Override
+		public SourceVersion getSupportedSourceVersion() {
+			return processor.getSupportedSourceVersion();
+		}
+
+		@Override
+		public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+			return processor.process(annotations, roundEnv);
+		}
+
+		Map<String, Integer> getCallCounts() {
+			return callCounts;
+		}
+
+		private <T> T createCountingProxy(final Class<T> interfaceClass, final T target) {
+			return createProxy(interfaceClass, new InvocationHandler() {
+				@Override
+				public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+					String name = interfaceClass.getSimpleName() + "." + method.getName();
+					callCounts.put(name, getCount(callCounts, name) + 1);
+					return invokeMethod(target, method, args);
+				}
+			});
+		}
+
+		private static <T> T createProxy(Class<T> interfaceClass, InvocationHandler handler) {
+			return interfaceClass.cast(Proxy.newProxyInstance(interfaceClass.getClassLoader(), new Class<?>[]{interfaceClass}, handler));
+		}
+
+		private static Object invokeMethod(Object target, Method method, Object[] args) throws Throwable {
+			try {
+				return method.invoke(target, args);
+			} catch (InvocationTargetException e) {
+				throw e.getCause();
+			}
+		}
+	}
+}
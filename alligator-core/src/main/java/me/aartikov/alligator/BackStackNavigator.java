@@ -0,0 +1,29 @@
+package me.aartikov.alligator;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import java.util.List;
+
+import me.aartikov.alligator.animations.AnimationData;
+
+/**
+ * Navigator that can set a whole back stack. A separate interface keeps custom {@link Navigator} implementations compatible.
+ */
+public interface BackStackNavigator extends Navigator {
+
+	/**
+	 * Sets a whole back stack. Screens that are already at the bottom of the current back stack are kept, other screens are removed or added.
+	 *
+	 * @param screens screens of a new back stack, the last one becomes current
+	 */
+	void setBackStack(@NonNull List<? extends Screen> screens);
+
+	/**
+	 * {@code setBackStack} with an animation data.
+	 *
+	 * @param screens       screens of a new back stack, the last one becomes current
+	 * @param animationData animation data for an additional animation configuring
+	 */
+	void setBackStack(@NonNull List<? extends Screen> screens, @Nullable AnimationData animationData);
+}
@@ -0,0 +1,8 @@
+package me.aartikov.alligator;
+
+/**
+ * Type of destination for screens used in a transition
+ */
+public enum DestinationType {
+	ACTIVITY, FRAGMENT, FLOW_FRAGMENT
+}
@@ -0,0 +1,13 @@
+package me.aartikov.alligator;
+
+
+/**
+ * Marks that a screen is single top. When {@code goForward} or {@code replace} is called with such screen and a current screen has the same class,
+ * a new screen is delivered to the current activity or fragment instead of creating a new one. No animation is played.
+ * <p>
+ * For a fragment no transaction is committed. Fragment arguments are replaced, and the fragment is notified if it implements {@code OnNewScreenListener}.
+ * An activity is started with {@code FLAG_ACTIVITY_SINGLE_TOP}, so it gets a new intent in {@code onNewIntent}. Use {@code ScreenResolver.getScreen(Activity, Intent)} to get a screen from it.
+ * Activity screens registered for result are always started as new activities.
+ */
+public interface SingleTopScreen extends Screen {
+}
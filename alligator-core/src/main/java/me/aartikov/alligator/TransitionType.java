@@ -0,0 +1,12 @@
+package me.aartikov.alligator;
+
+
+/**
+ * Type of screen transition
+ */
+public enum TransitionType {
+	FORWARD,
+	BACK,
+	REPLACE,
+	RESET
+}
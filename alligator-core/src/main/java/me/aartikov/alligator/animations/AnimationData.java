@@ -0,0 +1,11 @@
+package me.aartikov.alligator.animations;
+
+
+import me.aartikov.alligator.Navigator;
+
+/**
+ * Arbitrary data that can be passed to a {@link Navigator} and then will be transferred to a {@code TransitionAnimationProvider} or a {@code DialogAnimationProvider}
+ * for an additional animation configuring.
+ */
+public interface AnimationData {
+}
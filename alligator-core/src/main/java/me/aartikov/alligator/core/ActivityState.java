@@ -0,0 +1,97 @@
+package me.aartikov.alligator.core;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import me.aartikov.alligator.Screen;
+
+
+/**
+ * Android-free model of an activity: its screen, fragment back stacks, dialogs and a screen selected by a screen switcher.
+ */
+public class ActivityState {
+	private Screen mScreen;
+	private ScreenStack mFragments;
+	private ScreenStack mFlowFragments;
+	private ScreenStack mDialogFragments;
+	@Nullable
+	private Screen mSwitchedScreen;
+
+	public ActivityState(@NonNull Screen screen) {
+		mScreen = screen;
+		mFragments = new ScreenStack();
+		mFlowFragments = new ScreenStack();
+		mDialogFragments = new ScreenStack();
+	}
+
+	public ActivityState(@NonNull ActivityState activityState) {
+		mScreen = activityState.mScreen;
+		mFragments = new ScreenStack(activityState.mFragments);
+		mFlowFragments = new ScreenStack(activityState.mFlowFragments);
+		mDialogFragments = new ScreenStack(activityState.mDialogFragments);
+		mSwitchedScreen = activityState.mSwitchedScreen;
+	}
+
+	@NonNull
+	public Screen getScreen() {
+		return mScreen;
+	}
+
+	void setScreen(@NonNull Screen screen) {
+		mScreen = screen;
+	}
+
+	@NonNull
+	public ScreenStack getFragments() {
+		return mFragments;
+	}
+
+	@NonNull
+	public ScreenStack getFlowFragments() {
+		return mFlowFragments;
+	}
+
+	@NonNull
+	public ScreenStack getDialogFragments() {
+		return mDialogFragments;
+	}
+
+	@Nullable
+	public Screen getSwitchedScreen() {
+		return mSwitchedScreen;
+	}
+
+	public void setSwitchedScreen(@Nullable Screen switchedScreen) {
+		mSwitchedScreen = switchedScreen;
+	}
+
+	@Override
+	public boolean equals(Object o) {
+		if (!(o instanceof ActivityState)) {
+			return false;
+		}
+
+		ActivityState other = (ActivityState) o;
+		return mScreen.equals(other.mScreen)
+				&& mFragments.equals(other.mFragments)
+				&& mFlowFragments.equals(other.mFlowFragments)
+				&& mDialogFragments.equals(other.mDialogFragments)
+				&& (mSwitchedScreen == null ? other.mSwitchedScreen == null : mSwitchedScreen.equals(other.mSwitchedScreen));
+	}
+
+	@Override
+	public int hashCode() {
+		int result = mScreen.hashCode();
+		result = 31 * result + mFragments.hashCode();
+		result = 31 * result + mFlowFragments.hashCode();
+		result = 31 * result + mDialogFragments.hashCode();
+		result = 31 * result + (mSwitchedScreen != null ? mSwitchedScreen.hashCode() : 0);
+		return result;
+	}
+
+	@Override
+	public String toString() {
+		return mScreen + " {flowFragments=" + mFlowFragments + ", fragments=" + mFragments + ", dialogFragments=" + mDialogFragments
+				+ ", switchedScreen=" + mSwitchedScreen + "}";
+	}
+}
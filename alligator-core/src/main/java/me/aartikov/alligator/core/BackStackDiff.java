@@ -0,0 +1,83 @@
+package me.aartikov.alligator.core;
+
+import androidx.annotation.NonNull;
+
+import java.util.List;
+
+import me.aartikov.alligator.Screen;
+import me.aartikov.alligator.TransitionType;
+
+
+/**
+ * Difference between a current back stack and a required list of screens. Entries of a common beginning are kept, all the others are replaced.
+ */
+public class BackStackDiff {
+	/**
+	 * Checks that a back stack entry represents a screen.
+	 *
+	 * @param <EntryT> type of back stack entries, for example {@code Fragment} or {@link Screen}
+	 */
+	public interface EntryMatcher<EntryT> {
+		/**
+		 * @param entry  back stack entry
+		 * @param screen required screen
+		 * @param index  index of the entry and the screen
+		 * @return true if the entry represents the screen
+		 */
+		boolean matches(@NonNull EntryT entry, @NonNull Screen screen, int index);
+	}
+
+	private int mCurrentCount;
+	private int mRequiredCount;
+	private int mCommonCount;
+
+	private BackStackDiff(int currentCount, int requiredCount, int commonCount) {
+		mCurrentCount = currentCount;
+		mRequiredCount = requiredCount;
+		mCommonCount = commonCount;
+	}
+
+	@NonNull
+	public static <EntryT> BackStackDiff calculate(@NonNull List<EntryT> entries, @NonNull List<? extends Screen> screens, @NonNull EntryMatcher<EntryT> matcher) {
+		int commonCount = 0;
+		int maxCommonCount = Math.min(entries.size(), screens.size());
+		while (commonCount < maxCommonCount && matcher.matches(entries.get(commonCount), screens.get(commonCount), commonCount)) {
+			commonCount++;
+		}
+		return new BackStackDiff(entries.size(), screens.size(), commonCount);
+	}
+
+	/**
+	 * Returns a number of entries that are kept.
+	 *
+	 * @return count of common entries
+	 */
+	public int getCommonCount() {
+		return mCommonCount;
+	}
+
+	/**
+	 * Returns {@code true} if the back stack already matches the screens.
+	 *
+	 * @return true if there is nothing to do
+	 */
+	public boolean isEmpty() {
+		return mCommonCount == mCurrentCount && mCommonCount == mRequiredCount;
+	}
+
+	/**
+	 * Returns a transition type: {@code FORWARD} if entries are only added, {@code BACK} if entries are only removed, {@code REPLACE} otherwise.
+	 *
+	 * @return transition type
+	 */
+	@NonNull
+	public TransitionType getTransitionType() {
+		if (mCommonCount == mCurrentCount) {
+			return TransitionType.FORWARD;
+		} else if (mCommonCount == mRequiredCount) {
+			return TransitionType.BACK;
+		} else {
+			return TransitionType.REPLACE;
+		}
+	}
+}
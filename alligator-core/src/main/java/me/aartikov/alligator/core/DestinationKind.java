@@ -0,0 +1,9 @@
+package me.aartikov.alligator.core;
+
+
+/**
+ * Kind of a view that represents a screen.
+ */
+public enum DestinationKind {
+	ACTIVITY, FRAGMENT, DIALOG_FRAGMENT
+}
@@ -0,0 +1,29 @@
+package me.aartikov.alligator.core;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import me.aartikov.alligator.Screen;
+
+
+/**
+ * Tells how screens are represented. Is used by {@link ReferenceNavigator} instead of a navigation factory.
+ */
+public interface DestinationResolver {
+	/**
+	 * Returns a destination kind of a screen.
+	 *
+	 * @param screenClass screen class
+	 * @return destination kind or {@code null} if the screen is not registered
+	 */
+	@Nullable
+	DestinationKind getDestinationKind(@NonNull Class<? extends Screen> screenClass);
+
+	/**
+	 * Returns {@code true} if an activity screen is registered for result. Such screens are always started as new activities.
+	 *
+	 * @param screenClass screen class
+	 * @return true if the screen returns a result
+	 */
+	boolean isRegisteredForResult(@NonNull Class<? extends Screen> screenClass);
+}
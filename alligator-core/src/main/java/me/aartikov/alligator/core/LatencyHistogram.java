@@ -0,0 +1,110 @@
+package me.aartikov.alligator.core;
+
+import androidx.annotation.NonNull;
+
+
+/**
+ * Distribution of durations with power-of-two buckets. Recording doesn't allocate memory, percentiles are accurate within a factor of two.
+ */
+public class LatencyHistogram {
+	private static final int BUCKET_COUNT = 64;
+
+	private long[] mBuckets = new long[BUCKET_COUNT];    // bucket i contains durations from 2^(i-1) to 2^i - 1 nanoseconds
+	private long mCount;
+	private long mTotal;
+	private long mMin = Long.MAX_VALUE;
+	private long mMax;
+
+	/**
+	 * Adds a duration.
+	 *
+	 * @param durationNanos duration in nanoseconds. Negative values are treated as 0.
+	 */
+	public void record(long durationNanos) {
+		long duration = Math.max(durationNanos, 0);
+		mBuckets[getBucketIndex(duration)]++;
+		mCount++;
+		mTotal += duration;
+		mMin = Math.min(mMin, duration);
+		mMax = Math.max(mMax, duration);
+	}
+
+	/**
+	 * Adds all durations of another histogram.
+	 *
+	 * @param histogram histogram to merge
+	 */
+	public void add(@NonNull LatencyHistogram histogram) {
+		for (int i = 0; i < BUCKET_COUNT; i++) {
+			mBuckets[i] += histogram.mBuckets[i];
+		}
+		mCount += histogram.mCount;
+		mTotal += histogram.mTotal;
+		mMin = Math.min(mMin, histogram.mMin);
+		mMax = Math.max(mMax, histogram.mMax);
+	}
+
+	public long getCount() {
+		return mCount;
+	}
+
+	/**
+	 * @return sum of all durations in nanoseconds
+	 */
+	public long getTotal() {
+		return mTotal;
+	}
+
+	/**
+	 * @return minimal duration in nanoseconds or 0 if the histogram is empty
+	 */
+	public long getMin() {
+		return mCount == 0 ? 0 : mMin;
+	}
+
+	/**
+	 * @return maximal duration in nanoseconds
+	 */
+	public long getMax() {
+		return mMax;
+	}
+
+	/**
+	 * @return average duration in nanoseconds
+	 */
+	public long getMean() {
+		return mCount == 0 ? 0 : mTotal / mCount;
+	}
+
+	/**
+	 * Returns an upper estimate of a percentile.
+	 *
+	 * @param percentile percentile from 0 to 1, for example 0.99
+	 * @return duration in nanoseconds
+	 */
+	public long getPercentile(double percentile) {
+		if (mCount == 0) {
+			return 0;
+		}
+
+		long rank = Math.max((long) Math.ceil(percentile * mCount), 1);
+		long cumulativeCount = 0;
+		for (int i = 0; i < BUCKET_COUNT; i++) {
+			cumulativeCount += mBuckets[i];
+			if (cumulativeCount >= rank) {
+				long upperBound = i == BUCKET_COUNT - 1 ? Long.MAX_VALUE : (1L << i) - 1;
+				return Math.max(Math.min(upperBound, mMax), getMin());
+			}
+		}
+		return mMax;
+	}
+
+	@Override
+	public String toString() {
+		return "count=" + mCount + " mean=" + getMean() / 1000 + "us p50=" + getPercentile(0.5) / 1000 + "us p99=" + getPercentile(0.99) / 1000 + "us max=" + mMax / 1000 + "us";
+	}
+
+	private static int getBucketIndex(long duration) {
+		return Math.min(BUCKET_COUNT - Long.numberOfLeadingZeros(duration), BUCKET_COUNT - 1);
+	}
+}
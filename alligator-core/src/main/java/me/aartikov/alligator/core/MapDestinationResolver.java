@@ -0,0 +1,60 @@
+package me.aartikov.alligator.core;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+import me.aartikov.alligator.Screen;
+
+
+/**
+ * {@link DestinationResolver} with manual registration of screens.
+ */
+public class MapDestinationResolver implements DestinationResolver {
+	private Map<Class<? extends Screen>, DestinationKind> mDestinationKinds = new HashMap<>();
+	private Set<Class<? extends Screen>> mScreensForResult = new HashSet<>();
+
+	/**
+	 * Registers a screen.
+	 *
+	 * @param screenClass     screen class
+	 * @param destinationKind destination kind
+	 * @throws IllegalArgumentException if the screen is already registered
+	 */
+	public void register(@NonNull Class<? extends Screen> screenClass, @NonNull DestinationKind destinationKind) {
+		register(screenClass, destinationKind, false);
+	}
+
+	/**
+	 * Registers a screen.
+	 *
+	 * @param screenClass         screen class
+	 * @param destinationKind     destination kind
+	 * @param registeredForResult {@code true} for an activity screen that returns a result
+	 * @throws IllegalArgumentException if the screen is already registered
+	 */
+	public void register(@NonNull Class<? extends Screen> screenClass, @NonNull DestinationKind destinationKind, boolean registeredForResult) {
+		if (mDestinationKinds.containsKey(screenClass)) {
+			throw new IllegalArgumentException("Screen " + screenClass.getSimpleName() + " is already registered.");
+		}
+		mDestinationKinds.put(screenClass, destinationKind);
+		if (registeredForResult) {
+			mScreensForResult.add(screenClass);
+		}
+	}
+
+	@Override
+	@Nullable
+	public DestinationKind getDestinationKind(@NonNull Class<? extends Screen> screenClass) {
+		return mDestinationKinds.get(screenClass);
+	}
+
+	@Override
+	public boolean isRegisteredForResult(@NonNull Class<? extends Screen> screenClass) {
+		return mScreensForResult.contains(screenClass);
+	}
+}
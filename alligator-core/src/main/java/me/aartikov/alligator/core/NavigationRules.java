@@ -0,0 +1,130 @@
+package me.aartikov.alligator.core;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import java.util.List;
+
+import me.aartikov.alligator.Screen;
+import me.aartikov.alligator.SingleTopScreen;
+
+
+/**
+ * Navigation decisions shared by the navigators of {@code AndroidNavigator} and by {@link ReferenceNavigator}. The rest of the behaviour is implemented
+ * separately by both of them.
+ */
+public final class NavigationRules {
+	/**
+	 * Destination that handles {@code goBack} or {@code finish}.
+	 */
+	public enum BackTarget {
+		DIALOG_FRAGMENT,
+		FRAGMENT,
+		FLOW_FRAGMENT,
+		ACTIVITY
+	}
+
+	/**
+	 * Gets a screen class of a back stack entry.
+	 *
+	 * @param <EntryT> type of back stack entries, for example {@code Fragment} or {@link Screen}
+	 */
+	public interface ScreenClassProvider<EntryT> {
+		@Nullable
+		Class<? extends Screen> getScreenClass(@NonNull EntryT entry);
+	}
+
+	private NavigationRules() {
+	}
+
+	/**
+	 * Returns a destination for {@code goBack}: a dialog is closed first, then a fragment, then a flow fragment and only then an activity.
+	 *
+	 * @param canDialogFragmentGoBack {@code true} if a dialog is shown
+	 * @param canFragmentGoBack       {@code true} if a fragment back stack has more than one fragment
+	 * @param canFlowFragmentGoBack   {@code true} if a flow fragment back stack has more than one fragment
+	 * @return back target
+	 */
+	@NonNull
+	public static BackTarget getBackTarget(boolean canDialogFragmentGoBack, boolean canFragmentGoBack, boolean canFlowFragmentGoBack) {
+		if (canDialogFragmentGoBack) {
+			return BackTarget.DIALOG_FRAGMENT;
+		} else if (canFragmentGoBack) {
+			return BackTarget.FRAGMENT;
+		} else if (canFlowFragmentGoBack) {
+			return BackTarget.FLOW_FRAGMENT;
+		} else {
+			return BackTarget.ACTIVITY;
+		}
+	}
+
+	/**
+	 * Returns a destination for {@code finish}: a flow is finished if it can go back, otherwise an activity is finished.
+	 *
+	 * @param forTopLevel           {@code true} for {@code finishTopLevel}
+	 * @param canFlowFragmentGoBack {@code true} if a flow fragment back stack has more than one fragment
+	 * @return {@code FLOW_FRAGMENT} or {@code ACTIVITY}
+	 */
+	@NonNull
+	public static BackTarget getFinishTarget(boolean forTopLevel, boolean canFlowFragmentGoBack) {
+		return !forTopLevel && canFlowFragmentGoBack ? BackTarget.FLOW_FRAGMENT : BackTarget.ACTIVITY;
+	}
+
+	/**
+	 * Returns {@code true} if {@code goForward} or {@code replace} should deliver a screen to a current activity or fragment instead of creating a new one.
+	 *
+	 * @param screen             new screen
+	 * @param currentScreenClass screen class of a current activity or fragment
+	 * @param forResult          {@code true} if the screen is an activity registered for result
+	 * @return true for a {@link SingleTopScreen} with the same class as the current one
+	 */
+	public static boolean isSingleTopDelivery(@NonNull Screen screen, @Nullable Class<? extends Screen> currentScreenClass, boolean forResult) {
+		return isSingleTopDelivery(screen, screen instanceof SingleTopScreen, currentScreenClass, forResult);
+	}
+
+	/**
+	 * Returns {@code true} if a screen should be delivered to a current activity or fragment when single top delivery is requested per call.
+	 *
+	 * @param screen             new screen
+	 * @param singleTop          {@code true} if single top delivery is requested
+	 * @param currentScreenClass screen class of a current activity or fragment
+	 * @param forResult          {@code true} if the screen is an activity registered for result
+	 * @return true if single top delivery is requested and the screen has the same class as the current one
+	 */
+	public static boolean isSingleTopDelivery(@NonNull Screen screen, boolean singleTop, @Nullable Class<? extends Screen> currentScreenClass, boolean forResult) {
+		return singleTop && !forResult && currentScreenClass == screen.getClass();
+	}
+
+	/**
+	 * Returns {@code true} if {@code reset} should keep a root entry and remove the others, because the root entry already represents the screen.
+	 *
+	 * @param entries back stack entries
+	 * @param screen  screen to reset to
+	 * @param matcher checks that an entry represents a screen
+	 * @param <EntryT> type of back stack entries
+	 * @return true if the root entry is kept
+	 */
+	public static <EntryT> boolean isResetToRoot(@NonNull List<EntryT> entries, @NonNull Screen screen, @NonNull BackStackDiff.EntryMatcher<EntryT> matcher) {
+		return !entries.isEmpty() && matcher.matches(entries.get(0), screen, 0);
+	}
+
+	/**
+	 * Returns an index of an entry for {@code goBackTo}. It is the last entry with the given screen class.
+	 *
+	 * @param entries             back stack entries
+	 * @param screenClass         screen class
+	 * @param screenClassProvider gets screen classes of entries
+	 * @param <EntryT>            type of back stack entries
+	 * @return index or -1 if there is no such entry
+	 */
+	public static <EntryT> int getBackToIndex(@NonNull List<EntryT> entries,
+											  @NonNull Class<? extends Screen> screenClass,
+											  @NonNull ScreenClassProvider<EntryT> screenClassProvider) {
+		for (int i = entries.size() - 1; i >= 0; i--) {
+			if (screenClassProvider.getScreenClass(entries.get(i)) == screenClass) {
+				return i;
+			}
+		}
+		return -1;
+	}
+}
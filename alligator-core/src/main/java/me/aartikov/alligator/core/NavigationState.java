@@ -0,0 +1,102 @@
+package me.aartikov.alligator.core;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import me.aartikov.alligator.Screen;
+
+
+/**
+ * Android-free model of a whole navigation state: a stack of activities, each with its own fragment back stacks and dialogs.
+ */
+public class NavigationState {
+	private List<ActivityState> mActivities = new ArrayList<>();
+
+	/**
+	 * Creates a state with a single activity.
+	 *
+	 * @param rootActivityScreen screen of a launcher activity
+	 */
+	public NavigationState(@NonNull Screen rootActivityScreen) {
+		mActivities.add(new ActivityState(rootActivityScreen));
+	}
+
+	/**
+	 * Creates a state from activity states, for example to describe an actual state of an application.
+	 *
+	 * @param activities activity states ordered from the bottom to the top
+	 */
+	public NavigationState(@NonNull List<ActivityState> activities) {
+		mActivities.addAll(activities);
+	}
+
+	/**
+	 * Creates a deep copy of a state.
+	 *
+	 * @param navigationState state to copy
+	 */
+	public NavigationState(@NonNull NavigationState navigationState) {
+		for (ActivityState activityState : navigationState.mActivities) {
+			mActivities.add(new ActivityState(activityState));
+		}
+	}
+
+	@NonNull
+	public List<ActivityState> getActivities() {
+		return Collections.unmodifiableList(mActivities);
+	}
+
+	/**
+	 * Returns a current activity.
+	 *
+	 * @return current activity or {@code null} if all activities have been finished
+	 */
+	@Nullable
+	public ActivityState getCurrentActivity() {
+		return mActivities.isEmpty() ? null : mActivities.get(mActivities.size() - 1);
+	}
+
+	/**
+	 * Returns {@code true} if all activities have been finished.
+	 *
+	 * @return true if the application has been closed
+	 */
+	public boolean isFinished() {
+		return mActivities.isEmpty();
+	}
+
+	void pushActivity(@NonNull ActivityState activityState) {
+		mActivities.add(activityState);
+	}
+
+	void popActivity() {
+		mActivities.remove(mActivities.size() - 1);
+	}
+
+	void clearActivities() {
+		mActivities.clear();
+	}
+
+	@Override
+	public boolean equals(Object o) {
+		return o instanceof NavigationState && mActivities.equals(((NavigationState) o).mActivities);
+	}
+
+	@Override
+	public int hashCode() {
+		return mActivities.hashCode();
+	}
+
+	@Override
+	public String toString() {
+		StringBuilder builder = new StringBuilder();
+		for (ActivityState activityState : mActivities) {
+			builder.append(activityState).append('\n');
+		}
+		return builder.toString();
+	}
+}
@@ -0,0 +1,13 @@
+package me.aartikov.alligator.core;
+
+import androidx.annotation.NonNull;
+
+
+/**
+ * Is thrown by {@link ReferenceNavigator} in cases when {@code AndroidNavigator} reports a navigation error.
+ */
+public class ReferenceNavigationException extends RuntimeException {
+	public ReferenceNavigationException(@NonNull String message) {
+		super(message);
+	}
+}
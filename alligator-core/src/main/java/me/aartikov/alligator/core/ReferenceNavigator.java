@@ -0,0 +1,366 @@
+package me.aartikov.alligator.core;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import java.util.List;
+
+import me.aartikov.alligator.BackStackNavigator;
+import me.aartikov.alligator.FlowScreen;
+import me.aartikov.alligator.Screen;
+import me.aartikov.alligator.ScreenResult;
+import me.aartikov.alligator.animations.AnimationData;
+
+
+/**
+ * Reference model of {@code AndroidNavigator}: a {@link BackStackNavigator} that changes a {@link NavigationState} instead of activities and fragments, so navigation logic
+ * can be tested and benchmarked on a plain JVM. A state corresponds to {@code AndroidNavigator} with all fragment navigations, a screen switcher and
+ * an {@code ActivityTracker} configured.
+ * <p>
+ * It is a separate implementation: {@code AndroidNavigator} doesn't delegate to it, they share only the decisions in {@link NavigationRules}.
+ * Agreement between them is checked by running {@link me.aartikov.alligator.core.stress.NavigationStressRunner} against {@code AndroidNavigator} under Robolectric.
+ * <p>
+ * Commands are executed immediately. Errors that {@code AndroidNavigator} passes to a {@code NavigationErrorListener} are thrown as {@link ReferenceNavigationException}s.
+ * A state is not changed by a failed command. Screen results and animation data are ignored.
+ */
+public class ReferenceNavigator implements BackStackNavigator {
+	private static final BackStackDiff.EntryMatcher<Screen> SCREEN_MATCHER = new BackStackDiff.EntryMatcher<Screen>() {
+		@Override
+		public boolean matches(@NonNull Screen entry, @NonNull Screen screen, int index) {
+			return entry.equals(screen);
+		}
+	};
+
+	private static final NavigationRules.ScreenClassProvider<Screen> SCREEN_CLASS_PROVIDER = new NavigationRules.ScreenClassProvider<Screen>() {
+		@NonNull
+		@Override
+		public Class<? extends Screen> getScreenClass(@NonNull Screen screen) {
+			return screen.getClass();
+		}
+	};
+
+	private static final NavigationRules.ScreenClassProvider<ActivityState> ACTIVITY_SCREEN_CLASS_PROVIDER = new NavigationRules.ScreenClassProvider<ActivityState>() {
+		@NonNull
+		@Override
+		public Class<? extends Screen> getScreenClass(@NonNull ActivityState activity) {
+			return activity.getScreen().getClass();
+		}
+	};
+
+	private DestinationResolver mDestinationResolver;
+	private NavigationState mState;
+
+	/**
+	 * @param destinationResolver tells how screens are represented
+	 * @param rootActivityScreen  screen of a launcher activity
+	 */
+	public ReferenceNavigator(@NonNull DestinationResolver destinationResolver, @NonNull Screen rootActivityScreen) {
+		this(destinationResolver, new NavigationState(rootActivityScreen));
+	}
+
+	/**
+	 * @param destinationResolver tells how screens are represented
+	 * @param state               initial state. It is changed by the navigator.
+	 */
+	public ReferenceNavigator(@NonNull DestinationResolver destinationResolver, @NonNull NavigationState state) {
+		mDestinationResolver = destinationResolver;
+		mState = state;
+	}
+
+	@NonNull
+	public NavigationState getState() {
+		return mState;
+	}
+
+	@Override
+	public boolean canExecuteCommandImmediately() {
+		return true;
+	}
+
+	@Override
+	public boolean hasPendingCommands() {
+		return false;
+	}
+
+	@Override
+	public void goForward(@NonNull Screen screen) {
+		goForward(screen, null);
+	}
+
+	@Override
+	public void goForward(@NonNull Screen screen, @Nullable AnimationData animationData) {
+		ActivityState activity = getCurrentActivity();
+		switch (getDestinationKind(screen.getClass())) {
+			case ACTIVITY:
+				if (isSingleTopDelivery(activity, screen)) {
+					activity.setScreen(screen);
+				} else {
+					mState.pushActivity(new ActivityState(screen));
+				}
+				break;
+			case FRAGMENT:
+				ScreenStack fragments = getFragmentStack(activity, screen.getClass());
+				if (isSingleTopDelivery(fragments, screen)) {
+					fragments.replace(screen);
+				} else {
+					fragments.push(screen);
+				}
+				break;
+			case DIALOG_FRAGMENT:
+				activity.getDialogFragments().push(screen);
+				break;
+		}
+	}
+
+	@Override
+	public void goBack() {
+		goBack(null);
+	}
+
+	@Override
+	public void goBack(@Nullable AnimationData animationData) {
+		goBackWithResult(null, animationData);
+	}
+
+	@Override
+	public void goBackWithResult(@NonNull ScreenResult screenResult) {
+		goBackWithResult(screenResult, null);
+	}
+
+	@Override
+	public void goBackWithResult(@Nullable ScreenResult screenResult, @Nullable AnimationData animationData) {
+		ActivityState activity = getCurrentActivity();
+		NavigationRules.BackTarget backTarget = NavigationRules.getBackTarget(activity.getDialogFragments().getScreenCount() > 0,
+				activity.getFragments().getScreenCount() > 1,
+				activity.getFlowFragments().getScreenCount() > 1);
+
+		switch (backTarget) {
+			case DIALOG_FRAGMENT:
+				activity.getDialogFragments().pop();
+				break;
+			case FRAGMENT:
+				activity.getFragments().pop();
+				break;
+			case FLOW_FRAGMENT:
+				activity.getFlowFragments().pop();
+				break;
+			case ACTIVITY:
+				mState.popActivity();
+				break;
+		}
+	}
+
+	@Override
+	public void goBackTo(@NonNull Class<? extends Screen> screenClass) {
+		goBackTo(screenClass, null);
+	}
+
+	@Override
+	public void goBackTo(@NonNull Class<? extends Screen> screenClass, @Nullable AnimationData animationData) {
+		goBackToWithResult(screenClass, null, animationData);
+	}
+
+	@Override
+	public void goBackToWithResult(@NonNull Class<? extends Screen> screenClass, @NonNull ScreenResult screenResult) {
+		goBackToWithResult(screenClass, screenResult, null);
+	}
+
+	@Override
+	public void goBackToWithResult(@NonNull Class<? extends Screen> screenClass, @Nullable ScreenResult screenResult, @Nullable AnimationData animationData) {
+		ActivityState activity = getCurrentActivity();
+		switch (getDestinationKind(screenClass)) {
+			case ACTIVITY:
+				int activityIndex = NavigationRules.getBackToIndex(mState.getActivities(), screenClass, ACTIVITY_SCREEN_CLASS_PROVIDER);
+				if (activityIndex == -1) {
+					throw new ReferenceNavigationException("Screen " + screenClass.getSimpleName() + " is not found.");
+				}
+				while (mState.getActivities().size() > activityIndex + 1) {
+					mState.popActivity();
+				}
+				break;
+			case FRAGMENT:
+				ScreenStack fragments = getFragmentStack(activity, screenClass);
+				int index = NavigationRules.getBackToIndex(fragments.getScreens(), screenClass, SCREEN_CLASS_PROVIDER);
+				if (index == -1) {
+					throw new ReferenceNavigationException("Screen " + screenClass.getSimpleName() + " is not found.");
+				}
+				fragments.popUntil(index);
+				break;
+			case DIALOG_FRAGMENT:
+				throw new ReferenceNavigationException("BackTo command is not supported for dialog fragments.");
+		}
+	}
+
+	@Override
+	public void replace(@NonNull Screen screen) {
+		replace(screen, null);
+	}
+
+	@Override
+	public void replace(@NonNull Screen screen, @Nullable AnimationData animationData) {
+		ActivityState activity = getCurrentActivity();
+		switch (getDestinationKind(screen.getClass())) {
+			case ACTIVITY:
+				if (isSingleTopDelivery(activity, screen)) {
+					activity.setScreen(screen);
+				} else {
+					mState.popActivity();
+					mState.pushActivity(new ActivityState(screen));
+				}
+				break;
+			case FRAGMENT:
+				getFragmentStack(activity, screen.getClass()).replace(screen);    // single top delivery replaces the top screen as well
+				break;
+			case DIALOG_FRAGMENT:
+				activity.getDialogFragments().replace(screen);
+				break;
+		}
+	}
+
+	@Override
+	public void reset(@NonNull Screen screen) {
+		reset(screen, null);
+	}
+
+	@Override
+	public void reset(@NonNull Screen screen, @Nullable AnimationData animationData) {
+		ActivityState activity = getCurrentActivity();
+		switch (getDestinationKind(screen.getClass())) {
+			case ACTIVITY:
+				mState.clearActivities();
+				mState.pushActivity(new ActivityState(screen));
+				break;
+			case FRAGMENT:
+				ScreenStack fragments = getFragmentStack(activity, screen.getClass());
+				if (NavigationRules.isResetToRoot(fragments.getScreens(), screen, SCREEN_MATCHER)) {
+					fragments.popUntil(0);
+				} else {
+					fragments.reset(screen);
+				}
+				break;
+			case DIALOG_FRAGMENT:
+				activity.getDialogFragments().reset(screen);
+				break;
+		}
+	}
+
+	@Override
+	public void setBackStack(@NonNull List<? extends Screen> screens) {
+		setBackStack(screens, null);
+	}
+
+	@Override
+	public void setBackStack(@NonNull List<? extends Screen> screens, @Nullable AnimationData animationData) {
+		if (screens.isEmpty()) {
+			throw new IllegalArgumentException("Screen list is empty.");
+		}
+
+		ActivityState activity = getCurrentActivity();
+		boolean flowScreens = screens.get(screens.size() - 1) instanceof FlowScreen;
+		for (Screen screen : screens) {
+			if (getDestinationKind(screen.getClass()) != DestinationKind.FRAGMENT) {
+				throw new ReferenceNavigationException("SetBackStack command is supported for fragments only.");
+			}
+			if (screen instanceof FlowScreen != flowScreens) {
+				throw new ReferenceNavigationException("SetBackStack command can't mix flow screens and usual screens.");
+			}
+		}
+
+		ScreenStack fragments = flowScreens ? activity.getFlowFragments() : activity.getFragments();
+		BackStackDiff diff = BackStackDiff.calculate(fragments.getScreens(), screens, SCREEN_MATCHER);
+		if (!diff.isEmpty()) {
+			fragments.replaceFrom(diff.getCommonCount(), screens.subList(diff.getCommonCount(), screens.size()));
+		}
+	}
+
+	@Override
+	public void finish() {
+		finish(null);
+	}
+
+	@Override
+	public void finish(@Nullable AnimationData animationData) {
+		finishWithResult(null, animationData);
+	}
+
+	@Override
+	public void finishWithResult(@NonNull ScreenResult screenResult) {
+		finishWithResult(screenResult, null);
+	}
+
+	@Override
+	public void finishWithResult(@Nullable ScreenResult screenResult, @Nullable AnimationData animationData) {
+		finish(false);
+	}
+
+	@Override
+	public void finishTopLevel() {
+		finishTopLevel(null);
+	}
+
+	@Override
+	public void finishTopLevel(@Nullable AnimationData animationData) {
+		finishTopLevelWithResult(null, animationData);
+	}
+
+	@Override
+	public void finishTopLevelWithResult(@NonNull ScreenResult screenResult) {
+		finishTopLevelWithResult(screenResult, null);
+	}
+
+	@Override
+	public void finishTopLevelWithResult(@Nullable ScreenResult screenResult, @Nullable AnimationData animationData) {
+		finish(true);
+	}
+
+	@Override
+	public void switchTo(@NonNull Screen screen) {
+		switchTo(screen, null);
+	}
+
+	@Override
+	public void switchTo(@NonNull Screen screen, @Nullable AnimationData animationData) {
+		getCurrentActivity().setSwitchedScreen(screen);
+	}
+
+	@NonNull
+	private ActivityState getCurrentActivity() {
+		ActivityState activity = mState.getCurrentActivity();
+		if (activity == null) {
+			throw new ReferenceNavigationException("All activities are finished.");
+		}
+		return activity;
+	}
+
+	@NonNull
+	private DestinationKind getDestinationKind(@NonNull Class<? extends Screen> screenClass) {
+		DestinationKind destinationKind = mDestinationResolver.getDestinationKind(screenClass);
+		if (destinationKind == null) {
+			throw new ReferenceNavigationException("Screen " + screenClass.getSimpleName() + " is not registered.");
+		}
+		return destinationKind;
+	}
+
+	@NonNull
+	private ScreenStack getFragmentStack(@NonNull ActivityState activity, @NonNull Class<? extends Screen> screenClass) {
+		return FlowScreen.class.isAssignableFrom(screenClass) ? activity.getFlowFragments() : activity.getFragments();
+	}
+
+	private void finish(boolean forTopLevel) {
+		ActivityState activity = getCurrentActivity();
+		if (NavigationRules.getFinishTarget(forTopLevel, activity.getFlowFragments().getScreenCount() > 1) == NavigationRules.BackTarget.FLOW_FRAGMENT) {
+			activity.getFlowFragments().pop();
+		} else {
+			mState.popActivity();
+		}
+	}
+
+	private boolean isSingleTopDelivery(@NonNull ActivityState activity, @NonNull Screen screen) {
+		return NavigationRules.isSingleTopDelivery(screen, activity.getScreen().getClass(), mDestinationResolver.isRegisteredForResult(screen.getClass()));
+	}
+
+	private boolean isSingleTopDelivery(@NonNull ScreenStack fragments, @NonNull Screen screen) {
+		Screen currentScreen = fragments.getCurrentScreen();
+		return NavigationRules.isSingleTopDelivery(screen, currentScreen == null ? null : currentScreen.getClass(), false);
+	}
+}
@@ -0,0 +1,111 @@
+package me.aartikov.alligator.core;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import me.aartikov.alligator.Screen;
+
+
+/**
+ * Android-free model of a back stack. Its operations match operations of {@code FragmentStack}.
+ */
+public class ScreenStack {
+	private List<Screen> mScreens = new ArrayList<>();
+
+	public ScreenStack() {
+	}
+
+	public ScreenStack(@NonNull ScreenStack screenStack) {
+		mScreens.addAll(screenStack.mScreens);
+	}
+
+	@NonNull
+	public List<Screen> getScreens() {
+		return Collections.unmodifiableList(mScreens);
+	}
+
+	public int getScreenCount() {
+		return mScreens.size();
+	}
+
+	@Nullable
+	public Screen getCurrentScreen() {
+		return mScreens.isEmpty() ? null : mScreens.get(mScreens.size() - 1);
+	}
+
+	/**
+	 * Returns an index of the last screen of the given class.
+	 *
+	 * @param screenClass screen class
+	 * @return index or -1 if there is no such screen
+	 */
+	public int lastIndexOf(@NonNull Class<? extends Screen> screenClass) {
+		for (int i = mScreens.size() - 1; i >= 0; i--) {
+			if (mScreens.get(i).getClass() == screenClass) {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	public void push(@NonNull Screen screen) {
+		mScreens.add(screen);
+	}
+
+	public void pop() {
+		if (mScreens.isEmpty()) {
+			throw new IllegalStateException("Can't pop from an empty stack.");
+		}
+		mScreens.remove(mScreens.size() - 1);
+	}
+
+	public void popUntil(int index) {
+		if (index < 0 || index >= mScreens.size()) {
+			throw new IllegalArgumentException("Screen is not found.");
+		}
+		mScreens.subList(index + 1, mScreens.size()).clear();
+	}
+
+	public void replace(@NonNull Screen screen) {
+		if (!mScreens.isEmpty()) {
+			mScreens.remove(mScreens.size() - 1);
+		}
+		mScreens.add(screen);
+	}
+
+	public void reset(@NonNull Screen screen) {
+		mScreens.clear();
+		mScreens.add(screen);
+	}
+
+	/**
+	 * Keeps screens with indices less than {@code index} and replaces all the others with {@code newScreens}.
+	 */
+	public void replaceFrom(int index, @NonNull List<? extends Screen> newScreens) {
+		mScreens.subList(index, mScreens.size()).clear();
+		mScreens.addAll(newScreens);
+	}
+
+	public void clear() {
+		mScreens.clear();
+	}
+
+	@Override
+	public boolean equals(Object o) {
+		return o instanceof ScreenStack && mScreens.equals(((ScreenStack) o).mScreens);
+	}
+
+	@Override
+	public int hashCode() {
+		return mScreens.hashCode();
+	}
+
+	@Override
+	public String toString() {
+		return mScreens.toString();
+	}
+}
@@ -0,0 +1,369 @@
+package me.aartikov.alligator.core.stress;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import me.aartikov.alligator.FlowScreen;
+import me.aartikov.alligator.Screen;
+import me.aartikov.alligator.core.ActivityState;
+import me.aartikov.alligator.core.DestinationKind;
+import me.aartikov.alligator.core.DestinationResolver;
+import me.aartikov.alligator.core.LatencyHistogram;
+import me.aartikov.alligator.core.NavigationRules;
+import me.aartikov.alligator.core.NavigationState;
+import me.aartikov.alligator.core.ReferenceNavigator;
+import me.aartikov.alligator.core.ReferenceNavigationException;
+
+
+/**
+ * Executes random command sequences on {@link StressTarget}s. Every command is executed on {@link ReferenceNavigator} first.
+ * Commands are generated for a current reference state: {@code goBackTo} gets a screen class from a back stack, {@code setBackStack} gets fragment screens only,
+ * and commands that would close the last activity are not generated, so sequences reach deep states. Commands still rejected by the reference navigator are skipped.
+ * After every command the runner checks that screens are in the right places, that a target state matches the reference one and that the target hasn't thrown an exception.
+ * Execution durations of targets are collected per command type, so they are meaningful for real targets such as {@code AndroidNavigator} only.
+ * <p>
+ * A failing sequence is shrunk: commands are removed while the sequence still fails, so a failure usually ends with a few commands.
+ * Shrinking accepts any failure, not only the original one.
+ */
+public class NavigationStressRunner {
+	private static final int DEFAULT_SEQUENCE_COUNT = 100;
+	private static final int DEFAULT_SEQUENCE_LENGTH = 50;
+	private static final int DEFAULT_MAX_SHRINK_ATTEMPTS = 1000;
+	private static final int MAX_BACK_STACK_SIZE = 3;
+	private static final int GENERATION_ATTEMPTS_PER_COMMAND = 4;
+
+	private DestinationResolver mDestinationResolver;
+	private Screen mRootActivityScreen;
+	private List<Screen> mScreens;
+	private List<Screen> mSwitchedScreens;
+	private List<Screen> mFragmentScreens = new ArrayList<>();
+	private List<Screen> mFlowScreens = new ArrayList<>();
+	private StressTarget.Factory mTargetFactory;
+	private long mSeed = System.nanoTime();
+	private int mSequenceCount = DEFAULT_SEQUENCE_COUNT;
+	private int mSequenceLength = DEFAULT_SEQUENCE_LENGTH;
+	private int mMaxShrinkAttempts = DEFAULT_MAX_SHRINK_ATTEMPTS;
+	private List<StressCommand.Type> mCommandTypes = Arrays.asList(StressCommand.Type.values());
+
+	/**
+	 * @param destinationResolver tells how screens are represented. It must be consistent with targets.
+	 * @param rootActivityScreen  screen of a launcher activity. Targets must start with it.
+	 * @param screens             screens that are used as command arguments
+	 * @param targetFactory       creates a target for every sequence
+	 */
+	public NavigationStressRunner(@NonNull DestinationResolver destinationResolver,
+								  @NonNull Screen rootActivityScreen,
+								  @NonNull List<? extends Screen> screens,
+								  @NonNull StressTarget.Factory targetFactory) {
+		if (screens.isEmpty()) {
+			throw new IllegalArgumentException("Screen list is empty.");
+		}
+
+		mDestinationResolver = destinationResolver;
+		mRootActivityScreen = rootActivityScreen;
+		mScreens = new ArrayList<>(screens);
+		mSwitchedScreens = mScreens;
+		mTargetFactory = targetFactory;
+		for (Screen screen : mScreens) {
+			if (destinationResolver.getDestinationKind(screen.getClass()) == DestinationKind.FRAGMENT) {
+				(screen instanceof FlowScreen ? mFlowScreens : mFragmentScreens).add(screen);
+			}
+		}
+	}
+
+	/**
+	 * Sets screens that are used as arguments of {@code switchTo}. By default the screens passed to the constructor are used.
+	 * A target with {@code FragmentScreenSwitcher} can switch only to fragment screens.
+	 *
+	 * @param switchedScreens screens for a screen switcher
+	 */
+	public void setSwitchedScreens(@NonNull List<? extends Screen> switchedScreens) {
+		if (switchedScreens.isEmpty()) {
+			throw new IllegalArgumentException("Switched screen list is empty.");
+		}
+		mSwitchedScreens = new ArrayList<>(switchedScreens);
+	}
+
+	/**
+	 * Sets a random seed. By default it is based on a current time.
+	 *
+	 * @param seed random seed
+	 */
+	public void setSeed(long seed) {
+		mSeed = seed;
+	}
+
+	/**
+	 * Sets a number of generated sequences. By default it is 100.
+	 *
+	 * @param sequenceCount sequence count
+	 */
+	public void setSequenceCount(int sequenceCount) {
+		mSequenceCount = sequenceCount;
+	}
+
+	/**
+	 * Sets a maximal number of executed commands in a sequence. A sequence is shorter if all activities are finished. By default it is 50.
+	 *
+	 * @param sequenceLength sequence length
+	 */
+	public void setSequenceLength(int sequenceLength) {
+		mSequenceLength = sequenceLength;
+	}
+
+	/**
+	 * Sets a maximal number of replays used to shrink a failing sequence. By default it is 1000.
+	 *
+	 * @param maxShrinkAttempts attempt count or 0 to disable shrinking
+	 */
+	public void setMaxShrinkAttempts(int maxShrinkAttempts) {
+		mMaxShrinkAttempts = maxShrinkAttempts;
+	}
+
+	/**
+	 * Restricts generated commands. By default all command types are used.
+	 *
+	 * @param commandTypes command types
+	 */
+	public void setCommandTypes(@NonNull StressCommand.Type... commandTypes) {
+		if (commandTypes.length == 0) {
+			throw new IllegalArgumentException("Command types are empty.");
+		}
+		mCommandTypes = Arrays.asList(commandTypes);
+	}
+
+	/**
+	 * Generates and executes command sequences.
+	 *
+	 * @return report with latencies and shrunk failures
+	 */
+	@NonNull
+	public StressReport run() {
+		LatencyHistogram[] histograms = new LatencyHistogram[StressCommand.Type.values().length];
+		for (int i = 0; i < histograms.length; i++) {
+			histograms[i] = new LatencyHistogram();
+		}
+
+		List<StressFailure> failures = new ArrayList<>();
+		int commandCount = 0;
+		int rejectedCommandCount = 0;
+		for (int i = 0; i < mSequenceCount; i++) {
+			long seed = mSeed + i;
+			SequenceResult result = runSequence(new Random(seed), null, histograms);
+			commandCount += result.mCommands.size();
+			rejectedCommandCount += result.mRejectedCommandCount;
+			if (result.mFailureMessage != null) {
+				failures.add(shrink(seed, result));
+			}
+		}
+		return new StressReport(mSequenceCount, commandCount, rejectedCommandCount, histograms, failures);
+	}
+
+	/**
+	 * Executes a given command sequence, for example one from {@link StressFailure#getCommands()}.
+	 *
+	 * @param commands commands
+	 * @return failure or {@code null} if the sequence passes
+	 */
+	@Nullable
+	public StressFailure replay(@NonNull List<StressCommand> commands) {
+		SequenceResult result = runSequence(null, commands, null);
+		return result.mFailureMessage == null ? null : new StressFailure(0, result.mCommands, result.mFailureMessage, result.mFailureCause);
+	}
+
+	@NonNull
+	private SequenceResult runSequence(@Nullable Random random, @Nullable List<StressCommand> commands, @Nullable LatencyHistogram[] histograms) {
+		SequenceResult result = new SequenceResult();
+		ReferenceNavigator model = new ReferenceNavigator(mDestinationResolver, mRootActivityScreen);
+		StressTarget target = mTargetFactory.create();
+		try {
+			if (checkState(model, target, result)) {
+				return result;
+			}
+
+			int attemptCount = random != null ? mSequenceLength * GENERATION_ATTEMPTS_PER_COMMAND : commands.size();
+			for (int i = 0; i < attemptCount && (random == null || result.mCommands.size() < mSequenceLength); i++) {
+				StressCommand command = random != null ? generateCommand(random, model.getState()) : commands.get(i);
+				if (command == null) {
+					continue;
+				}
+				NavigationState lastActivityState = model.getState().getActivities().size() == 1 ? new NavigationState(model.getState()) : null;
+				try {
+					command.execute(model);
+				} catch (ReferenceNavigationException e) {
+					result.mRejectedCommandCount++;
+					continue;
+				}
+				if (model.getState().isFinished()) {
+					model = new ReferenceNavigator(mDestinationResolver, lastActivityState);
+					result.mRejectedCommandCount++;
+					continue;
+				}
+				result.mCommands.add(command);
+
+				long startTime = System.nanoTime();
+				try {
+					command.execute(target.getNavigator());
+				} catch (RuntimeException e) {
+					result.setFailure("Command " + command + " failed: " + e, e);
+					return result;
+				}
+				if (histograms != null) {
+					histograms[command.getType().ordinal()].record(System.nanoTime() - startTime);
+				}
+
+				if (checkState(model, target, result)) {
+					return result;
+				}
+			}
+			return result;
+		} finally {
+			target.release();
+		}
+	}
+
+	private boolean checkState(@NonNull ReferenceNavigator model, @NonNull StressTarget target, @NonNull SequenceResult result) {
+		NavigationState expectedState = model.getState();
+		String error = checkScreenPlacement(expectedState);
+		if (error != null) {
+			result.setFailure(error, null);
+			return true;
+		}
+
+		NavigationState actualState = target.getState();
+		if (actualState != null && !actualState.equals(expectedState)) {
+			result.setFailure("State differs from the model.\nExpected:\n" + expectedState + "Actual:\n" + actualState, null);
+			return true;
+		}
+		return false;
+	}
+
+	@Nullable
+	private String checkScreenPlacement(@NonNull NavigationState state) {
+		for (ActivityState activity : state.getActivities()) {
+			if (mDestinationResolver.getDestinationKind(activity.getScreen().getClass()) != DestinationKind.ACTIVITY) {
+				return "Screen " + activity.getScreen() + " is not an activity.";
+			}
+			for (Screen screen : activity.getFragments().getScreens()) {
+				if (mDestinationResolver.getDestinationKind(screen.getClass()) != DestinationKind.FRAGMENT || screen instanceof FlowScreen) {
+					return "Screen " + screen + " is in a fragment back stack.";
+				}
+			}
+			for (Screen screen : activity.getFlowFragments().getScreens()) {
+				if (mDestinationResolver.getDestinationKind(screen.getClass()) != DestinationKind.FRAGMENT || !(screen instanceof FlowScreen)) {
+					return "Screen " + screen + " is in a flow back stack.";
+				}
+			}
+			for (Screen screen : activity.getDialogFragments().getScreens()) {
+				if (mDestinationResolver.getDestinationKind(screen.getClass()) != DestinationKind.DIALOG_FRAGMENT) {
+					return "Screen " + screen + " is in a dialog stack.";
+				}
+			}
+		}
+		return null;
+	}
+
+	@NonNull
+	private StressFailure shrink(long seed, @NonNull SequenceResult failedResult) {
+		SequenceResult result = failedResult;
+		int attemptCount = 0;
+		int chunkSize = Math.max(result.mCommands.size() / 2, 1);
+		while (chunkSize >= 1 && attemptCount < mMaxShrinkAttempts) {
+			boolean shrunk = false;
+			int start = 0;
+			while (start < result.mCommands.size() && attemptCount < mMaxShrinkAttempts) {
+				List<StressCommand> candidate = new ArrayList<>(result.mCommands.subList(0, start));
+				candidate.addAll(result.mCommands.subList(Math.min(start + chunkSize, result.mCommands.size()), result.mCommands.size()));
+				SequenceResult candidateResult = runSequence(null, candidate, null);
+				attemptCount++;
+				if (candidateResult.mFailureMessage != null) {
+					result = candidateResult;
+					shrunk = true;
+				} else {
+					start += chunkSize;
+				}
+			}
+			if (!shrunk) {
+				chunkSize /= 2;
+			}
+		}
+		return new StressFailure(seed, result.mCommands, result.mFailureMessage, result.mFailureCause);
+	}
+
+	// Returns null if a command of the chosen type can't be executed in the state.
+	@Nullable
+	private StressCommand generateCommand(@NonNull Random random, @NonNull NavigationState state) {
+		StressCommand.Type type = mCommandTypes.get(random.nextInt(mCommandTypes.size()));
+		ActivityState activity = state.getCurrentActivity();
+		boolean lastActivity = state.getActivities().size() == 1;
+		switch (type) {
+			case GO_FORWARD:
+			case REPLACE:
+			case RESET:
+				return StressCommand.create(type, getRandomScreen(random, mScreens));
+			case SWITCH_TO:
+				return StressCommand.create(type, getRandomScreen(random, mSwitchedScreens));
+			case GO_BACK:
+				NavigationRules.BackTarget backTarget = NavigationRules.getBackTarget(activity.getDialogFragments().getScreenCount() > 0,
+						activity.getFragments().getScreenCount() > 1,
+						activity.getFlowFragments().getScreenCount() > 1);
+				return lastActivity && backTarget == NavigationRules.BackTarget.ACTIVITY ? null : StressCommand.create(type);
+			case FINISH:
+			case FINISH_TOP_LEVEL:
+				NavigationRules.BackTarget finishTarget = NavigationRules.getFinishTarget(type == StressCommand.Type.FINISH_TOP_LEVEL,
+						activity.getFlowFragments().getScreenCount() > 1);
+				return lastActivity && finishTarget == NavigationRules.BackTarget.ACTIVITY ? null : StressCommand.create(type);
+			case GO_BACK_TO:
+				return StressCommand.createGoBackTo(getRandomBackStackScreenClass(random, state));
+			case SET_BACK_STACK:
+				List<Screen> candidates = mFlowScreens.isEmpty() || (!mFragmentScreens.isEmpty() && random.nextBoolean()) ? mFragmentScreens : mFlowScreens;
+				if (candidates.isEmpty()) {
+					return null;
+				}
+				List<Screen> screens = new ArrayList<>();
+				int size = 1 + random.nextInt(MAX_BACK_STACK_SIZE);
+				for (int i = 0; i < size; i++) {
+					screens.add(getRandomScreen(random, candidates));
+				}
+				return StressCommand.createSetBackStack(screens);
+			default:
+				return StressCommand.create(type);
+		}
+	}
+
+	@NonNull
+	private Class<? extends Screen> getRandomBackStackScreenClass(@NonNull Random random, @NonNull NavigationState state) {
+		ActivityState activity = state.getCurrentActivity();
+		List<Screen> screens = new ArrayList<>();
+		for (ActivityState item : state.getActivities()) {
+			screens.add(item.getScreen());
+		}
+		screens.addAll(activity.getFragments().getScreens());
+		screens.addAll(activity.getFlowFragments().getScreens());
+		return getRandomScreen(random, screens).getClass();
+	}
+
+	@NonNull
+	private static Screen getRandomScreen(@NonNull Random random, @NonNull List<Screen> screens) {
+		return screens.get(random.nextInt(screens.size()));
+	}
+
+	private static class SequenceResult {
+		List<StressCommand> mCommands = new ArrayList<>();
+		int mRejectedCommandCount;
+		@Nullable
+		String mFailureMessage;
+		@Nullable
+		Throwable mFailureCause;
+
+		void setFailure(@NonNull String message, @Nullable Throwable cause) {
+			mFailureMessage = message;
+			mFailureCause = cause;
+		}
+	}
+}
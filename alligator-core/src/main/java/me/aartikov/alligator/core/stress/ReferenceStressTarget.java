@@ -0,0 +1,56 @@
+package me.aartikov.alligator.core.stress;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import me.aartikov.alligator.BackStackNavigator;
+import me.aartikov.alligator.Screen;
+import me.aartikov.alligator.core.DestinationResolver;
+import me.aartikov.alligator.core.NavigationState;
+import me.aartikov.alligator.core.ReferenceNavigator;
+
+
+/**
+ * {@link StressTarget} with {@link ReferenceNavigator}. Is used to check invariants of the navigation model and to measure its overhead.
+ */
+public class ReferenceStressTarget implements StressTarget {
+	private ReferenceNavigator mNavigator;
+
+	public ReferenceStressTarget(@NonNull DestinationResolver destinationResolver, @NonNull Screen rootActivityScreen) {
+		mNavigator = new ReferenceNavigator(destinationResolver, rootActivityScreen);
+	}
+
+	/**
+	 * Creates a factory of reference targets.
+	 *
+	 * @param destinationResolver tells how screens are represented
+	 * @param rootActivityScreen  screen of a launcher activity
+	 * @return target factory
+	 */
+	@NonNull
+	public static StressTarget.Factory factory(@NonNull final DestinationResolver destinationResolver, @NonNull final Screen rootActivityScreen) {
+		return new StressTarget.Factory() {
+			@Override
+			@NonNull
+			public StressTarget create() {
+				return new ReferenceStressTarget(destinationResolver, rootActivityScreen);
+			}
+		};
+	}
+
+	@Override
+	@NonNull
+	public BackStackNavigator getNavigator() {
+		return mNavigator;
+	}
+
+	@Override
+	@Nullable
+	public NavigationState getState() {
+		return mNavigator.getState();
+	}
+
+	@Override
+	public void release() {
+	}
+}
@@ -0,0 +1,143 @@
+package me.aartikov.alligator.core.stress;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import me.aartikov.alligator.BackStackNavigator;
+import me.aartikov.alligator.Screen;
+
+
+/**
+ * Navigation command generated by {@link NavigationStressRunner}. Unlike library commands it can be executed on any {@link BackStackNavigator} and replayed many times.
+ */
+public class StressCommand {
+	/**
+	 * Navigator method that is called by a command.
+	 */
+	public enum Type {
+		GO_FORWARD,
+		GO_BACK,
+		GO_BACK_TO,
+		REPLACE,
+		RESET,
+		SET_BACK_STACK,
+		FINISH,
+		FINISH_TOP_LEVEL,
+		SWITCH_TO
+	}
+
+	private Type mType;
+	@Nullable
+	private Screen mScreen;
+	@Nullable
+	private Class<? extends Screen> mScreenClass;
+	@Nullable
+	private List<Screen> mScreens;
+
+	private StressCommand(@NonNull Type type, @Nullable Screen screen, @Nullable Class<? extends Screen> screenClass, @Nullable List<Screen> screens) {
+		mType = type;
+		mScreen = screen;
+		mScreenClass = screenClass;
+		mScreens = screens;
+	}
+
+	/**
+	 * Creates a command without arguments.
+	 *
+	 * @param type {@code GO_BACK}, {@code FINISH} or {@code FINISH_TOP_LEVEL}
+	 * @return created command
+	 */
+	@NonNull
+	public static StressCommand create(@NonNull Type type) {
+		if (type != Type.GO_BACK && type != Type.FINISH && type != Type.FINISH_TOP_LEVEL) {
+			throw new IllegalArgumentException("Command " + type + " requires an argument.");
+		}
+		return new StressCommand(type, null, null, null);
+	}
+
+	/**
+	 * Creates a command with a screen.
+	 *
+	 * @param type   {@code GO_FORWARD}, {@code REPLACE}, {@code RESET} or {@code SWITCH_TO}
+	 * @param screen screen
+	 * @return created command
+	 */
+	@NonNull
+	public static StressCommand create(@NonNull Type type, @NonNull Screen screen) {
+		if (type != Type.GO_FORWARD && type != Type.REPLACE && type != Type.RESET && type != Type.SWITCH_TO) {
+			throw new IllegalArgumentException("Command " + type + " can't have a screen.");
+		}
+		return new StressCommand(type, screen, null, null);
+	}
+
+	@NonNull
+	public static StressCommand createGoBackTo(@NonNull Class<? extends Screen> screenClass) {
+		return new StressCommand(Type.GO_BACK_TO, null, screenClass, null);
+	}
+
+	@NonNull
+	public static StressCommand createSetBackStack(@NonNull List<? extends Screen> screens) {
+		return new StressCommand(Type.SET_BACK_STACK, null, null, Collections.unmodifiableList(new ArrayList<>(screens)));
+	}
+
+	@NonNull
+	public Type getType() {
+		return mType;
+	}
+
+	/**
+	 * Calls a navigator method.
+	 *
+	 * @param navigator navigator
+	 */
+	public void execute(@NonNull BackStackNavigator navigator) {
+		switch (mType) {
+			case GO_FORWARD:
+				navigator.goForward(mScreen);
+				break;
+			case GO_BACK:
+				navigator.goBack();
+				break;
+			case GO_BACK_TO:
+				navigator.goBackTo(mScreenClass);
+				break;
+			case REPLACE:
+				navigator.replace(mScreen);
+				break;
+			case RESET:
+				navigator.reset(mScreen);
+				break;
+			case SET_BACK_STACK:
+				navigator.setBackStack(mScreens);
+				break;
+			case FINISH:
+				navigator.finish();
+				break;
+			case FINISH_TOP_LEVEL:
+				navigator.finishTopLevel();
+				break;
+			case SWITCH_TO:
+				navigator.switchTo(mScreen);
+				break;
+		}
+	}
+
+	@Override
+	public String toString() {
+		StringBuilder builder = new StringBuilder(mType.toString()).append('(');
+		if (mScreen != null) {
+			builder.append(mScreen.getClass().getSimpleName());
+		} else if (mScreenClass != null) {
+			builder.append(mScreenClass.getSimpleName());
+		} else if (mScreens != null) {
+			for (int i = 0; i < mScreens.size(); i++) {
+				builder.append(i == 0 ? "" : ", ").append(mScreens.get(i).getClass().getSimpleName());
+			}
+		}
+		return builder.append(')').toString();
+	}
+}
@@ -0,0 +1,69 @@
+package me.aartikov.alligator.core.stress;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import java.util.Collections;
+import java.util.List;
+
+
+/**
+ * Command sequence that breaks a {@link StressTarget}. After shrinking the last command of the sequence is the one that fails.
+ */
+public class StressFailure {
+	private long mSeed;
+	private List<StressCommand> mCommands;
+	private String mMessage;
+	@Nullable
+	private Throwable mCause;
+
+	public StressFailure(long seed, @NonNull List<StressCommand> commands, @NonNull String message, @Nullable Throwable cause) {
+		mSeed = seed;
+		mCommands = Collections.unmodifiableList(commands);
+		mMessage = message;
+		mCause = cause;
+	}
+
+	/**
+	 * Returns a seed of the generated sequence. Pass it to {@link NavigationStressRunner#setSeed} with a sequence count of 1 to get the original sequence again.
+	 *
+	 * @return random seed
+	 */
+	public long getSeed() {
+		return mSeed;
+	}
+
+	/**
+	 * Returns commands that reproduce the failure.
+	 *
+	 * @return command sequence
+	 */
+	@NonNull
+	public List<StressCommand> getCommands() {
+		return mCommands;
+	}
+
+	@NonNull
+	public String getMessage() {
+		return mMessage;
+	}
+
+	/**
+	 * Returns an exception thrown by the target.
+	 *
+	 * @return exception or {@code null} if the failure is a broken invariant
+	 */
+	@Nullable
+	public Throwable getCause() {
+		return mCause;
+	}
+
+	@Override
+	public String toString() {
+		StringBuilder builder = new StringBuilder("Seed ").append(mSeed).append(": ").append(mMessage).append('\n');
+		for (int i = 0; i < mCommands.size(); i++) {
+			builder.append(i + 1).append(". ").append(mCommands.get(i)).append('\n');
+		}
+		return builder.toString();
+	}
+}
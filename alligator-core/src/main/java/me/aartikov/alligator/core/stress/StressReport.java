@@ -0,0 +1,102 @@
+package me.aartikov.alligator.core.stress;
+
+import androidx.annotation.NonNull;
+
+import java.util.Collections;
+import java.util.List;
+
+import me.aartikov.alligator.core.LatencyHistogram;
+
+
+/**
+ * Result of {@link NavigationStressRunner#run()}.
+ */
+public class StressReport {
+	private int mSequenceCount;
+	private int mCommandCount;
+	private int mRejectedCommandCount;
+	private LatencyHistogram[] mHistograms;
+	private List<StressFailure> mFailures;
+
+	StressReport(int sequenceCount, int commandCount, int rejectedCommandCount, @NonNull LatencyHistogram[] histograms, @NonNull List<StressFailure> failures) {
+		mSequenceCount = sequenceCount;
+		mCommandCount = commandCount;
+		mRejectedCommandCount = rejectedCommandCount;
+		mHistograms = histograms;
+		mFailures = Collections.unmodifiableList(failures);
+	}
+
+	public int getSequenceCount() {
+		return mSequenceCount;
+	}
+
+	/**
+	 * Returns a number of commands executed by targets.
+	 *
+	 * @return command count
+	 */
+	public int getCommandCount() {
+		return mCommandCount;
+	}
+
+	/**
+	 * Returns a number of generated commands that were not executed because they are invalid in a current state, for example {@code goBackTo} to a missing screen or {@code goBack} from the last screen.
+	 *
+	 * @return rejected command count
+	 */
+	public int getRejectedCommandCount() {
+		return mRejectedCommandCount;
+	}
+
+	/**
+	 * Returns execution durations of commands of the given type.
+	 *
+	 * @param commandType command type
+	 * @return latency histogram
+	 */
+	@NonNull
+	public LatencyHistogram getHistogram(@NonNull StressCommand.Type commandType) {
+		return mHistograms[commandType.ordinal()];
+	}
+
+	/**
+	 * Returns execution durations of all commands.
+	 *
+	 * @return latency histogram
+	 */
+	@NonNull
+	public LatencyHistogram getTotalHistogram() {
+		LatencyHistogram histogram = new LatencyHistogram();
+		for (LatencyHistogram item : mHistograms) {
+			histogram.add(item);
+		}
+		return histogram;
+	}
+
+	@NonNull
+	public List<StressFailure> getFailures() {
+		return mFailures;
+	}
+
+	public boolean isSuccessful() {
+		return mFailures.isEmpty();
+	}
+
+	@Override
+	public String toString() {
+		StringBuilder builder = new StringBuilder()
+				.append("Sequences: ").append(mSequenceCount)
+				.append(", commands: ").append(mCommandCount)
+				.append(", rejected: ").append(mRejectedCommandCount)
+				.append(", failures: ").append(mFailures.size()).append('\n');
+		for (StressCommand.Type type : StressCommand.Type.values()) {
+			if (mHistograms[type.ordinal()].getCount() > 0) {
+				builder.append(type).append(": ").append(mHistograms[type.ordinal()]).append('\n');
+			}
+		}
+		for (StressFailure failure : mFailures) {
+			builder.append(failure);
+		}
+		return builder.toString();
+	}
+}
@@ -0,0 +1,40 @@
+package me.aartikov.alligator.core.stress;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import me.aartikov.alligator.BackStackNavigator;
+import me.aartikov.alligator.core.NavigationState;
+
+
+/**
+ * Navigator under a stress test. It must start with the root screen passed to {@link NavigationStressRunner}.
+ * <p>
+ * A command should be completed when {@link me.aartikov.alligator.Navigator} method returns. For {@code AndroidNavigator} it means that an adapter
+ * runs pending main thread tasks (for example idles a Robolectric looper) and rethrows errors passed to {@code NavigationErrorListener}.
+ */
+public interface StressTarget {
+	/**
+	 * Creates a fresh target for every generated or replayed command sequence.
+	 */
+	interface Factory {
+		@NonNull
+		StressTarget create();
+	}
+
+	@NonNull
+	BackStackNavigator getNavigator();
+
+	/**
+	 * Reads an actual navigation state. It is compared with a state of {@link me.aartikov.alligator.core.ReferenceNavigator} after every command.
+	 *
+	 * @return actual state or {@code null} if the target can't provide it. In this case only errors are detected.
+	 */
+	@Nullable
+	NavigationState getState();
+
+	/**
+	 * Releases the target. Is called when a command sequence is finished.
+	 */
+	void release();
+}
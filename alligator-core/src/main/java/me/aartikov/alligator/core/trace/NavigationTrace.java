@@ -0,0 +1,263 @@
+package me.aartikov.alligator.core.trace;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import me.aartikov.alligator.core.DestinationKind;
+import me.aartikov.alligator.core.stress.StressCommand;
+
+
+/**
+ * Recorded sequence of navigation commands. Only command types and screen classes are kept, screen arguments are not recorded.
+ * Destination kinds of screen classes can be kept too, so a trace can be replayed with stand-in screens (see {@link StandInTraceScreenFactory}).
+ */
+public class NavigationTrace {
+	/**
+	 * Version of a binary format written by {@link #writeTo(OutputStream)}.
+	 */
+	public static final int BINARY_FORMAT_VERSION = 2;
+
+	private static final int BINARY_FORMAT_MAGIC = 0x414c4e54;    // "ALNT"
+
+	private static final StressCommand.Type[] COMMAND_TYPES = StressCommand.Type.values();
+	private static final DestinationKind[] DESTINATION_KINDS = DestinationKind.values();
+
+	/**
+	 * Single recorded command.
+	 */
+	public static class Entry {
+		private StressCommand.Type mCommandType;
+		private List<String> mScreenClassNames;
+		private long mTimeOffset;
+		private long mDuration;
+		private boolean mFailed;
+
+		/**
+		 * @param commandType      command type
+		 * @param screenClassNames names of screen classes of a command. There are several classes for {@code SET_BACK_STACK} and none for {@code GO_BACK} and {@code FINISH}.
+		 * @param timeOffset       time from the beginning of a trace in milliseconds
+		 * @param duration         execution duration in nanoseconds
+		 * @param failed           {@code true} if the command has failed
+		 */
+		public Entry(@NonNull StressCommand.Type commandType, @NonNull List<String> screenClassNames, long timeOffset, long duration, boolean failed) {
+			mCommandType = commandType;
+			mScreenClassNames = Collections.unmodifiableList(new ArrayList<>(screenClassNames));
+			mTimeOffset = timeOffset;
+			mDuration = duration;
+			mFailed = failed;
+		}
+
+		@NonNull
+		public StressCommand.Type getCommandType() {
+			return mCommandType;
+		}
+
+		@NonNull
+		public List<String> getScreenClassNames() {
+			return mScreenClassNames;
+		}
+
+		public long getTimeOffset() {
+			return mTimeOffset;
+		}
+
+		public long getDuration() {
+			return mDuration;
+		}
+
+		public boolean isFailed() {
+			return mFailed;
+		}
+
+		@Override
+		public String toString() {
+			return "+" + mTimeOffset + "ms " + mCommandType + mScreenClassNames + " " + mDuration / 1000 + "us" + (mFailed ? " FAILED" : "");
+		}
+	}
+
+	private List<Entry> mEntries = new ArrayList<>();
+	private Map<String, DestinationKind> mDestinationKinds = new HashMap<>();
+	private Set<String> mFlowScreenClassNames = new HashSet<>();
+
+	public NavigationTrace() {
+	}
+
+	public NavigationTrace(@NonNull List<Entry> entries) {
+		mEntries.addAll(entries);
+	}
+
+	/**
+	 * Creates a copy of a trace.
+	 *
+	 * @param trace trace to copy
+	 */
+	public NavigationTrace(@NonNull NavigationTrace trace) {
+		mEntries.addAll(trace.mEntries);
+		mDestinationKinds.putAll(trace.mDestinationKinds);
+		mFlowScreenClassNames.addAll(trace.mFlowScreenClassNames);
+	}
+
+	public void add(@NonNull Entry entry) {
+		mEntries.add(entry);
+	}
+
+	@NonNull
+	public List<Entry> getEntries() {
+		return Collections.unmodifiableList(mEntries);
+	}
+
+	public int getSize() {
+		return mEntries.size();
+	}
+
+	/**
+	 * Keeps how a screen is represented.
+	 *
+	 * @param screenClassName binary name of a screen class
+	 * @param destinationKind destination kind of the screen
+	 * @param flowScreen      {@code true} if the screen is a {@code FlowScreen}
+	 */
+	public void setDestinationKind(@NonNull String screenClassName, @NonNull DestinationKind destinationKind, boolean flowScreen) {
+		mDestinationKinds.put(screenClassName, destinationKind);
+		if (flowScreen) {
+			mFlowScreenClassNames.add(screenClassName);
+		} else {
+			mFlowScreenClassNames.remove(screenClassName);
+		}
+	}
+
+	/**
+	 * Returns a destination kind of a screen.
+	 *
+	 * @param screenClassName binary name of a screen class
+	 * @return destination kind or {@code null} if it is unknown
+	 */
+	@Nullable
+	public DestinationKind getDestinationKind(@NonNull String screenClassName) {
+		return mDestinationKinds.get(screenClassName);
+	}
+
+	public boolean isFlowScreen(@NonNull String screenClassName) {
+		return mFlowScreenClassNames.contains(screenClassName);
+	}
+
+	/**
+	 * Writes the trace in a compact binary format. The format is: magic number (int), format version (int), class count (int), classes,
+	 * entry count (int) and entries. Every class is: name (UTF string), destination kind (byte, -1 if unknown) and flow screen flag (boolean). Every entry is: command type (byte), failed flag (boolean), time offset in milliseconds (long), duration in nanoseconds (long),
+	 * screen class count (short) and screen class indices (short).
+	 *
+	 * @param outputStream output stream. It is not closed.
+	 * @throws IOException if writing fails
+	 */
+	public void writeTo(@NonNull OutputStream outputStream) throws IOException {
+		List<String> classNames = new ArrayList<>();
+		for (Entry entry : mEntries) {
+			for (String className : entry.mScreenClassNames) {
+				if (!classNames.contains(className)) {
+					classNames.add(className);
+				}
+			}
+		}
+
+		DataOutputStream out = new DataOutputStream(outputStream);
+		out.writeInt(BINARY_FORMAT_MAGIC);
+		out.writeInt(BINARY_FORMAT_VERSION);
+		out.writeInt(classNames.size());
+		for (String className : classNames) {
+			DestinationKind destinationKind = mDestinationKinds.get(className);
+			out.writeUTF(className);
+			out.writeByte(destinationKind != null ? destinationKind.ordinal() : -1);
+			out.writeBoolean(mFlowScreenClassNames.contains(className));
+		}
+
+		out.writeInt(mEntries.size());
+		for (Entry entry : mEntries) {
+			out.writeByte(entry.mCommandType.ordinal());
+			out.writeBoolean(entry.mFailed);
+			out.writeLong(entry.mTimeOffset);
+			out.writeLong(entry.mDuration);
+			out.writeShort(entry.mScreenClassNames.size());
+			for (String className : entry.mScreenClassNames) {
+				out.writeShort(classNames.indexOf(className));
+			}
+		}
+		out.flush();
+	}
+
+	/**
+	 * Reads a trace written by {@link #writeTo(OutputStream)}. Traces of the first format version don't have destination kinds.
+	 *
+	 * @param inputStream input stream. It is not closed.
+	 * @return read trace
+	 * @throws IOException if reading fails or the data has a wrong format
+	 */
+	@NonNull
+	public static NavigationTrace readFrom(@NonNull InputStream inputStream) throws IOException {
+		DataInputStream in = new DataInputStream(inputStream);
+		if (in.readInt() != BINARY_FORMAT_MAGIC) {
+			throw new IOException("Data is not a navigation trace.");
+		}
+		int version = in.readInt();
+		if (version != 1 && version != BINARY_FORMAT_VERSION) {
+			throw new IOException("Unsupported navigation trace version " + version + ".");
+		}
+
+		NavigationTrace trace = new NavigationTrace();
+		String[] classNames = new String[in.readInt()];
+		for (int i = 0; i < classNames.length; i++) {
+			classNames[i] = in.readUTF();
+			if (version == 1) {
+				continue;
+			}
+
+			int destinationKind = in.readByte();
+			boolean flowScreen = in.readBoolean();
+			if (destinationKind >= DESTINATION_KINDS.length) {
+				throw new IOException("Unknown destination kind " + destinationKind + ".");
+			}
+			if (destinationKind >= 0) {
+				trace.setDestinationKind(classNames[i], DESTINATION_KINDS[destinationKind], flowScreen);
+			}
+		}
+
+		int entryCount = in.readInt();
+		for (int i = 0; i < entryCount; i++) {
+			int commandType = in.readByte();
+			boolean failed = in.readBoolean();
+			long timeOffset = in.readLong();
+			long duration = in.readLong();
+			String[] screenClassNames = new String[in.readShort()];
+			for (int j = 0; j < screenClassNames.length; j++) {
+				screenClassNames[j] = classNames[in.readShort()];
+			}
+			if (commandType < 0 || commandType >= COMMAND_TYPES.length) {
+				throw new IOException("Unknown command type " + commandType + ".");
+			}
+			trace.add(new Entry(COMMAND_TYPES[commandType], Arrays.asList(screenClassNames), timeOffset, duration, failed));
+		}
+		return trace;
+	}
+
+	@Override
+	public String toString() {
+		StringBuilder builder = new StringBuilder();
+		for (Entry entry : mEntries) {
+			builder.append(entry).append('\n');
+		}
+		return builder.toString();
+	}
+}
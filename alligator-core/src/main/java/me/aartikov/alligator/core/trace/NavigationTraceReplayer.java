@@ -0,0 +1,136 @@
+package me.aartikov.alligator.core.trace;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import me.aartikov.alligator.Screen;
+import me.aartikov.alligator.core.LatencyHistogram;
+import me.aartikov.alligator.core.stress.StressCommand;
+import me.aartikov.alligator.core.stress.StressTarget;
+
+
+/**
+ * Replays a {@link NavigationTrace} on {@link StressTarget}s and measures per-command latency and throughput. Commands are executed one after another
+ * without original pauses. Failed commands are counted and don't stop an iteration, because a recorded trace can contain failures too.
+ */
+public class NavigationTraceReplayer {
+	private NavigationTrace mTrace;
+	private TraceScreenFactory mScreenFactory;
+	private StressTarget.Factory mTargetFactory;
+	private int mIterationCount = 1;
+	private int mWarmUpIterationCount;
+
+	/**
+	 * @param trace         recorded trace
+	 * @param screenFactory creates screens by class names
+	 * @param targetFactory creates a target for every iteration. A target must start with the same screens as the recorded application.
+	 */
+	public NavigationTraceReplayer(@NonNull NavigationTrace trace, @NonNull TraceScreenFactory screenFactory, @NonNull StressTarget.Factory targetFactory) {
+		mTrace = trace;
+		mScreenFactory = screenFactory;
+		mTargetFactory = targetFactory;
+	}
+
+	/**
+	 * Sets a number of measured replays of the whole trace. By default it is 1.
+	 *
+	 * @param iterationCount iteration count
+	 */
+	public void setIterationCount(int iterationCount) {
+		mIterationCount = iterationCount;
+	}
+
+	/**
+	 * Sets a number of replays before measuring, for example to let JIT compile the code. By default it is 0.
+	 *
+	 * @param warmUpIterationCount warm-up iteration count
+	 */
+	public void setWarmUpIterationCount(int warmUpIterationCount) {
+		mWarmUpIterationCount = warmUpIterationCount;
+	}
+
+	/**
+	 * Replays the trace.
+	 *
+	 * @return report with latencies and throughput
+	 */
+	@NonNull
+	public ReplayReport run() {
+		List<StressCommand> commands = new ArrayList<>(mTrace.getSize());
+		for (NavigationTrace.Entry entry : mTrace.getEntries()) {
+			StressCommand command = createCommand(entry);
+			if (command != null) {
+				commands.add(command);
+			}
+		}
+
+		for (int i = 0; i < mWarmUpIterationCount; i++) {
+			replay(commands, null);
+		}
+
+		LatencyHistogram[] histograms = new LatencyHistogram[StressCommand.Type.values().length];
+		for (int i = 0; i < histograms.length; i++) {
+			histograms[i] = new LatencyHistogram();
+		}
+
+		int failedCommandCount = 0;
+		for (int i = 0; i < mIterationCount; i++) {
+			failedCommandCount += replay(commands, histograms);
+		}
+
+		long totalDuration = 0;
+		for (LatencyHistogram histogram : histograms) {
+			totalDuration += histogram.getTotal();
+		}
+		return new ReplayReport(mIterationCount, mTrace.getSize() - commands.size(), failedCommandCount, totalDuration, histograms);
+	}
+
+	private int replay(@NonNull List<StressCommand> commands, @Nullable LatencyHistogram[] histograms) {
+		int failedCommandCount = 0;
+		StressTarget target = mTargetFactory.create();
+		try {
+			for (StressCommand command : commands) {
+				long startTime = System.nanoTime();
+				try {
+					command.execute(target.getNavigator());
+				} catch (RuntimeException e) {
+					failedCommandCount++;
+				}
+				if (histograms != null) {
+					histograms[command.getType().ordinal()].record(System.nanoTime() - startTime);
+				}
+			}
+		} finally {
+			target.release();
+		}
+		return failedCommandCount;
+	}
+
+	@Nullable
+	private StressCommand createCommand(@NonNull NavigationTrace.Entry entry) {
+		List<Screen> screens = new ArrayList<>(entry.getScreenClassNames().size());
+		for (String screenClassName : entry.getScreenClassNames()) {
+			Screen screen = mScreenFactory.createScreen(screenClassName);
+			if (screen == null) {
+				return null;
+			}
+			screens.add(screen);
+		}
+
+		switch (entry.getCommandType()) {
+			case GO_BACK:
+			case FINISH:
+			case FINISH_TOP_LEVEL:
+				return StressCommand.create(entry.getCommandType());
+			case SET_BACK_STACK:
+				return screens.isEmpty() ? null : StressCommand.createSetBackStack(screens);
+			case GO_BACK_TO:
+				return screens.isEmpty() ? null : StressCommand.createGoBackTo(screens.get(0).getClass());
+			default:
+				return screens.isEmpty() ? null : StressCommand.create(entry.getCommandType(), screens.get(0));
+		}
+	}
+}
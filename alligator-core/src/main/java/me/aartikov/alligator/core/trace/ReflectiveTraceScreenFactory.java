@@ -0,0 +1,26 @@
+package me.aartikov.alligator.core.trace;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import me.aartikov.alligator.Screen;
+
+
+/**
+ * {@link TraceScreenFactory} that creates screens with their public constructors without arguments.
+ */
+public class ReflectiveTraceScreenFactory implements TraceScreenFactory {
+	@Override
+	@Nullable
+	public Screen createScreen(@NonNull String screenClassName) {
+		try {
+			Class<?> screenClass = Class.forName(screenClassName);
+			if (!Screen.class.isAssignableFrom(screenClass)) {
+				return null;
+			}
+			return (Screen) screenClass.getDeclaredConstructor().newInstance();
+		} catch (ReflectiveOperationException e) {
+			return null;
+		}
+	}
+}
@@ -0,0 +1,116 @@
+package me.aartikov.alligator.core.trace;
+
+import androidx.annotation.NonNull;
+
+import me.aartikov.alligator.core.LatencyHistogram;
+import me.aartikov.alligator.core.stress.StressCommand;
+
+
+/**
+ * Result of {@link NavigationTraceReplayer#run()}.
+ */
+public class ReplayReport {
+	private int mIterationCount;
+	private int mSkippedCommandCount;
+	private int mFailedCommandCount;
+	private long mTotalDuration;
+	private LatencyHistogram[] mHistograms;
+
+	ReplayReport(int iterationCount, int skippedCommandCount, int failedCommandCount, long totalDuration, @NonNull LatencyHistogram[] histograms) {
+		mIterationCount = iterationCount;
+		mSkippedCommandCount = skippedCommandCount;
+		mFailedCommandCount = failedCommandCount;
+		mTotalDuration = totalDuration;
+		mHistograms = histograms;
+	}
+
+	public int getIterationCount() {
+		return mIterationCount;
+	}
+
+	/**
+	 * Returns a number of executed commands in all iterations, including failed ones.
+	 *
+	 * @return command count
+	 */
+	public long getCommandCount() {
+		return getTotalHistogram().getCount();
+	}
+
+	/**
+	 * Returns a number of trace entries that were not replayed because their screens couldn't be created. Is counted once per trace.
+	 *
+	 * @return skipped command count
+	 */
+	public int getSkippedCommandCount() {
+		return mSkippedCommandCount;
+	}
+
+	/**
+	 * Returns a number of commands that threw an exception in all iterations.
+	 *
+	 * @return failed command count
+	 */
+	public int getFailedCommandCount() {
+		return mFailedCommandCount;
+	}
+
+	/**
+	 * Returns a total time of command execution. Time between commands, for example creation of targets, is not included.
+	 *
+	 * @return duration in nanoseconds
+	 */
+	public long getTotalDuration() {
+		return mTotalDuration;
+	}
+
+	/**
+	 * Returns a number of commands executed per second.
+	 *
+	 * @return throughput
+	 */
+	public double getThroughput() {
+		return mTotalDuration == 0 ? 0 : getCommandCount() * 1_000_000_000.0 / mTotalDuration;
+	}
+
+	/**
+	 * Returns execution durations of commands of the given type.
+	 *
+	 * @param commandType command type
+	 * @return latency histogram
+	 */
+	@NonNull
+	public LatencyHistogram getHistogram(@NonNull StressCommand.Type commandType) {
+		return mHistograms[commandType.ordinal()];
+	}
+
+	/**
+	 * Returns execution durations of all commands.
+	 *
+	 * @return latency histogram
+	 */
+	@NonNull
+	public LatencyHistogram getTotalHistogram() {
+		LatencyHistogram histogram = new LatencyHistogram();
+		for (LatencyHistogram item : mHistograms) {
+			histogram.add(item);
+		}
+		return histogram;
+	}
+
+	@Override
+	public String toString() {
+		StringBuilder builder = new StringBuilder()
+				.append("Iterations: ").append(mIterationCount)
+				.append(", commands: ").append(getCommandCount())
+				.append(", skipped: ").append(mSkippedCommandCount)
+				.append(", failed: ").append(mFailedCommandCount)
+				.append(", throughput: ").append(Math.round(getThroughput())).append(" commands/s\n");
+		for (StressCommand.Type type : StressCommand.Type.values()) {
+			if (mHistograms[type.ordinal()].getCount() > 0) {
+				builder.append(type).append(": ").append(mHistograms[type.ordinal()]).append('\n');
+			}
+		}
+		return builder.toString();
+	}
+}
@@ -0,0 +1,90 @@
+package me.aartikov.alligator.core.trace;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import me.aartikov.alligator.FlowScreen;
+import me.aartikov.alligator.Screen;
+import me.aartikov.alligator.core.DestinationKind;
+
+
+/**
+ * {@link TraceScreenFactory} that replaces recorded screens with stand-in screens. It allows to replay a trace recorded in an app without the app's screen classes.
+ * Every recorded screen class gets its own stand-in class of the same destination kind, so back stacks have the same shape as in the app.
+ * Stand-in classes should have constructors without arguments and should be registered in a navigator that replays the trace.
+ * <p>
+ * Destination kinds are taken from the trace (see {@link NavigationTrace#setDestinationKind}). A command is skipped if a kind is unknown or there are no free stand-in
+ * classes of this kind.
+ */
+public class StandInTraceScreenFactory implements TraceScreenFactory {
+	private NavigationTrace mTrace;
+	private Map<DestinationKind, List<Class<? extends Screen>>> mStandIns = new EnumMap<>(DestinationKind.class);
+	private Map<DestinationKind, List<Class<? extends Screen>>> mFlowStandIns = new EnumMap<>(DestinationKind.class);
+	private Map<String, Class<? extends Screen>> mAssignedStandIns = new HashMap<>();
+
+	public StandInTraceScreenFactory(@NonNull NavigationTrace trace) {
+		mTrace = trace;
+	}
+
+	/**
+	 * Adds stand-in screen classes. Classes that implement {@link FlowScreen} replace only recorded flow screens.
+	 *
+	 * @param destinationKind destination kind of the stand-in screens
+	 * @param screenClasses   stand-in screen classes
+	 */
+	public void addStandIns(@NonNull DestinationKind destinationKind, @NonNull List<Class<? extends Screen>> screenClasses) {
+		for (Class<? extends Screen> screenClass : screenClasses) {
+			Map<DestinationKind, List<Class<? extends Screen>>> standIns = FlowScreen.class.isAssignableFrom(screenClass) ? mFlowStandIns : mStandIns;
+			List<Class<? extends Screen>> classes = standIns.get(destinationKind);
+			if (classes == null) {
+				classes = new ArrayList<>();
+				standIns.put(destinationKind, classes);
+			}
+			classes.add(screenClass);
+		}
+	}
+
+	@Override
+	@Nullable
+	public Screen createScreen(@NonNull String screenClassName) {
+		Class<? extends Screen> standInClass = getStandInClass(screenClassName);
+		if (standInClass == null) {
+			return null;
+		}
+
+		try {
+			return standInClass.getDeclaredConstructor().newInstance();
+		} catch (ReflectiveOperationException e) {
+			return null;
+		}
+	}
+
+	@Nullable
+	private Class<? extends Screen> getStandInClass(@NonNull String screenClassName) {
+		Class<? extends Screen> standInClass = mAssignedStandIns.get(screenClassName);
+		if (standInClass != null) {
+			return standInClass;
+		}
+
+		DestinationKind destinationKind = mTrace.getDestinationKind(screenClassName);
+		if (destinationKind == null) {
+			return null;
+		}
+
+		Map<DestinationKind, List<Class<? extends Screen>>> standIns = mTrace.isFlowScreen(screenClassName) ? mFlowStandIns : mStandIns;
+		List<Class<? extends Screen>> classes = standIns.get(destinationKind);
+		if (classes == null || classes.isEmpty()) {
+			return null;
+		}
+
+		standInClass = classes.remove(0);
+		mAssignedStandIns.put(screenClassName, standInClass);
+		return standInClass;
+	}
+}
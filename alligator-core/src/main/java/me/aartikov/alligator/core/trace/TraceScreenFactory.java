@@ -0,0 +1,21 @@
+package me.aartikov.alligator.core.trace;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import me.aartikov.alligator.Screen;
+
+
+/**
+ * Creates screens for replayed commands, because a {@link NavigationTrace} contains only screen class names.
+ */
+public interface TraceScreenFactory {
+	/**
+	 * Creates a screen.
+	 *
+	 * @param screenClassName binary name of a screen class
+	 * @return screen or {@code null} if it can't be created. In this case a command is skipped.
+	 */
+	@Nullable
+	Screen createScreen(@NonNull String screenClassName);
+}
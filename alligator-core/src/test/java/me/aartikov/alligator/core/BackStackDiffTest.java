@@ -0,0 +1,84 @@
+package me.aartikov.alligator.core;
+
+import androidx.annotation.NonNull;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import me.aartikov.alligator.Screen;
+import me.aartikov.alligator.TransitionType;
+import me.aartikov.alligator.core.TestScreens.FragmentScreen;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class BackStackDiffTest {
+	private static final BackStackDiff.EntryMatcher<Screen> MATCHER = new BackStackDiff.EntryMatcher<Screen>() {
+		@Override
+		public boolean matches(@NonNull Screen entry, @NonNull Screen screen, int index) {
+			return entry.equals(screen);
+		}
+	};
+
+	@Test
+	public void sameScreensGiveEmptyDiff() {
+		BackStackDiff diff = BackStackDiff.calculate(screens(1, 2), screens(1, 2), MATCHER);
+		assertTrue(diff.isEmpty());
+		assertEquals(2, diff.getCommonCount());
+	}
+
+	@Test
+	public void addedScreensGiveForwardTransition() {
+		BackStackDiff diff = BackStackDiff.calculate(screens(1), screens(1, 2, 3), MATCHER);
+		assertFalse(diff.isEmpty());
+		assertEquals(1, diff.getCommonCount());
+		assertEquals(TransitionType.FORWARD, diff.getTransitionType());
+	}
+
+	@Test
+	public void removedScreensGiveBackTransition() {
+		BackStackDiff diff = BackStackDiff.calculate(screens(1, 2, 3), screens(1), MATCHER);
+		assertEquals(1, diff.getCommonCount());
+		assertEquals(TransitionType.BACK, diff.getTransitionType());
+	}
+
+	@Test
+	public void changedScreensGiveReplaceTransition() {
+		BackStackDiff diff = BackStackDiff.calculate(screens(1, 2, 3), screens(1, 4, 3), MATCHER);
+		assertEquals(1, diff.getCommonCount());
+		assertEquals(TransitionType.REPLACE, diff.getTransitionType());
+	}
+
+	@Test
+	public void emptyBackStack() {
+		BackStackDiff diff = BackStackDiff.calculate(Collections.<Screen>emptyList(), screens(1), MATCHER);
+		assertEquals(0, diff.getCommonCount());
+		assertEquals(TransitionType.FORWARD, diff.getTransitionType());
+	}
+
+	@Test
+	public void matcherGetsIndices() {
+		final List<Integer> indices = new ArrayList<>();
+		BackStackDiff.calculate(screens(1, 2, 3), screens(1, 2, 4), new BackStackDiff.EntryMatcher<Screen>() {
+			@Override
+			public boolean matches(@NonNull Screen entry, @NonNull Screen screen, int index) {
+				indices.add(index);
+				return entry.equals(screen);
+			}
+		});
+		assertEquals(Arrays.asList(0, 1, 2), indices);
+	}
+
+	private static List<Screen> screens(int... values) {
+		List<Screen> screens = new ArrayList<>();
+		for (int value : values) {
+			screens.add(new FragmentScreen(value));
+		}
+		return screens;
+	}
+}
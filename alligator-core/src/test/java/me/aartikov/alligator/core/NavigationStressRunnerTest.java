@@ -0,0 +1,45 @@
+package me.aartikov.alligator.core;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+import me.aartikov.alligator.Screen;
+import me.aartikov.alligator.core.TestScreens.DialogScreen;
+import me.aartikov.alligator.core.TestScreens.FragmentScreen;
+import me.aartikov.alligator.core.TestScreens.MainActivityScreen;
+import me.aartikov.alligator.core.TestScreens.OtherFragmentScreen;
+import me.aartikov.alligator.core.TestScreens.SecondActivityScreen;
+import me.aartikov.alligator.core.TestScreens.SingleTopActivityScreen;
+import me.aartikov.alligator.core.TestScreens.StepFlowScreen;
+import me.aartikov.alligator.core.stress.NavigationStressRunner;
+import me.aartikov.alligator.core.stress.ReferenceStressTarget;
+import me.aartikov.alligator.core.stress.StressReport;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class NavigationStressRunnerTest {
+	private static final int SEQUENCE_COUNT = 50;
+	private static final int SEQUENCE_LENGTH = 40;
+
+	@Test
+	public void generatesCommandsValidForState() {
+		MapDestinationResolver destinationResolver = TestScreens.createDestinationResolver();
+		MainActivityScreen rootScreen = new MainActivityScreen(0);
+		List<Screen> screens = Arrays.<Screen>asList(new MainActivityScreen(1), new SecondActivityScreen(1), new SingleTopActivityScreen(1),
+				new FragmentScreen(1), new FragmentScreen(2), new OtherFragmentScreen(1), new StepFlowScreen(1), new StepFlowScreen(2), new DialogScreen(1));
+		NavigationStressRunner runner = new NavigationStressRunner(destinationResolver, rootScreen, screens,
+				ReferenceStressTarget.factory(destinationResolver, rootScreen));
+		runner.setSeed(1);
+		runner.setSequenceCount(SEQUENCE_COUNT);
+		runner.setSequenceLength(SEQUENCE_LENGTH);
+
+		StressReport report = runner.run();
+
+		assertTrue(report.toString(), report.isSuccessful());
+		assertEquals(0, report.getRejectedCommandCount());
+		assertEquals(SEQUENCE_COUNT * SEQUENCE_LENGTH, report.getCommandCount());
+	}
+}
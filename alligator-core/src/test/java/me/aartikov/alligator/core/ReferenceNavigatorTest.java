@@ -0,0 +1,186 @@
+package me.aartikov.alligator.core;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import me.aartikov.alligator.Screen;
+import me.aartikov.alligator.core.TestScreens.DialogScreen;
+import me.aartikov.alligator.core.TestScreens.FragmentScreen;
+import me.aartikov.alligator.core.TestScreens.MainActivityScreen;
+import me.aartikov.alligator.core.TestScreens.OtherFragmentScreen;
+import me.aartikov.alligator.core.TestScreens.ResultActivityScreen;
+import me.aartikov.alligator.core.TestScreens.SecondActivityScreen;
+import me.aartikov.alligator.core.TestScreens.SingleTopActivityScreen;
+import me.aartikov.alligator.core.TestScreens.SingleTopFragmentScreen;
+import me.aartikov.alligator.core.TestScreens.StepFlowScreen;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class ReferenceNavigatorTest {
+	private ReferenceNavigator mNavigator;
+
+	@Before
+	public void setUp() {
+		mNavigator = new ReferenceNavigator(TestScreens.createDestinationResolver(), new MainActivityScreen(0));
+	}
+
+	@Test
+	public void goForwardAddsScreensOfAllKinds() {
+		mNavigator.goForward(new FragmentScreen(1));
+		mNavigator.goForward(new StepFlowScreen(2));
+		mNavigator.goForward(new DialogScreen(3));
+
+		ActivityState activity = currentActivity();
+		assertEquals(screens(new FragmentScreen(1)), activity.getFragments().getScreens());
+		assertEquals(screens(new StepFlowScreen(2)), activity.getFlowFragments().getScreens());
+		assertEquals(screens(new DialogScreen(3)), activity.getDialogFragments().getScreens());
+
+		mNavigator.goForward(new SecondActivityScreen(4));
+		assertEquals(2, mNavigator.getState().getActivities().size());
+		assertEquals(new SecondActivityScreen(4), currentActivity().getScreen());
+	}
+
+	@Test
+	public void goBackClosesDialogThenFragmentThenFlowThenActivity() {
+		mNavigator.goForward(new SecondActivityScreen(1));
+		mNavigator.goForward(new StepFlowScreen(1));
+		mNavigator.goForward(new StepFlowScreen(2));
+		mNavigator.goForward(new FragmentScreen(1));
+		mNavigator.goForward(new FragmentScreen(2));
+		mNavigator.goForward(new DialogScreen(1));
+
+		mNavigator.goBack();
+		assertEquals(0, currentActivity().getDialogFragments().getScreenCount());
+
+		mNavigator.goBack();
+		assertEquals(screens(new FragmentScreen(1)), currentActivity().getFragments().getScreens());
+
+		mNavigator.goBack();
+		assertEquals(screens(new StepFlowScreen(1)), currentActivity().getFlowFragments().getScreens());
+
+		mNavigator.goBack();
+		assertEquals(new MainActivityScreen(0), currentActivity().getScreen());
+	}
+
+	@Test
+	public void finishClosesFlowUnlessTopLevel() {
+		mNavigator.goForward(new SecondActivityScreen(1));
+		mNavigator.goForward(new StepFlowScreen(1));
+		mNavigator.goForward(new StepFlowScreen(2));
+
+		mNavigator.finish();
+		assertEquals(screens(new StepFlowScreen(1)), currentActivity().getFlowFragments().getScreens());
+
+		mNavigator.goForward(new StepFlowScreen(3));
+		mNavigator.finishTopLevel();
+		assertEquals(new MainActivityScreen(0), currentActivity().getScreen());
+	}
+
+	@Test
+	public void singleTopFragmentIsDelivered() {
+		mNavigator.goForward(new FragmentScreen(1));
+		mNavigator.goForward(new SingleTopFragmentScreen(1));
+		mNavigator.goForward(new SingleTopFragmentScreen(2));
+
+		assertEquals(screens(new FragmentScreen(1), new SingleTopFragmentScreen(2)), currentActivity().getFragments().getScreens());
+
+		mNavigator.replace(new SingleTopFragmentScreen(3));
+		assertEquals(screens(new FragmentScreen(1), new SingleTopFragmentScreen(3)), currentActivity().getFragments().getScreens());
+	}
+
+	@Test
+	public void singleTopActivityIsDelivered() {
+		mNavigator.goForward(new SingleTopActivityScreen(1));
+		mNavigator.goForward(new FragmentScreen(1));
+		mNavigator.goForward(new SingleTopActivityScreen(2));
+
+		assertEquals(2, mNavigator.getState().getActivities().size());
+		assertEquals(new SingleTopActivityScreen(2), currentActivity().getScreen());
+		assertEquals(screens(new FragmentScreen(1)), currentActivity().getFragments().getScreens());
+	}
+
+	@Test
+	public void activityForResultIsNeverDelivered() {
+		mNavigator.goForward(new ResultActivityScreen(1));
+		mNavigator.goForward(new ResultActivityScreen(2));
+
+		assertEquals(3, mNavigator.getState().getActivities().size());
+	}
+
+	@Test
+	public void resetKeepsEqualRoot() {
+		mNavigator.goForward(new FragmentScreen(1));
+		mNavigator.goForward(new FragmentScreen(2));
+		mNavigator.goForward(new FragmentScreen(3));
+
+		mNavigator.reset(new FragmentScreen(1));
+		assertEquals(screens(new FragmentScreen(1)), currentActivity().getFragments().getScreens());
+
+		mNavigator.goForward(new FragmentScreen(2));
+		mNavigator.reset(new FragmentScreen(5));
+		assertEquals(screens(new FragmentScreen(5)), currentActivity().getFragments().getScreens());
+	}
+
+	@Test
+	public void goBackToFindsLastScreenOfClass() {
+		mNavigator.goForward(new FragmentScreen(1));
+		mNavigator.goForward(new OtherFragmentScreen(2));
+		mNavigator.goForward(new FragmentScreen(3));
+		mNavigator.goForward(new OtherFragmentScreen(4));
+
+		mNavigator.goBackTo(FragmentScreen.class);
+		assertEquals(screens(new FragmentScreen(1), new OtherFragmentScreen(2), new FragmentScreen(3)), currentActivity().getFragments().getScreens());
+
+		mNavigator.goForward(new SecondActivityScreen(1));
+		mNavigator.goForward(new SecondActivityScreen(2));
+		mNavigator.goBackTo(MainActivityScreen.class);
+		assertEquals(1, mNavigator.getState().getActivities().size());
+	}
+
+	@Test
+	public void failedCommandDoesNotChangeState() {
+		mNavigator.goForward(new FragmentScreen(1));
+		NavigationState state = new NavigationState(mNavigator.getState());
+
+		try {
+			mNavigator.goBackTo(OtherFragmentScreen.class);
+			fail();
+		} catch (ReferenceNavigationException e) {
+			assertEquals(state, mNavigator.getState());
+		}
+	}
+
+	@Test
+	public void setBackStackKeepsCommonScreens() {
+		mNavigator.goForward(new FragmentScreen(1));
+		mNavigator.goForward(new FragmentScreen(2));
+
+		mNavigator.setBackStack(Arrays.asList(new FragmentScreen(1), new OtherFragmentScreen(3)));
+		assertEquals(screens(new FragmentScreen(1), new OtherFragmentScreen(3)), currentActivity().getFragments().getScreens());
+	}
+
+	@Test(expected = ReferenceNavigationException.class)
+	public void setBackStackRejectsMixedScreens() {
+		mNavigator.setBackStack(Arrays.asList(new FragmentScreen(1), new StepFlowScreen(2)));
+	}
+
+	@Test
+	public void finishingLastActivityFinishesApplication() {
+		mNavigator.goBack();
+		assertTrue(mNavigator.getState().isFinished());
+	}
+
+	private ActivityState currentActivity() {
+		return mNavigator.getState().getCurrentActivity();
+	}
+
+	private static List<Screen> screens(Screen... screens) {
+		return Collections.unmodifiableList(Arrays.asList(screens));
+	}
+}
@@ -0,0 +1,92 @@
+package me.aartikov.alligator.core;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+
+import me.aartikov.alligator.core.TestScreens.FragmentScreen;
+import me.aartikov.alligator.core.TestScreens.OtherFragmentScreen;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNull;
+
+public class ScreenStackTest {
+	@Test
+	public void pushAndPop() {
+		ScreenStack stack = new ScreenStack();
+		assertNull(stack.getCurrentScreen());
+
+		stack.push(new FragmentScreen(1));
+		stack.push(new FragmentScreen(2));
+		assertEquals(2, stack.getScreenCount());
+		assertEquals(new FragmentScreen(2), stack.getCurrentScreen());
+
+		stack.pop();
+		assertEquals(Arrays.asList(new FragmentScreen(1)), stack.getScreens());
+	}
+
+	@Test(expected = IllegalStateException.class)
+	public void popFromEmptyStack() {
+		new ScreenStack().pop();
+	}
+
+	@Test
+	public void replaceAndReset() {
+		ScreenStack stack = new ScreenStack();
+		stack.replace(new FragmentScreen(1));
+		assertEquals(Arrays.asList(new FragmentScreen(1)), stack.getScreens());
+
+		stack.push(new FragmentScreen(2));
+		stack.replace(new OtherFragmentScreen(3));
+		assertEquals(Arrays.asList(new FragmentScreen(1), new OtherFragmentScreen(3)), stack.getScreens());
+
+		stack.reset(new FragmentScreen(4));
+		assertEquals(Arrays.asList(new FragmentScreen(4)), stack.getScreens());
+	}
+
+	@Test
+	public void popUntilAndLastIndexOf() {
+		ScreenStack stack = new ScreenStack();
+		stack.push(new FragmentScreen(1));
+		stack.push(new OtherFragmentScreen(2));
+		stack.push(new FragmentScreen(3));
+		stack.push(new OtherFragmentScreen(4));
+
+		assertEquals(2, stack.lastIndexOf(FragmentScreen.class));
+		assertEquals(-1, stack.lastIndexOf(TestScreens.DialogScreen.class));
+
+		stack.popUntil(1);
+		assertEquals(Arrays.asList(new FragmentScreen(1), new OtherFragmentScreen(2)), stack.getScreens());
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void popUntilInvalidIndex() {
+		ScreenStack stack = new ScreenStack();
+		stack.push(new FragmentScreen(1));
+		stack.popUntil(1);
+	}
+
+	@Test
+	public void replaceFrom() {
+		ScreenStack stack = new ScreenStack();
+		stack.push(new FragmentScreen(1));
+		stack.push(new FragmentScreen(2));
+		stack.push(new FragmentScreen(3));
+
+		stack.replaceFrom(1, Arrays.asList(new OtherFragmentScreen(4), new OtherFragmentScreen(5)));
+		assertEquals(Arrays.asList(new FragmentScreen(1), new OtherFragmentScreen(4), new OtherFragmentScreen(5)), stack.getScreens());
+	}
+
+	@Test
+	public void copyIsIndependent() {
+		ScreenStack stack = new ScreenStack();
+		stack.push(new FragmentScreen(1));
+		ScreenStack copy = new ScreenStack(stack);
+		assertEquals(stack, copy);
+
+		copy.push(new FragmentScreen(2));
+		assertNotEquals(stack, copy);
+		assertEquals(1, stack.getScreenCount());
+	}
+}
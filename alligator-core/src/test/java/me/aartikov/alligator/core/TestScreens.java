@@ -0,0 +1,106 @@
+package me.aartikov.alligator.core;
+
+import me.aartikov.alligator.FlowScreen;
+import me.aartikov.alligator.Screen;
+import me.aartikov.alligator.SingleTopScreen;
+
+
+/**
+ * Screens used by the tests of navigation core.
+ */
+class TestScreens {
+
+	static abstract class ValueScreen implements Screen {
+		private int mValue;
+
+		ValueScreen(int value) {
+			mValue = value;
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			return o != null && o.getClass() == getClass() && ((ValueScreen) o).mValue == mValue;
+		}
+
+		@Override
+		public int hashCode() {
+			return 31 * getClass().hashCode() + mValue;
+		}
+
+		@Override
+		public String toString() {
+			return getClass().getSimpleName() + "(" + mValue + ")";
+		}
+	}
+
+	static class MainActivityScreen extends ValueScreen {
+		MainActivityScreen(int value) {
+			super(value);
+		}
+	}
+
+	static class SecondActivityScreen extends ValueScreen {
+		SecondActivityScreen(int value) {
+			super(value);
+		}
+	}
+
+	static class SingleTopActivityScreen extends ValueScreen implements SingleTopScreen {
+		SingleTopActivityScreen(int value) {
+			super(value);
+		}
+	}
+
+	static class ResultActivityScreen extends ValueScreen implements SingleTopScreen {
+		ResultActivityScreen(int value) {
+			super(value);
+		}
+	}
+
+	static class FragmentScreen extends ValueScreen {
+		FragmentScreen(int value) {
+			super(value);
+		}
+	}
+
+	static class OtherFragmentScreen extends ValueScreen {
+		OtherFragmentScreen(int value) {
+			super(value);
+		}
+	}
+
+	static class SingleTopFragmentScreen extends ValueScreen implements SingleTopScreen {
+		SingleTopFragmentScreen(int value) {
+			super(value);
+		}
+	}
+
+	static class StepFlowScreen extends ValueScreen implements FlowScreen {
+		StepFlowScreen(int value) {
+			super(value);
+		}
+	}
+
+	static class DialogScreen extends ValueScreen {
+		DialogScreen(int value) {
+			super(value);
+		}
+	}
+
+	static MapDestinationResolver createDestinationResolver() {
+		MapDestinationResolver destinationResolver = new MapDestinationResolver();
+		destinationResolver.register(MainActivityScreen.class, DestinationKind.ACTIVITY);
+		destinationResolver.register(SecondActivityScreen.class, DestinationKind.ACTIVITY);
+		destinationResolver.register(SingleTopActivityScreen.class, DestinationKind.ACTIVITY);
+		destinationResolver.register(ResultActivityScreen.class, DestinationKind.ACTIVITY, true);
+		destinationResolver.register(FragmentScreen.class, DestinationKind.FRAGMENT);
+		destinationResolver.register(OtherFragmentScreen.class, DestinationKind.FRAGMENT);
+		destinationResolver.register(SingleTopFragmentScreen.class, DestinationKind.FRAGMENT);
+		destinationResolver.register(StepFlowScreen.class, DestinationKind.FRAGMENT);
+		destinationResolver.register(DialogScreen.class, DestinationKind.DIALOG_FRAGMENT);
+		return destinationResolver;
+	}
+
+	private TestScreens() {
+	}
+}
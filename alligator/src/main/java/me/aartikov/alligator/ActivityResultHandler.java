@@ -1,10 +1,15 @@
 package me.aartikov.alligator;
 
 import android.content.Intent;
+import android.util.Log;
 
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
 
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+
 import me.aartikov.alligator.destinations.ActivityDestination;
 import me.aartikov.alligator.destinations.Destination;
 import me.aartikov.alligator.helpers.ScreenResultHelper;
@@ -14,19 +19,99 @@ import me.aartikov.alligator.navigationfactories.NavigationFactory;
 
 /**
  * Helper class for handling a screen result.
+ * <p>
+ * Results that arrive when there is no {@link ScreenResultListener} are put to a bounded queue and delivered in one pass when a listener is set.
+ * The handler belongs to {@link AndroidNavigator}, so pending results survive configuration changes. A result dropped from a full queue is reported
+ * to a {@link DroppedResultListener}, or logged if there is no listener.
  */
 public class ActivityResultHandler {
+	private static final String TAG = "Alligator";
+	private static final int DEFAULT_MAX_PENDING_SCREEN_RESULTS = 16;
+
+	/**
+	 * Listener that is notified when a pending result is dropped because the queue is full.
+	 */
+	public interface DroppedResultListener {
+		/**
+		 * @param screenClass  class of a screen that has returned the result
+		 * @param screenResult dropped result
+		 */
+		void onScreenResultDropped(@NonNull Class<? extends Screen> screenClass, @Nullable ScreenResult screenResult);
+	}
+
+	/**
+	 * Defines how pending results of the same screen are coalesced.
+	 */
+	public enum CoalescingMode {
+		/**
+		 * Only the latest result of a screen is kept. A null result doesn't replace a non-null one.
+		 */
+		LATEST_WINS,
+
+		/**
+		 * All results are kept.
+		 */
+		KEEP_ALL
+	}
+
 	private NavigationFactory mNavigationFactory;
 	private ScreenResultListener mScreenResultListener;
-	private ScreenResultPair mPendingScreenResultPair;
+	private Deque<ScreenResultPair> mPendingScreenResultPairs = new ArrayDeque<>();
+	private CoalescingMode mCoalescingMode = CoalescingMode.LATEST_WINS;
+	private int mMaxPendingScreenResults = DEFAULT_MAX_PENDING_SCREEN_RESULTS;
+	@Nullable
+	private DroppedResultListener mDroppedResultListener;
 
 	ActivityResultHandler(@NonNull NavigationFactory navigationFactory) {
 		mNavigationFactory = navigationFactory;
 	}
 
+	/**
+	 * Sets how pending results of the same screen are coalesced. By default {@link CoalescingMode#LATEST_WINS} is used.
+	 *
+	 * @param coalescingMode coalescing mode
+	 */
+	public void setCoalescingMode(@NonNull CoalescingMode coalescingMode) {
+		mCoalescingMode = coalescingMode;
+	}
+
+	/**
+	 * Sets a listener for results dropped from a full queue.
+	 *
+	 * @param droppedResultListener listener or {@code null} to log dropped results
+	 */
+	public void setDroppedResultListener(@Nullable DroppedResultListener droppedResultListener) {
+		mDroppedResultListener = droppedResultListener;
+	}
+
+	/**
+	 * Sets a maximum number of pending results. When the queue is full the oldest result is dropped. By default it is 16.
+	 *
+	 * @param maxPendingScreenResults maximum number of pending results
+	 */
+	public void setMaxPendingScreenResults(int maxPendingScreenResults) {
+		if (maxPendingScreenResults <= 0) {
+			throw new IllegalArgumentException("Maximum number of pending screen results should be positive.");
+		}
+
+		mMaxPendingScreenResults = maxPendingScreenResults;
+		while (mPendingScreenResultPairs.size() > mMaxPendingScreenResults) {
+			onScreenResultDropped(mPendingScreenResultPairs.removeFirst());
+		}
+	}
+
+	/**
+	 * Returns a number of results that are waiting for a screen result listener.
+	 *
+	 * @return number of pending results
+	 */
+	public int getPendingScreenResultCount() {
+		return mPendingScreenResultPairs.size();
+	}
+
 	void setScreenResultListener(@NonNull ScreenResultListener screenResultListener) {
 		mScreenResultListener = screenResultListener;
-		handlePendingScreenResult();
+		handlePendingScreenResults();
 	}
 
 	void resetScreenResultListener() {
@@ -46,10 +131,8 @@ public class ActivityResultHandler {
 			Destination destination = mNavigationFactory.getDestination(screenClass);
 			if (destination instanceof ActivityDestination) {
 				ScreenResult screenResult = ((ActivityDestination) destination).getScreenResult(new ActivityResult(resultCode, data));
-				if (mPendingScreenResultPair == null || mPendingScreenResultPair.mScreenResult == null) {
-					mPendingScreenResultPair = new ScreenResultPair(screenClass, screenResult);
-				}
-				handlePendingScreenResult();
+				addPendingScreenResult(screenClass, screenResult);
+				handlePendingScreenResults();
 			}
 		}
 	}
@@ -67,14 +150,44 @@ public class ActivityResultHandler {
 		}
 	}
 
-	private void handlePendingScreenResult() {
-		if (mScreenResultListener != null && mPendingScreenResultPair != null) {
-			mScreenResultListener.onScreenResult(mPendingScreenResultPair.mScreenClass, mPendingScreenResultPair.mScreenResult);
-			mPendingScreenResultPair = null;
+	private void addPendingScreenResult(@NonNull Class<? extends Screen> screenClass, @Nullable ScreenResult screenResult) {
+		if (mCoalescingMode == CoalescingMode.LATEST_WINS) {
+			Iterator<ScreenResultPair> iterator = mPendingScreenResultPairs.iterator();
+			while (iterator.hasNext()) {
+				ScreenResultPair pair = iterator.next();
+				if (pair.mScreenClass == screenClass) {
+					if (screenResult == null && pair.mScreenResult != null) {
+						return;
+					}
+					iterator.remove();
+					break;
+				}
+			}
+		}
+
+		if (mPendingScreenResultPairs.size() == mMaxPendingScreenResults) {
+			onScreenResultDropped(mPendingScreenResultPairs.removeFirst());
+		}
+		mPendingScreenResultPairs.addLast(new ScreenResultPair(screenClass, screenResult));
+	}
+
+	private void handlePendingScreenResults() {
+		while (mScreenResultListener != null && !mPendingScreenResultPairs.isEmpty()) {
+			ScreenResultPair pair = mPendingScreenResultPairs.removeFirst();
+			mScreenResultListener.onScreenResult(pair.mScreenClass, pair.mScreenResult);
+		}
+	}
+
+	private void onScreenResultDropped(@NonNull ScreenResultPair pair) {
+		if (mDroppedResultListener != null) {
+			mDroppedResultListener.onScreenResultDropped(pair.mScreenClass, pair.mScreenResult);
+		} else {
+			Log.w(TAG, "Screen result of " + pair.mScreenClass.getSimpleName() + " is dropped because more than " + mMaxPendingScreenResults
+					+ " results are pending.");
 		}
 	}
 
-	private class ScreenResultPair {
+	private static class ScreenResultPair {
 		Class<? extends Screen> mScreenClass;
 		ScreenResult mScreenResult;
 
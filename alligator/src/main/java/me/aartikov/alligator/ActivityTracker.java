@@ -0,0 +1,217 @@
+package me.aartikov.alligator;
+
+import android.app.Activity;
+import android.app.Application;
+import android.os.Bundle;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import me.aartikov.alligator.navigationfactories.NavigationFactory;
+
+
+/**
+ * Tracks activities of an application with the help of {@link Application.ActivityLifecycleCallbacks}. Activities that are destroyed without finishing
+ * (for example because of configuration changes) are considered to be still in a back stack.
+ * <p>
+ * Register it with {@link Application#registerActivityLifecycleCallbacks} and pass to {@link NavigationContext.Builder#activityTracker}.
+ * It allows {@code goBackTo} to finish activities directly and to fail fast with {@link me.aartikov.alligator.exceptions.ScreenNotFoundException}.
+ */
+public class ActivityTracker implements Application.ActivityLifecycleCallbacks {
+	private NavigationFactory mNavigationFactory;
+	private List<Entry> mEntries = new ArrayList<>();    // ordered from the bottom to the top
+	private Map<Activity, Entry> mEntryMap = new HashMap<>();
+	private Map<Class<? extends Screen>, Integer> mScreenCounts = new HashMap<>();
+	private boolean mStackKnown = true;
+
+	public ActivityTracker(@NonNull NavigationFactory navigationFactory) {
+		mNavigationFactory = navigationFactory;
+	}
+
+	/**
+	 * Returns if the tracker knows all activities of a back stack. It is false after an application process has been restored.
+	 *
+	 * @return true if all activities are known
+	 */
+	public boolean isStackKnown() {
+		return mStackKnown;
+	}
+
+	/**
+	 * Returns count of tracked activities including activities that are destroyed without finishing.
+	 *
+	 * @return activity count
+	 */
+	public int getActivityCount() {
+		return mEntries.size();
+	}
+
+	/**
+	 * Returns a top created activity.
+	 *
+	 * @return top activity or null if there are no activities or a top activity is destroyed without finishing
+	 */
+	@Nullable
+	public Activity getTopActivity() {
+		return mEntries.isEmpty() ? null : mEntries.get(mEntries.size() - 1).mActivity;
+	}
+
+	/**
+	 * Checks if there is an activity for a given screen.
+	 *
+	 * @param screenClass screen class
+	 * @return true if there is an activity for the screen
+	 */
+	public boolean containsScreen(@NonNull Class<? extends Screen> screenClass) {
+		return mScreenCounts.containsKey(screenClass);
+	}
+
+	/**
+	 * Returns all created activities ordered from the bottom to the top.
+	 *
+	 * @return created activities
+	 */
+	@NonNull
+	public List<Activity> getActivities() {
+		List<Activity> activities = new ArrayList<>(mEntries.size());
+		for (Entry entry : mEntries) {
+			if (entry.mActivity != null) {
+				activities.add(entry.mActivity);
+			}
+		}
+		return activities;
+	}
+
+	/**
+	 * Returns activities that are above the nearest activity with a given screen in a task of a top activity.
+	 *
+	 * @param screenClass screen class
+	 * @param topActivity top activity, it is included to a result
+	 * @return activities ordered from the top to the bottom, an empty list if the top activity has the given screen,
+	 * or null if the activities are unknown, destroyed or there is no activity with the given screen in the task.
+	 */
+	@Nullable
+	public List<Activity> getActivitiesAbove(@NonNull Class<? extends Screen> screenClass, @NonNull Activity topActivity) {
+		Entry topEntry = mEntryMap.get(topActivity);
+		if (!mStackKnown || topEntry == null) {
+			return null;
+		}
+
+		List<Activity> activities = new ArrayList<>();
+		for (int i = mEntries.indexOf(topEntry); i >= 0; i--) {
+			Entry entry = mEntries.get(i);
+			if (entry.mTaskId != topEntry.mTaskId) {
+				continue;
+			}
+
+			if (entry.mScreenClass == screenClass) {
+				return activities;
+			}
+
+			if (entry.mActivity == null) {
+				return null;
+			}
+			activities.add(entry.mActivity);
+		}
+		return null;
+	}
+
+	@Override
+	public void onActivityCreated(Activity activity, Bundle savedInstanceState) {
+		Class<? extends Screen> screenClass = mNavigationFactory.getScreenClass(activity);
+		if (savedInstanceState != null) {
+			Entry entry = findDestroyedEntry(screenClass, activity.getTaskId());
+			if (entry != null) {
+				entry.mActivity = activity;
+				mEntryMap.put(activity, entry);
+				return;
+			}
+			mStackKnown = false;    // activity is restored after process death
+		}
+
+		Entry entry = new Entry(activity, screenClass, activity.getTaskId());
+		mEntries.add(entry);
+		mEntryMap.put(activity, entry);
+		if (screenClass != null) {
+			Integer count = mScreenCounts.get(screenClass);
+			mScreenCounts.put(screenClass, count == null ? 1 : count + 1);
+		}
+	}
+
+	@Override
+	public void onActivityStarted(Activity activity) {
+	}
+
+	@Override
+	public void onActivityResumed(Activity activity) {
+	}
+
+	@Override
+	public void onActivityPaused(Activity activity) {
+	}
+
+	@Override
+	public void onActivityStopped(Activity activity) {
+	}
+
+	@Override
+	public void onActivitySaveInstanceState(Activity activity, Bundle outState) {
+	}
+
+	@Override
+	public void onActivityDestroyed(Activity activity) {
+		Entry entry = mEntryMap.remove(activity);
+		if (entry == null) {
+			return;
+		}
+
+		if (!activity.isFinishing()) {
+			entry.mActivity = null;    // activity is still in a back stack and will be recreated
+			return;
+		}
+
+		mEntries.remove(entry);
+		if (entry.mScreenClass != null) {
+			int count = mScreenCounts.get(entry.mScreenClass);
+			if (count == 1) {
+				mScreenCounts.remove(entry.mScreenClass);
+			} else {
+				mScreenCounts.put(entry.mScreenClass, count - 1);
+			}
+		}
+
+		if (mEntries.isEmpty()) {
+			mStackKnown = true;
+		}
+	}
+
+	@Nullable
+	private Entry findDestroyedEntry(@Nullable Class<? extends Screen> screenClass, int taskId) {
+		for (int i = mEntries.size() - 1; i >= 0; i--) {
+			Entry entry = mEntries.get(i);
+			if (entry.mActivity == null && entry.mScreenClass == screenClass && entry.mTaskId == taskId) {
+				return entry;
+			}
+		}
+		return null;
+	}
+
+	private static class Entry {
+		@Nullable
+		Activity mActivity;
+		@Nullable
+		Class<? extends Screen> mScreenClass;
+		int mTaskId;
+
+		Entry(@NonNull Activity activity, @Nullable Class<? extends Screen> screenClass, int taskId) {
+			mActivity = activity;
+			mScreenClass = screenClass;
+			mTaskId = taskId;
+		}
+	}
+}
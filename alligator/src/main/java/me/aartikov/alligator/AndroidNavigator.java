@@ -1,12 +1,17 @@
 package me.aartikov.alligator;
 
+import android.content.Intent;
+import android.net.Uri;
 import android.os.Looper;
+import android.util.Log;
 
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
 import androidx.appcompat.app.AppCompatActivity;
 
+import java.util.ArrayList;
 import java.util.LinkedList;
+import java.util.List;
 import java.util.Queue;
 
 import me.aartikov.alligator.animations.AnimationData;
@@ -17,8 +22,13 @@ import me.aartikov.alligator.commands.FinishCommand;
 import me.aartikov.alligator.commands.ForwardCommand;
 import me.aartikov.alligator.commands.ReplaceCommand;
 import me.aartikov.alligator.commands.ResetCommand;
+import me.aartikov.alligator.commands.SetBackStackCommand;
 import me.aartikov.alligator.commands.SwitchToCommand;
+import me.aartikov.alligator.deeplinks.DeepLinkMatch;
+import me.aartikov.alligator.deeplinks.DeepLinkRouter;
+import me.aartikov.alligator.diagnostics.NavigationJournal;
 import me.aartikov.alligator.exceptions.NavigationException;
+import me.aartikov.alligator.listeners.CommandExecutionListener;
 import me.aartikov.alligator.navigationfactories.NavigationFactory;
 
 
@@ -26,13 +36,18 @@ import me.aartikov.alligator.navigationfactories.NavigationFactory;
  * Main library object. It translates calls of navigation methods to commands and puts them to a command queue.
  * Commands can be executed if a {@link NavigationContext} is bound, otherwise command execution will be delayed until a {@link NavigationContext} will be bound.
  */
-public class AndroidNavigator implements NavigationContextBinder, Navigator {
+public class AndroidNavigator implements NavigationContextBinder, BackStackNavigator {
+	private static final int NAVIGATION_JOURNAL_CAPACITY = 64;
+	private static final String TAG = "Alligator";
+
 	private NavigationFactory mNavigationFactory;
 	private NavigationContext mNavigationContext;
 	private Queue<Command> mCommandQueue = new LinkedList<>();
 	private boolean mIsExecutingCommands;
 	private ScreenResolver mScreenResolver;
 	private ActivityResultHandler mActivityResultHandler;
+	private List<CommandExecutionListener> mCommandExecutionListeners = new ArrayList<>();
+	private NavigationJournal mNavigationJournal = new NavigationJournal(NAVIGATION_JOURNAL_CAPACITY);
 
 	public AndroidNavigator(NavigationFactory navigationFactory) {
 		mNavigationFactory = navigationFactory;
@@ -52,6 +67,31 @@ public class AndroidNavigator implements NavigationContextBinder, Navigator {
 		return mActivityResultHandler;
 	}
 
+	/**
+	 * Returns a journal of the latest commands. It can be dumped from a crash handler.
+	 *
+	 * @return navigation journal
+	 */
+	@NonNull
+	public NavigationJournal getNavigationJournal() {
+		return mNavigationJournal;
+	}
+
+	/**
+	 * Adds a listener that is notified about command queuing and execution. Can be used for diagnostics.
+	 *
+	 * @param listener command execution listener
+	 */
+	public void addCommandExecutionListener(@NonNull CommandExecutionListener listener) {
+		checkThatMainThread();
+		mCommandExecutionListeners.add(listener);
+	}
+
+	public void removeCommandExecutionListener(@NonNull CommandExecutionListener listener) {
+		checkThatMainThread();
+		mCommandExecutionListeners.remove(listener);
+	}
+
 	@Nullable
 	@Override
 	public NavigationContext getNavigationContext() {
@@ -109,6 +149,20 @@ public class AndroidNavigator implements NavigationContextBinder, Navigator {
 		executeCommand(new ForwardCommand(screen, animationData));
 	}
 
+	/**
+	 * Goes to a screen. If a current activity or fragment has the same screen class, the screen is delivered to it instead of creating a new one,
+	 * as for a {@link SingleTopScreen}. Implemented with {@link ForwardCommand}.
+	 *
+	 * @param screen new screen
+	 */
+	public void goForwardSingleTop(@NonNull Screen screen) {
+		goForwardSingleTop(screen, null);
+	}
+
+	public void goForwardSingleTop(@NonNull Screen screen, @Nullable AnimationData animationData) {
+		executeCommand(new ForwardCommand(screen, animationData, true));
+	}
+
 	/**
 	 * Finishes a current screen and goes back to the previous screen. Implemented with {@link BackCommand}.
 	 */
@@ -181,8 +235,23 @@ public class AndroidNavigator implements NavigationContextBinder, Navigator {
 		executeCommand(new ReplaceCommand(screen, animationData));
 	}
 
+	/**
+	 * Replaces a current screen. If a current activity or fragment has the same screen class, the screen is delivered to it instead of creating a new one,
+	 * as for a {@link SingleTopScreen}. Implemented with {@link ReplaceCommand}.
+	 *
+	 * @param screen new screen
+	 */
+	public void replaceSingleTop(@NonNull Screen screen) {
+		replaceSingleTop(screen, null);
+	}
+
+	public void replaceSingleTop(@NonNull Screen screen, @Nullable AnimationData animationData) {
+		executeCommand(new ReplaceCommand(screen, animationData, true));
+	}
+
 	/**
 	 * Removes all other screens and adds a new screen. Implemented with {@link ResetCommand}.
+	 * If a root fragment already has an equal screen, it is kept and only the fragments above it are removed.
 	 *
 	 * @param screen new screen
 	 */
@@ -196,6 +265,44 @@ public class AndroidNavigator implements NavigationContextBinder, Navigator {
 		executeCommand(new ResetCommand(screen, animationData));
 	}
 
+	/**
+	 * Resets navigation to a screen of a deep link passed as intent data, for example to {@code GeneratedDeepLinkRouter}. Implemented with {@link ResetCommand}.
+	 * Should be called from {@code onCreate} of an activity that receives deep links and from its {@code onNewIntent}.
+	 *
+	 * @param deepLinkRouter deep link router
+	 * @param intent         intent that has started an activity
+	 * @return true if the intent contains a registered deep link
+	 */
+	public boolean handleDeepLink(@NonNull DeepLinkRouter deepLinkRouter, @Nullable Intent intent) {
+		Uri uri = intent != null ? intent.getData() : null;
+		if (uri == null) {
+			return false;
+		}
+
+		DeepLinkMatch match = deepLinkRouter.match(uri);
+		if (match == null) {
+			return false;
+		}
+
+		reset(match.getScreen());
+		return true;
+	}
+
+	/**
+	 * Sets a whole back stack keeping screens that are already at the bottom of the current back stack. Implemented with {@link SetBackStackCommand}.
+	 *
+	 * @param screens screens of a new back stack
+	 */
+	@Override
+	public void setBackStack(@NonNull List<? extends Screen> screens) {
+		setBackStack(screens, null);
+	}
+
+	@Override
+	public void setBackStack(@NonNull List<? extends Screen> screens, @Nullable AnimationData animationData) {
+		executeCommand(new SetBackStackCommand(screens, animationData));
+	}
+
 	/**
 	 * Finishes a current flow or a current top-level screen (represented by activity). Implemented with {@link FinishCommand}.
 	 */
@@ -270,9 +377,19 @@ public class AndroidNavigator implements NavigationContextBinder, Navigator {
 	protected void executeCommand(Command command) {
 		checkThatMainThread();
 		mCommandQueue.add(command);
+		mNavigationJournal.record(NavigationJournal.EventType.QUEUED, command, 0);
+		for (int i = 0; i < mCommandExecutionListeners.size(); i++) {
+			CommandExecutionListener listener = mCommandExecutionListeners.get(i);
+			try {
+				listener.onCommandQueued(command);
+			} catch (RuntimeException e) {
+				onListenerFailed(listener, e);
+			}
+		}
 		executeQueuedCommands();
 	}
 
+	// Listeners are notified outside of command execution, so a failing listener affects neither the journal nor the command queue.
 	private void executeQueuedCommands() {
 		if (mIsExecutingCommands) {
 			return;
@@ -281,23 +398,74 @@ public class AndroidNavigator implements NavigationContextBinder, Navigator {
 		mIsExecutingCommands = true;
 		try {
 			while (mNavigationContext != null && !mCommandQueue.isEmpty()) {
+				NavigationContext navigationContext = mNavigationContext;
 				Command command = mCommandQueue.remove();
-				boolean canExecuteCommands = command.execute(mNavigationContext);
+				notifyCommandExecutionStarted(command);
+				long startTime = System.nanoTime();
+				boolean canExecuteCommands;
+				try {
+					canExecuteCommands = command.execute(navigationContext);
+				} catch (NavigationException e) {
+					mNavigationJournal.record(NavigationJournal.EventType.FAILED, command, System.nanoTime() - startTime);
+					mCommandQueue.clear();
+					notifyCommandFailed(command, e);
+					navigationContext.getNavigationErrorListener().onNavigationError(e);
+					return;
+				} catch (RuntimeException e) {
+					mNavigationJournal.record(NavigationJournal.EventType.FAILED, command, System.nanoTime() - startTime);
+					mCommandQueue.clear();
+					notifyCommandFailed(command, e);
+					throw e;
+				}
+
+				mNavigationJournal.record(NavigationJournal.EventType.EXECUTED, command, System.nanoTime() - startTime);
 				if (!canExecuteCommands) {
 					mNavigationContext = null;
 				}
+				notifyCommandExecuted(command);
 			}
-		} catch (NavigationException e) {
-			mCommandQueue.clear();
-			mNavigationContext.getNavigationErrorListener().onNavigationError(e);
-		} catch (Exception e) {
-			mCommandQueue.clear();
-			throw e;
 		} finally {
 			mIsExecutingCommands = false;
 		}
 	}
 
+	private void notifyCommandExecutionStarted(@NonNull Command command) {
+		for (int i = 0; i < mCommandExecutionListeners.size(); i++) {
+			CommandExecutionListener listener = mCommandExecutionListeners.get(i);
+			try {
+				listener.onCommandExecutionStarted(command);
+			} catch (RuntimeException e) {
+				onListenerFailed(listener, e);
+			}
+		}
+	}
+
+	private void notifyCommandExecuted(@NonNull Command command) {
+		for (int i = 0; i < mCommandExecutionListeners.size(); i++) {
+			CommandExecutionListener listener = mCommandExecutionListeners.get(i);
+			try {
+				listener.onCommandExecuted(command);
+			} catch (RuntimeException e) {
+				onListenerFailed(listener, e);
+			}
+		}
+	}
+
+	private void notifyCommandFailed(@NonNull Command command, @NonNull Exception exception) {
+		for (int i = 0; i < mCommandExecutionListeners.size(); i++) {
+			CommandExecutionListener listener = mCommandExecutionListeners.get(i);
+			try {
+				listener.onCommandFailed(command, exception);
+			} catch (RuntimeException e) {
+				onListenerFailed(listener, e);
+			}
+		}
+	}
+
+	private static void onListenerFailed(@NonNull CommandExecutionListener listener, @NonNull RuntimeException e) {
+		Log.e(TAG, "Command execution listener " + listener.getClass().getName() + " has failed.", e);
+	}
+
 	private void checkThatMainThread() {
 		if (Thread.currentThread() != Looper.getMainLooper().getThread()) {
 			throw new RuntimeException("Can only be called from the main thread.");
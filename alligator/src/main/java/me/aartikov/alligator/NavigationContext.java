@@ -6,11 +6,14 @@ import androidx.annotation.Nullable;
 import androidx.appcompat.app.AppCompatActivity;
 import androidx.fragment.app.FragmentManager;
 
+import me.aartikov.alligator.animations.AnimationPolicy;
 import me.aartikov.alligator.animations.DialogAnimation;
 import me.aartikov.alligator.animations.TransitionAnimation;
 import me.aartikov.alligator.animations.providers.DefaultDialogAnimationProvider;
 import me.aartikov.alligator.animations.providers.DefaultTransitionAnimationProvider;
 import me.aartikov.alligator.animations.providers.DialogAnimationProvider;
+import me.aartikov.alligator.animations.providers.PolicyDialogAnimationProvider;
+import me.aartikov.alligator.animations.providers.PolicyTransitionAnimationProvider;
 import me.aartikov.alligator.animations.providers.TransitionAnimationProvider;
 import me.aartikov.alligator.commands.Command;
 import me.aartikov.alligator.listeners.DefaultDialogShowingListener;
@@ -30,6 +33,7 @@ import me.aartikov.alligator.navigators.DefaultDialogFragmentNavigator;
 import me.aartikov.alligator.navigators.DefaultFragmentNavigator;
 import me.aartikov.alligator.navigators.DialogFragmentNavigator;
 import me.aartikov.alligator.navigators.FragmentNavigator;
+import me.aartikov.alligator.scopes.ScreenScopeStore;
 import me.aartikov.alligator.screenswitchers.ScreenSwitcher;
 
 
@@ -67,6 +71,15 @@ public class NavigationContext {
 	@NonNull
 	private NavigationErrorListener mNavigationErrorListener;
 
+	@NonNull
+	private TransitionListener mTransitionListener;
+
+	@NonNull
+	private TransitionAnimationProvider mTransitionAnimationProvider;
+
+	@Nullable
+	private ScreenScopeStore mScreenScopeStore;
+
 	private NavigationContext(@NonNull AppCompatActivity activity,
 							  @NonNull NavigationFactory navigationFactory,
 							  @NonNull ActivityNavigator activityNavigator,
@@ -76,7 +89,10 @@ public class NavigationContext {
 							  @Nullable ScreenSwitcher screenSwitcher,
 							  @NonNull ScreenSwitchingListener screenSwitchingListener,
 							  @NonNull ScreenResultListener screenResultListener,
-							  @NonNull NavigationErrorListener navigationErrorListener) {
+							  @NonNull NavigationErrorListener navigationErrorListener,
+							  @NonNull TransitionListener transitionListener,
+							  @NonNull TransitionAnimationProvider transitionAnimationProvider,
+							  @Nullable ScreenScopeStore screenScopeStore) {
 		mActivity = activity;
 		mNavigationFactory = navigationFactory;
 		mActivityNavigator = activityNavigator;
@@ -87,6 +103,9 @@ public class NavigationContext {
 		mScreenSwitchingListener = screenSwitchingListener;
 		mScreenResultListener = screenResultListener;
 		mNavigationErrorListener = navigationErrorListener;
+		mTransitionListener = transitionListener;
+		mTransitionAnimationProvider = transitionAnimationProvider;
+		mScreenScopeStore = screenScopeStore;
 	}
 
 	@NonNull
@@ -139,6 +158,53 @@ public class NavigationContext {
 		return mNavigationErrorListener;
 	}
 
+	/**
+	 * Changes fragment navigation in place, so a navigation context can be reused when a fragment container is changed (for example when a current flow fragment has been changed).
+	 * A current fragment navigator is reused if it is possible.
+	 *
+	 * @param fragmentManager that will be used for fragment transactions or null to disable fragment navigation
+	 * @param containerId     container id for fragments
+	 */
+	public void setFragmentNavigation(@Nullable FragmentManager fragmentManager, @IdRes int containerId) {
+		mFragmentNavigator = updateFragmentNavigator(mFragmentNavigator, false, fragmentManager, containerId);
+	}
+
+	/**
+	 * Changes flow fragment navigation in place. A current flow fragment navigator is reused if it is possible.
+	 *
+	 * @param fragmentManager that will be used for flow fragment transactions or null to disable flow fragment navigation
+	 * @param containerId     container id for fragments
+	 */
+	public void setFlowFragmentNavigation(@Nullable FragmentManager fragmentManager, @IdRes int containerId) {
+		mFlowFragmentNavigator = updateFragmentNavigator(mFlowFragmentNavigator, true, fragmentManager, containerId);
+	}
+
+	/**
+	 * Changes a screen switcher in place.
+	 *
+	 * @param screenSwitcher screen switcher that will be used to switch screens by {@code switchTo} method of {@link Navigator}
+	 */
+	public void setScreenSwitcher(@Nullable ScreenSwitcher screenSwitcher) {
+		mScreenSwitcher = screenSwitcher;
+	}
+
+	@Nullable
+	private FragmentNavigator updateFragmentNavigator(@Nullable FragmentNavigator fragmentNavigator,
+													  boolean flowNavigation,
+													  @Nullable FragmentManager fragmentManager,
+													  @IdRes int containerId) {
+		if (fragmentManager == null) {
+			return null;
+		}
+
+		if (fragmentNavigator instanceof DefaultFragmentNavigator) {
+			((DefaultFragmentNavigator) fragmentNavigator).setContainer(fragmentManager, containerId);
+			return fragmentNavigator;
+		}
+
+		return new DefaultFragmentNavigator(flowNavigation, fragmentManager, containerId, mNavigationFactory, mTransitionListener, mScreenResultListener, mTransitionAnimationProvider, mScreenScopeStore);
+	}
+
 	/**
 	 * Builder for a {@link NavigationContext}.
 	 */
@@ -169,6 +235,12 @@ public class NavigationContext {
 		private ScreenSwitchingListener mScreenSwitchingListener;
 		@Nullable
 		private NavigationErrorListener mNavigationErrorListener;
+		@Nullable
+		private ActivityTracker mActivityTracker;
+		@Nullable
+		private AnimationPolicy mAnimationPolicy;
+		@Nullable
+		private ScreenScopeStore mScreenScopeStore;
 
 		/**
 		 * Creates with the given activity.
@@ -305,6 +377,43 @@ public class NavigationContext {
 			return this;
 		}
 
+		/**
+		 * Sets an activity tracker. With it {@code goBackTo} finishes activities directly and fails fast if there is no activity with a required screen.
+		 *
+		 * @param activityTracker activity tracker registered with {@code Application.registerActivityLifecycleCallbacks}
+		 * @return this object
+		 */
+		@NonNull
+		public Builder activityTracker(@Nullable ActivityTracker activityTracker) {
+			mActivityTracker = activityTracker;
+			return this;
+		}
+
+		/**
+		 * Sets an animation policy. When it disables animations transition and dialog animation providers are not called, and no animation is set up.
+		 *
+		 * @param animationPolicy animation policy, for example {@link me.aartikov.alligator.animations.SystemAnimationPolicy}
+		 * @return this object
+		 */
+		@NonNull
+		public Builder animationPolicy(@Nullable AnimationPolicy animationPolicy) {
+			mAnimationPolicy = animationPolicy;
+			return this;
+		}
+
+		/**
+		 * Sets a store of screen scopes. Fragment navigators create a scope for every fragment added to a back stack and clear it when the fragment is removed.
+		 * The same store should be used for all navigation contexts, so keep it in an application.
+		 *
+		 * @param screenScopeStore store of screen scopes
+		 * @return this object
+		 */
+		@NonNull
+		public Builder screenScopeStore(@Nullable ScreenScopeStore screenScopeStore) {
+			mScreenScopeStore = screenScopeStore;
+			return this;
+		}
+
 		/**
 		 * Builds a navigation context
 		 *
@@ -319,20 +428,24 @@ public class NavigationContext {
 			ScreenSwitchingListener screenSwitchingListener = mScreenSwitchingListener != null ? mScreenSwitchingListener : new DefaultScreenSwitchingListener();
 			ScreenResultListener screenResultListener = mScreenResultListener != null ? mScreenResultListener : new DefaultScreenResultListener();
 			NavigationErrorListener navigationErrorListener = mNavigationErrorListener != null ? mNavigationErrorListener : new DefaultNavigationErrorListener();
+			if (mAnimationPolicy != null) {
+				transitionAnimationProvider = new PolicyTransitionAnimationProvider(mAnimationPolicy, transitionAnimationProvider);
+				dialogAnimationProvider = new PolicyDialogAnimationProvider(mAnimationPolicy, dialogAnimationProvider);
+			}
 
-			ActivityNavigator activityNavigator = new DefaultActivityNavigator(mActivity, mNavigationFactory, transitionListener, transitionAnimationProvider);
+			ActivityNavigator activityNavigator = new DefaultActivityNavigator(mActivity, mNavigationFactory, transitionListener, transitionAnimationProvider, mActivityTracker);
 
 			FragmentNavigator fragmentNavigator = mFragmentManager != null ?
-					new DefaultFragmentNavigator(false, mFragmentManager, mFragmentContainerId, mNavigationFactory, transitionListener, screenResultListener, transitionAnimationProvider) : null;
+					new DefaultFragmentNavigator(false, mFragmentManager, mFragmentContainerId, mNavigationFactory, transitionListener, screenResultListener, transitionAnimationProvider, mScreenScopeStore) : null;
 
 			FragmentNavigator flowFragmentNavigator = mFlowFragmentManager != null ?
-					new DefaultFragmentNavigator(true, mFlowFragmentManager, mFlowFragmentContainerId, mNavigationFactory, transitionListener, screenResultListener, transitionAnimationProvider) : null;
+					new DefaultFragmentNavigator(true, mFlowFragmentManager, mFlowFragmentContainerId, mNavigationFactory, transitionListener, screenResultListener, transitionAnimationProvider, mScreenScopeStore) : null;
 
 			DialogFragmentNavigator dialogFragmentNavigator = new DefaultDialogFragmentNavigator(mActivity.getSupportFragmentManager(), mNavigationFactory,
 					dialogShowingListener, screenResultListener, dialogAnimationProvider);
 
 			return new NavigationContext(mActivity, mNavigationFactory, activityNavigator, fragmentNavigator, flowFragmentNavigator, dialogFragmentNavigator,
-					mScreenSwitcher, screenSwitchingListener, screenResultListener, navigationErrorListener);
+					mScreenSwitcher, screenSwitchingListener, screenResultListener, navigationErrorListener, transitionListener, transitionAnimationProvider, mScreenScopeStore);
 		}
 	}
 }
@@ -0,0 +1,102 @@
+package me.aartikov.alligator;
+
+import android.app.Activity;
+import android.app.Application;
+import android.os.Bundle;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.appcompat.app.AppCompatActivity;
+
+import java.util.HashMap;
+import java.util.Map;
+
+
+/**
+ * Binds and unbinds navigation contexts automatically with the help of {@link Application.ActivityLifecycleCallbacks}.
+ * A navigation context is bound in {@code onResume} of an activity. It is not bound in {@code onStart}, because on a restart the callback is dispatched before
+ * the fragment manager leaves the saved state, so fragment transactions of postponed commands would fail.
+ * A navigation context is created once per activity and reused for subsequent bindings.
+ * <p>
+ * Register it with {@link Application#registerActivityLifecycleCallbacks}. Activities should not call {@code bind} and {@code unbind} by themselves.
+ */
+public class NavigationContextAutoBinder implements Application.ActivityLifecycleCallbacks {
+	private NavigationContextBinder mNavigationContextBinder;
+	private NavigationContextFactory mNavigationContextFactory;
+	private Map<Activity, NavigationContext> mNavigationContexts = new HashMap<>();
+
+	public NavigationContextAutoBinder(@NonNull NavigationContextBinder navigationContextBinder, @NonNull NavigationContextFactory navigationContextFactory) {
+		mNavigationContextBinder = navigationContextBinder;
+		mNavigationContextFactory = navigationContextFactory;
+	}
+
+	/**
+	 * Drops a cached navigation context of an activity and binds a new one if the activity is bound.
+	 * Use it when a configuration of the navigation context has been changed.
+	 *
+	 * @param activity activity
+	 */
+	public void invalidateNavigationContext(@NonNull AppCompatActivity activity) {
+		mNavigationContexts.remove(activity);
+		NavigationContext boundNavigationContext = mNavigationContextBinder.getNavigationContext();
+		if (boundNavigationContext != null && boundNavigationContext.getActivity() == activity) {
+			bind(activity);
+		}
+	}
+
+	@Override
+	public void onActivityCreated(Activity activity, Bundle savedInstanceState) {
+	}
+
+	@Override
+	public void onActivityStarted(Activity activity) {
+	}
+
+	@Override
+	public void onActivityResumed(Activity activity) {
+		bind(activity);
+	}
+
+	@Override
+	public void onActivityPaused(Activity activity) {
+		if (activity instanceof AppCompatActivity) {
+			mNavigationContextBinder.unbind((AppCompatActivity) activity);
+		}
+	}
+
+	@Override
+	public void onActivityStopped(Activity activity) {
+	}
+
+	@Override
+	public void onActivitySaveInstanceState(Activity activity, Bundle outState) {
+	}
+
+	@Override
+	public void onActivityDestroyed(Activity activity) {
+		mNavigationContexts.remove(activity);
+	}
+
+	private void bind(@NonNull Activity activity) {
+		if (!(activity instanceof AppCompatActivity) || activity.isFinishing()) {
+			return;
+		}
+
+		NavigationContext navigationContext = getNavigationContext((AppCompatActivity) activity);
+		if (navigationContext != null) {
+			mNavigationContextBinder.bind(navigationContext);
+		}
+	}
+
+	@Nullable
+	private NavigationContext getNavigationContext(@NonNull AppCompatActivity activity) {
+		NavigationContext navigationContext = mNavigationContexts.get(activity);
+		if (navigationContext == null) {
+			navigationContext = mNavigationContextFactory.createNavigationContext(activity);
+			if (navigationContext != null) {
+				mNavigationContexts.put(activity, navigationContext);
+			}
+		}
+		return navigationContext;
+	}
+}
@@ -28,7 +28,7 @@ public interface NavigationContextBinder {
 
 	/**
 	 * Bind a navigation context if no context is bound or a context with the same activity is bound. Do nothing otherwise.
-	 * This method should be called from {@code onResumeFragments} of an activity.
+	 * This method should be called from {@code onResumeFragments} of an activity (or by {@link NavigationContextAutoBinder}).
 	 *
 	 * @param navigationContext navigation context
 	 */
@@ -36,7 +36,7 @@ public interface NavigationContextBinder {
 
 	/**
 	 * Unbind a currently bound navigation context if it has the same activity as a passed one. Do nothing otherwise.
-	 * This method should be called from {@code onPause} of an activity.
+	 * This method should be called from {@code onPause} of an activity (or by {@link NavigationContextAutoBinder}).
 	 *
 	 * @param activity activity that initiates unbinding
 	 */
@@ -0,0 +1,19 @@
+package me.aartikov.alligator;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.appcompat.app.AppCompatActivity;
+
+/**
+ * Creates navigation contexts for {@link NavigationContextAutoBinder}.
+ */
+public interface NavigationContextFactory {
+	/**
+	 * Creates a navigation context for an activity.
+	 *
+	 * @param activity activity that is going to be bound
+	 * @return navigation context or null if the activity should not be bound automatically
+	 */
+	@Nullable
+	NavigationContext createNavigationContext(@NonNull AppCompatActivity activity);
+}
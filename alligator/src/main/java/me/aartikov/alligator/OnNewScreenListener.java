@@ -0,0 +1,16 @@
+package me.aartikov.alligator;
+
+import androidx.annotation.NonNull;
+
+
+/**
+ * Interface for fragments of {@link SingleTopScreen}s. Is called when a new screen is delivered to an existing fragment.
+ */
+public interface OnNewScreenListener {
+	/**
+	 * Is called after fragment arguments have been updated with a new screen.
+	 *
+	 * @param screen new screen
+	 */
+	void onNewScreen(@NonNull Screen screen);
+}
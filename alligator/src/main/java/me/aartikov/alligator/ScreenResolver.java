@@ -1,6 +1,7 @@
 package me.aartikov.alligator;
 
 import android.app.Activity;
+import android.content.Intent;
 
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
@@ -43,6 +44,26 @@ public class ScreenResolver {
 		}
 	}
 
+	/**
+	 * Gets a screen from a new intent of an activity. Should be used in {@code onNewIntent} of activities of {@link SingleTopScreen}s.
+	 *
+	 * @param <ScreenT> screen type
+	 * @param activity  activity that has received the intent
+	 * @param intent    intent passed to {@code onNewIntent}
+	 * @return a screen gotten from the intent
+	 * @throws IllegalArgumentException if screen getting failed
+	 */
+	@SuppressWarnings("unchecked")
+	@NonNull
+	public <ScreenT extends Screen> ScreenT getScreen(@NonNull Activity activity, @NonNull Intent intent) {
+		ScreenT screen = (ScreenT) getDestination(activity).getScreen(intent);
+		if (screen != null) {
+			return screen;
+		} else {
+			throw new IllegalArgumentException("IntentConverter returns null for " + activity.getClass().getCanonicalName());
+		}
+	}
+
 	/**
 	 * Gets a screen from an activity (nullable version). Note: it still can throw exceptions in some cases.
 	 *
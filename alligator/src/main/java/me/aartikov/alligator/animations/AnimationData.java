@@ -1,13 +0,0 @@
-package me.aartikov.alligator.animations;
-
-
-import me.aartikov.alligator.Navigator;
-import me.aartikov.alligator.animations.providers.DialogAnimationProvider;
-import me.aartikov.alligator.animations.providers.TransitionAnimationProvider;
-
-/**
- * Arbitrary data that can be passed to a {@link Navigator} and then will be transferred to a {@link TransitionAnimationProvider} or a {@link DialogAnimationProvider}
- * for an additional animation configuring.
- */
-public interface AnimationData {
-}
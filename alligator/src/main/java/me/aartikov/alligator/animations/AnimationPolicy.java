@@ -0,0 +1,14 @@
+package me.aartikov.alligator.animations;
+
+/**
+ * Decides whether transition and dialog animations should be used. If animations are disabled animation providers are not called
+ * and {@link TransitionAnimation#DEFAULT} and {@link DialogAnimation#DEFAULT} are used instead.
+ */
+public interface AnimationPolicy {
+	/**
+	 * Is called before every transition and every dialog showing.
+	 *
+	 * @return true if animations should be used
+	 */
+	boolean isAnimationEnabled();
+}
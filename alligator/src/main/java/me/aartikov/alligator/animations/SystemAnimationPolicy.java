@@ -0,0 +1,54 @@
+package me.aartikov.alligator.animations;
+
+import android.app.ActivityManager;
+import android.content.ContentResolver;
+import android.content.Context;
+import android.os.Build;
+import android.provider.Settings;
+
+import androidx.annotation.NonNull;
+
+
+/**
+ * {@link AnimationPolicy} that disables animations when an animator duration scale is set to 0 in the system settings
+ * (it is so on test devices and for users that turn animations off for accessibility reasons). Optionally disables animations on low RAM devices.
+ */
+public class SystemAnimationPolicy implements AnimationPolicy {
+	private ContentResolver mContentResolver;
+	private boolean mLowRamDevice;
+
+	/**
+	 * @param context               any context
+	 * @param disableOnLowRamDevice if true animations are disabled on devices that report themselves as low RAM ones
+	 */
+	public SystemAnimationPolicy(@NonNull Context context, boolean disableOnLowRamDevice) {
+		mContentResolver = context.getApplicationContext().getContentResolver();
+		mLowRamDevice = disableOnLowRamDevice && isLowRamDevice(context);
+	}
+
+	public SystemAnimationPolicy(@NonNull Context context) {
+		this(context, false);
+	}
+
+	@Override
+	public boolean isAnimationEnabled() {
+		return !mLowRamDevice && getAnimatorDurationScale() != 0f;
+	}
+
+	@SuppressWarnings("deprecation")
+	private float getAnimatorDurationScale() {
+		if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.JELLY_BEAN_MR1) {
+			return Settings.Global.getFloat(mContentResolver, Settings.Global.ANIMATOR_DURATION_SCALE, 1f);
+		} else {
+			return Settings.System.getFloat(mContentResolver, Settings.System.ANIMATOR_DURATION_SCALE, 1f);
+		}
+	}
+
+	private static boolean isLowRamDevice(@NonNull Context context) {
+		if (Build.VERSION.SDK_INT < Build.VERSION_CODES.KITKAT) {
+			return false;
+		}
+		ActivityManager activityManager = (ActivityManager) context.getSystemService(Context.ACTIVITY_SERVICE);
+		return activityManager != null && activityManager.isLowRamDevice();
+	}
+}
@@ -0,0 +1,230 @@
+package me.aartikov.alligator.animations.providers;
+
+import android.annotation.TargetApi;
+import android.content.Context;
+import android.content.SharedPreferences;
+import android.os.Build;
+import android.view.Choreographer;
+import android.view.WindowManager;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import me.aartikov.alligator.DestinationType;
+import me.aartikov.alligator.Screen;
+import me.aartikov.alligator.TransitionType;
+import me.aartikov.alligator.animations.AnimationData;
+import me.aartikov.alligator.animations.TransitionAnimation;
+
+
+/**
+ * {@link TransitionAnimationProvider} that adapts transition quality to a device. It measures frame timing during every transition
+ * and keeps a jank score for each combination of a transition type, a destination type and screen classes.
+ * When a score based on at least a few samples passes a threshold the transition is downgraded: a fallback provider is used instead of a main one.
+ * A downgraded transition is probed with the main provider from time to time, so its score goes down again when the device copes with it.
+ * Scores are persisted in shared preferences, so later sessions start with the right quality.
+ * <p>
+ * Frame timing is measured with {@link Choreographer} on API 16+. On older devices the main provider is always used.
+ */
+public class AdaptiveTransitionAnimationProvider implements TransitionAnimationProvider {
+	private static final String PREFERENCES_NAME = "me.aartikov.alligator.ADAPTIVE_TRANSITION_SCORES";
+	private static final float DEFAULT_JANK_THRESHOLD = 0.25f;
+	private static final float SCORE_SMOOTHING = 0.3f;
+	private static final long SAMPLING_DURATION_NANOS = 500_000_000L;
+	private static final float JANKY_FRAME_FACTOR = 1.5f;
+	private static final int MIN_SAMPLE_COUNT = 3;
+	private static final int PROBE_INTERVAL = 10;    // every 10th downgraded transition is probed with the main provider
+	private static final String SAMPLE_COUNT_SUFFIX = " samples";
+
+	private TransitionAnimationProvider mMainProvider;
+	private TransitionAnimationProvider mFallbackProvider;
+	private SharedPreferences mPreferences;
+	private Map<Class<? extends Screen>, Map<Class<? extends Screen>, TransitionStats[]>> mStats = new HashMap<>();    // arrays are indexed by transition and destination types
+	private float mJankThreshold = DEFAULT_JANK_THRESHOLD;
+	private long mFrameIntervalNanos;
+	@Nullable
+	private FrameSampler mFrameSampler;
+
+	/**
+	 * @param context          any context
+	 * @param mainProvider     provider of full quality animations
+	 * @param fallbackProvider provider of cheap animations, for example {@code SimpleTransitionAnimation}s. Use {@link DefaultTransitionAnimationProvider} to turn animations off for slow transitions.
+	 */
+	public AdaptiveTransitionAnimationProvider(@NonNull Context context,
+											   @NonNull TransitionAnimationProvider mainProvider,
+											   @NonNull TransitionAnimationProvider fallbackProvider) {
+		mMainProvider = mainProvider;
+		mFallbackProvider = fallbackProvider;
+		mPreferences = context.getApplicationContext().getSharedPreferences(PREFERENCES_NAME, Context.MODE_PRIVATE);
+		mFrameIntervalNanos = getFrameIntervalNanos(context);
+	}
+
+	/**
+	 * Sets a part of janky frames after which a transition is downgraded. By default it is 0.25.
+	 *
+	 * @param jankThreshold threshold from 0 to 1
+	 */
+	public void setJankThreshold(float jankThreshold) {
+		mJankThreshold = jankThreshold;
+	}
+
+	/**
+	 * Forgets all jank scores, so all transitions use the main provider again.
+	 */
+	public void resetScores() {
+		mStats.clear();
+		mPreferences.edit().clear().apply();
+	}
+
+	@Override
+	@NonNull
+	public TransitionAnimation getAnimation(@NonNull TransitionType transitionType,
+											@NonNull DestinationType destinationType,
+											@NonNull Class<? extends Screen> screenClassFrom,
+											@NonNull Class<? extends Screen> screenClassTo,
+											@Nullable AnimationData animationData) {
+		TransitionStats stats = getStats(transitionType, destinationType, screenClassFrom, screenClassTo);
+		if (stats.isDowngraded(mJankThreshold) && ++stats.mDowngradedCount % PROBE_INTERVAL != 0) {
+			return mFallbackProvider.getAnimation(transitionType, destinationType, screenClassFrom, screenClassTo, animationData);
+		}
+
+		TransitionAnimation animation = mMainProvider.getAnimation(transitionType, destinationType, screenClassFrom, screenClassTo, animationData);
+		if (animation != TransitionAnimation.DEFAULT && Build.VERSION.SDK_INT >= Build.VERSION_CODES.JELLY_BEAN) {
+			startSampling(stats);
+		}
+		return animation;
+	}
+
+	@NonNull
+	private TransitionStats getStats(@NonNull TransitionType transitionType,
+									 @NonNull DestinationType destinationType,
+									 @NonNull Class<? extends Screen> screenClassFrom,
+									 @NonNull Class<? extends Screen> screenClassTo) {
+		Map<Class<? extends Screen>, TransitionStats[]> statsFrom = mStats.get(screenClassFrom);
+		if (statsFrom == null) {
+			statsFrom = new HashMap<>();
+			mStats.put(screenClassFrom, statsFrom);
+		}
+
+		TransitionStats[] statsArray = statsFrom.get(screenClassTo);
+		if (statsArray == null) {
+			statsArray = new TransitionStats[TransitionType.values().length * DestinationType.values().length];
+			statsFrom.put(screenClassTo, statsArray);
+		}
+
+		int index = transitionType.ordinal() * DestinationType.values().length + destinationType.ordinal();
+		TransitionStats stats = statsArray[index];
+		if (stats == null) {
+			String key = transitionType + " " + destinationType + " " + screenClassFrom.getName() + " " + screenClassTo.getName();    // built once per session
+			stats = new TransitionStats(key, mPreferences.getFloat(key, 0f), mPreferences.getInt(key + SAMPLE_COUNT_SUFFIX, 0));
+			statsArray[index] = stats;
+		}
+		return stats;
+	}
+
+	@TargetApi(Build.VERSION_CODES.JELLY_BEAN)
+	private void startSampling(@NonNull TransitionStats stats) {
+		if (mFrameSampler != null) {
+			mFrameSampler.finish();
+		}
+		mFrameSampler = new FrameSampler(stats);
+		Choreographer.getInstance().postFrameCallback(mFrameSampler);
+	}
+
+	private void onSamplingFinished(@NonNull FrameSampler frameSampler, int frameCount, int jankyFrameCount) {
+		if (mFrameSampler == frameSampler) {
+			mFrameSampler = null;
+		}
+		if (frameCount == 0) {
+			return;
+		}
+
+		TransitionStats stats = frameSampler.mStats;
+		float jankRatio = (float) jankyFrameCount / frameCount;
+		if (stats.mSampleCount < MIN_SAMPLE_COUNT) {
+			stats.mSampleCount++;
+			stats.mScore += (jankRatio - stats.mScore) / stats.mSampleCount;    // average of the first samples
+		} else {
+			stats.mScore += (jankRatio - stats.mScore) * SCORE_SMOOTHING;
+		}
+		mPreferences.edit()
+				.putFloat(stats.mKey, stats.mScore)
+				.putInt(stats.mKey + SAMPLE_COUNT_SUFFIX, stats.mSampleCount)
+				.apply();
+	}
+
+	private static long getFrameIntervalNanos(@NonNull Context context) {
+		float refreshRate = 60f;
+		WindowManager windowManager = (WindowManager) context.getSystemService(Context.WINDOW_SERVICE);
+		if (windowManager != null && windowManager.getDefaultDisplay().getRefreshRate() > 0f) {
+			refreshRate = windowManager.getDefaultDisplay().getRefreshRate();
+		}
+		return (long) (1_000_000_000L / refreshRate);
+	}
+
+	@TargetApi(Build.VERSION_CODES.JELLY_BEAN)
+	private class FrameSampler implements Choreographer.FrameCallback {
+		private TransitionStats mStats;
+		private long mStartFrameTimeNanos = -1;
+		private long mLastFrameTimeNanos;
+		private int mFrameCount;
+		private int mJankyFrameCount;
+		private boolean mFinished;
+
+		FrameSampler(@NonNull TransitionStats stats) {
+			mStats = stats;
+		}
+
+		@Override
+		public void doFrame(long frameTimeNanos) {
+			if (mFinished) {
+				return;
+			}
+
+			if (mStartFrameTimeNanos == -1) {
+				mStartFrameTimeNanos = frameTimeNanos;
+			} else {
+				mFrameCount++;
+				if (frameTimeNanos - mLastFrameTimeNanos > mFrameIntervalNanos * JANKY_FRAME_FACTOR) {
+					mJankyFrameCount++;
+				}
+			}
+			mLastFrameTimeNanos = frameTimeNanos;
+
+			if (frameTimeNanos - mStartFrameTimeNanos >= SAMPLING_DURATION_NANOS) {
+				finish();
+			} else {
+				Choreographer.getInstance().postFrameCallback(this);
+			}
+		}
+
+		void finish() {
+			if (mFinished) {
+				return;
+			}
+			mFinished = true;
+			Choreographer.getInstance().removeFrameCallback(this);
+			onSamplingFinished(this, mFrameCount, mJankyFrameCount);
+		}
+	}
+
+	private static class TransitionStats {
+		String mKey;
+		float mScore;
+		int mSampleCount;    // stops growing at MIN_SAMPLE_COUNT
+		int mDowngradedCount;
+
+		TransitionStats(@NonNull String key, float score, int sampleCount) {
+			mKey = key;
+			mScore = score;
+			mSampleCount = sampleCount;
+		}
+
+		boolean isDowngraded(float jankThreshold) {
+			return mSampleCount >= MIN_SAMPLE_COUNT && mScore >= jankThreshold;
+		}
+	}
+}
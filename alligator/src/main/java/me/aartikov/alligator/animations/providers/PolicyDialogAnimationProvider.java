@@ -0,0 +1,32 @@
+package me.aartikov.alligator.animations.providers;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import me.aartikov.alligator.Screen;
+import me.aartikov.alligator.animations.AnimationData;
+import me.aartikov.alligator.animations.AnimationPolicy;
+import me.aartikov.alligator.animations.DialogAnimation;
+
+
+/**
+ * {@link DialogAnimationProvider} that calls a wrapped provider only if an {@link AnimationPolicy} allows animations. Otherwise returns {@code DialogAnimation.DEFAULT}.
+ */
+public class PolicyDialogAnimationProvider implements DialogAnimationProvider {
+	private AnimationPolicy mAnimationPolicy;
+	private DialogAnimationProvider mDialogAnimationProvider;
+
+	public PolicyDialogAnimationProvider(@NonNull AnimationPolicy animationPolicy, @NonNull DialogAnimationProvider dialogAnimationProvider) {
+		mAnimationPolicy = animationPolicy;
+		mDialogAnimationProvider = dialogAnimationProvider;
+	}
+
+	@Override
+	@NonNull
+	public DialogAnimation getAnimation(@NonNull Class<? extends Screen> screenClass, @Nullable AnimationData animationData) {
+		if (!mAnimationPolicy.isAnimationEnabled()) {
+			return DialogAnimation.DEFAULT;
+		}
+		return mDialogAnimationProvider.getAnimation(screenClass, animationData);
+	}
+}
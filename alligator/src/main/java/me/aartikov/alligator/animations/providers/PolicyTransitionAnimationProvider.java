@@ -0,0 +1,38 @@
+package me.aartikov.alligator.animations.providers;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import me.aartikov.alligator.DestinationType;
+import me.aartikov.alligator.Screen;
+import me.aartikov.alligator.TransitionType;
+import me.aartikov.alligator.animations.AnimationData;
+import me.aartikov.alligator.animations.AnimationPolicy;
+import me.aartikov.alligator.animations.TransitionAnimation;
+
+
+/**
+ * {@link TransitionAnimationProvider} that calls a wrapped provider only if an {@link AnimationPolicy} allows animations. Otherwise returns {@code TransitionAnimation.DEFAULT}.
+ */
+public class PolicyTransitionAnimationProvider implements TransitionAnimationProvider {
+	private AnimationPolicy mAnimationPolicy;
+	private TransitionAnimationProvider mTransitionAnimationProvider;
+
+	public PolicyTransitionAnimationProvider(@NonNull AnimationPolicy animationPolicy, @NonNull TransitionAnimationProvider transitionAnimationProvider) {
+		mAnimationPolicy = animationPolicy;
+		mTransitionAnimationProvider = transitionAnimationProvider;
+	}
+
+	@Override
+	@NonNull
+	public TransitionAnimation getAnimation(@NonNull TransitionType transitionType,
+											@NonNull DestinationType destinationType,
+											@NonNull Class<? extends Screen> screenClassFrom,
+											@NonNull Class<? extends Screen> screenClassTo,
+											@Nullable AnimationData animationData) {
+		if (!mAnimationPolicy.isAnimationEnabled()) {
+			return TransitionAnimation.DEFAULT;
+		}
+		return mTransitionAnimationProvider.getAnimation(transitionType, destinationType, screenClassFrom, screenClassTo, animationData);
+	}
+}
@@ -0,0 +1,100 @@
+package me.aartikov.alligator.animations.providers;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import me.aartikov.alligator.DestinationType;
+import me.aartikov.alligator.Screen;
+import me.aartikov.alligator.TransitionType;
+import me.aartikov.alligator.animations.AnimationData;
+import me.aartikov.alligator.animations.TransitionAnimation;
+
+
+/**
+ * {@link TransitionAnimationProvider} that finds animations in a lookup table. Animation instances are shared, so getting an animation doesn't allocate anything.
+ * <p>
+ * A {@code null} screen class in a table entry means any screen. When several entries match a transition, an entry with both screens specified wins,
+ * then an entry with a screen class to specified, then an entry with a screen class from specified. If nothing matches a fallback provider is used.
+ * {@link AnimationData} is not taken into account by the table, it is passed to the fallback provider only.
+ */
+public class TableTransitionAnimationProvider implements TransitionAnimationProvider {
+	private ScreenClassTable[][] mTable;    // [transition type][destination type]
+	private TransitionAnimationProvider mFallbackProvider;
+
+	public TableTransitionAnimationProvider() {
+		this(new DefaultTransitionAnimationProvider());
+	}
+
+	/**
+	 * @param fallbackProvider provider that is used when there is no matching entry in the table
+	 */
+	public TableTransitionAnimationProvider(@NonNull TransitionAnimationProvider fallbackProvider) {
+		mTable = new ScreenClassTable[TransitionType.values().length][DestinationType.values().length];
+		mFallbackProvider = fallbackProvider;
+	}
+
+	/**
+	 * Adds an animation to the table. An animation added earlier for the same entry is replaced.
+	 *
+	 * @param transitionType  type of a transition
+	 * @param destinationType destination type
+	 * @param screenClassFrom class of the screen that disappears or {@code null} for any screen
+	 * @param screenClassTo   class of the screen that appears or {@code null} for any screen
+	 * @param animation       animation
+	 */
+	public void addAnimation(@NonNull TransitionType transitionType,
+							 @NonNull DestinationType destinationType,
+							 @Nullable Class<? extends Screen> screenClassFrom,
+							 @Nullable Class<? extends Screen> screenClassTo,
+							 @NonNull TransitionAnimation animation) {
+		ScreenClassTable screenClassTable = mTable[transitionType.ordinal()][destinationType.ordinal()];
+		if (screenClassTable == null) {
+			screenClassTable = new ScreenClassTable();
+			mTable[transitionType.ordinal()][destinationType.ordinal()] = screenClassTable;
+		}
+
+		Map<Class<? extends Screen>, TransitionAnimation> toMap = screenClassTable.mAnimations.get(screenClassFrom);
+		if (toMap == null) {
+			toMap = new HashMap<>();
+			screenClassTable.mAnimations.put(screenClassFrom, toMap);
+		}
+		toMap.put(screenClassTo, animation);
+	}
+
+	@Override
+	@NonNull
+	public TransitionAnimation getAnimation(@NonNull TransitionType transitionType,
+											@NonNull DestinationType destinationType,
+											@NonNull Class<? extends Screen> screenClassFrom,
+											@NonNull Class<? extends Screen> screenClassTo,
+											@Nullable AnimationData animationData) {
+		ScreenClassTable screenClassTable = mTable[transitionType.ordinal()][destinationType.ordinal()];
+		if (screenClassTable != null) {
+			Map<Class<? extends Screen>, TransitionAnimation> toMap = screenClassTable.mAnimations.get(screenClassFrom);
+			Map<Class<? extends Screen>, TransitionAnimation> anyFromToMap = screenClassTable.mAnimations.get(null);
+
+			TransitionAnimation animation = toMap != null ? toMap.get(screenClassTo) : null;
+			if (animation == null && anyFromToMap != null) {
+				animation = anyFromToMap.get(screenClassTo);
+			}
+			if (animation == null && toMap != null) {
+				animation = toMap.get(null);
+			}
+			if (animation == null && anyFromToMap != null) {
+				animation = anyFromToMap.get(null);
+			}
+			if (animation != null) {
+				return animation;
+			}
+		}
+		return mFallbackProvider.getAnimation(transitionType, destinationType, screenClassFrom, screenClassTo, animationData);
+	}
+
+	// Holder of a typed map, because arrays of generic types can't be created without unchecked casts.
+	private static class ScreenClassTable {
+		final Map<Class<? extends Screen>, Map<Class<? extends Screen>, TransitionAnimation>> mAnimations = new HashMap<>();    // screen class from -> screen class to -> animation
+	}
+}
@@ -0,0 +1,16 @@
+package me.aartikov.alligator.annotations;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Maps deep link patterns to a screen registered with {@link RegisterScreen}. A pattern looks like {@code https://example.com/users/{id}},
+ * path segments in braces are parameters. Parameters in a scheme or a host are not allowed. The screen must have a public constructor with a single {@link me.aartikov.alligator.deeplinks.DeepLinkParameters} argument or a public constructor without arguments.
+ */
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.CLASS)
+public @interface DeepLink {
+	String[] value();
+}
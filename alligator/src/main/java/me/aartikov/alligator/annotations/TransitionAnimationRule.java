@@ -0,0 +1,38 @@
+package me.aartikov.alligator.annotations;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+import me.aartikov.alligator.DestinationType;
+import me.aartikov.alligator.Screen;
+import me.aartikov.alligator.TransitionType;
+
+/**
+ * Declares an anim resource animation for transitions with the help of an annotation processor. All rules are collected to {@code GeneratedTransitionAnimationProvider}.
+ * <p>
+ * Empty {@code transitionType} and {@code destinationType} mean any type. {@code Screen.class} in {@code from} and {@code to} means any screen.
+ * If a screen class is annotated and neither {@code from} nor {@code to} is specified, the rule is applied to transitions to this screen.
+ * When several rules match a transition, a rule with both screens specified wins, then a rule with {@code to} specified, then a rule with {@code from} specified.
+ * <p>
+ * A rule can declare only a {@link me.aartikov.alligator.animations.SimpleTransitionAnimation} made of anim resources, and it doesn't depend on
+ * {@link me.aartikov.alligator.animations.AnimationData}. Other animations, such as {@link me.aartikov.alligator.animations.LollipopTransitionAnimation}
+ * with shared elements, should be returned by a fallback provider passed to the constructor of {@code GeneratedTransitionAnimationProvider}.
+ * The fallback provider is called only for transitions that have no matching rule.
+ */
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.CLASS)
+public @interface TransitionAnimationRule {
+	TransitionType[] transitionType() default {};
+
+	DestinationType[] destinationType() default {};
+
+	Class<? extends Screen> from() default Screen.class;
+
+	Class<? extends Screen> to() default Screen.class;
+
+	int enterAnimation();
+
+	int exitAnimation();
+}
@@ -6,7 +6,9 @@ import androidx.annotation.Nullable;
 import me.aartikov.alligator.NavigationContext;
 import me.aartikov.alligator.ScreenResult;
 import me.aartikov.alligator.animations.AnimationData;
+import me.aartikov.alligator.core.NavigationRules;
 import me.aartikov.alligator.exceptions.NavigationException;
+import me.aartikov.alligator.navigators.FragmentNavigator;
 
 
 /**
@@ -25,18 +27,25 @@ public class BackCommand implements Command {
 
 	@Override
 	public boolean execute(@NonNull NavigationContext navigationContext) throws NavigationException {
-		if (navigationContext.getDialogFragmentNavigator().canGoBack()) {
-			navigationContext.getDialogFragmentNavigator().goBack(mScreenResult);
-			return true;
-		} else if (navigationContext.getFragmentNavigator() != null && navigationContext.getFragmentNavigator().canGoBack()) {
-			navigationContext.getFragmentNavigator().goBack(mScreenResult, mAnimationData);
-			return true;
-		} else if (navigationContext.getFlowFragmentNavigator() != null && navigationContext.getFlowFragmentNavigator().canGoBack()) {
-			navigationContext.getFlowFragmentNavigator().goBack(mScreenResult, mAnimationData);
-			return true;
-		} else {
-			navigationContext.getActivityNavigator().goBack(mScreenResult, mAnimationData);
-			return false;
+		FragmentNavigator fragmentNavigator = navigationContext.getFragmentNavigator();
+		FragmentNavigator flowFragmentNavigator = navigationContext.getFlowFragmentNavigator();
+		NavigationRules.BackTarget backTarget = NavigationRules.getBackTarget(navigationContext.getDialogFragmentNavigator().canGoBack(),
+				fragmentNavigator != null && fragmentNavigator.canGoBack(),
+				flowFragmentNavigator != null && flowFragmentNavigator.canGoBack());
+
+		switch (backTarget) {
+			case DIALOG_FRAGMENT:
+				navigationContext.getDialogFragmentNavigator().goBack(mScreenResult);
+				return true;
+			case FRAGMENT:
+				fragmentNavigator.goBack(mScreenResult, mAnimationData);
+				return true;
+			case FLOW_FRAGMENT:
+				flowFragmentNavigator.goBack(mScreenResult, mAnimationData);
+				return true;
+			default:
+				navigationContext.getActivityNavigator().goBack(mScreenResult, mAnimationData);
+				return false;
 		}
 	}
 }
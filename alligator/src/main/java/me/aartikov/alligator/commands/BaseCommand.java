@@ -18,13 +18,21 @@ import me.aartikov.alligator.navigators.DialogFragmentNavigator;
 import me.aartikov.alligator.navigators.FragmentNavigator;
 
 
-abstract class BaseCommand implements Command {
+/**
+ * Base class for commands that have a target screen class.
+ */
+public abstract class BaseCommand implements Command {
 	private Class<? extends Screen> mScreenClass;
 
 	BaseCommand(@NonNull Class<? extends Screen> screenClass) {
 		mScreenClass = screenClass;
 	}
 
+	@NonNull
+	public Class<? extends Screen> getScreenClass() {
+		return mScreenClass;
+	}
+
 	abstract protected void executeForActivity(@NonNull ActivityDestination destination, @NonNull ActivityNavigator activityNavigator) throws NavigationException;
 
 	abstract protected void executeForFragment(@NonNull FragmentDestination destination, @NonNull FragmentNavigator fragmentNavigator) throws NavigationException;
@@ -6,7 +6,9 @@ import androidx.annotation.Nullable;
 import me.aartikov.alligator.NavigationContext;
 import me.aartikov.alligator.ScreenResult;
 import me.aartikov.alligator.animations.AnimationData;
+import me.aartikov.alligator.core.NavigationRules;
 import me.aartikov.alligator.exceptions.NavigationException;
+import me.aartikov.alligator.navigators.FragmentNavigator;
 
 
 /**
@@ -27,10 +29,18 @@ public class FinishCommand implements Command {
 		mAnimationData = animationData;
 	}
 
+	public boolean isForTopLevel() {
+		return mForTopLevel;
+	}
+
 	@Override
 	public boolean execute(@NonNull NavigationContext navigationContext) throws NavigationException {
-		if (!mForTopLevel && navigationContext.getFlowFragmentNavigator() != null && navigationContext.getFlowFragmentNavigator().canGoBack()) {
-			navigationContext.getFlowFragmentNavigator().goBack(mScreenResult, mAnimationData);
+		FragmentNavigator flowFragmentNavigator = navigationContext.getFlowFragmentNavigator();
+		NavigationRules.BackTarget finishTarget = NavigationRules.getFinishTarget(mForTopLevel,
+				flowFragmentNavigator != null && flowFragmentNavigator.canGoBack());
+
+		if (finishTarget == NavigationRules.BackTarget.FLOW_FRAGMENT) {
+			flowFragmentNavigator.goBack(mScreenResult, mAnimationData);
 			return true;
 		} else {
 			navigationContext.getActivityNavigator().goBack(mScreenResult, mAnimationData);
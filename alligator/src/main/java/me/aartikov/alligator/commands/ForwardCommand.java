@@ -12,6 +12,8 @@ import me.aartikov.alligator.exceptions.NavigationException;
 import me.aartikov.alligator.navigators.ActivityNavigator;
 import me.aartikov.alligator.navigators.DialogFragmentNavigator;
 import me.aartikov.alligator.navigators.FragmentNavigator;
+import me.aartikov.alligator.navigators.SingleTopActivityNavigator;
+import me.aartikov.alligator.navigators.SingleTopFragmentNavigator;
 
 
 /**
@@ -21,20 +23,40 @@ public class ForwardCommand extends BaseCommand {
 	private Screen mScreen;
 	@Nullable
 	private AnimationData mAnimationData;
+	private boolean mSingleTop;
 
 	public ForwardCommand(@NonNull Screen screen, @Nullable AnimationData animationData) {
+		this(screen, animationData, false);
+	}
+
+	/**
+	 * @param singleTop {@code true} to deliver the screen to a current activity or fragment with the same screen class, as for a {@link me.aartikov.alligator.SingleTopScreen}
+	 */
+	public ForwardCommand(@NonNull Screen screen, @Nullable AnimationData animationData, boolean singleTop) {
 		super(screen.getClass());
 		mScreen = screen;
 		mAnimationData = animationData;
+		mSingleTop = singleTop;
+	}
+
+	@NonNull
+	public Screen getScreen() {
+		return mScreen;
 	}
 
 	@Override
 	protected void executeForActivity(@NonNull ActivityDestination destination, @NonNull ActivityNavigator activityNavigator) throws NavigationException {
+		if (mSingleTop && activityNavigator instanceof SingleTopActivityNavigator && ((SingleTopActivityNavigator) activityNavigator).deliverToCurrentActivity(mScreen, destination)) {
+			return;
+		}
 		activityNavigator.goForward(mScreen, destination, mAnimationData);
 	}
 
 	@Override
 	protected void executeForFragment(@NonNull FragmentDestination destination, @NonNull FragmentNavigator fragmentNavigator) throws NavigationException {
+		if (mSingleTop && fragmentNavigator instanceof SingleTopFragmentNavigator && ((SingleTopFragmentNavigator) fragmentNavigator).deliverToCurrentFragment(mScreen, destination)) {
+			return;
+		}
 		fragmentNavigator.goForward(mScreen, destination, mAnimationData);
 	}
 
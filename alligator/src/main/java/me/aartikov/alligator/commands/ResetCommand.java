@@ -28,6 +28,11 @@ public class ResetCommand extends BaseCommand {
 		mAnimationData = animationData;
 	}
 
+	@NonNull
+	public Screen getScreen() {
+		return mScreen;
+	}
+
 	@Override
 	protected void executeForActivity(@NonNull ActivityDestination destination, @NonNull ActivityNavigator activityNavigator) throws NavigationException {
 		activityNavigator.reset(mScreen, destination, mAnimationData);
@@ -0,0 +1,86 @@
+package me.aartikov.alligator.commands;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import me.aartikov.alligator.FlowScreen;
+import me.aartikov.alligator.NavigationContext;
+import me.aartikov.alligator.Screen;
+import me.aartikov.alligator.animations.AnimationData;
+import me.aartikov.alligator.destinations.Destination;
+import me.aartikov.alligator.destinations.FragmentDestination;
+import me.aartikov.alligator.exceptions.MissingFlowFragmentNavigatorException;
+import me.aartikov.alligator.exceptions.MissingFragmentNavigatorException;
+import me.aartikov.alligator.exceptions.NavigationException;
+import me.aartikov.alligator.exceptions.NotSupportedOperationException;
+import me.aartikov.alligator.exceptions.ScreenRegistrationException;
+import me.aartikov.alligator.navigators.BackStackFragmentNavigator;
+import me.aartikov.alligator.navigators.FragmentNavigator;
+
+
+/**
+ * Command implementation for {@code setBackStack} method of {@link me.aartikov.alligator.AndroidNavigator}.
+ */
+public class SetBackStackCommand implements Command {
+	private List<Screen> mScreens;
+	@Nullable
+	private AnimationData mAnimationData;
+
+	public SetBackStackCommand(@NonNull List<? extends Screen> screens, @Nullable AnimationData animationData) {
+		if (screens.isEmpty()) {
+			throw new IllegalArgumentException("Screen list is empty.");
+		}
+		mScreens = Collections.unmodifiableList(new ArrayList<>(screens));
+		mAnimationData = animationData;
+	}
+
+	@NonNull
+	public List<Screen> getScreens() {
+		return mScreens;
+	}
+
+	@Override
+	public boolean execute(@NonNull NavigationContext navigationContext) throws NavigationException {
+		boolean flowScreens = FlowScreen.class.isAssignableFrom(mScreens.get(mScreens.size() - 1).getClass());
+		List<FragmentDestination> destinations = new ArrayList<>(mScreens.size());
+		for (Screen screen : mScreens) {
+			Class<? extends Screen> screenClass = screen.getClass();
+			Destination destination = navigationContext.getNavigationFactory().getDestination(screenClass);
+			if (destination == null) {
+				throw new ScreenRegistrationException("Screen " + screenClass.getSimpleName() + " is not registered.");
+			}
+
+			if (!(destination instanceof FragmentDestination)) {
+				throw new NotSupportedOperationException("SetBackStack command is supported for fragments only.");
+			}
+
+			if (FlowScreen.class.isAssignableFrom(screenClass) != flowScreens) {
+				throw new NotSupportedOperationException("SetBackStack command can't mix flow screens and usual screens.");
+			}
+			destinations.add((FragmentDestination) destination);
+		}
+
+		FragmentNavigator fragmentNavigator;
+		if (flowScreens) {
+			fragmentNavigator = navigationContext.getFlowFragmentNavigator();
+			if (fragmentNavigator == null) {
+				throw new MissingFlowFragmentNavigatorException();
+			}
+		} else {
+			fragmentNavigator = navigationContext.getFragmentNavigator();
+			if (fragmentNavigator == null) {
+				throw new MissingFragmentNavigatorException();
+			}
+		}
+
+		if (!(fragmentNavigator instanceof BackStackFragmentNavigator)) {
+			throw new NotSupportedOperationException("SetBackStack command requires a fragment navigator implementing BackStackFragmentNavigator.");
+		}
+		((BackStackFragmentNavigator) fragmentNavigator).setBackStack(mScreens, destinations, mAnimationData);
+		return true;
+	}
+}
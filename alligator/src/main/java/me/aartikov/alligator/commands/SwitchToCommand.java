@@ -24,6 +24,11 @@ public class SwitchToCommand implements Command {
 		mAnimationData = animationData;
 	}
 
+	@NonNull
+	public Screen getScreen() {
+		return mScreen;
+	}
+
 	@Override
 	public boolean execute(@NonNull NavigationContext navigationContext) throws NavigationException {
 		ScreenSwitcher screenSwitcher = navigationContext.getScreenSwitcher();
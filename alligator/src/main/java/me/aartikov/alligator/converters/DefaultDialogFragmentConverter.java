@@ -7,10 +7,12 @@ import android.os.Parcelable;
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
 import androidx.fragment.app.DialogFragment;
+import androidx.fragment.app.Fragment;
 
 import java.io.Serializable;
 
 import me.aartikov.alligator.Screen;
+import me.aartikov.alligator.navigationfactories.ScreenFragmentFactory;
 
 /**
  * Creates a dialog fragment of the given class. It also puts a screen to the fragment's arguments if {@code ScreenT} is {@code Serializable} or {@code Parcelable}.
@@ -23,17 +25,29 @@ public class DefaultDialogFragmentConverter<ScreenT extends Screen> implements D
 
 	private Class<ScreenT> mScreenClass;
 	private Class<? extends DialogFragment> mDialogFragmentClass;
+	@Nullable
+	private ScreenFragmentFactory mFragmentFactory;
 
 	public DefaultDialogFragmentConverter(Class<ScreenT> screenClass, Class<? extends DialogFragment> dialogFragmentClass) {
+		this(screenClass, dialogFragmentClass, null);
+	}
+
+	/**
+	 * @param screenClass         screen class
+	 * @param dialogFragmentClass dialog fragment class
+	 * @param fragmentFactory     factory used to create dialog fragments without reflection. If it doesn't know the dialog fragment class reflection is used.
+	 */
+	public DefaultDialogFragmentConverter(Class<ScreenT> screenClass, Class<? extends DialogFragment> dialogFragmentClass, @Nullable ScreenFragmentFactory fragmentFactory) {
 		mScreenClass = screenClass;
 		mDialogFragmentClass = dialogFragmentClass;
+		mFragmentFactory = fragmentFactory;
 	}
 
 	@Override
 	@NonNull
 	public DialogFragment createDialogFragment(@NonNull ScreenT screen) {
 		try {
-			DialogFragment dialogFragment = mDialogFragmentClass.newInstance();
+			DialogFragment dialogFragment = newInstance();
 			if (screen instanceof Serializable) {
 				Bundle arguments = new Bundle();
 				arguments.putSerializable(KEY_SCREEN, (Serializable) screen);
@@ -51,6 +65,12 @@ public class DefaultDialogFragmentConverter<ScreenT extends Screen> implements D
 		}
 	}
 
+	@NonNull
+	private DialogFragment newInstance() throws InstantiationException, IllegalAccessException {
+		Fragment fragment = mFragmentFactory != null ? mFragmentFactory.createFragment(mDialogFragmentClass.getName()) : null;
+		return fragment != null ? (DialogFragment) fragment : mDialogFragmentClass.newInstance();
+	}
+
 	@Override
 	@NonNull
 	@SuppressWarnings("unchecked")
@@ -10,6 +10,7 @@ import androidx.fragment.app.Fragment;
 import java.io.Serializable;
 
 import me.aartikov.alligator.Screen;
+import me.aartikov.alligator.navigationfactories.ScreenFragmentFactory;
 
 
 /**
@@ -18,29 +19,36 @@ import me.aartikov.alligator.Screen;
  * @param <ScreenT> screen type
  */
 
-public class DefaultFragmentConverter<ScreenT extends Screen> implements FragmentConverter<ScreenT> {
+public class DefaultFragmentConverter<ScreenT extends Screen> implements FragmentArgumentsConverter<ScreenT> {
 	private static final String KEY_SCREEN = "me.aartikov.alligator.KEY_SCREEN";
 
 	private Class<ScreenT> mScreenClass;
 	private Class<? extends Fragment> mFragmentClass;
+	@Nullable
+	private ScreenFragmentFactory mFragmentFactory;
 
 	public DefaultFragmentConverter(Class<ScreenT> screenClass, Class<? extends Fragment> fragmentClass) {
+		this(screenClass, fragmentClass, null);
+	}
+
+	/**
+	 * @param screenClass     screen class
+	 * @param fragmentClass   fragment class
+	 * @param fragmentFactory factory used to create fragments without reflection. If it doesn't know the fragment class reflection is used.
+	 */
+	public DefaultFragmentConverter(Class<ScreenT> screenClass, Class<? extends Fragment> fragmentClass, @Nullable ScreenFragmentFactory fragmentFactory) {
 		mScreenClass = screenClass;
 		mFragmentClass = fragmentClass;
+		mFragmentFactory = fragmentFactory;
 	}
 
 	@Override
 	@NonNull
 	public Fragment createFragment(@NonNull ScreenT screen) {
 		try {
-			Fragment fragment = mFragmentClass.newInstance();
-			if (screen instanceof Serializable) {
-				Bundle arguments = new Bundle();
-				arguments.putSerializable(KEY_SCREEN, (Serializable) screen);
-				fragment.setArguments(arguments);
-			} else if (screen instanceof Parcelable) {
-				Bundle arguments = new Bundle();
-				arguments.putParcelable(KEY_SCREEN, (Parcelable) screen);
+			Fragment fragment = newInstance();
+			Bundle arguments = createArguments(screen);
+			if (arguments != null) {
 				fragment.setArguments(arguments);
 			}
 			return fragment;
@@ -51,6 +59,28 @@ public class DefaultFragmentConverter<ScreenT extends Screen> implements Fragmen
 		}
 	}
 
+	@Override
+	@Nullable
+	public Bundle createArguments(@NonNull ScreenT screen) {
+		if (screen instanceof Serializable) {
+			Bundle arguments = new Bundle();
+			arguments.putSerializable(KEY_SCREEN, (Serializable) screen);
+			return arguments;
+		} else if (screen instanceof Parcelable) {
+			Bundle arguments = new Bundle();
+			arguments.putParcelable(KEY_SCREEN, (Parcelable) screen);
+			return arguments;
+		} else {
+			return null;
+		}
+	}
+
+	@NonNull
+	private Fragment newInstance() throws InstantiationException, IllegalAccessException {
+		Fragment fragment = mFragmentFactory != null ? mFragmentFactory.createFragment(mFragmentClass.getName()) : null;
+		return fragment != null ? fragment : mFragmentClass.newInstance();
+	}
+
 	@Override
 	@NonNull
 	@SuppressWarnings("unchecked")
@@ -0,0 +1,27 @@
+package me.aartikov.alligator.converters;
+
+import android.os.Bundle;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import me.aartikov.alligator.Screen;
+
+
+/**
+ * Fragment converter that can create fragment arguments without creating a fragment. It is used to deliver a {@link me.aartikov.alligator.SingleTopScreen}
+ * to an existing fragment. For other converters a fragment is created only to get its arguments.
+ *
+ * @param <ScreenT> screen type
+ */
+public interface FragmentArgumentsConverter<ScreenT extends Screen> extends FragmentConverter<ScreenT> {
+
+	/**
+	 * Creates the same arguments that {@link #createFragment(Screen)} puts to a fragment.
+	 *
+	 * @param screen screen
+	 * @return fragment arguments or {@code null} if a fragment has no arguments
+	 */
+	@Nullable
+	Bundle createArguments(@NonNull ScreenT screen);
+}
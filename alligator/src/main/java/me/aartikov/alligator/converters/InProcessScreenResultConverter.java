@@ -0,0 +1,126 @@
+package me.aartikov.alligator.converters;
+
+import android.app.Activity;
+import android.content.Intent;
+import android.os.Bundle;
+import android.util.Log;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import me.aartikov.alligator.ActivityResult;
+import me.aartikov.alligator.ScreenResult;
+import me.aartikov.alligator.helpers.ScreenResultRegistry;
+
+
+/**
+ * {@link ScreenResultConverter} that passes a screen result by reference. The result is kept in {@link ScreenResultRegistry} and only its token is put to a result intent,
+ * so the result is neither serialized nor copied. Can be used for activities running in the same process only.
+ * <p>
+ * A token can't be resolved after process death or when the registry has dropped the result. With {@code keepIntentFallback} the result is serialized
+ * to a nested bundle as well and is read from it in this case. The nested bundle is not unparcelled while the token can be resolved, so a result
+ * passed within a process is still not deserialized. Without a fallback a lost result is reported to a {@link LostResultListener}, or logged
+ * if there is no listener, and {@code null} is returned.
+ *
+ * @param <ScreenResultT> screen result type
+ */
+public class InProcessScreenResultConverter<ScreenResultT extends ScreenResult> extends DefaultScreenResultConverter<ScreenResultT> {
+	/**
+	 * Listener that is notified when a screen result passed by a token is lost.
+	 */
+	public interface LostResultListener {
+		/**
+		 * @param screenResultClass class of the lost result
+		 * @param processRestarted  {@code true} if the token was created in another process, {@code false} if the result has been dropped from a full registry
+		 */
+		void onScreenResultLost(@NonNull Class<? extends ScreenResult> screenResultClass, boolean processRestarted);
+	}
+
+	private static final String TAG = "Alligator";
+	private static final String KEY_SCREEN_RESULT_TOKEN = "me.aartikov.alligator.KEY_SCREEN_RESULT_TOKEN";
+	private static final String KEY_FALLBACK_EXTRAS = "me.aartikov.alligator.KEY_FALLBACK_EXTRAS";
+
+	private Class<ScreenResultT> mScreenResultClass;
+	private boolean mKeepIntentFallback;
+	@Nullable
+	private LostResultListener mLostResultListener;
+
+	/**
+	 * Creates a converter that puts only a token to a result intent.
+	 *
+	 * @param screenResultClass screen result class. It is not required to be {@code Serializable} or {@code Parcelable}.
+	 */
+	public InProcessScreenResultConverter(Class<ScreenResultT> screenResultClass) {
+		this(screenResultClass, false);
+	}
+
+	/**
+	 * @param screenResultClass  screen result class
+	 * @param keepIntentFallback if {@code true} a serialized result is put to a result intent too, so it can be restored after process death.
+	 *                           In this case a screen result class must be {@code Serializable} or {@code Parcelable}.
+	 */
+	public InProcessScreenResultConverter(Class<ScreenResultT> screenResultClass, boolean keepIntentFallback) {
+		super(screenResultClass);
+		mScreenResultClass = screenResultClass;
+		mKeepIntentFallback = keepIntentFallback;
+	}
+
+	/**
+	 * Sets a listener that is notified when a result without a fallback is lost. By default a warning is logged.
+	 *
+	 * @param lostResultListener listener or {@code null} to log lost results
+	 */
+	public void setLostResultListener(@Nullable LostResultListener lostResultListener) {
+		mLostResultListener = lostResultListener;
+	}
+
+	@Override
+	@NonNull
+	public ActivityResult createActivityResult(@NonNull ScreenResultT screenResult) {
+		Intent data = new Intent();
+		data.putExtra(KEY_SCREEN_RESULT_TOKEN, ScreenResultRegistry.put(screenResult));
+		if (mKeepIntentFallback) {
+			Intent fallbackData = super.createActivityResult(screenResult).getIntent();
+			Bundle fallbackExtras = fallbackData != null ? fallbackData.getExtras() : null;
+			if (fallbackExtras != null) {
+				data.putExtra(KEY_FALLBACK_EXTRAS, fallbackExtras);    // a nested bundle is unparcelled only when it is accessed
+			}
+		}
+		return new ActivityResult(Activity.RESULT_OK, data);
+	}
+
+	@Override
+	@Nullable
+	public ScreenResultT getScreenResult(@NonNull ActivityResult activityResult) {
+		Intent data = activityResult.getIntent();
+		if (data == null || activityResult.getResultCode() != Activity.RESULT_OK) {
+			return null;
+		}
+
+		String token = data.getStringExtra(KEY_SCREEN_RESULT_TOKEN);
+		ScreenResult screenResult = ScreenResultRegistry.take(token);
+		if (mScreenResultClass.isInstance(screenResult)) {
+			return mScreenResultClass.cast(screenResult);
+		}
+
+		Bundle fallbackExtras = data.getBundleExtra(KEY_FALLBACK_EXTRAS);
+		if (fallbackExtras != null) {
+			return super.getScreenResult(new ActivityResult(activityResult.getResultCode(), new Intent().putExtras(fallbackExtras)));
+		}
+
+		if (token != null) {
+			onScreenResultLost(!ScreenResultRegistry.isFromThisProcess(token));
+		}
+		return null;
+	}
+
+	private void onScreenResultLost(boolean processRestarted) {
+		if (mLostResultListener != null) {
+			mLostResultListener.onScreenResultLost(mScreenResultClass, processRestarted);
+		} else {
+			Log.w(TAG, "Screen result " + mScreenResultClass.getSimpleName() + " is lost because "
+					+ (processRestarted ? "the process has been restarted." : "too many results are pending.")
+					+ " Enable keepIntentFallback to restore it.");
+		}
+	}
+}
@@ -0,0 +1,29 @@
+package me.aartikov.alligator.deeplinks;
+
+import androidx.annotation.NonNull;
+
+import me.aartikov.alligator.Screen;
+
+/**
+ * Result of deep link matching. Contains a screen that can be passed to a navigator directly and parameters the screen was created from.
+ */
+public class DeepLinkMatch {
+	private Screen mScreen;
+	private DeepLinkParameters mParameters;
+
+	public DeepLinkMatch(@NonNull Screen screen, @NonNull DeepLinkParameters parameters) {
+		mScreen = screen;
+		mParameters = parameters;
+	}
+
+	@SuppressWarnings("unchecked")
+	@NonNull
+	public <ScreenT extends Screen> ScreenT getScreen() {
+		return (ScreenT) mScreen;
+	}
+
+	@NonNull
+	public DeepLinkParameters getParameters() {
+		return mParameters;
+	}
+}
@@ -0,0 +1,100 @@
+package me.aartikov.alligator.deeplinks;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import java.util.ArrayList;
+import java.util.List;
+
+
+/**
+ * Parameters parsed from a deep link. It contains path parameters followed by query parameters.
+ */
+public class DeepLinkParameters {
+	private List<String> mNames;
+	private List<String> mValues;
+
+	public DeepLinkParameters() {
+		this(4);
+	}
+
+	public DeepLinkParameters(int capacity) {
+		mNames = new ArrayList<>(capacity);
+		mValues = new ArrayList<>(capacity);
+	}
+
+	public void put(@NonNull String name, @NonNull String value) {
+		mNames.add(name);
+		mValues.add(value);
+	}
+
+	/**
+	 * Returns a value of a parameter. If there are several parameters with the same name the first one is returned.
+	 *
+	 * @param name parameter name
+	 * @return parameter value or null if there is no parameter with the given name
+	 */
+	@Nullable
+	public String get(@NonNull String name) {
+		int index = mNames.indexOf(name);
+		return index == -1 ? null : mValues.get(index);
+	}
+
+	@NonNull
+	public String get(@NonNull String name, @NonNull String defaultValue) {
+		String value = get(name);
+		return value == null ? defaultValue : value;
+	}
+
+	public int getInt(@NonNull String name, int defaultValue) {
+		String value = get(name);
+		if (value == null) {
+			return defaultValue;
+		}
+
+		try {
+			return Integer.parseInt(value);
+		} catch (NumberFormatException e) {
+			return defaultValue;
+		}
+	}
+
+	public long getLong(@NonNull String name, long defaultValue) {
+		String value = get(name);
+		if (value == null) {
+			return defaultValue;
+		}
+
+		try {
+			return Long.parseLong(value);
+		} catch (NumberFormatException e) {
+			return defaultValue;
+		}
+	}
+
+	public int size() {
+		return mNames.size();
+	}
+
+	@NonNull
+	public String getName(int index) {
+		return mNames.get(index);
+	}
+
+	@NonNull
+	public String getValue(int index) {
+		return mValues.get(index);
+	}
+
+	@Override
+	public String toString() {
+		StringBuilder builder = new StringBuilder("DeepLinkParameters{");
+		for (int i = 0; i < mNames.size(); i++) {
+			if (i > 0) {
+				builder.append(", ");
+			}
+			builder.append(mNames.get(i)).append('=').append(mValues.get(i));
+		}
+		return builder.append('}').toString();
+	}
+}
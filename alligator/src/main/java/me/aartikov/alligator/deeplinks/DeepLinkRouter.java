@@ -0,0 +1,29 @@
+package me.aartikov.alligator.deeplinks;
+
+import android.net.Uri;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+/**
+ * Resolves deep links to screens.
+ */
+public interface DeepLinkRouter {
+	/**
+	 * Matches a deep link.
+	 *
+	 * @param uri deep link
+	 * @return match containing a screen and parsed parameters or null if the deep link is not registered
+	 */
+	@Nullable
+	DeepLinkMatch match(@NonNull Uri uri);
+
+	/**
+	 * Matches a deep link given as a string.
+	 *
+	 * @param url deep link
+	 * @return match containing a screen and parsed parameters or null if the deep link is not registered
+	 */
+	@Nullable
+	DeepLinkMatch match(@NonNull String url);
+}
@@ -0,0 +1,15 @@
+package me.aartikov.alligator.deeplinks;
+
+import androidx.annotation.NonNull;
+
+import me.aartikov.alligator.Screen;
+
+/**
+ * Creates a screen from deep link parameters.
+ *
+ * @param <ScreenT> screen type
+ */
+public interface DeepLinkScreenFactory<ScreenT extends Screen> {
+	@NonNull
+	ScreenT createScreen(@NonNull DeepLinkParameters parameters);
+}
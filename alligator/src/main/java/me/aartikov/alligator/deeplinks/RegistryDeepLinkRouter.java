@@ -0,0 +1,211 @@
+package me.aartikov.alligator.deeplinks;
+
+import android.net.Uri;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import me.aartikov.alligator.Screen;
+
+
+/**
+ * Deep link router with deep link registration methods. Registered patterns are stored in a trie of path segments,
+ * so matching takes time proportional to a number of segments in a deep link and doesn't depend on a number of registered patterns.
+ */
+public class RegistryDeepLinkRouter implements DeepLinkRouter {
+	private Map<String, Node> mRoots = new HashMap<>();
+
+	@Override
+	@Nullable
+	public DeepLinkMatch match(@NonNull Uri uri) {
+		return match(uri.toString());
+	}
+
+	@Override
+	@Nullable
+	public DeepLinkMatch match(@NonNull String url) {
+		int schemeEnd = url.indexOf("://");
+		if (schemeEnd <= 0) {
+			return null;
+		}
+
+		int authorityStart = schemeEnd + 3;
+		int end = url.indexOf('#', authorityStart);
+		if (end == -1) {
+			end = url.length();
+		}
+		int pathEnd = indexOf(url, '?', authorityStart, end);
+		int authorityEnd = indexOf(url, '/', authorityStart, pathEnd);
+
+		Node root = mRoots.get(url.substring(0, authorityEnd).toLowerCase(Locale.US));
+		if (root == null) {
+			return null;
+		}
+
+		List<String> values = new ArrayList<>();
+		Registration<?> registration = matchSegments(root, url, authorityEnd, pathEnd, values);
+		if (registration == null) {
+			return null;
+		}
+
+		DeepLinkParameters parameters = new DeepLinkParameters(values.size());
+		for (int i = 0; i < values.size(); i++) {
+			parameters.put(registration.mParameterNames.get(i), values.get(i));
+		}
+		if (pathEnd < end) {
+			putQueryParameters(url, pathEnd + 1, end, parameters);
+		}
+		return new DeepLinkMatch(registration.createScreen(parameters), parameters);
+	}
+
+	/**
+	 * Registers a deep link pattern.
+	 *
+	 * @param pattern       pattern such as {@code https://example.com/users/{id}}, path segments in braces are parameters
+	 * @param screenFactory factory that creates a screen from parsed parameters
+	 * @param <ScreenT>     screen type
+	 * @throws IllegalArgumentException if the pattern is invalid or is already registered
+	 */
+	public <ScreenT extends Screen> void registerDeepLink(@NonNull String pattern, @NonNull DeepLinkScreenFactory<ScreenT> screenFactory) {
+		int schemeEnd = pattern.indexOf("://");
+		if (schemeEnd <= 0) {
+			throw new IllegalArgumentException("Deep link pattern " + pattern + " has no scheme.");
+		}
+		if (pattern.indexOf('?') != -1 || pattern.indexOf('#') != -1) {
+			throw new IllegalArgumentException("Deep link pattern " + pattern + " can't contain a query or a fragment.");
+		}
+
+		int authorityEnd = indexOf(pattern, '/', schemeEnd + 3, pattern.length());
+		if (indexOf(pattern, '{', 0, authorityEnd) != authorityEnd || indexOf(pattern, '}', 0, authorityEnd) != authorityEnd) {
+			throw new IllegalArgumentException("Deep link pattern " + pattern + " can have parameters only in a path.");
+		}
+
+		String rootKey = pattern.substring(0, authorityEnd).toLowerCase(Locale.US);
+		Node node = mRoots.get(rootKey);
+		if (node == null) {
+			node = new Node();
+			mRoots.put(rootKey, node);
+		}
+
+		List<String> parameterNames = new ArrayList<>();
+		for (String segment : pattern.substring(authorityEnd).split("/")) {
+			if (segment.isEmpty()) {
+				continue;
+			}
+
+			if (segment.startsWith("{") && segment.endsWith("}")) {
+				String parameterName = segment.substring(1, segment.length() - 1);
+				if (parameterName.isEmpty() || parameterNames.contains(parameterName)) {
+					throw new IllegalArgumentException("Deep link pattern " + pattern + " has an invalid parameter name.");
+				}
+				parameterNames.add(parameterName);
+				if (node.mParameterChild == null) {
+					node.mParameterChild = new Node();
+				}
+				node = node.mParameterChild;
+			} else {
+				if (node.mChildren == null) {
+					node.mChildren = new HashMap<>();
+				}
+				Node child = node.mChildren.get(segment);
+				if (child == null) {
+					child = new Node();
+					node.mChildren.put(segment, child);
+				}
+				node = child;
+			}
+		}
+
+		if (node.mRegistration != null) {
+			throw new IllegalArgumentException("Deep link pattern " + pattern + " is already registered.");
+		}
+		node.mRegistration = new Registration<>(screenFactory, parameterNames);
+	}
+
+	@Nullable
+	private Registration<?> matchSegments(@NonNull Node node, @NonNull String url, int position, int pathEnd, @NonNull List<String> values) {
+		while (position < pathEnd && url.charAt(position) == '/') {
+			position++;
+		}
+
+		if (position == pathEnd) {
+			return node.mRegistration;
+		}
+
+		int segmentEnd = indexOf(url, '/', position, pathEnd);
+		String segment = url.substring(position, segmentEnd);
+
+		if (node.mChildren != null) {
+			Node child = node.mChildren.get(segment);
+			if (child != null) {
+				Registration<?> registration = matchSegments(child, url, segmentEnd, pathEnd, values);
+				if (registration != null) {
+					return registration;
+				}
+			}
+		}
+
+		if (node.mParameterChild != null) {
+			values.add(Uri.decode(segment));
+			Registration<?> registration = matchSegments(node.mParameterChild, url, segmentEnd, pathEnd, values);
+			if (registration != null) {
+				return registration;
+			}
+			values.remove(values.size() - 1);
+		}
+		return null;
+	}
+
+	private void putQueryParameters(@NonNull String url, int start, int end, @NonNull DeepLinkParameters parameters) {
+		int position = start;
+		while (position < end) {
+			int parameterEnd = indexOf(url, '&', position, end);
+			int separator = indexOf(url, '=', position, parameterEnd);
+			if (separator > position) {
+				String name = Uri.decode(url.substring(position, separator));
+				String value = separator < parameterEnd ? Uri.decode(url.substring(separator + 1, parameterEnd)) : "";
+				parameters.put(name, value);
+			}
+			position = parameterEnd + 1;
+		}
+	}
+
+	private static int indexOf(@NonNull String string, char c, int start, int end) {
+		for (int i = start; i < end; i++) {
+			if (string.charAt(i) == c) {
+				return i;
+			}
+		}
+		return end;
+	}
+
+	private static class Node {
+		@Nullable
+		Map<String, Node> mChildren;
+		@Nullable
+		Node mParameterChild;
+		@Nullable
+		Registration<?> mRegistration;
+	}
+
+	private static class Registration<ScreenT extends Screen> {
+		DeepLinkScreenFactory<ScreenT> mScreenFactory;
+		List<String> mParameterNames;
+
+		Registration(@NonNull DeepLinkScreenFactory<ScreenT> screenFactory, @NonNull List<String> parameterNames) {
+			mScreenFactory = screenFactory;
+			mParameterNames = parameterNames;
+		}
+
+		@NonNull
+		Screen createScreen(@NonNull DeepLinkParameters parameters) {
+			return mScreenFactory.createScreen(parameters);
+		}
+	}
+}
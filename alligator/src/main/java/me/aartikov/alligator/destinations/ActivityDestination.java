@@ -87,7 +87,12 @@ public class ActivityDestination implements Destination {
 
 	@Nullable
 	public Screen getScreen(Activity activity) {
-		return mIntentConverter.getScreen(activity.getIntent());
+		return getScreen(activity.getIntent());
+	}
+
+	@Nullable
+	public Screen getScreen(Intent intent) {
+		return mIntentConverter.getScreen(intent);
 	}
 
 	@Nullable
@@ -1,11 +1,14 @@
 package me.aartikov.alligator.destinations;
 
+import android.os.Bundle;
+
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
 import androidx.fragment.app.Fragment;
 
 import me.aartikov.alligator.Screen;
 import me.aartikov.alligator.ScreenResult;
+import me.aartikov.alligator.converters.FragmentArgumentsConverter;
 import me.aartikov.alligator.converters.FragmentConverter;
 import me.aartikov.alligator.helpers.ScreenClassHelper;
 
@@ -36,6 +39,30 @@ public class FragmentDestination implements Destination {
 		return fragment;
 	}
 
+	/**
+	 * Creates arguments of a fragment for the given screen. A fragment is created only if a converter is not a {@link FragmentArgumentsConverter}.
+	 *
+	 * @param screen screen
+	 * @return fragment arguments
+	 */
+	@SuppressWarnings("unchecked")
+	@NonNull
+	public Bundle createArguments(@NonNull Screen screen) {
+		checkScreenClass(screen.getClass());
+		Bundle arguments;
+		if (mFragmentConverter instanceof FragmentArgumentsConverter) {
+			arguments = ((FragmentArgumentsConverter<Screen>) mFragmentConverter).createArguments(screen);
+		} else {
+			arguments = ((FragmentConverter<Screen>) mFragmentConverter).createFragment(screen).getArguments();
+		}
+
+		if (arguments == null) {
+			arguments = new Bundle();
+		}
+		mScreenClassHelper.putScreenClass(arguments, screen.getClass());
+		return arguments;
+	}
+
 	@NonNull
 	public Screen getScreen(@NonNull Fragment fragment) {
 		return mFragmentConverter.getScreen(fragment);
@@ -0,0 +1,196 @@
+package me.aartikov.alligator.diagnostics;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.text.SimpleDateFormat;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Locale;
+
+import me.aartikov.alligator.Screen;
+import me.aartikov.alligator.commands.BaseCommand;
+import me.aartikov.alligator.commands.Command;
+import me.aartikov.alligator.commands.SetBackStackCommand;
+import me.aartikov.alligator.commands.SwitchToCommand;
+
+
+/**
+ * Fixed-size ring buffer of the latest navigation events. It is always enabled in {@link me.aartikov.alligator.AndroidNavigator}.
+ * <p>
+ * All storage is preallocated, so recording an event doesn't allocate memory. The journal can be dumped as text or as compact binary data,
+ * for example from an uncaught exception handler. Dumping can be called from any thread.
+ */
+public class NavigationJournal {
+	/**
+	 * Version of a binary format written by {@link #writeTo(OutputStream)}.
+	 */
+	public static final int BINARY_FORMAT_VERSION = 1;
+
+	private static final int BINARY_FORMAT_MAGIC = 0x414c4e4a;    // "ALNJ"
+
+	/**
+	 * Type of a journal event.
+	 */
+	public enum EventType {
+		QUEUED,
+		EXECUTED,
+		FAILED
+	}
+
+	private static final EventType[] EVENT_TYPES = EventType.values();
+
+	private final int mCapacity;
+	private final byte[] mEventTypes;
+	private final Class<?>[] mCommandClasses;
+	private final Class<?>[] mScreenClasses;
+	private final long[] mTimestamps;    // wall clock time in milliseconds
+	private final long[] mDurations;     // in nanoseconds, 0 for queued commands
+	private int mNextIndex;
+	private int mSize;
+
+	public NavigationJournal(int capacity) {
+		if (capacity <= 0) {
+			throw new IllegalArgumentException("Capacity should be positive.");
+		}
+
+		mCapacity = capacity;
+		mEventTypes = new byte[capacity];
+		mCommandClasses = new Class<?>[capacity];
+		mScreenClasses = new Class<?>[capacity];
+		mTimestamps = new long[capacity];
+		mDurations = new long[capacity];
+	}
+
+	public int getCapacity() {
+		return mCapacity;
+	}
+
+	/**
+	 * Returns a number of recorded events. It is never greater than capacity.
+	 *
+	 * @return event count
+	 */
+	public synchronized int getSize() {
+		return mSize;
+	}
+
+	/**
+	 * Records an event. Is called by {@link me.aartikov.alligator.AndroidNavigator}.
+	 *
+	 * @param eventType event type
+	 * @param command   command
+	 * @param duration  execution duration in nanoseconds, 0 for queued commands
+	 */
+	public synchronized void record(@NonNull EventType eventType, @NonNull Command command, long duration) {
+		int index = mNextIndex;
+		mEventTypes[index] = (byte) eventType.ordinal();
+		mCommandClasses[index] = command.getClass();
+		mScreenClasses[index] = getScreenClass(command);
+		mTimestamps[index] = System.currentTimeMillis();
+		mDurations[index] = duration;
+
+		mNextIndex = (index + 1) % mCapacity;
+		if (mSize < mCapacity) {
+			mSize++;
+		}
+	}
+
+	public synchronized void clear() {
+		for (int i = 0; i < mCapacity; i++) {
+			mCommandClasses[i] = null;
+			mScreenClasses[i] = null;
+		}
+		mNextIndex = 0;
+		mSize = 0;
+	}
+
+	/**
+	 * Dumps events from the oldest to the newest as text, one event per line.
+	 *
+	 * @return text dump
+	 */
+	@NonNull
+	public synchronized String dump() {
+		SimpleDateFormat dateFormat = new SimpleDateFormat("HH:mm:ss.SSS", Locale.US);
+		StringBuilder builder = new StringBuilder();
+		for (int i = 0; i < mSize; i++) {
+			int index = getIndex(i);
+			builder.append(dateFormat.format(new Date(mTimestamps[index])))
+					.append(' ').append(EVENT_TYPES[mEventTypes[index]])
+					.append(' ').append(mCommandClasses[index].getSimpleName());
+			if (mScreenClasses[index] != null) {
+				builder.append(' ').append(mScreenClasses[index].getSimpleName());
+			}
+			if (EVENT_TYPES[mEventTypes[index]] != EventType.QUEUED) {
+				builder.append(' ').append(mDurations[index] / 1000).append("us");
+			}
+			builder.append('\n');
+		}
+		return builder.toString();
+	}
+
+	/**
+	 * Writes events from the oldest to the newest in a compact binary format. The format is: magic number (int), format version (int),
+	 * class name count (int), class names (UTF strings), event count (int) and events. Every event is: event type (byte), command class index (short),
+	 * screen class index (short, -1 if there is no screen), timestamp in milliseconds (long) and duration in nanoseconds (long).
+	 *
+	 * @param outputStream output stream. It is not closed.
+	 * @throws IOException if writing fails
+	 */
+	public synchronized void writeTo(@NonNull OutputStream outputStream) throws IOException {
+		List<Class<?>> classes = new ArrayList<>();
+		for (int i = 0; i < mSize; i++) {
+			int index = getIndex(i);
+			addClass(classes, mCommandClasses[index]);
+			addClass(classes, mScreenClasses[index]);
+		}
+
+		DataOutputStream out = new DataOutputStream(outputStream);
+		out.writeInt(BINARY_FORMAT_MAGIC);
+		out.writeInt(BINARY_FORMAT_VERSION);
+		out.writeInt(classes.size());
+		for (Class<?> clazz : classes) {
+			out.writeUTF(clazz.getName());
+		}
+
+		out.writeInt(mSize);
+		for (int i = 0; i < mSize; i++) {
+			int index = getIndex(i);
+			out.writeByte(mEventTypes[index]);
+			out.writeShort(classes.indexOf(mCommandClasses[index]));
+			out.writeShort(mScreenClasses[index] != null ? classes.indexOf(mScreenClasses[index]) : -1);
+			out.writeLong(mTimestamps[index]);
+			out.writeLong(mDurations[index]);
+		}
+		out.flush();
+	}
+
+	private int getIndex(int position) {
+		return (mNextIndex - mSize + position + mCapacity) % mCapacity;
+	}
+
+	private static void addClass(@NonNull List<Class<?>> classes, @Nullable Class<?> clazz) {
+		if (clazz != null && !classes.contains(clazz)) {
+			classes.add(clazz);
+		}
+	}
+
+	@Nullable
+	private static Class<? extends Screen> getScreenClass(@NonNull Command command) {
+		if (command instanceof BaseCommand) {
+			return ((BaseCommand) command).getScreenClass();
+		} else if (command instanceof SwitchToCommand) {
+			return ((SwitchToCommand) command).getScreen().getClass();
+		} else if (command instanceof SetBackStackCommand) {
+			List<Screen> screens = ((SetBackStackCommand) command).getScreens();
+			return screens.get(screens.size() - 1).getClass();
+		} else {
+			return null;
+		}
+	}
+}
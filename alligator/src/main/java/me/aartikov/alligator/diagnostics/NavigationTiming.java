@@ -0,0 +1,101 @@
+package me.aartikov.alligator.diagnostics;
+
+import androidx.annotation.NonNull;
+
+import me.aartikov.alligator.Screen;
+
+
+/**
+ * Timing of a single navigation from a navigation method call to the first frame of a destination screen. All durations are in nanoseconds.
+ */
+public class NavigationTiming {
+	private long mNavigationId;
+	private Class<? extends Screen> mScreenClass;
+	private long mQueueTime;
+	private long mCommandExecutionTime;
+	private long mViewCreationTime;
+	private long mFirstDrawTime;
+
+	public NavigationTiming(long navigationId,
+							@NonNull Class<? extends Screen> screenClass,
+							long queueTime,
+							long commandExecutionTime,
+							long viewCreationTime,
+							long firstDrawTime) {
+		mNavigationId = navigationId;
+		mScreenClass = screenClass;
+		mQueueTime = queueTime;
+		mCommandExecutionTime = commandExecutionTime;
+		mViewCreationTime = viewCreationTime;
+		mFirstDrawTime = firstDrawTime;
+	}
+
+	/**
+	 * Returns an id that is unique for every navigation in an application process.
+	 *
+	 * @return navigation id
+	 */
+	public long getNavigationId() {
+		return mNavigationId;
+	}
+
+	@NonNull
+	public Class<? extends Screen> getScreenClass() {
+		return mScreenClass;
+	}
+
+	/**
+	 * Returns time spent in a command queue (it is not zero if a navigation context was not bound).
+	 *
+	 * @return duration in nanoseconds
+	 */
+	public long getQueueTime() {
+		return mQueueTime;
+	}
+
+	/**
+	 * Returns time of {@code Command.execute} excluding creation of a destination fragment.
+	 *
+	 * @return duration in nanoseconds
+	 */
+	public long getCommandExecutionTime() {
+		return mCommandExecutionTime;
+	}
+
+	/**
+	 * Returns time from the end of command execution until a view of a destination activity or fragment has been created.
+	 * Fragments are created during command execution, for them the time is counted from the start of fragment creation.
+	 *
+	 * @return duration in nanoseconds
+	 */
+	public long getViewCreationTime() {
+		return mViewCreationTime;
+	}
+
+	/**
+	 * Returns time from view creation until the first frame of a destination has been drawn.
+	 *
+	 * @return duration in nanoseconds
+	 */
+	public long getFirstDrawTime() {
+		return mFirstDrawTime;
+	}
+
+	/**
+	 * Returns time from a navigation method call until the first frame of a destination has been drawn.
+	 *
+	 * @return duration in nanoseconds
+	 */
+	public long getTotalTime() {
+		return mQueueTime + mCommandExecutionTime + mViewCreationTime + mFirstDrawTime;
+	}
+
+	@Override
+	public String toString() {
+		return "NavigationTiming{" + mScreenClass.getSimpleName() + " #" + mNavigationId
+				+ ", queue=" + mQueueTime / 1000 + "us"
+				+ ", command=" + mCommandExecutionTime / 1000 + "us"
+				+ ", viewCreation=" + mViewCreationTime / 1000 + "us"
+				+ ", firstDraw=" + mFirstDrawTime / 1000 + "us}";
+	}
+}
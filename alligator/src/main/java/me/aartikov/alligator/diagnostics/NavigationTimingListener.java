@@ -0,0 +1,16 @@
+package me.aartikov.alligator.diagnostics;
+
+import androidx.annotation.NonNull;
+
+
+/**
+ * Interface for receiving navigation timings from {@link NavigationTimingTracker}.
+ */
+public interface NavigationTimingListener {
+	/**
+	 * Is called on the main thread when the first frame of a destination screen has been drawn.
+	 *
+	 * @param navigationTiming timing of a navigation
+	 */
+	void onNavigationTiming(@NonNull NavigationTiming navigationTiming);
+}
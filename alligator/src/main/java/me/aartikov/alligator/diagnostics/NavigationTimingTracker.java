@@ -0,0 +1,263 @@
+package me.aartikov.alligator.diagnostics;
+
+import android.annotation.TargetApi;
+import android.app.Activity;
+import android.app.Application;
+import android.os.Build;
+import android.os.Bundle;
+import android.view.View;
+import android.view.ViewTreeObserver;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.fragment.app.Fragment;
+import androidx.fragment.app.FragmentActivity;
+import androidx.fragment.app.FragmentManager;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import me.aartikov.alligator.Screen;
+import me.aartikov.alligator.commands.Command;
+import me.aartikov.alligator.commands.ForwardCommand;
+import me.aartikov.alligator.commands.ReplaceCommand;
+import me.aartikov.alligator.commands.ResetCommand;
+import me.aartikov.alligator.destinations.FragmentDestination;
+import me.aartikov.alligator.listeners.DefaultCommandExecutionListener;
+import me.aartikov.alligator.navigationfactories.NavigationFactory;
+
+
+/**
+ * Measures how long it takes from {@code goForward}, {@code replace} or {@code reset} call until the first frame of a destination screen is drawn.
+ * <p>
+ * Every navigation gets an id. A destination activity or fragment created for a navigation is tagged with this id, and a one-shot draw listener is attached to its view.
+ * Register the tracker with {@link Application#registerActivityLifecycleCallbacks} and {@link me.aartikov.alligator.AndroidNavigator#addCommandExecutionListener}.
+ * Works on API 16+, on older devices no timings are reported.
+ * <p>
+ * A navigation that creates nothing (single top delivery, reset to a root fragment, an external activity) is not reported. It is dropped when a command
+ * has been executed without creating a fragment, or after {@link #DESTINATION_CREATION_TIMEOUT} for activities and dialogs.
+ */
+public class NavigationTimingTracker extends DefaultCommandExecutionListener implements Application.ActivityLifecycleCallbacks {
+	/**
+	 * Max time in nanoseconds from a command execution start until a destination activity or dialog is created.
+	 */
+	public static final long DESTINATION_CREATION_TIMEOUT = TimeUnit.SECONDS.toNanos(5);
+
+	private NavigationFactory mNavigationFactory;
+	private NavigationTimingListener mNavigationTimingListener;
+	private Map<Command, PendingNavigation> mQueuedNavigations = new HashMap<>();
+	private Map<Class<? extends Screen>, PendingNavigation> mAwaitingNavigations = new HashMap<>();    // waiting for a destination to be created
+	private Map<Object, PendingNavigation> mCreatingDestinations = new HashMap<>();    // activities and fragments waiting for a view
+	private FragmentCallbacks mFragmentCallbacks = new FragmentCallbacks();
+	private long mNextNavigationId = 1;
+
+	public NavigationTimingTracker(@NonNull NavigationFactory navigationFactory, @NonNull NavigationTimingListener navigationTimingListener) {
+		mNavigationFactory = navigationFactory;
+		mNavigationTimingListener = navigationTimingListener;
+	}
+
+	@Override
+	public void onCommandQueued(@NonNull Command command) {
+		Class<? extends Screen> screenClass = getDestinationScreenClass(command);
+		if (screenClass != null) {
+			mQueuedNavigations.put(command, new PendingNavigation(mNextNavigationId++, screenClass, System.nanoTime()));
+		}
+	}
+
+	@Override
+	public void onCommandExecutionStarted(@NonNull Command command) {
+		removeExpiredNavigations();
+		PendingNavigation navigation = mQueuedNavigations.get(command);
+		if (navigation != null) {
+			navigation.mExecutionStartTime = System.nanoTime();
+			mAwaitingNavigations.put(navigation.mScreenClass, navigation);    // fragments are created during command execution
+		}
+	}
+
+	@Override
+	public void onCommandExecuted(@NonNull Command command) {
+		PendingNavigation navigation = mQueuedNavigations.remove(command);
+		if (navigation == null) {
+			return;
+		}
+
+		navigation.mExecutionEndTime = System.nanoTime();
+		boolean createdSynchronously = mNavigationFactory.getDestination(navigation.mScreenClass) instanceof FragmentDestination;
+		if (createdSynchronously && mAwaitingNavigations.get(navigation.mScreenClass) == navigation) {
+			mAwaitingNavigations.remove(navigation.mScreenClass);    // no fragment has been created, for example a screen has been delivered to a current one
+		}
+	}
+
+	@Override
+	public void onCommandFailed(@NonNull Command command, @NonNull Exception exception) {
+		PendingNavigation navigation = mQueuedNavigations.get(command);
+		if (navigation != null && mAwaitingNavigations.get(navigation.mScreenClass) == navigation) {
+			mAwaitingNavigations.remove(navigation.mScreenClass);
+		}
+		mQueuedNavigations.clear();    // the navigator discards all queued commands
+	}
+
+	@Override
+	public void onActivityCreated(Activity activity, Bundle savedInstanceState) {
+		if (activity instanceof FragmentActivity) {
+			((FragmentActivity) activity).getSupportFragmentManager().registerFragmentLifecycleCallbacks(mFragmentCallbacks, true);
+		}
+
+		if (savedInstanceState == null) {
+			onDestinationCreationStarted(activity, mNavigationFactory.getScreenClass(activity));
+		}
+	}
+
+	@Override
+	public void onActivityStarted(Activity activity) {
+		PendingNavigation navigation = mCreatingDestinations.remove(activity);
+		if (navigation != null) {
+			onViewCreated(activity.getWindow().getDecorView(), navigation);
+		}
+	}
+
+	@Override
+	public void onActivityResumed(Activity activity) {
+	}
+
+	@Override
+	public void onActivityPaused(Activity activity) {
+	}
+
+	@Override
+	public void onActivityStopped(Activity activity) {
+	}
+
+	@Override
+	public void onActivitySaveInstanceState(Activity activity, Bundle outState) {
+	}
+
+	@Override
+	public void onActivityDestroyed(Activity activity) {
+		mCreatingDestinations.remove(activity);
+	}
+
+	@Nullable
+	private Class<? extends Screen> getDestinationScreenClass(@NonNull Command command) {
+		if (command instanceof ForwardCommand) {
+			return ((ForwardCommand) command).getScreen().getClass();
+		} else if (command instanceof ReplaceCommand) {
+			return ((ReplaceCommand) command).getScreen().getClass();
+		} else if (command instanceof ResetCommand) {
+			return ((ResetCommand) command).getScreen().getClass();
+		} else {
+			return null;
+		}
+	}
+
+	private void onDestinationCreationStarted(@NonNull Object destination, @Nullable Class<? extends Screen> screenClass) {
+		PendingNavigation navigation = screenClass != null ? mAwaitingNavigations.remove(screenClass) : null;
+		if (navigation != null && !navigation.isExpired(System.nanoTime())) {
+			navigation.mCreationStartTime = System.nanoTime();
+			mCreatingDestinations.put(destination, navigation);
+		}
+	}
+
+	private void removeExpiredNavigations() {
+		long time = System.nanoTime();
+		Iterator<PendingNavigation> iterator = mAwaitingNavigations.values().iterator();
+		while (iterator.hasNext()) {
+			if (iterator.next().isExpired(time)) {
+				iterator.remove();
+			}
+		}
+	}
+
+	private void onViewCreated(@NonNull View view, @NonNull PendingNavigation navigation) {
+		navigation.mViewCreationTime = System.nanoTime();
+		if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.JELLY_BEAN) {
+			new FirstDrawListener(view, navigation).attach();
+		}
+	}
+
+	private void onFirstDraw(@NonNull PendingNavigation navigation) {
+		long firstDrawTime = System.nanoTime();
+		long commandEndTime = Math.min(navigation.mExecutionEndTime, navigation.mCreationStartTime);    // a fragment is created inside command execution
+		mNavigationTimingListener.onNavigationTiming(new NavigationTiming(navigation.mNavigationId,
+		                                                                  navigation.mScreenClass,
+		                                                                  navigation.mExecutionStartTime - navigation.mQueueTime,
+		                                                                  commandEndTime - navigation.mExecutionStartTime,
+		                                                                  navigation.mViewCreationTime - commandEndTime,
+		                                                                  firstDrawTime - navigation.mViewCreationTime));
+	}
+
+	private class FragmentCallbacks extends FragmentManager.FragmentLifecycleCallbacks {
+		@Override
+		public void onFragmentPreCreated(@NonNull FragmentManager fm, @NonNull Fragment f, @Nullable Bundle savedInstanceState) {
+			if (savedInstanceState == null) {
+				onDestinationCreationStarted(f, mNavigationFactory.getScreenClass(f));
+			}
+		}
+
+		@Override
+		public void onFragmentViewCreated(@NonNull FragmentManager fm, @NonNull Fragment f, @NonNull View v, @Nullable Bundle savedInstanceState) {
+			PendingNavigation navigation = mCreatingDestinations.remove(f);
+			if (navigation != null) {
+				onViewCreated(v, navigation);
+			}
+		}
+
+		@Override
+		public void onFragmentDestroyed(@NonNull FragmentManager fm, @NonNull Fragment f) {
+			mCreatingDestinations.remove(f);
+		}
+	}
+
+	@TargetApi(Build.VERSION_CODES.JELLY_BEAN)
+	private class FirstDrawListener implements ViewTreeObserver.OnDrawListener, Runnable {
+		private View mView;
+		private PendingNavigation mNavigation;
+		private boolean mDrawn;
+
+		FirstDrawListener(@NonNull View view, @NonNull PendingNavigation navigation) {
+			mView = view;
+			mNavigation = navigation;
+		}
+
+		void attach() {
+			mView.getViewTreeObserver().addOnDrawListener(this);
+		}
+
+		@Override
+		public void onDraw() {
+			if (mDrawn) {
+				return;
+			}
+			mDrawn = true;
+			onFirstDraw(mNavigation);
+			mView.post(this);    // a draw listener can't be removed during dispatching
+		}
+
+		@Override
+		public void run() {
+			mView.getViewTreeObserver().removeOnDrawListener(this);
+		}
+	}
+
+	private static class PendingNavigation {
+		long mNavigationId;
+		Class<? extends Screen> mScreenClass;
+		long mQueueTime;
+		long mExecutionStartTime;
+		long mExecutionEndTime = Long.MAX_VALUE;
+		long mCreationStartTime;
+		long mViewCreationTime;
+
+		PendingNavigation(long navigationId, @NonNull Class<? extends Screen> screenClass, long queueTime) {
+			mNavigationId = navigationId;
+			mScreenClass = screenClass;
+			mQueueTime = queueTime;
+		}
+
+		boolean isExpired(long time) {
+			return time - mExecutionStartTime > DESTINATION_CREATION_TIMEOUT;
+		}
+	}
+}
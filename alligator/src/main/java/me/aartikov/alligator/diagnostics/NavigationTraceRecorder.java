@@ -0,0 +1,180 @@
+package me.aartikov.alligator.diagnostics;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import me.aartikov.alligator.FlowScreen;
+import me.aartikov.alligator.Screen;
+import me.aartikov.alligator.commands.BackCommand;
+import me.aartikov.alligator.commands.BackToCommand;
+import me.aartikov.alligator.commands.BaseCommand;
+import me.aartikov.alligator.commands.Command;
+import me.aartikov.alligator.commands.FinishCommand;
+import me.aartikov.alligator.commands.ForwardCommand;
+import me.aartikov.alligator.commands.ReplaceCommand;
+import me.aartikov.alligator.commands.ResetCommand;
+import me.aartikov.alligator.commands.SetBackStackCommand;
+import me.aartikov.alligator.commands.SwitchToCommand;
+import me.aartikov.alligator.core.DestinationKind;
+import me.aartikov.alligator.core.stress.StressCommand;
+import me.aartikov.alligator.core.trace.NavigationTrace;
+import me.aartikov.alligator.listeners.DefaultCommandExecutionListener;
+import me.aartikov.alligator.navigationfactories.NavigationFactory;
+import me.aartikov.alligator.navigationfactories.NavigationFactoryDestinationResolver;
+
+
+/**
+ * Records executed commands to a {@link NavigationTrace} that can be replayed with {@link me.aartikov.alligator.core.trace.NavigationTraceReplayer}. Only command types, screen classes and timings
+ * are recorded, so a trace doesn't contain user data. Custom commands are ignored. Register the recorder with
+ * {@link me.aartikov.alligator.AndroidNavigator#addCommandExecutionListener}.
+ * <p>
+ * If a {@link NavigationFactory} is passed, destination kinds of screens are recorded too, so a trace can be replayed with
+ * {@link me.aartikov.alligator.core.trace.StandInTraceScreenFactory} without the app's screen classes.
+ * <p>
+ * Recording stops when a trace reaches a maximal size, so the recorder can be left enabled in production.
+ */
+public class NavigationTraceRecorder extends DefaultCommandExecutionListener {
+	private static final int DEFAULT_MAX_SIZE = 1000;
+
+	private int mMaxSize;
+	@Nullable
+	private NavigationFactoryDestinationResolver mDestinationResolver;
+	private NavigationTrace mTrace = new NavigationTrace();
+	private long mStartTime = -1;
+	private long mExecutionStartTime;
+
+	public NavigationTraceRecorder() {
+		this(DEFAULT_MAX_SIZE);
+	}
+
+	/**
+	 * @param maxSize maximal number of recorded commands
+	 */
+	public NavigationTraceRecorder(int maxSize) {
+		this(maxSize, null);
+	}
+
+	/**
+	 * @param maxSize           maximal number of recorded commands
+	 * @param navigationFactory navigation factory used to record destination kinds of screens, can be {@code null}
+	 */
+	public NavigationTraceRecorder(int maxSize, @Nullable NavigationFactory navigationFactory) {
+		if (maxSize <= 0) {
+			throw new IllegalArgumentException("Max size should be positive.");
+		}
+		mMaxSize = maxSize;
+		mDestinationResolver = navigationFactory != null ? new NavigationFactoryDestinationResolver(navigationFactory) : null;
+	}
+
+	/**
+	 * Returns recorded commands. The recorder continues to record to its own trace.
+	 *
+	 * @return copy of a recorded trace
+	 */
+	@NonNull
+	public synchronized NavigationTrace getTrace() {
+		return new NavigationTrace(mTrace);
+	}
+
+	public synchronized boolean isFull() {
+		return mTrace.getSize() >= mMaxSize;
+	}
+
+	/**
+	 * Removes recorded commands and starts a new trace.
+	 */
+	public synchronized void clear() {
+		mTrace = new NavigationTrace();
+		mStartTime = -1;
+	}
+
+	@Override
+	public void onCommandExecutionStarted(@NonNull Command command) {
+		mExecutionStartTime = System.nanoTime();
+	}
+
+	@Override
+	public void onCommandExecuted(@NonNull Command command) {
+		record(command, false);
+	}
+
+	@Override
+	public void onCommandFailed(@NonNull Command command, @NonNull Exception exception) {
+		record(command, true);
+	}
+
+	private synchronized void record(@NonNull Command command, boolean failed) {
+		long duration = System.nanoTime() - mExecutionStartTime;
+		StressCommand.Type commandType = getCommandType(command);
+		if (commandType == null || mTrace.getSize() >= mMaxSize) {
+			return;
+		}
+
+		if (mStartTime == -1) {
+			mStartTime = mExecutionStartTime;
+		}
+		long timeOffset = (mExecutionStartTime - mStartTime) / 1_000_000;
+		List<Class<? extends Screen>> screenClasses = getScreenClasses(command);
+		List<String> screenClassNames = new ArrayList<>();
+		for (Class<? extends Screen> screenClass : screenClasses) {
+			screenClassNames.add(screenClass.getName());
+			recordDestinationKind(screenClass);
+		}
+		mTrace.add(new NavigationTrace.Entry(commandType, screenClassNames, timeOffset, duration, failed));
+	}
+
+	private void recordDestinationKind(@NonNull Class<? extends Screen> screenClass) {
+		if (mDestinationResolver == null || mTrace.getDestinationKind(screenClass.getName()) != null) {
+			return;
+		}
+
+		DestinationKind destinationKind = mDestinationResolver.getDestinationKind(screenClass);
+		if (destinationKind != null) {
+			mTrace.setDestinationKind(screenClass.getName(), destinationKind, FlowScreen.class.isAssignableFrom(screenClass));
+		}
+	}
+
+	@Nullable
+	private static StressCommand.Type getCommandType(@NonNull Command command) {
+		if (command instanceof ForwardCommand) {
+			return StressCommand.Type.GO_FORWARD;
+		} else if (command instanceof BackCommand) {
+			return StressCommand.Type.GO_BACK;
+		} else if (command instanceof BackToCommand) {
+			return StressCommand.Type.GO_BACK_TO;
+		} else if (command instanceof ReplaceCommand) {
+			return StressCommand.Type.REPLACE;
+		} else if (command instanceof ResetCommand) {
+			return StressCommand.Type.RESET;
+		} else if (command instanceof SetBackStackCommand) {
+			return StressCommand.Type.SET_BACK_STACK;
+		} else if (command instanceof FinishCommand) {
+			return ((FinishCommand) command).isForTopLevel() ? StressCommand.Type.FINISH_TOP_LEVEL : StressCommand.Type.FINISH;
+		} else if (command instanceof SwitchToCommand) {
+			return StressCommand.Type.SWITCH_TO;
+		} else {
+			return null;
+		}
+	}
+
+	@NonNull
+	private static List<Class<? extends Screen>> getScreenClasses(@NonNull Command command) {
+		if (command instanceof SetBackStackCommand) {
+			List<Class<? extends Screen>> screenClasses = new ArrayList<>();
+			for (Screen screen : ((SetBackStackCommand) command).getScreens()) {
+				screenClasses.add(screen.getClass());
+			}
+			return screenClasses;
+		} else if (command instanceof SwitchToCommand) {
+			return Collections.<Class<? extends Screen>>singletonList(((SwitchToCommand) command).getScreen().getClass());
+		} else if (command instanceof BaseCommand) {
+			return Collections.<Class<? extends Screen>>singletonList(((BaseCommand) command).getScreenClass());
+		} else {
+			return Collections.emptyList();
+		}
+	}
+}
@@ -0,0 +1,20 @@
+package me.aartikov.alligator.diagnostics;
+
+import androidx.annotation.NonNull;
+
+import me.aartikov.alligator.Screen;
+
+
+/**
+ * Interface for listening of {@link SavedStateSizeTracker} warnings.
+ */
+public interface SavedStateSizeListener {
+	/**
+	 * Is called when parcelled state of a screen is bigger than a warn threshold.
+	 *
+	 * @param screenClass screen class
+	 * @param stateType   type of a measured state
+	 * @param size        size in bytes
+	 */
+	void onWarnThresholdExceeded(@NonNull Class<? extends Screen> screenClass, @NonNull SavedStateSizeTracker.StateType stateType, int size);
+}
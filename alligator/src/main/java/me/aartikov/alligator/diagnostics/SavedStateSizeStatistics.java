@@ -0,0 +1,61 @@
+package me.aartikov.alligator.diagnostics;
+
+import androidx.annotation.NonNull;
+
+import me.aartikov.alligator.Screen;
+
+
+/**
+ * Parcelled state sizes of a single screen class collected by {@link SavedStateSizeTracker}.
+ */
+public class SavedStateSizeStatistics {
+	private Class<? extends Screen> mScreenClass;
+	private SavedStateSizeTracker.StateType mStateType;
+	private int mCount;
+	private int mLastSize;
+	private int mMaxSize;
+	private long mTotalSize;
+
+	SavedStateSizeStatistics(@NonNull Class<? extends Screen> screenClass, @NonNull SavedStateSizeTracker.StateType stateType) {
+		mScreenClass = screenClass;
+		mStateType = stateType;
+	}
+
+	void add(int size) {
+		mCount++;
+		mLastSize = size;
+		mMaxSize = Math.max(mMaxSize, size);
+		mTotalSize += size;
+	}
+
+	@NonNull
+	public Class<? extends Screen> getScreenClass() {
+		return mScreenClass;
+	}
+
+	@NonNull
+	public SavedStateSizeTracker.StateType getStateType() {
+		return mStateType;
+	}
+
+	public int getCount() {
+		return mCount;
+	}
+
+	public int getLastSize() {
+		return mLastSize;
+	}
+
+	public int getMaxSize() {
+		return mMaxSize;
+	}
+
+	public int getAverageSize() {
+		return mCount == 0 ? 0 : (int) (mTotalSize / mCount);
+	}
+
+	@Override
+	public String toString() {
+		return mScreenClass.getSimpleName() + " " + mStateType + ": count=" + mCount + ", last=" + mLastSize + ", max=" + mMaxSize + ", average=" + getAverageSize();
+	}
+}
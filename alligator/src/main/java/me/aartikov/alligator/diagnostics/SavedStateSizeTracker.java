@@ -0,0 +1,266 @@
+package me.aartikov.alligator.diagnostics;
+
+import android.app.Activity;
+import android.app.Application;
+import android.content.Intent;
+import android.os.Build;
+import android.os.Bundle;
+import android.os.Handler;
+import android.os.Looper;
+import android.os.Parcel;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.fragment.app.Fragment;
+import androidx.fragment.app.FragmentActivity;
+import androidx.fragment.app.FragmentManager;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import me.aartikov.alligator.Screen;
+import me.aartikov.alligator.navigationfactories.NavigationFactory;
+
+
+/**
+ * Measures parcelled sizes of screen arguments and saved states to find screens that can cause {@code TransactionTooLargeException}.
+ * <p>
+ * Arguments are measured when a screen is created: intent of an activity and arguments of a fragment. Saved states of fragments are measured in
+ * {@code onSaveInstanceState}. A saved state of an activity is measured after the whole activity has been saved, so it includes states of fragments and
+ * of {@code SavedStateRegistry}. It is measured when an activity is restored too. Sizes are grouped by screen class. Register the tracker with {@link Application#registerActivityLifecycleCallbacks}.
+ * Measuring requires parcelling, so the tracker is intended for debug builds and test farms.
+ */
+public class SavedStateSizeTracker implements Application.ActivityLifecycleCallbacks {
+	private static final int DEFAULT_WARN_THRESHOLD = 50 * 1024;
+
+	/**
+	 * Type of a measured state.
+	 */
+	public enum StateType {
+		/**
+		 * Intent of an activity or arguments of a fragment.
+		 */
+		ARGUMENTS,
+
+		/**
+		 * Bundle filled in {@code onSaveInstanceState}. For an activity it is measured after saving has been completed, so it contains states of its fragments.
+		 * For a fragment it is measured together with its arguments.
+		 */
+		SAVED_STATE
+	}
+
+	private NavigationFactory mNavigationFactory;
+	private SavedStateSizeListener mListener;
+	private int mWarnThreshold = DEFAULT_WARN_THRESHOLD;
+	private int mFailThreshold;
+	private Map<Class<? extends Screen>, SavedStateSizeStatistics[]> mStatistics = new HashMap<>();
+	private Map<Activity, Integer> mActivitySavedStateSizes = new HashMap<>();
+	private Map<Activity, Bundle> mPendingSavedStates = new HashMap<>();
+	private Handler mHandler = new Handler(Looper.getMainLooper());
+	private FragmentCallbacks mFragmentCallbacks = new FragmentCallbacks();
+
+	public SavedStateSizeTracker(@NonNull NavigationFactory navigationFactory, @NonNull SavedStateSizeListener listener) {
+		mNavigationFactory = navigationFactory;
+		mListener = listener;
+	}
+
+	/**
+	 * Sets a size after which {@link SavedStateSizeListener} is called. By default it is 50 KB.
+	 *
+	 * @param warnThreshold size in bytes
+	 */
+	public void setWarnThreshold(int warnThreshold) {
+		mWarnThreshold = warnThreshold;
+	}
+
+	/**
+	 * Sets a size after which {@link IllegalStateException} is thrown. By default there is no fail threshold.
+	 *
+	 * @param failThreshold size in bytes or 0 to disable failing
+	 */
+	public void setFailThreshold(int failThreshold) {
+		mFailThreshold = failThreshold;
+	}
+
+	/**
+	 * Returns collected statistics for all measured screens.
+	 *
+	 * @return statistics grouped by screen class and state type
+	 */
+	@NonNull
+	public List<SavedStateSizeStatistics> getStatistics() {
+		List<SavedStateSizeStatistics> result = new ArrayList<>();
+		for (SavedStateSizeStatistics[] statistics : mStatistics.values()) {
+			for (SavedStateSizeStatistics item : statistics) {
+				if (item != null) {
+					result.add(item);
+				}
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * Returns a total size of the last saved states of all created activities. Activity saved states are measured after saving has been completed,
+	 * so they include states of fragments.
+	 *
+	 * @return size in bytes
+	 */
+	public int getTotalSavedStateSize() {
+		int totalSize = 0;
+		for (int size : mActivitySavedStateSizes.values()) {
+			totalSize += size;
+		}
+		return totalSize;
+	}
+
+	@Override
+	public void onActivityCreated(Activity activity, Bundle savedInstanceState) {
+		if (activity instanceof FragmentActivity) {
+			((FragmentActivity) activity).getSupportFragmentManager().registerFragmentLifecycleCallbacks(mFragmentCallbacks, true);
+		}
+
+		Class<? extends Screen> screenClass = mNavigationFactory.getScreenClass(activity);
+		if (screenClass == null) {
+			return;
+		}
+
+		if (savedInstanceState == null) {
+			onSizeMeasured(screenClass, StateType.ARGUMENTS, getParcelledSize(activity.getIntent()));
+		} else {
+			int size = getParcelledSize(savedInstanceState);
+			mActivitySavedStateSizes.put(activity, size);
+			onSizeMeasured(screenClass, StateType.SAVED_STATE, size);
+		}
+	}
+
+	@Override
+	public void onActivityStarted(Activity activity) {
+	}
+
+	@Override
+	public void onActivityResumed(Activity activity) {
+	}
+
+	@Override
+	public void onActivityPaused(Activity activity) {
+	}
+
+	@Override
+	public void onActivityStopped(Activity activity) {
+		measurePendingSavedState(activity);    // before Android P a state is saved before onStop
+	}
+
+	// The callback is dispatched from the beginning of FragmentActivity.onSaveInstanceState, before fragments and SavedStateRegistry are saved,
+	// so the bundle is kept and measured later.
+	@Override
+	public void onActivitySaveInstanceState(Activity activity, Bundle outState) {
+		if (Build.VERSION.SDK_INT >= 29 || mNavigationFactory.getScreenClass(activity) == null) {
+			return;    // measured in onActivityPostSaveInstanceState
+		}
+
+		mPendingSavedStates.put(activity, outState);
+		if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.P) {
+			final Activity savedActivity = activity;
+			mHandler.post(new Runnable() {
+				@Override
+				public void run() {
+					measurePendingSavedState(savedActivity);    // since Android P a state is saved after onStop
+				}
+			});
+		}
+	}
+
+	/**
+	 * Measures a saved state of an activity. It is a callback of {@link Application.ActivityLifecycleCallbacks} added in API 29.
+	 */
+	public void onActivityPostSaveInstanceState(@NonNull Activity activity, @NonNull Bundle outState) {
+		measureSavedState(activity, outState);
+	}
+
+	@Override
+	public void onActivityDestroyed(Activity activity) {
+		measurePendingSavedState(activity);
+		mActivitySavedStateSizes.remove(activity);
+	}
+
+	private void measurePendingSavedState(@NonNull Activity activity) {
+		Bundle savedState = mPendingSavedStates.remove(activity);
+		if (savedState != null) {
+			measureSavedState(activity, savedState);
+		}
+	}
+
+	private void measureSavedState(@NonNull Activity activity, @NonNull Bundle savedState) {
+		Class<? extends Screen> screenClass = mNavigationFactory.getScreenClass(activity);
+		if (screenClass != null) {
+			int size = getParcelledSize(savedState);
+			mActivitySavedStateSizes.put(activity, size);
+			onSizeMeasured(screenClass, StateType.SAVED_STATE, size);
+		}
+	}
+
+	private void onSizeMeasured(@NonNull Class<? extends Screen> screenClass, @NonNull StateType stateType, int size) {
+		SavedStateSizeStatistics[] statistics = mStatistics.get(screenClass);
+		if (statistics == null) {
+			statistics = new SavedStateSizeStatistics[StateType.values().length];
+			mStatistics.put(screenClass, statistics);
+		}
+		if (statistics[stateType.ordinal()] == null) {
+			statistics[stateType.ordinal()] = new SavedStateSizeStatistics(screenClass, stateType);
+		}
+		statistics[stateType.ordinal()].add(size);
+
+		if (size > mWarnThreshold) {
+			mListener.onWarnThresholdExceeded(screenClass, stateType, size);
+		}
+
+		if (mFailThreshold > 0 && size > mFailThreshold) {
+			throw new IllegalStateException(stateType + " of screen " + screenClass.getSimpleName() + " takes " + size + " bytes. The limit is " + mFailThreshold + " bytes.");
+		}
+	}
+
+	private static int getParcelledSize(@Nullable Bundle bundle) {
+		if (bundle == null) {
+			return 0;
+		}
+
+		Parcel parcel = Parcel.obtain();
+		try {
+			parcel.writeBundle(bundle);
+			return parcel.dataSize();
+		} finally {
+			parcel.recycle();
+		}
+	}
+
+	private static int getParcelledSize(@NonNull Intent intent) {
+		Parcel parcel = Parcel.obtain();
+		try {
+			intent.writeToParcel(parcel, 0);
+			return parcel.dataSize();
+		} finally {
+			parcel.recycle();
+		}
+	}
+
+	private class FragmentCallbacks extends FragmentManager.FragmentLifecycleCallbacks {
+		@Override
+		public void onFragmentPreCreated(@NonNull FragmentManager fm, @NonNull Fragment f, @Nullable Bundle savedInstanceState) {
+			Class<? extends Screen> screenClass = mNavigationFactory.getScreenClass(f);
+			if (screenClass != null && savedInstanceState == null) {
+				onSizeMeasured(screenClass, StateType.ARGUMENTS, getParcelledSize(f.getArguments()));
+			}
+		}
+
+		@Override
+		public void onFragmentSaveInstanceState(@NonNull FragmentManager fm, @NonNull Fragment f, @NonNull Bundle outState) {
+			Class<? extends Screen> screenClass = mNavigationFactory.getScreenClass(f);
+			if (screenClass != null) {
+				onSizeMeasured(screenClass, StateType.SAVED_STATE, getParcelledSize(f.getArguments()) + getParcelledSize(outState));
+			}
+		}
+	}
+}
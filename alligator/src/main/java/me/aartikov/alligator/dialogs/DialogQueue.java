@@ -0,0 +1,235 @@
+package me.aartikov.alligator.dialogs;
+
+import android.app.Activity;
+import android.app.Application;
+import android.os.Bundle;
+import android.os.Handler;
+import android.os.Looper;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.fragment.app.DialogFragment;
+import androidx.fragment.app.Fragment;
+import androidx.fragment.app.FragmentActivity;
+import androidx.fragment.app.FragmentManager;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import me.aartikov.alligator.Navigator;
+import me.aartikov.alligator.Screen;
+import me.aartikov.alligator.ScreenResolver;
+import me.aartikov.alligator.commands.Command;
+import me.aartikov.alligator.commands.ForwardCommand;
+import me.aartikov.alligator.listeners.DefaultCommandExecutionListener;
+import me.aartikov.alligator.navigationfactories.NavigationFactory;
+
+
+/**
+ * Shows dialog screens one at a time. The next dialog is shown with {@code goForward} when the current one is dismissed, either by navigation or by a user.
+ * Dialogs with a higher priority are shown first, dialogs with the same priority are shown in order of adding.
+ * Adding a screen equal to a shown or a queued one is ignored, so identical dialogs are coalesced.
+ * <p>
+ * Register the queue with {@link Application#registerActivityLifecycleCallbacks}, so it can find out when dialogs are dismissed. Register it with
+ * {@link me.aartikov.alligator.AndroidNavigator#addCommandExecutionListener} too, so a dialog whose command has failed or has been discarded doesn't block the queue.
+ * Should be used from the main thread only.
+ */
+public class DialogQueue extends DefaultCommandExecutionListener implements Application.ActivityLifecycleCallbacks {
+	private Navigator mNavigator;
+	private NavigationFactory mNavigationFactory;
+	private ScreenResolver mScreenResolver;
+	private List<Entry> mEntries = new ArrayList<>();    // sorted by priority in descending order
+	@Nullable
+	private Screen mCurrentScreen;
+	@Nullable
+	private Command mCurrentCommand;    // command showing the current screen until it is executed
+	@Nullable
+	private String mCurrentDialogTag;    // tag of a dialog fragment showing the current screen, it is kept when the dialog is recreated
+	private FragmentCallbacks mFragmentCallbacks = new FragmentCallbacks();
+	private Handler mHandler = new Handler(Looper.getMainLooper());
+	private Runnable mShowNextRunnable = new Runnable() {
+		@Override
+		public void run() {
+			showNext();
+		}
+	};
+
+	public DialogQueue(@NonNull Navigator navigator, @NonNull NavigationFactory navigationFactory) {
+		mNavigator = navigator;
+		mNavigationFactory = navigationFactory;
+		mScreenResolver = new ScreenResolver(navigationFactory);
+	}
+
+	/**
+	 * Adds a dialog screen with zero priority.
+	 *
+	 * @param screen screen represented by a dialog fragment
+	 */
+	public void add(@NonNull Screen screen) {
+		add(screen, 0);
+	}
+
+	/**
+	 * Adds a dialog screen. If there is no dialog shown by the queue the screen is shown immediately.
+	 * If an equal screen is already queued it gets the higher of two priorities.
+	 *
+	 * @param screen   screen represented by a dialog fragment
+	 * @param priority priority of the screen
+	 */
+	public void add(@NonNull Screen screen, int priority) {
+		if (screen.equals(mCurrentScreen)) {
+			return;
+		}
+
+		for (int i = 0; i < mEntries.size(); i++) {
+			Entry entry = mEntries.get(i);
+			if (entry.mScreen.equals(screen)) {
+				if (entry.mPriority >= priority) {
+					return;
+				}
+				mEntries.remove(i);
+				break;
+			}
+		}
+
+		int index = 0;
+		while (index < mEntries.size() && mEntries.get(index).mPriority >= priority) {
+			index++;
+		}
+		mEntries.add(index, new Entry(screen, priority));
+		showNext();
+	}
+
+	/**
+	 * Removes all queued screens. A shown dialog is not dismissed.
+	 */
+	public void clear() {
+		mEntries.clear();
+	}
+
+	/**
+	 * Returns a number of screens waiting to be shown.
+	 *
+	 * @return number of queued screens
+	 */
+	public int getSize() {
+		return mEntries.size();
+	}
+
+	@Nullable
+	public Screen getCurrentScreen() {
+		return mCurrentScreen;
+	}
+
+	@Override
+	public void onCommandQueued(@NonNull Command command) {
+		if (mCurrentScreen != null && mCurrentCommand == null && command instanceof ForwardCommand && ((ForwardCommand) command).getScreen() == mCurrentScreen) {
+			mCurrentCommand = command;
+		}
+	}
+
+	@Override
+	public void onCommandExecuted(@NonNull Command command) {
+		if (command == mCurrentCommand) {
+			mCurrentCommand = null;    // now the dialog is awaited
+		}
+	}
+
+	@Override
+	public void onCommandFailed(@NonNull Command command, @NonNull Exception exception) {
+		if (mCurrentCommand != null) {
+			onDialogDismissed();    // the command has failed or has been discarded together with the queue, so the dialog will never be shown
+		}
+	}
+
+	@Override
+	public void onActivityCreated(Activity activity, Bundle savedInstanceState) {
+		if (activity instanceof FragmentActivity) {
+			((FragmentActivity) activity).getSupportFragmentManager().registerFragmentLifecycleCallbacks(mFragmentCallbacks, false);
+		}
+	}
+
+	@Override
+	public void onActivityStarted(Activity activity) {
+	}
+
+	@Override
+	public void onActivityResumed(Activity activity) {
+	}
+
+	@Override
+	public void onActivityPaused(Activity activity) {
+	}
+
+	@Override
+	public void onActivityStopped(Activity activity) {
+	}
+
+	@Override
+	public void onActivitySaveInstanceState(Activity activity, Bundle outState) {
+	}
+
+	@Override
+	public void onActivityDestroyed(Activity activity) {
+	}
+
+	private void showNext() {
+		if (mCurrentScreen != null || mEntries.isEmpty()) {
+			return;
+		}
+
+		mCurrentScreen = mEntries.remove(0).mScreen;
+		mNavigator.goForward(mCurrentScreen);    // the navigator queues the command if there is no bound navigation context
+	}
+
+	private void onDialogDismissed() {
+		mCurrentScreen = null;
+		mCurrentCommand = null;
+		mCurrentDialogTag = null;
+		mHandler.post(mShowNextRunnable);    // a fragment manager is executing a transaction now, so the next dialog is shown later
+	}
+
+	private boolean isCurrentScreenDialog(@NonNull DialogFragment dialogFragment) {
+		if (mCurrentScreen == null || mNavigationFactory.getScreenClass(dialogFragment) != mCurrentScreen.getClass()) {
+			return false;
+		}
+
+		try {
+			return mCurrentScreen.equals(mScreenResolver.getScreen(dialogFragment));
+		} catch (IllegalArgumentException e) {
+			return true;    // screen can't be restored from the dialog, so the class is enough
+		}
+	}
+
+	private class FragmentCallbacks extends FragmentManager.FragmentLifecycleCallbacks {
+		@Override
+		public void onFragmentCreated(@NonNull FragmentManager fm, @NonNull Fragment f, @Nullable Bundle savedInstanceState) {
+			if (mCurrentDialogTag == null && f instanceof DialogFragment && f.getTag() != null && isCurrentScreenDialog((DialogFragment) f)) {
+				mCurrentDialogTag = f.getTag();
+			}
+		}
+
+		@Override
+		public void onFragmentDestroyed(@NonNull FragmentManager fm, @NonNull Fragment f) {
+			if (mCurrentDialogTag == null || !(f instanceof DialogFragment) || !mCurrentDialogTag.equals(f.getTag())) {
+				return;
+			}
+
+			// A dialog destroyed because of a configuration change is restored, so it is not dismissed.
+			Activity activity = f.getActivity();
+			if (f.isRemoving() || (activity != null && activity.isFinishing())) {
+				onDialogDismissed();
+			}
+		}
+	}
+
+	private static class Entry {
+		private Screen mScreen;
+		private int mPriority;
+
+		Entry(@NonNull Screen screen, int priority) {
+			mScreen = screen;
+			mPriority = priority;
+		}
+	}
+}
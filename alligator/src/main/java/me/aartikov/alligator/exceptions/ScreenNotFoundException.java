@@ -6,7 +6,7 @@ import androidx.annotation.NonNull;
 import me.aartikov.alligator.Screen;
 
 /**
- * Exception thrown when a screen is not found in {@link me.aartikov.alligator.helpers.FragmentStack}.
+ * Exception thrown when a screen is not found in a back stack.
  */
 public class ScreenNotFoundException extends NavigationException {
 	private Class<? extends Screen> mScreenClass;
@@ -0,0 +1,108 @@
+package me.aartikov.alligator.helpers;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.fragment.app.DialogFragment;
+import androidx.fragment.app.Fragment;
+import androidx.fragment.app.FragmentManager;
+import androidx.fragment.app.FragmentTransaction;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SortedMap;
+import java.util.TreeMap;
+
+import me.aartikov.alligator.animations.DialogAnimation;
+
+
+/**
+ * Stack of dialog fragments. Every dialog fragment has its own indexed tag, so several dialogs can be tracked at once.
+ */
+public class DialogFragmentStack {
+	private static final String TAG_PREFIX = "me.aartikov.alligator.DIALOG_FRAGMENT_STACK_TAG_";
+	private FragmentManager mFragmentManager;
+
+	public DialogFragmentStack(@NonNull FragmentManager fragmentManager) {
+		mFragmentManager = fragmentManager;
+	}
+
+	/**
+	 * Returns shown dialog fragments ordered from the bottom to the top. A dialog fragment dismissed by a user doesn't break the order of the others.
+	 */
+	@NonNull
+	public List<DialogFragment> getDialogFragments() {
+		SortedMap<Integer, DialogFragment> dialogFragments = new TreeMap<>();
+		for (Fragment fragment : mFragmentManager.getFragments()) {
+			String tag = fragment.getTag();
+			if (fragment instanceof DialogFragment && !fragment.isRemoving() && tag != null && tag.startsWith(TAG_PREFIX)) {
+				dialogFragments.put(getIndex((DialogFragment) fragment), (DialogFragment) fragment);
+			}
+		}
+		return new ArrayList<>(dialogFragments.values());
+	}
+
+	@Nullable
+	public DialogFragment getDialogFragment() {
+		List<DialogFragment> dialogFragments = getDialogFragments();
+		return dialogFragments.isEmpty() ? null : dialogFragments.get(dialogFragments.size() - 1);
+	}
+
+	public boolean isDialogVisible() {
+		return getDialogFragment() != null;
+	}
+
+	public void showDialog(@NonNull DialogFragment dialogFragment, @NonNull DialogAnimation animation) {
+		replaceFrom(getDialogFragments().size(), dialogFragment, animation);
+	}
+
+	public void hideDialog() {
+		List<DialogFragment> dialogFragments = getDialogFragments();
+		if (dialogFragments.isEmpty()) {
+			throw new IllegalStateException("Dialog is not visible.");
+		}
+
+		dialogFragments.get(dialogFragments.size() - 1).dismiss();
+		mFragmentManager.executePendingTransactions();
+	}
+
+	/**
+	 * Removes a top dialog fragment (if any) and shows a new one in a single transaction.
+	 */
+	public void replaceDialog(@NonNull DialogFragment dialogFragment, @NonNull DialogAnimation animation) {
+		replaceFrom(Math.max(getDialogFragments().size() - 1, 0), dialogFragment, animation);
+	}
+
+	/**
+	 * Removes all dialog fragments and shows a new one in a single transaction.
+	 */
+	public void resetDialogs(@NonNull DialogFragment dialogFragment, @NonNull DialogAnimation animation) {
+		replaceFrom(0, dialogFragment, animation);
+	}
+
+	private void replaceFrom(int index, @NonNull DialogFragment dialogFragment, @NonNull DialogAnimation animation) {
+		List<DialogFragment> dialogFragments = getDialogFragments();
+		int tagIndex = index < dialogFragments.size() ? getIndex(dialogFragments.get(index)) : getNextIndex(dialogFragments);
+
+		FragmentTransaction transaction = mFragmentManager.beginTransaction();
+		for (int i = index; i < dialogFragments.size(); i++) {
+			transaction.remove(dialogFragments.get(i));
+		}
+
+		animation.applyBeforeShowing(dialogFragment);
+		dialogFragment.show(transaction, getDialogFragmentTag(tagIndex));
+		mFragmentManager.executePendingTransactions();
+		animation.applyAfterShowing(dialogFragment);
+	}
+
+	private int getNextIndex(@NonNull List<DialogFragment> dialogFragments) {
+		return dialogFragments.isEmpty() ? 0 : getIndex(dialogFragments.get(dialogFragments.size() - 1)) + 1;
+	}
+
+	private static int getIndex(@NonNull DialogFragment dialogFragment) {
+		return Integer.parseInt(dialogFragment.getTag().substring(TAG_PREFIX.length()));
+	}
+
+	private static String getDialogFragmentTag(int index) {
+		return TAG_PREFIX + index;
+	}
+}
@@ -21,6 +21,10 @@ public class FragmentStack {
 	private int mContainerId;
 
 	public FragmentStack(@NonNull FragmentManager fragmentManager, int containerId) {
+		setContainer(fragmentManager, containerId);
+	}
+
+	public void setContainer(@NonNull FragmentManager fragmentManager, int containerId) {
 		if (containerId <= 0) {
 			throw new IllegalArgumentException("ContainerId is not set.");
 		}
@@ -164,6 +168,62 @@ public class FragmentStack {
 		}
 	}
 
+	/**
+	 * Keeps fragments with indices less than {@code index} and replaces all the others with {@code newFragments} in a single transaction.
+	 */
+	public void replaceFrom(int index, @NonNull List<Fragment> newFragments, @NonNull TransitionAnimation animation) {
+		List<Fragment> fragments = getFragments();
+		int count = fragments.size();
+		if (index < 0 || index > count) {
+			throw new IllegalArgumentException("Invalid index " + index + ".");
+		}
+
+		if (index == count && newFragments.isEmpty()) {
+			return; // nothing to do
+		}
+
+		Fragment currentFragment = count > 0 ? fragments.get(count - 1) : null;
+		Fragment enteringFragment;
+		if (!newFragments.isEmpty()) {
+			enteringFragment = newFragments.get(newFragments.size() - 1);
+		} else {
+			enteringFragment = index > 0 ? fragments.get(index - 1) : null;
+		}
+		boolean animated = currentFragment != null && enteringFragment != null;
+
+		FragmentTransaction transaction = mFragmentManager.beginTransaction();
+		if (animated) {
+			animation.applyBeforeFragmentTransactionExecuted(transaction, enteringFragment, currentFragment);
+		}
+
+		for (int i = index; i < count; i++) {
+			transaction.remove(fragments.get(i));
+		}
+
+		if (newFragments.isEmpty()) {
+			if (enteringFragment != null) {
+				transaction.attach(enteringFragment);
+			}
+		} else {
+			if (index == count && currentFragment != null) {
+				transaction.detach(currentFragment);
+			}
+
+			for (int i = 0; i < newFragments.size(); i++) {
+				Fragment fragment = newFragments.get(i);
+				transaction.add(mContainerId, fragment, getFragmentTag(index + i));
+				if (fragment != enteringFragment) {
+					transaction.detach(fragment);
+				}
+			}
+		}
+		transaction.commitNow();
+
+		if (animated) {
+			animation.applyAfterFragmentTransactionExecuted(enteringFragment, currentFragment);
+		}
+	}
+
 	private String getFragmentTag(int index) {
 		return TAG_PREFIX + mContainerId + "_" + index;
 	}
@@ -24,6 +24,7 @@ public class ScreenClassHelper {
 
 	private Map<Class<? extends Activity>, Class<? extends Screen>> mActivityMap = new HashMap<>();     // this map is used when there are no screen class information in an activity intent
 	private Map<Integer, Class<? extends Screen>> mRequestCodeMap = new LinkedHashMap<>();
+	private Map<String, Class<? extends Screen>> mScreenClasses = new HashMap<>();    // registered screen classes by name, avoids Class.forName for every screen class lookup
 
 	public void putScreenClass(@NonNull Intent intent, @NonNull Class<? extends Screen> screenClass) {
 		intent.putExtra(KEY_SCREEN_CLASS_NAME, screenClass.getName());
@@ -43,7 +44,11 @@ public class ScreenClassHelper {
 			arguments = new Bundle();
 			fragment.setArguments(arguments);
 		}
-		arguments.putString(KEY_SCREEN_CLASS_NAME, screenClass.getName());
+		putScreenClass(arguments, screenClass);
+	}
+
+	public void putScreenClass(@NonNull Bundle fragmentArguments, @NonNull Class<? extends Screen> screenClass) {
+		fragmentArguments.putString(KEY_SCREEN_CLASS_NAME, screenClass.getName());
 	}
 
 	@SuppressWarnings("unchecked")
@@ -79,6 +84,15 @@ public class ScreenClassHelper {
 		}
 	}
 
+	/**
+	 * Adds a registered screen class. Only registered classes are cached, so class names from intents and arguments can't grow the cache.
+	 *
+	 * @param screenClass screen class
+	 */
+	public void addScreenClass(@NonNull Class<? extends Screen> screenClass) {
+		mScreenClasses.put(screenClass.getName(), screenClass);
+	}
+
 	public void addRequestCode(int requestCode, @NonNull Class<? extends Screen> screenClass) {
 		if (!mRequestCodeMap.containsKey(requestCode)) {
 			mRequestCodeMap.put(requestCode, screenClass);
@@ -86,11 +100,16 @@ public class ScreenClassHelper {
 	}
 
 	@Nullable
-	private static Class getClassByName(@Nullable String className) {
+	private Class getClassByName(@Nullable String className) {
 		if (className == null || className.isEmpty()) {
 			return null;
 		}
 
+		Class<? extends Screen> screenClass = mScreenClasses.get(className);
+		if (screenClass != null) {
+			return screenClass;
+		}
+
 		try {
 			return Class.forName(className);
 		} catch (ClassNotFoundException e) {
@@ -0,0 +1,71 @@
+package me.aartikov.alligator.helpers;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+
+import me.aartikov.alligator.ScreenResult;
+
+
+/**
+ * Process-wide registry that keeps screen results passed between activities of the same process.
+ * <p>
+ * A result is stored by a token, and only the token is put to a result intent. Tokens contain a per-process prefix, so a token that survived process death is never resolved to a wrong result.
+ * The registry is bounded: when it is full the least recently stored result is dropped.
+ */
+public class ScreenResultRegistry {
+	private static final int MAX_SIZE = 16;
+	private static final String PROCESS_PREFIX = UUID.randomUUID().toString() + ":";
+
+	private static final Map<String, ScreenResult> sResults = new LinkedHashMap<String, ScreenResult>(MAX_SIZE, 0.75f, true) {
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<String, ScreenResult> eldest) {
+			return size() > MAX_SIZE;
+		}
+	};
+
+	private static long sNextId;
+
+	private ScreenResultRegistry() {
+	}
+
+	/**
+	 * Stores a screen result.
+	 *
+	 * @param screenResult screen result
+	 * @return token that can be used to take the result
+	 */
+	@NonNull
+	public static synchronized String put(@NonNull ScreenResult screenResult) {
+		String token = PROCESS_PREFIX + sNextId++;
+		sResults.put(token, screenResult);
+		return token;
+	}
+
+	/**
+	 * Removes a screen result from the registry and returns it.
+	 *
+	 * @param token token returned by {@link #put(ScreenResult)}
+	 * @return screen result or {@code null} if it can't be resolved (it was already taken, dropped, or stored in another process)
+	 */
+	@Nullable
+	public static synchronized ScreenResult take(@Nullable String token) {
+		if (token == null) {
+			return null;
+		}
+		return sResults.remove(token);
+	}
+
+	/**
+	 * Returns {@code true} if a token has been created in the current process.
+	 *
+	 * @param token token returned by {@link #put(ScreenResult)}
+	 * @return false for a token that survived process death
+	 */
+	public static boolean isFromThisProcess(@NonNull String token) {
+		return token.startsWith(PROCESS_PREFIX);
+	}
+}
@@ -0,0 +1,42 @@
+package me.aartikov.alligator.listeners;
+
+import androidx.annotation.NonNull;
+
+import me.aartikov.alligator.commands.Command;
+
+
+/**
+ * Interface for listening of command execution by {@link me.aartikov.alligator.AndroidNavigator}. All methods are called on the main thread.
+ * An exception thrown by a listener is logged and doesn't affect command execution or other listeners.
+ */
+public interface CommandExecutionListener {
+	/**
+	 * Is called when a command has been put to a command queue.
+	 *
+	 * @param command queued command
+	 */
+	void onCommandQueued(@NonNull Command command);
+
+	/**
+	 * Is called right before a command is executed.
+	 *
+	 * @param command command to be executed
+	 */
+	void onCommandExecutionStarted(@NonNull Command command);
+
+	/**
+	 * Is called when a command has been successfully executed.
+	 *
+	 * @param command executed command
+	 */
+	void onCommandExecuted(@NonNull Command command);
+
+	/**
+	 * Is called when a command has failed. Commands remaining in the queue are discarded after that.
+	 * A {@link NavigationException} is passed to a navigation error listener afterwards, any other exception is rethrown.
+	 *
+	 * @param command   failed command
+	 * @param exception exception thrown by the command
+	 */
+	void onCommandFailed(@NonNull Command command, @NonNull Exception exception);
+}
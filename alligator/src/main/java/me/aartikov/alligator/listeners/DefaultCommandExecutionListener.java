@@ -0,0 +1,27 @@
+package me.aartikov.alligator.listeners;
+
+import androidx.annotation.NonNull;
+
+import me.aartikov.alligator.commands.Command;
+
+
+/**
+ * Command execution listener that does nothing. Can be extended to override only required methods.
+ */
+public class DefaultCommandExecutionListener implements CommandExecutionListener {
+	@Override
+	public void onCommandQueued(@NonNull Command command) {
+	}
+
+	@Override
+	public void onCommandExecutionStarted(@NonNull Command command) {
+	}
+
+	@Override
+	public void onCommandExecuted(@NonNull Command command) {
+	}
+
+	@Override
+	public void onCommandFailed(@NonNull Command command, @NonNull Exception exception) {
+	}
+}
@@ -0,0 +1,111 @@
+package me.aartikov.alligator.listeners;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import me.aartikov.alligator.Screen;
+import me.aartikov.alligator.ScreenResult;
+import me.aartikov.alligator.destinations.ActivityDestination;
+import me.aartikov.alligator.destinations.Destination;
+import me.aartikov.alligator.destinations.DialogFragmentDestination;
+import me.aartikov.alligator.destinations.FragmentDestination;
+import me.aartikov.alligator.navigationfactories.NavigationFactory;
+
+
+/**
+ * Screen result listener that routes results to typed per-screen listeners. Routes are validated once when they are added,
+ * so a result is delivered with a single map lookup and a direct call. Results without a route are passed to a fallback listener.
+ */
+public class ScreenResultRouter implements ScreenResultListener {
+	private NavigationFactory mNavigationFactory;
+	private Map<Class<? extends Screen>, TypedScreenResultListener<?>> mRoutes = new HashMap<>();
+	private ScreenResultListener mFallbackListener = new DefaultScreenResultListener();
+
+	public ScreenResultRouter(@NonNull NavigationFactory navigationFactory) {
+		mNavigationFactory = navigationFactory;
+	}
+
+	/**
+	 * Adds a route for a screen that can return a result.
+	 *
+	 * @param screenClass       screen class
+	 * @param screenResultClass class of results handled by the listener
+	 * @param listener          listener that will receive results of the screen
+	 * @param <ScreenResultT>   screen result type
+	 * @return this object
+	 * @throws IllegalArgumentException if the screen is not registered or returns results incompatible with {@code screenResultClass}
+	 */
+	@NonNull
+	public <ScreenResultT extends ScreenResult> ScreenResultRouter addRoute(@NonNull Class<? extends Screen> screenClass,
+																			@NonNull Class<ScreenResultT> screenResultClass,
+																			@NonNull TypedScreenResultListener<ScreenResultT> listener) {
+		Destination destination = mNavigationFactory.getDestination(screenClass);
+		if (destination == null) {
+			throw new IllegalArgumentException("Screen " + screenClass.getSimpleName() + " is not registered.");
+		}
+
+		Class<? extends ScreenResult> supportedScreenResultClass = getScreenResultClass(destination);
+		if (supportedScreenResultClass == null) {
+			throw new IllegalArgumentException("Screen " + screenClass.getSimpleName() + " can't return a result.");
+		}
+
+		if (!screenResultClass.isAssignableFrom(supportedScreenResultClass)) {
+			throw new IllegalArgumentException("Screen " + screenClass.getSimpleName() + " returns a result of class " + supportedScreenResultClass.getCanonicalName() +
+											   ". It can't be handled as " + screenResultClass.getCanonicalName());
+		}
+
+		mRoutes.put(screenClass, listener);
+		return this;
+	}
+
+	/**
+	 * Removes a route for a screen.
+	 *
+	 * @param screenClass screen class
+	 * @return this object
+	 */
+	@NonNull
+	public ScreenResultRouter removeRoute(@NonNull Class<? extends Screen> screenClass) {
+		mRoutes.remove(screenClass);
+		return this;
+	}
+
+	/**
+	 * Sets a listener for results of screens without a route.
+	 *
+	 * @param fallbackListener fallback listener. By default a listener that does nothing is used.
+	 * @return this object
+	 */
+	@NonNull
+	public ScreenResultRouter setFallbackListener(@NonNull ScreenResultListener fallbackListener) {
+		mFallbackListener = fallbackListener;
+		return this;
+	}
+
+	@SuppressWarnings("unchecked")
+	@Override
+	public void onScreenResult(Class<? extends Screen> screenClass, @Nullable ScreenResult result) {
+		TypedScreenResultListener<ScreenResult> listener = (TypedScreenResultListener<ScreenResult>) mRoutes.get(screenClass);
+		if (listener != null) {
+			listener.onScreenResult(result);    // result class has been validated by ScreenResultHelper, and the route has been validated on adding
+		} else {
+			mFallbackListener.onScreenResult(screenClass, result);
+		}
+	}
+
+	@Nullable
+	private static Class<? extends ScreenResult> getScreenResultClass(@NonNull Destination destination) {
+		if (destination instanceof ActivityDestination) {
+			return ((ActivityDestination) destination).getScreenResultClass();
+		} else if (destination instanceof FragmentDestination) {
+			return ((FragmentDestination) destination).getScreenResultClass();
+		} else if (destination instanceof DialogFragmentDestination) {
+			return ((DialogFragmentDestination) destination).getScreenResultClass();
+		} else {
+			return null;
+		}
+	}
+}
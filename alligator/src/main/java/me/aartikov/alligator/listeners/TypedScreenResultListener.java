@@ -0,0 +1,20 @@
+package me.aartikov.alligator.listeners;
+
+
+import androidx.annotation.Nullable;
+
+import me.aartikov.alligator.ScreenResult;
+
+/**
+ * Interface for handling a result of a particular screen. Used with {@link ScreenResultRouter}.
+ *
+ * @param <ScreenResultT> screen result type
+ */
+public interface TypedScreenResultListener<ScreenResultT extends ScreenResult> {
+	/**
+	 * Is called when a screen has finished.
+	 *
+	 * @param result returned screen result. Can be null if a screen has finished without no result.
+	 */
+	void onScreenResult(@Nullable ScreenResultT result);
+}
@@ -0,0 +1,46 @@
+package me.aartikov.alligator.navigationfactories;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import me.aartikov.alligator.Screen;
+import me.aartikov.alligator.core.DestinationKind;
+import me.aartikov.alligator.core.DestinationResolver;
+import me.aartikov.alligator.destinations.ActivityDestination;
+import me.aartikov.alligator.destinations.Destination;
+import me.aartikov.alligator.destinations.DialogFragmentDestination;
+import me.aartikov.alligator.destinations.FragmentDestination;
+
+
+/**
+ * {@link DestinationResolver} that takes screen registrations from a {@link NavigationFactory}. Allows to run navigation logic of an app in
+ * {@link me.aartikov.alligator.core.ReferenceNavigator} with the same screens as in {@link me.aartikov.alligator.AndroidNavigator}.
+ */
+public class NavigationFactoryDestinationResolver implements DestinationResolver {
+	private NavigationFactory mNavigationFactory;
+
+	public NavigationFactoryDestinationResolver(@NonNull NavigationFactory navigationFactory) {
+		mNavigationFactory = navigationFactory;
+	}
+
+	@Override
+	@Nullable
+	public DestinationKind getDestinationKind(@NonNull Class<? extends Screen> screenClass) {
+		Destination destination = mNavigationFactory.getDestination(screenClass);
+		if (destination instanceof ActivityDestination) {
+			return DestinationKind.ACTIVITY;
+		} else if (destination instanceof FragmentDestination) {
+			return DestinationKind.FRAGMENT;
+		} else if (destination instanceof DialogFragmentDestination) {
+			return DestinationKind.DIALOG_FRAGMENT;
+		} else {
+			return null;
+		}
+	}
+
+	@Override
+	public boolean isRegisteredForResult(@NonNull Class<? extends Screen> screenClass) {
+		Destination destination = mNavigationFactory.getDestination(screenClass);
+		return destination instanceof ActivityDestination && ((ActivityDestination) destination).getScreenResultClass() != null;
+	}
+}
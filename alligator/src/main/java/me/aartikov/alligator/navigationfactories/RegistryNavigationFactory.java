@@ -37,6 +37,8 @@ public class RegistryNavigationFactory implements NavigationFactory {
 	private Map<Class<? extends Screen>, Destination> mDestinations = new LinkedHashMap<>();
 	private ScreenClassHelper mScreenClassHelper = new ScreenClassHelper();
 	private int mRequestCode = 1000;
+	@Nullable
+	private ScreenFragmentFactory mFragmentFactory;
 
 	@Override
 	@Nullable
@@ -68,6 +70,26 @@ public class RegistryNavigationFactory implements NavigationFactory {
 		return mScreenClassHelper.getPreviousScreenClass(activity);
 	}
 
+	/**
+	 * Returns a factory that creates registered fragments without reflection.
+	 *
+	 * @return fragment factory or {@code null} if it is not set
+	 */
+	@Nullable
+	public ScreenFragmentFactory getFragmentFactory() {
+		return mFragmentFactory;
+	}
+
+	/**
+	 * Sets a factory that creates registered fragments without reflection. It is used by default fragment converters registered after this call
+	 * and is installed to fragment managers by {@link ScreenFragmentFactoryInstaller} or by {@link ScreenFragmentFactory#install} before {@code super.onCreate} of an activity.
+	 *
+	 * @param fragmentFactory fragment factory
+	 */
+	protected void setFragmentFactory(@Nullable ScreenFragmentFactory fragmentFactory) {
+		mFragmentFactory = fragmentFactory;
+	}
+
 	/**
 	 * Registers a screen represented by an activity using a custom {@link IntentConverter}.
 	 *
@@ -199,7 +221,7 @@ public class RegistryNavigationFactory implements NavigationFactory {
 	 * @throws IllegalArgumentException if the screen is already registered
 	 */
 	public <ScreenT extends Screen> void registerFragment(@NonNull Class<ScreenT> screenClass, @NonNull Class<? extends Fragment> fragmentClass) {
-		FragmentConverter<ScreenT> converter = new DefaultFragmentConverter<>(screenClass, fragmentClass);
+		FragmentConverter<ScreenT> converter = new DefaultFragmentConverter<>(screenClass, fragmentClass, mFragmentFactory);
 		registerFragment(screenClass, converter);
 	}
 
@@ -231,7 +253,7 @@ public class RegistryNavigationFactory implements NavigationFactory {
 	public <ScreenT extends Screen> void registerFragmentForResult(@NonNull Class<ScreenT> screenClass,
 																   @NonNull Class<? extends Fragment> fragmentClass,
 																   @NonNull Class<? extends ScreenResult> screenResultClass) {
-		FragmentConverter<ScreenT> converter = new DefaultFragmentConverter<>(screenClass, fragmentClass);
+		FragmentConverter<ScreenT> converter = new DefaultFragmentConverter<>(screenClass, fragmentClass, mFragmentFactory);
 		registerFragmentForResult(screenClass, converter, screenResultClass);
 	}
 
@@ -257,7 +279,7 @@ public class RegistryNavigationFactory implements NavigationFactory {
 	 * @throws IllegalArgumentException if the screen is already registered
 	 */
 	public <ScreenT extends Screen> void registerDialogFragment(@NonNull Class<ScreenT> screenClass, @NonNull Class<? extends DialogFragment> dialogFragmentClass) {
-		DialogFragmentConverter<ScreenT> converter = new DefaultDialogFragmentConverter<>(screenClass, dialogFragmentClass);
+		DialogFragmentConverter<ScreenT> converter = new DefaultDialogFragmentConverter<>(screenClass, dialogFragmentClass, mFragmentFactory);
 		registerDialogFragment(screenClass, converter);
 	}
 
@@ -289,7 +311,7 @@ public class RegistryNavigationFactory implements NavigationFactory {
 	public <ScreenT extends Screen> void registerDialogFragmentForResult(@NonNull Class<ScreenT> screenClass,
 																		 @NonNull Class<? extends DialogFragment> dialogFragmentClass,
 																		 @NonNull Class<? extends ScreenResult> screenResultClass) {
-		DialogFragmentConverter<ScreenT> converter = new DefaultDialogFragmentConverter<ScreenT>(screenClass, dialogFragmentClass);
+		DialogFragmentConverter<ScreenT> converter = new DefaultDialogFragmentConverter<ScreenT>(screenClass, dialogFragmentClass, mFragmentFactory);
 		registerDialogFragmentForResult(screenClass, converter, screenResultClass);
 	}
 
@@ -299,5 +321,6 @@ public class RegistryNavigationFactory implements NavigationFactory {
 			throw new IllegalArgumentException("Screen " + screenClass.getSimpleName() + " is already registered.");
 		}
 		mDestinations.put(screenClass, destination);
+		mScreenClassHelper.addScreenClass(screenClass);
 	}
 }
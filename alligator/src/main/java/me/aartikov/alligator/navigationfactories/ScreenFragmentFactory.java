@@ -0,0 +1,67 @@
+package me.aartikov.alligator.navigationfactories;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.fragment.app.Fragment;
+import androidx.fragment.app.FragmentFactory;
+import androidx.fragment.app.FragmentManager;
+
+
+/**
+ * {@link FragmentFactory} that creates registered fragments with direct constructor calls instead of reflection.
+ * The annotation processor generates {@code GeneratedFragmentFactory} from {@code @RegisterScreen} annotations.
+ * <p>
+ * Fragments are restored in {@code super.onCreate} of an activity, so the factory has to be installed before it. Register {@link ScreenFragmentFactoryInstaller}
+ * to do it automatically on API 29+, or call {@link #install} before {@code super.onCreate}. The factory is never installed later, because restored fragments
+ * would be created with reflection anyway.
+ */
+public abstract class ScreenFragmentFactory extends FragmentFactory {
+
+	/**
+	 * Installs a factory to a fragment manager. Fragments unknown to the factory are created with a factory that was installed before. Does nothing if a {@code ScreenFragmentFactory} is already installed.
+	 * Child fragment managers use a factory of a parent fragment manager by default.
+	 *
+	 * @param fragmentManager fragment manager
+	 * @param fragmentFactory fragment factory
+	 */
+	public static void install(@NonNull FragmentManager fragmentManager, @NonNull ScreenFragmentFactory fragmentFactory) {
+		FragmentFactory currentFactory = fragmentManager.getFragmentFactory();
+		if (currentFactory instanceof ScreenFragmentFactory || currentFactory instanceof FallbackFragmentFactory) {
+			return;
+		}
+		fragmentManager.setFragmentFactory(new FallbackFragmentFactory(fragmentFactory, currentFactory));
+	}
+
+	/**
+	 * Creates a fragment with a direct constructor call.
+	 *
+	 * @param className full class name of a fragment as returned by {@link Class#getName()}
+	 * @return created fragment or {@code null} if the fragment is not known to the factory
+	 */
+	@Nullable
+	public abstract Fragment createFragment(@NonNull String className);
+
+	@Override
+	@NonNull
+	public Fragment instantiate(@NonNull ClassLoader classLoader, @NonNull String className) {
+		Fragment fragment = createFragment(className);
+		return fragment != null ? fragment : super.instantiate(classLoader, className);
+	}
+
+	private static class FallbackFragmentFactory extends FragmentFactory {
+		private ScreenFragmentFactory mScreenFragmentFactory;
+		private FragmentFactory mFallbackFactory;
+
+		FallbackFragmentFactory(@NonNull ScreenFragmentFactory screenFragmentFactory, @NonNull FragmentFactory fallbackFactory) {
+			mScreenFragmentFactory = screenFragmentFactory;
+			mFallbackFactory = fallbackFactory;
+		}
+
+		@Override
+		@NonNull
+		public Fragment instantiate(@NonNull ClassLoader classLoader, @NonNull String className) {
+			Fragment fragment = mScreenFragmentFactory.createFragment(className);
+			return fragment != null ? fragment : mFallbackFactory.instantiate(classLoader, className);
+		}
+	}
+}
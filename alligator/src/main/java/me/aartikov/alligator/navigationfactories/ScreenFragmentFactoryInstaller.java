@@ -0,0 +1,74 @@
+package me.aartikov.alligator.navigationfactories;
+
+import android.app.Activity;
+import android.app.Application;
+import android.os.Bundle;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.fragment.app.FragmentActivity;
+
+
+/**
+ * Installs a {@link ScreenFragmentFactory} to every activity before its fragments are restored. Register it with {@link Application#registerActivityLifecycleCallbacks}.
+ * <p>
+ * The factory is installed in {@code onActivityPreCreated} that is called before {@code super.onCreate} of an activity on API 29+. On older devices
+ * the installer does nothing, because {@code onActivityCreated} is called after fragments have been restored. There call {@link ScreenFragmentFactory#install}
+ * before {@code super.onCreate} of an activity. Child fragment managers use a factory of a parent fragment manager.
+ */
+public class ScreenFragmentFactoryInstaller implements Application.ActivityLifecycleCallbacks {
+	@Nullable
+	private ScreenFragmentFactory mFragmentFactory;
+
+	public ScreenFragmentFactoryInstaller(@NonNull ScreenFragmentFactory fragmentFactory) {
+		mFragmentFactory = fragmentFactory;
+	}
+
+	/**
+	 * @param navigationFactory navigation factory. If it is not a {@link RegistryNavigationFactory} with a fragment factory the installer does nothing.
+	 */
+	public ScreenFragmentFactoryInstaller(@NonNull NavigationFactory navigationFactory) {
+		if (navigationFactory instanceof RegistryNavigationFactory) {
+			mFragmentFactory = ((RegistryNavigationFactory) navigationFactory).getFragmentFactory();
+		}
+	}
+
+	// Is called on API 29+ only. There is no @Override to compile with an older SDK.
+	public void onActivityPreCreated(@NonNull Activity activity, @Nullable Bundle savedInstanceState) {
+		install(activity);
+	}
+
+	@Override
+	public void onActivityCreated(Activity activity, Bundle savedInstanceState) {
+	}
+
+	@Override
+	public void onActivityStarted(Activity activity) {
+	}
+
+	@Override
+	public void onActivityResumed(Activity activity) {
+	}
+
+	@Override
+	public void onActivityPaused(Activity activity) {
+	}
+
+	@Override
+	public void onActivityStopped(Activity activity) {
+	}
+
+	@Override
+	public void onActivitySaveInstanceState(Activity activity, Bundle outState) {
+	}
+
+	@Override
+	public void onActivityDestroyed(Activity activity) {
+	}
+
+	private void install(@NonNull Activity activity) {
+		if (mFragmentFactory != null && activity instanceof FragmentActivity) {
+			ScreenFragmentFactory.install(((FragmentActivity) activity).getSupportFragmentManager(), mFragmentFactory);
+		}
+	}
+}
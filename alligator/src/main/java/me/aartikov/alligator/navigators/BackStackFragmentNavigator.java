@@ -0,0 +1,29 @@
+package me.aartikov.alligator.navigators;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import java.util.List;
+
+import me.aartikov.alligator.Screen;
+import me.aartikov.alligator.animations.AnimationData;
+import me.aartikov.alligator.destinations.FragmentDestination;
+import me.aartikov.alligator.exceptions.NavigationException;
+
+/**
+ * Fragment navigator that supports {@link me.aartikov.alligator.AndroidNavigator#setBackStack}. A separate interface keeps custom {@link FragmentNavigator} implementations compatible.
+ */
+public interface BackStackFragmentNavigator extends FragmentNavigator {
+
+	/**
+	 * Sets a whole fragment back stack. Fragments that already have the screens at the bottom of the current back stack are kept.
+	 *
+	 * @param screens       screens of a new back stack, the last one becomes current
+	 * @param destinations  destinations of the screens
+	 * @param animationData animation data for an additional animation configuring
+	 * @throws NavigationException if navigation has failed
+	 */
+	void setBackStack(@NonNull List<? extends Screen> screens,
+					  @NonNull List<FragmentDestination> destinations,
+					  @Nullable AnimationData animationData) throws NavigationException;
+}
@@ -1,28 +1,35 @@
 package me.aartikov.alligator.navigators;
 
+import android.app.Activity;
 import android.content.Intent;
 
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
 import androidx.appcompat.app.AppCompatActivity;
 
+import java.util.List;
+
+import me.aartikov.alligator.ActivityTracker;
 import me.aartikov.alligator.DestinationType;
 import me.aartikov.alligator.Screen;
 import me.aartikov.alligator.ScreenResult;
+import me.aartikov.alligator.SingleTopScreen;
 import me.aartikov.alligator.TransitionType;
 import me.aartikov.alligator.animations.AnimationData;
 import me.aartikov.alligator.animations.TransitionAnimation;
 import me.aartikov.alligator.animations.providers.TransitionAnimationProvider;
+import me.aartikov.alligator.core.NavigationRules;
 import me.aartikov.alligator.destinations.ActivityDestination;
 import me.aartikov.alligator.exceptions.ActivityResolvingException;
 import me.aartikov.alligator.exceptions.NavigationException;
+import me.aartikov.alligator.exceptions.ScreenNotFoundException;
 import me.aartikov.alligator.exceptions.ScreenRegistrationException;
 import me.aartikov.alligator.helpers.ActivityHelper;
 import me.aartikov.alligator.helpers.ScreenResultHelper;
 import me.aartikov.alligator.listeners.TransitionListener;
 import me.aartikov.alligator.navigationfactories.NavigationFactory;
 
-public class DefaultActivityNavigator implements ActivityNavigator {
+public class DefaultActivityNavigator implements SingleTopActivityNavigator {
 	@NonNull
 	private AppCompatActivity mActivity;
 
@@ -41,16 +48,28 @@ public class DefaultActivityNavigator implements ActivityNavigator {
 	@NonNull
 	private TransitionAnimationProvider mAnimationProvider;
 
+	@Nullable
+	private ActivityTracker mActivityTracker;
+
 	public DefaultActivityNavigator(@NonNull AppCompatActivity activity,
 									@NonNull NavigationFactory navigationFactory,
 									@NonNull TransitionListener transitionListener,
 									@NonNull TransitionAnimationProvider animationProvider) {
+		this(activity, navigationFactory, transitionListener, animationProvider, null);
+	}
+
+	public DefaultActivityNavigator(@NonNull AppCompatActivity activity,
+									@NonNull NavigationFactory navigationFactory,
+									@NonNull TransitionListener transitionListener,
+									@NonNull TransitionAnimationProvider animationProvider,
+									@Nullable ActivityTracker activityTracker) {
 		mActivity = activity;
 		mNavigationFactory = navigationFactory;
 		mActivityHelper = new ActivityHelper(activity);
 		mScreenResultHelper = new ScreenResultHelper(mNavigationFactory);
 		mTransitionListener = transitionListener;
 		mAnimationProvider = animationProvider;
+		mActivityTracker = activityTracker;
 	}
 
 	@Override
@@ -58,6 +77,10 @@ public class DefaultActivityNavigator implements ActivityNavigator {
 						  @NonNull ActivityDestination destination,
 						  @Nullable AnimationData animationData) throws NavigationException {
 
+		if (deliverToCurrentActivity(screen, destination, screen instanceof SingleTopScreen)) {
+			return;
+		}
+
 		Class<? extends Screen> screenClassFrom = mNavigationFactory.getScreenClass(mActivity);
 		Class<? extends Screen> screenClassTo = screen.getClass();
 
@@ -83,6 +106,10 @@ public class DefaultActivityNavigator implements ActivityNavigator {
 						@NonNull ActivityDestination destination,
 						@Nullable AnimationData animationData) throws NavigationException {
 
+		if (deliverToCurrentActivity(screen, destination, screen instanceof SingleTopScreen)) {
+			return;
+		}
+
 		Class<? extends Screen> previousScreenClass = mNavigationFactory.getPreviousScreenClass(mActivity);
 		Intent intent = destination.createIntent(mActivity, screen, previousScreenClass);
 
@@ -141,6 +168,18 @@ public class DefaultActivityNavigator implements ActivityNavigator {
 						 @Nullable ScreenResult screenResult,
 						 @Nullable AnimationData animationData) throws NavigationException {
 
+		if (mActivityTracker != null && mActivityTracker.isStackKnown()) {
+			if (!mActivityTracker.containsScreen(screenClass)) {
+				throw new ScreenNotFoundException(screenClass);
+			}
+
+			List<Activity> activitiesAbove = mActivityTracker.getActivitiesAbove(screenClass, mActivity);
+			if (activitiesAbove != null && screenResult == null) {
+				goBackToByFinishing(screenClass, activitiesAbove, animationData);
+				return;
+			}
+		}
+
 		Intent intent = destination.createEmptyIntent(mActivity, screenClass);
 		if (intent == null) {
 			throw new ScreenRegistrationException("Can't create intent for a screen " + screenClass.getSimpleName());
@@ -157,6 +196,51 @@ public class DefaultActivityNavigator implements ActivityNavigator {
 		callTransitionListener(TransitionType.BACK, screenClassFrom, screenClass);
 	}
 
+	@Override
+	public boolean deliverToCurrentActivity(@NonNull Screen screen, @NonNull ActivityDestination destination) throws NavigationException {
+		return deliverToCurrentActivity(screen, destination, true);
+	}
+
+	// The current activity gets the intent in onNewIntent, so it is neither restarted nor animated.
+	private boolean deliverToCurrentActivity(@NonNull Screen screen, @NonNull ActivityDestination destination, boolean singleTop) throws NavigationException {
+		Class<? extends Screen> currentScreenClass = mNavigationFactory.getScreenClass(mActivity);
+		if (!NavigationRules.isSingleTopDelivery(screen, singleTop, currentScreenClass, destination.getScreenResultClass() != null)) {
+			return false;
+		}
+
+		Class<? extends Screen> previousScreenClass = mNavigationFactory.getPreviousScreenClass(mActivity);
+		Intent intent = destination.createIntent(mActivity, screen, previousScreenClass);
+		intent.addFlags(Intent.FLAG_ACTIVITY_SINGLE_TOP);
+
+		if (!mActivityHelper.resolve(intent)) {
+			throw new ActivityResolvingException(screen);
+		}
+
+		mActivityHelper.start(intent, TransitionAnimation.DEFAULT);
+		return true;
+	}
+
+	private void goBackToByFinishing(@NonNull Class<? extends Screen> screenClass,
+									 @NonNull List<Activity> activitiesAbove,
+									 @Nullable AnimationData animationData) {
+
+		Class<? extends Screen> screenClassFrom = mNavigationFactory.getScreenClass(mActivity);
+		if (activitiesAbove.isEmpty()) {
+			callTransitionListener(TransitionType.BACK, screenClassFrom, screenClass);
+			return;
+		}
+
+		for (Activity activity : activitiesAbove) {
+			if (activity != mActivity) {
+				activity.finish();
+			}
+		}
+
+		TransitionAnimation animation = getAnimation(TransitionType.BACK, screenClassFrom, screenClass, animationData);
+		mActivityHelper.finish(animation);
+		callTransitionListener(TransitionType.BACK, screenClassFrom, screenClass);
+	}
+
 	private TransitionAnimation getAnimation(@NonNull TransitionType transitionType,
 											 @Nullable Class<? extends Screen> screenClassFrom,
 											 @Nullable Class<? extends Screen> screenClassTo,
@@ -12,7 +12,7 @@ import me.aartikov.alligator.animations.DialogAnimation;
 import me.aartikov.alligator.animations.providers.DialogAnimationProvider;
 import me.aartikov.alligator.destinations.DialogFragmentDestination;
 import me.aartikov.alligator.exceptions.NavigationException;
-import me.aartikov.alligator.helpers.DialogFragmentHelper;
+import me.aartikov.alligator.helpers.DialogFragmentStack;
 import me.aartikov.alligator.helpers.ScreenResultHelper;
 import me.aartikov.alligator.listeners.DialogShowingListener;
 import me.aartikov.alligator.listeners.ScreenResultListener;
@@ -20,7 +20,7 @@ import me.aartikov.alligator.navigationfactories.NavigationFactory;
 
 public class DefaultDialogFragmentNavigator implements DialogFragmentNavigator {
 	@NonNull
-	private DialogFragmentHelper mDialogFragmentHelper;
+	private DialogFragmentStack mDialogFragmentStack;
 
 	@NonNull
 	private NavigationFactory mNavigationFactory;
@@ -42,7 +42,7 @@ public class DefaultDialogFragmentNavigator implements DialogFragmentNavigator {
 										  @NonNull DialogShowingListener dialogShowingListener,
 										  @NonNull ScreenResultListener screenResultListener,
 										  @NonNull DialogAnimationProvider animationProvider) {
-		mDialogFragmentHelper = new DialogFragmentHelper(fragmentManager);
+		mDialogFragmentStack = new DialogFragmentStack(fragmentManager);
 		mNavigationFactory = navigationFactory;
 		mScreenResultHelper = new ScreenResultHelper(mNavigationFactory);
 		mDialogShowingListener = dialogShowingListener;
@@ -57,7 +57,7 @@ public class DefaultDialogFragmentNavigator implements DialogFragmentNavigator {
 
 		DialogFragment dialogFragment = destination.createDialogFragment(screen);
 		DialogAnimation animation = mAnimationProvider.getAnimation(screen.getClass(), animationData);
-		mDialogFragmentHelper.showDialog(dialogFragment, animation);
+		mDialogFragmentStack.showDialog(dialogFragment, animation);
 		mDialogShowingListener.onDialogShown(screen.getClass());
 	}
 
@@ -65,13 +65,9 @@ public class DefaultDialogFragmentNavigator implements DialogFragmentNavigator {
 	public void replace(@NonNull Screen screen,
 						@NonNull DialogFragmentDestination destination,
 						@Nullable AnimationData animationData) throws NavigationException {
-		if (mDialogFragmentHelper.isDialogVisible()) {
-			mDialogFragmentHelper.hideDialog();
-		}
-
 		DialogFragment dialogFragment = destination.createDialogFragment(screen);
 		DialogAnimation animation = mAnimationProvider.getAnimation(screen.getClass(), animationData);
-		mDialogFragmentHelper.showDialog(dialogFragment, animation);
+		mDialogFragmentStack.replaceDialog(dialogFragment, animation);
 		mDialogShowingListener.onDialogShown(screen.getClass());
 	}
 
@@ -80,25 +76,21 @@ public class DefaultDialogFragmentNavigator implements DialogFragmentNavigator {
 					  @NonNull DialogFragmentDestination destination,
 					  @Nullable AnimationData animationData) throws NavigationException {
 
-		while (mDialogFragmentHelper.isDialogVisible()) {
-			mDialogFragmentHelper.hideDialog();
-		}
-
 		DialogFragment dialogFragment = destination.createDialogFragment(screen);
 		DialogAnimation animation = mAnimationProvider.getAnimation(screen.getClass(), animationData);
-		mDialogFragmentHelper.showDialog(dialogFragment, animation);
+		mDialogFragmentStack.resetDialogs(dialogFragment, animation);
 		mDialogShowingListener.onDialogShown(screen.getClass());
 	}
 
 	@Override
 	public boolean canGoBack() {
-		return mDialogFragmentHelper.isDialogVisible();
+		return mDialogFragmentStack.isDialogVisible();
 	}
 
 	@Override
 	public void goBack(@Nullable ScreenResult screenResult) throws NavigationException {
-		DialogFragment dialogFragment = mDialogFragmentHelper.getDialogFragment();
-		mDialogFragmentHelper.hideDialog();
+		DialogFragment dialogFragment = mDialogFragmentStack.getDialogFragment();
+		mDialogFragmentStack.hideDialog();
 		if (dialogFragment != null) {
 			mScreenResultHelper.callScreenResultListener(dialogFragment, screenResult, mScreenResultListener);
 		}
@@ -107,6 +99,6 @@ public class DefaultDialogFragmentNavigator implements DialogFragmentNavigator {
 	@Nullable
 	@Override
 	public DialogFragment getCurrentDialogFragment() {
-		return mDialogFragmentHelper.getDialogFragment();
+		return mDialogFragmentStack.getDialogFragment();
 	}
 }
@@ -1,5 +1,7 @@
 package me.aartikov.alligator.navigators;
 
+import android.os.Bundle;
+
 import androidx.annotation.IdRes;
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
@@ -7,15 +9,20 @@ import androidx.fragment.app.DialogFragment;
 import androidx.fragment.app.Fragment;
 import androidx.fragment.app.FragmentManager;
 
+import java.util.ArrayList;
 import java.util.List;
 
 import me.aartikov.alligator.DestinationType;
+import me.aartikov.alligator.OnNewScreenListener;
 import me.aartikov.alligator.Screen;
 import me.aartikov.alligator.ScreenResult;
+import me.aartikov.alligator.SingleTopScreen;
 import me.aartikov.alligator.TransitionType;
 import me.aartikov.alligator.animations.AnimationData;
 import me.aartikov.alligator.animations.TransitionAnimation;
 import me.aartikov.alligator.animations.providers.TransitionAnimationProvider;
+import me.aartikov.alligator.core.BackStackDiff;
+import me.aartikov.alligator.core.NavigationRules;
 import me.aartikov.alligator.destinations.FragmentDestination;
 import me.aartikov.alligator.exceptions.NavigationException;
 import me.aartikov.alligator.exceptions.ScreenNotFoundException;
@@ -25,9 +32,9 @@ import me.aartikov.alligator.helpers.ScreenResultHelper;
 import me.aartikov.alligator.listeners.ScreenResultListener;
 import me.aartikov.alligator.listeners.TransitionListener;
 import me.aartikov.alligator.navigationfactories.NavigationFactory;
+import me.aartikov.alligator.scopes.ScreenScopeStore;
 
-public class DefaultFragmentNavigator implements FragmentNavigator {
-
+public class DefaultFragmentNavigator implements SingleTopFragmentNavigator, BackStackFragmentNavigator {
 	private boolean mFlowNavigation;
 
 	@NonNull
@@ -48,6 +55,18 @@ public class DefaultFragmentNavigator implements FragmentNavigator {
 	@NonNull
 	private TransitionAnimationProvider mAnimationProvider;
 
+	@Nullable
+	private ScreenScopeStore mScreenScopeStore;
+
+	@NonNull
+	private NavigationRules.ScreenClassProvider<Fragment> mScreenClassProvider = new NavigationRules.ScreenClassProvider<Fragment>() {
+		@Nullable
+		@Override
+		public Class<? extends Screen> getScreenClass(@NonNull Fragment fragment) {
+			return mNavigationFactory.getScreenClass(fragment);
+		}
+	};
+
 	public DefaultFragmentNavigator(boolean flowNavigation,
 									@NonNull FragmentManager fragmentManager,
 									@IdRes int containerId,
@@ -55,6 +74,20 @@ public class DefaultFragmentNavigator implements FragmentNavigator {
 									@NonNull TransitionListener transitionListener,
 									@NonNull ScreenResultListener screenResultListener,
 									@NonNull TransitionAnimationProvider animationProvider) {
+		this(flowNavigation, fragmentManager, containerId, navigationFactory, transitionListener, screenResultListener, animationProvider, null);
+	}
+
+	/**
+	 * @param screenScopeStore store of screen scopes. A scope is created when a fragment is added to a back stack and cleared when the fragment is removed from it.
+	 */
+	public DefaultFragmentNavigator(boolean flowNavigation,
+									@NonNull FragmentManager fragmentManager,
+									@IdRes int containerId,
+									@NonNull NavigationFactory navigationFactory,
+									@NonNull TransitionListener transitionListener,
+									@NonNull ScreenResultListener screenResultListener,
+									@NonNull TransitionAnimationProvider animationProvider,
+									@Nullable ScreenScopeStore screenScopeStore) {
 		mFlowNavigation = flowNavigation;
 		mFragmentStack = new FragmentStack(fragmentManager, containerId);
 		mNavigationFactory = navigationFactory;
@@ -62,6 +95,7 @@ public class DefaultFragmentNavigator implements FragmentNavigator {
 		mTransitionListener = transitionListener;
 		mScreenResultListener = screenResultListener;
 		mAnimationProvider = animationProvider;
+		mScreenScopeStore = screenScopeStore;
 	}
 
 	@Override
@@ -69,6 +103,10 @@ public class DefaultFragmentNavigator implements FragmentNavigator {
 						  @NonNull FragmentDestination destination,
 						  @Nullable AnimationData animationData) throws NavigationException {
 
+		if (deliverToCurrentFragment(screen, destination, screen instanceof SingleTopScreen)) {
+			return;
+		}
+
 		Fragment currentFragment = mFragmentStack.getCurrentFragment();
 		Class<? extends Screen> screenClassFrom = currentFragment == null ? null : mNavigationFactory.getScreenClass(currentFragment);
 		Class<? extends Screen> screenClassTo = screen.getClass();
@@ -78,6 +116,7 @@ public class DefaultFragmentNavigator implements FragmentNavigator {
 			throw new ScreenRegistrationException("DialogFragment is used as usual Fragment.");
 		}
 		TransitionAnimation animation = getAnimation(TransitionType.FORWARD, screenClassFrom, screenClassTo, animationData);
+		createScope(fragment);
 		mFragmentStack.push(fragment, animation);
 		callTransitionListener(TransitionType.FORWARD, screenClassFrom, screenClassTo);
 	}
@@ -87,6 +126,10 @@ public class DefaultFragmentNavigator implements FragmentNavigator {
 						@NonNull FragmentDestination destination,
 						@Nullable AnimationData animationData) throws NavigationException {
 
+		if (deliverToCurrentFragment(screen, destination, screen instanceof SingleTopScreen)) {
+			return;
+		}
+
 		Fragment fragment = destination.createFragment(screen);
 		Fragment currentFragment = mFragmentStack.getCurrentFragment();
 
@@ -94,15 +137,29 @@ public class DefaultFragmentNavigator implements FragmentNavigator {
 		Class<? extends Screen> screenClassTo = screen.getClass();
 		TransitionAnimation animation = getAnimation(TransitionType.REPLACE, screenClassFrom, screenClassTo, animationData);
 
+		clearScope(currentFragment);
+		createScope(fragment);
 		mFragmentStack.replace(fragment, animation);
 		callTransitionListener(TransitionType.REPLACE, screenClassFrom, screenClassTo);
 	}
 
 	@Override
 	public void reset(@NonNull Screen screen,
-					  @NonNull FragmentDestination destination,
+					  @NonNull final FragmentDestination destination,
 					  @Nullable AnimationData animationData) throws NavigationException {
 
+		List<Fragment> fragments = mFragmentStack.getFragments();
+		boolean resetToRoot = NavigationRules.isResetToRoot(fragments, screen, new BackStackDiff.EntryMatcher<Fragment>() {
+			@Override
+			public boolean matches(@NonNull Fragment fragment, @NonNull Screen screen, int index) {
+				return isSameScreen(fragment, screen, destination);
+			}
+		});
+		if (resetToRoot) {
+			resetToRoot(fragments, animationData);
+			return;
+		}
+
 		Fragment fragment = destination.createFragment(screen);
 		Fragment currentFragment = mFragmentStack.getCurrentFragment();
 
@@ -110,10 +167,58 @@ public class DefaultFragmentNavigator implements FragmentNavigator {
 		Class<? extends Screen> screenClassTo = screen.getClass();
 		TransitionAnimation animation = getAnimation(TransitionType.RESET, screenClassFrom, screenClassTo, animationData);
 
+		for (Fragment removedFragment : mFragmentStack.getFragments()) {
+			clearScope(removedFragment);
+		}
+		createScope(fragment);
 		mFragmentStack.reset(fragment, animation);
 		callTransitionListener(TransitionType.RESET, screenClassFrom, screenClassTo);
 	}
 
+	@Override
+	public void setBackStack(@NonNull List<? extends Screen> screens,
+							 @NonNull final List<FragmentDestination> destinations,
+							 @Nullable AnimationData animationData) throws NavigationException {
+
+		List<Fragment> fragments = mFragmentStack.getFragments();
+		BackStackDiff diff = BackStackDiff.calculate(fragments, screens, new BackStackDiff.EntryMatcher<Fragment>() {
+			@Override
+			public boolean matches(@NonNull Fragment fragment, @NonNull Screen screen, int index) {
+				return isSameScreen(fragment, screen, destinations.get(index));
+			}
+		});
+
+		if (diff.isEmpty()) {
+			return; // nothing to do
+		}
+
+		int commonCount = diff.getCommonCount();
+		List<Fragment> newFragments = new ArrayList<>(screens.size() - commonCount);
+		for (int i = commonCount; i < screens.size(); i++) {
+			Fragment fragment = destinations.get(i).createFragment(screens.get(i));
+			if (fragment instanceof DialogFragment) {
+				throw new ScreenRegistrationException("DialogFragment is used as usual Fragment.");
+			}
+			newFragments.add(fragment);
+		}
+
+		TransitionType transitionType = diff.getTransitionType();
+
+		Fragment currentFragment = mFragmentStack.getCurrentFragment();
+		Class<? extends Screen> screenClassFrom = currentFragment == null ? null : mNavigationFactory.getScreenClass(currentFragment);
+		Class<? extends Screen> screenClassTo = screens.get(screens.size() - 1).getClass();
+		TransitionAnimation animation = getAnimation(transitionType, screenClassFrom, screenClassTo, animationData);
+
+		for (int i = commonCount; i < fragments.size(); i++) {
+			clearScope(fragments.get(i));
+		}
+		for (Fragment fragment : newFragments) {
+			createScope(fragment);
+		}
+		mFragmentStack.replaceFrom(commonCount, newFragments, animation);
+		callTransitionListener(transitionType, screenClassFrom, screenClassTo);
+	}
+
 	@Override
 	public boolean canGoBack() {
 		return mFragmentStack.getFragmentCount() > 1;
@@ -132,6 +237,7 @@ public class DefaultFragmentNavigator implements FragmentNavigator {
 
 		TransitionAnimation animation = getAnimation(TransitionType.BACK, screenClassFrom, screenClassTo, animationData);
 		mFragmentStack.pop(animation);
+		clearScope(currentFragment);
 		callTransitionListener(TransitionType.BACK, screenClassFrom, screenClassTo);
 		mScreenResultHelper.callScreenResultListener(currentFragment, screenResult, mScreenResultListener);
 	}
@@ -143,37 +249,115 @@ public class DefaultFragmentNavigator implements FragmentNavigator {
 						 @Nullable AnimationData animationData) throws NavigationException {
 
 		List<Fragment> fragments = mFragmentStack.getFragments();
-		Fragment requiredFragment = null;
-		boolean toPrevious = false;
-		for (int i = fragments.size() - 1; i >= 0; i--) {
-			if (screenClass == mNavigationFactory.getScreenClass(fragments.get(i))) {
-				requiredFragment = fragments.get(i);
-				toPrevious = i == fragments.size() - 2;
-				break;
-			}
-		}
-
-		if (requiredFragment == null) {
+		int index = NavigationRules.getBackToIndex(fragments, screenClass, mScreenClassProvider);
+		if (index == -1) {
 			throw new ScreenNotFoundException(screenClass);
 		}
 
+		Fragment requiredFragment = fragments.get(index);
+		boolean toPrevious = index == fragments.size() - 2;
+
 		Fragment currentFragment = fragments.get(fragments.size() - 1);
 		Class<? extends Screen> screenClassFrom = mNavigationFactory.getScreenClass(currentFragment);
 		TransitionAnimation animation = getAnimation(TransitionType.BACK, screenClassFrom, screenClass, animationData);
 
 		mFragmentStack.popUntil(requiredFragment, animation);
+		for (int i = index + 1; i < fragments.size(); i++) {
+			clearScope(fragments.get(i));
+		}
 		callTransitionListener(TransitionType.BACK, screenClassFrom, screenClass);
 		if (screenResult != null || toPrevious) {
 			mScreenResultHelper.callScreenResultListener(currentFragment, screenResult, mScreenResultListener);
 		}
 	}
 
+	/**
+	 * Changes a fragment container of this navigator without recreating it.
+	 *
+	 * @param fragmentManager that will be used for fragment transactions
+	 * @param containerId     container id for fragments
+	 */
+	public void setContainer(@NonNull FragmentManager fragmentManager, @IdRes int containerId) {
+		mFragmentStack.setContainer(fragmentManager, containerId);
+	}
+
 	@Nullable
 	@Override
 	public Fragment getCurrentFragment() {
 		return mFragmentStack.getCurrentFragment();
 	}
 
+	// The root fragment is kept with its view hierarchy, only the fragments above it are removed.
+	private void resetToRoot(@NonNull List<Fragment> fragments, @Nullable AnimationData animationData) {
+		if (fragments.size() == 1) {
+			return; // nothing to do
+		}
+
+		Fragment rootFragment = fragments.get(0);
+		Fragment currentFragment = fragments.get(fragments.size() - 1);
+		Class<? extends Screen> screenClassFrom = mNavigationFactory.getScreenClass(currentFragment);
+		Class<? extends Screen> screenClassTo = mNavigationFactory.getScreenClass(rootFragment);
+		TransitionAnimation animation = getAnimation(TransitionType.RESET, screenClassFrom, screenClassTo, animationData);
+
+		mFragmentStack.popUntil(rootFragment, animation);
+		for (int i = 1; i < fragments.size(); i++) {
+			clearScope(fragments.get(i));
+		}
+		callTransitionListener(TransitionType.RESET, screenClassFrom, screenClassTo);
+	}
+
+	@Override
+	public boolean deliverToCurrentFragment(@NonNull Screen screen, @NonNull FragmentDestination destination) {
+		return deliverToCurrentFragment(screen, destination, true);
+	}
+
+	// Arguments are rebuilt by the destination and replace the previous ones entirely, only a scope of the fragment is kept.
+	private boolean deliverToCurrentFragment(@NonNull Screen screen, @NonNull FragmentDestination destination, boolean singleTop) {
+		Fragment currentFragment = mFragmentStack.getCurrentFragment();
+		Class<? extends Screen> currentScreenClass = currentFragment == null ? null : mNavigationFactory.getScreenClass(currentFragment);
+		if (!NavigationRules.isSingleTopDelivery(screen, singleTop, currentScreenClass, false)) {
+			return false;
+		}
+
+		Bundle newArguments = destination.createArguments(screen);
+		Bundle arguments = currentFragment.getArguments();
+		if (arguments == null) {
+			currentFragment.setArguments(newArguments);
+		} else {
+			ScreenScopeStore.copyScopeArguments(arguments, newArguments);
+			arguments.clear();
+			arguments.putAll(newArguments);
+		}
+		if (currentFragment instanceof OnNewScreenListener) {
+			((OnNewScreenListener) currentFragment).onNewScreen(screen);
+		}
+		return true;
+	}
+
+	private boolean isSameScreen(@NonNull Fragment fragment, @NonNull Screen screen, @NonNull FragmentDestination destination) {
+		if (mNavigationFactory.getScreenClass(fragment) != screen.getClass()) {
+			return false;
+		}
+
+		try {
+			return screen.equals(destination.getScreen(fragment));
+		} catch (IllegalArgumentException e) {
+			return false;    // screen can't be restored from the fragment, so it is treated as a different one
+		}
+	}
+
+	private void createScope(@NonNull Fragment fragment) {
+		if (mScreenScopeStore != null) {
+			mScreenScopeStore.createScope(fragment);
+		}
+	}
+
+	private void clearScope(@Nullable Fragment fragment) {
+		if (mScreenScopeStore != null && fragment != null) {
+			mScreenScopeStore.clearScope(fragment);
+		}
+	}
+
 	private TransitionAnimation getAnimation(@NonNull TransitionType transitionType,
 											 @Nullable Class<? extends Screen> screenClassFrom,
 											 @Nullable Class<? extends Screen> screenClassTo,
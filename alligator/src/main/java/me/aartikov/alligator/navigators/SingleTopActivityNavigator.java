@@ -0,0 +1,26 @@
+package me.aartikov.alligator.navigators;
+
+import androidx.annotation.NonNull;
+
+import me.aartikov.alligator.Screen;
+import me.aartikov.alligator.destinations.ActivityDestination;
+import me.aartikov.alligator.exceptions.NavigationException;
+
+/**
+ * Activity navigator that supports single top delivery requested per call with {@link me.aartikov.alligator.AndroidNavigator#goForwardSingleTop}
+ * and {@link me.aartikov.alligator.AndroidNavigator#replaceSingleTop}. A separate interface keeps custom {@link ActivityNavigator} implementations compatible.
+ */
+public interface SingleTopActivityNavigator extends ActivityNavigator {
+
+	/**
+	 * Delivers a screen to a current activity with {@code FLAG_ACTIVITY_SINGLE_TOP} if the activity has the same screen class and the screen is not registered for result.
+	 * The activity gets the screen in {@code onNewIntent}, see {@link me.aartikov.alligator.ScreenResolver#getScreen(android.app.Activity, android.content.Intent)}.
+	 *
+	 * @param screen      new screen
+	 * @param destination destination of the screen
+	 * @return {@code true} if the screen has been delivered, {@code false} if a new activity should be started
+	 * @throws NavigationException if delivery has failed
+	 */
+	boolean deliverToCurrentActivity(@NonNull Screen screen,
+									 @NonNull ActivityDestination destination) throws NavigationException;
+}
@@ -0,0 +1,26 @@
+package me.aartikov.alligator.navigators;
+
+import androidx.annotation.NonNull;
+
+import me.aartikov.alligator.Screen;
+import me.aartikov.alligator.destinations.FragmentDestination;
+import me.aartikov.alligator.exceptions.NavigationException;
+
+/**
+ * Fragment navigator that supports single top delivery requested per call with {@link me.aartikov.alligator.AndroidNavigator#goForwardSingleTop}
+ * and {@link me.aartikov.alligator.AndroidNavigator#replaceSingleTop}. A separate interface keeps custom {@link FragmentNavigator} implementations compatible.
+ */
+public interface SingleTopFragmentNavigator extends FragmentNavigator {
+
+	/**
+	 * Delivers a screen to a current fragment if the fragment has the same screen class. Arguments of the fragment are replaced and
+	 * {@link me.aartikov.alligator.OnNewScreenListener} is called.
+	 *
+	 * @param screen      new screen
+	 * @param destination destination of the screen
+	 * @return {@code true} if the screen has been delivered, {@code false} if a new fragment should be created
+	 * @throws NavigationException if delivery has failed
+	 */
+	boolean deliverToCurrentFragment(@NonNull Screen screen,
+									 @NonNull FragmentDestination destination) throws NavigationException;
+}
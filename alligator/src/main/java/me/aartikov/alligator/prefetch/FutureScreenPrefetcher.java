@@ -0,0 +1,21 @@
+package me.aartikov.alligator.prefetch;
+
+import androidx.annotation.NonNull;
+
+import java.util.concurrent.Future;
+
+import me.aartikov.alligator.Screen;
+
+
+/**
+ * Prefetcher that returns a {@link Future}. A released future is cancelled with interruption.
+ *
+ * @param <ScreenT> screen type
+ * @param <ResultT> type of loaded data
+ */
+public abstract class FutureScreenPrefetcher<ScreenT extends Screen, ResultT> implements ScreenPrefetcher<ScreenT, Future<ResultT>> {
+	@Override
+	public void release(@NonNull Future<ResultT> data) {
+		data.cancel(true);
+	}
+}
@@ -0,0 +1,217 @@
+package me.aartikov.alligator.prefetch;
+
+import android.os.Handler;
+import android.os.Looper;
+import android.os.SystemClock;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+import me.aartikov.alligator.Screen;
+import me.aartikov.alligator.commands.Command;
+import me.aartikov.alligator.commands.ForwardCommand;
+import me.aartikov.alligator.commands.ReplaceCommand;
+import me.aartikov.alligator.listeners.DefaultCommandExecutionListener;
+
+
+/**
+ * Calls registered {@link ScreenPrefetcher}s when {@code goForward} or {@code replace} is called, so data loading runs in parallel with screen creation and a transition animation.
+ * A destination screen takes a prefetched handle with {@link #takePrefetchedData(Screen)}.
+ * <p>
+ * Add the manager to {@link me.aartikov.alligator.AndroidNavigator#addCommandExecutionListener}. Only the latest handle is kept for each screen class.
+ * A handle that is not taken is passed to {@link ScreenPrefetcher#release}: when it is replaced by a newer one, when its command fails or is discarded,
+ * or when it is not taken in a max unclaimed time. Should be used from the main thread only.
+ */
+public class ScreenPrefetchManager extends DefaultCommandExecutionListener {
+	private static final long DEFAULT_MAX_UNCLAIMED_TIME = 10000;
+
+	private Map<Class<? extends Screen>, ScreenPrefetcher<?, ?>> mPrefetchers = new HashMap<>();
+	private Map<Class<? extends Screen>, PrefetchedData> mPrefetchedData = new HashMap<>();
+	private Map<Class<? extends Screen>, Boolean> mEqualsOverridden = new HashMap<>();
+	private long mMaxUnclaimedTime;
+	private Handler mHandler = new Handler(Looper.getMainLooper());
+	private Runnable mReleaseExpiredDataRunnable = new Runnable() {
+		@Override
+		public void run() {
+			releaseExpiredData();
+		}
+	};
+
+	public ScreenPrefetchManager() {
+		this(DEFAULT_MAX_UNCLAIMED_TIME);
+	}
+
+	/**
+	 * @param maxUnclaimedTime time in milliseconds after which a handle that hasn't been taken is released. By default it is 10 seconds.
+	 */
+	public ScreenPrefetchManager(long maxUnclaimedTime) {
+		mMaxUnclaimedTime = maxUnclaimedTime;
+	}
+
+	/**
+	 * Registers a prefetcher for a screen.
+	 *
+	 * @param screenClass screen class
+	 * @param prefetcher  prefetcher
+	 * @param <ScreenT>   screen type
+	 * @throws IllegalArgumentException if a prefetcher for the screen is already registered
+	 */
+	public <ScreenT extends Screen> void registerPrefetcher(@NonNull Class<ScreenT> screenClass, @NonNull ScreenPrefetcher<ScreenT, ?> prefetcher) {
+		if (mPrefetchers.containsKey(screenClass)) {
+			throw new IllegalArgumentException("Prefetcher for " + screenClass.getSimpleName() + " is already registered.");
+		}
+		mPrefetchers.put(screenClass, prefetcher);
+	}
+
+	/**
+	 * Returns prefetched data and forgets it. Should be called by a destination screen, for example in {@code onCreate}.
+	 * Screens restored from an intent or arguments are copies, so screens that override {@code equals} are compared with it,
+	 * and screens that don't are matched by class.
+	 *
+	 * @param screen  screen of a destination
+	 * @param <DataT>   type of a handle of loading data
+	 * @return handle returned by a prefetcher or {@code null} if there is no prefetched data for the screen
+	 */
+	@SuppressWarnings("unchecked")
+	@Nullable
+	public <DataT> DataT takePrefetchedData(@NonNull Screen screen) {
+		PrefetchedData prefetchedData = mPrefetchedData.get(screen.getClass());
+		if (prefetchedData == null || !isSameScreen(prefetchedData.mScreen, screen)) {
+			return null;
+		}
+		mPrefetchedData.remove(screen.getClass());
+		return (DataT) prefetchedData.mData;
+	}
+
+	@Override
+	public void onCommandQueued(@NonNull Command command) {
+		Screen screen = getDestinationScreen(command);
+		if (screen == null) {
+			return;
+		}
+
+		@SuppressWarnings("unchecked")
+		ScreenPrefetcher<Screen, Object> prefetcher = (ScreenPrefetcher<Screen, Object>) mPrefetchers.get(screen.getClass());
+		Object data = prefetcher != null ? prefetcher.prefetch(screen) : null;
+		if (data == null) {
+			return;
+		}
+
+		PrefetchedData replacedData = mPrefetchedData.put(screen.getClass(), new PrefetchedData(command, screen, prefetcher, data, SystemClock.uptimeMillis()));
+		if (replacedData != null) {
+			replacedData.release();
+		}
+		mHandler.postDelayed(mReleaseExpiredDataRunnable, mMaxUnclaimedTime);
+	}
+
+	@Override
+	public void onCommandExecuted(@NonNull Command command) {
+		for (PrefetchedData prefetchedData : mPrefetchedData.values()) {
+			if (prefetchedData.mCommand == command) {
+				prefetchedData.mCommand = null;
+			}
+		}
+	}
+
+	@Override
+	public void onCommandFailed(@NonNull Command command, @NonNull Exception exception) {
+		// The failed command and all queued commands are discarded, so their screens will not be opened.
+		List<PrefetchedData> releasedData = new ArrayList<>();
+		Iterator<PrefetchedData> iterator = mPrefetchedData.values().iterator();
+		while (iterator.hasNext()) {
+			PrefetchedData prefetchedData = iterator.next();
+			if (prefetchedData.mCommand != null) {
+				iterator.remove();
+				releasedData.add(prefetchedData);
+			}
+		}
+		release(releasedData);
+	}
+
+	/**
+	 * Releases all handles that haven't been taken.
+	 */
+	public void clear() {
+		List<PrefetchedData> releasedData = new ArrayList<>(mPrefetchedData.values());
+		mPrefetchedData.clear();
+		mHandler.removeCallbacks(mReleaseExpiredDataRunnable);
+		release(releasedData);
+	}
+
+	private void releaseExpiredData() {
+		long time = SystemClock.uptimeMillis();
+		List<PrefetchedData> releasedData = new ArrayList<>();
+		Iterator<PrefetchedData> iterator = mPrefetchedData.values().iterator();
+		while (iterator.hasNext()) {
+			PrefetchedData prefetchedData = iterator.next();
+			if (time - prefetchedData.mPrefetchTime >= mMaxUnclaimedTime) {
+				iterator.remove();
+				releasedData.add(prefetchedData);
+			}
+		}
+		release(releasedData);
+	}
+
+	// Prefetchers are called after the map is updated, so they can't break an iteration.
+	private static void release(@NonNull List<PrefetchedData> releasedData) {
+		for (PrefetchedData prefetchedData : releasedData) {
+			prefetchedData.release();
+		}
+	}
+
+	// Only the latest handle is kept for a screen class, so a class match is enough when screens can't be compared by value.
+	private boolean isSameScreen(@NonNull Screen prefetchedScreen, @NonNull Screen screen) {
+		return !isEqualsOverridden(screen.getClass()) || prefetchedScreen.equals(screen);
+	}
+
+	private boolean isEqualsOverridden(@NonNull Class<? extends Screen> screenClass) {
+		Boolean equalsOverridden = mEqualsOverridden.get(screenClass);
+		if (equalsOverridden == null) {
+			try {
+				equalsOverridden = screenClass.getMethod("equals", Object.class).getDeclaringClass() != Object.class;
+			} catch (NoSuchMethodException e) {
+				equalsOverridden = false;
+			}
+			mEqualsOverridden.put(screenClass, equalsOverridden);
+		}
+		return equalsOverridden;
+	}
+
+	@Nullable
+	private Screen getDestinationScreen(@NonNull Command command) {
+		if (command instanceof ForwardCommand) {
+			return ((ForwardCommand) command).getScreen();
+		} else if (command instanceof ReplaceCommand) {
+			return ((ReplaceCommand) command).getScreen();
+		} else {
+			return null;
+		}
+	}
+
+	private static class PrefetchedData {
+		@Nullable
+		Command mCommand;    // null when the command has been executed
+		Screen mScreen;
+		ScreenPrefetcher<Screen, Object> mPrefetcher;
+		Object mData;
+		long mPrefetchTime;
+
+		PrefetchedData(@NonNull Command command, @NonNull Screen screen, @NonNull ScreenPrefetcher<Screen, Object> prefetcher, @NonNull Object data, long prefetchTime) {
+			mCommand = command;
+			mScreen = screen;
+			mPrefetcher = prefetcher;
+			mData = data;
+			mPrefetchTime = prefetchTime;
+		}
+
+		void release() {
+			mPrefetcher.release(mData);
+		}
+	}
+}
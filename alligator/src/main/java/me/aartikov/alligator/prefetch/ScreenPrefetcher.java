@@ -0,0 +1,32 @@
+package me.aartikov.alligator.prefetch;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import me.aartikov.alligator.Screen;
+
+
+/**
+ * Starts loading data for a screen before the screen is created.
+ *
+ * @param <ScreenT> screen type
+ * @param <DataT>   type of a handle of loading data, for example {@code Future}
+ */
+public interface ScreenPrefetcher<ScreenT extends Screen, DataT> {
+	/**
+	 * Is called on the main thread as soon as a navigation command to a screen is queued. It should start loading asynchronously and return immediately.
+	 *
+	 * @param screen screen that will be opened
+	 * @return handle of loading data or {@code null} if nothing should be prefetched
+	 */
+	@Nullable
+	DataT prefetch(@NonNull ScreenT screen);
+
+	/**
+	 * Is called on the main thread when a handle will never be taken by a screen: it has been replaced by a newer prefetch for the same screen class,
+	 * its command has failed or has been discarded, or it hasn't been taken in time. It should cancel loading.
+	 *
+	 * @param data handle returned by {@link #prefetch}
+	 */
+	void release(@NonNull DataT data);
+}
@@ -0,0 +1,147 @@
+package me.aartikov.alligator.scopes;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+
+
+/**
+ * Object store that lives as long as a back stack entry of a screen. It is kept while a fragment is detached or recreated
+ * and is cleared when the screen is removed from a back stack. Use {@link ScreenScopeStore#getScope} to get a scope of a fragment.
+ * <p>
+ * A scope can be evicted under memory pressure, so a screen should be ready to load its data again. Values implementing {@link Closeable} are closed when a scope is cleared.
+ * Scopes should be accessed from the main thread only.
+ */
+public class ScreenScope {
+	/**
+	 * Estimated size in bytes of a value put without a size.
+	 */
+	public static final long UNKNOWN_VALUE_SIZE = 16 * 1024;
+
+	private final String mId;
+	private final ScreenScopeStore mStore;
+	private final Map<String, Object> mValues = new HashMap<>();
+	private final Map<String, Long> mSizes = new HashMap<>();
+	private long mSize;
+	private boolean mCleared;
+
+	ScreenScope(@NonNull String id, @NonNull ScreenScopeStore store) {
+		mId = id;
+		mStore = store;
+	}
+
+	@NonNull
+	public String getId() {
+		return mId;
+	}
+
+	/**
+	 * Returns a value by a key.
+	 *
+	 * @param key key
+	 * @param <T> value type
+	 * @return value or {@code null} if there is no value or the scope has been evicted
+	 */
+	@Nullable
+	@SuppressWarnings("unchecked")
+	public <T> T get(@NonNull String key) {
+		return (T) mValues.get(key);
+	}
+
+	/**
+	 * Puts a value with unknown size. It is counted as {@link #UNKNOWN_VALUE_SIZE} by a size limit of {@link ScreenScopeStore}.
+	 *
+	 * @param key   key
+	 * @param value value
+	 */
+	public void put(@NonNull String key, @NonNull Object value) {
+		put(key, value, UNKNOWN_VALUE_SIZE);
+	}
+
+	/**
+	 * Puts a value. A previous value with the same key is replaced.
+	 *
+	 * @param key   key
+	 * @param value value
+	 * @param size  estimated size of the value in bytes
+	 */
+	public void put(@NonNull String key, @NonNull Object value, long size) {
+		if (size < 0) {
+			throw new IllegalArgumentException("Size can't be negative.");
+		}
+
+		if (mCleared) {
+			return;    // the screen has been removed, values are not needed anymore
+		}
+
+		Object oldValue = mValues.put(key, value);
+		if (oldValue != null && oldValue != value) {
+			close(oldValue);
+		}
+		Long oldSize = mSizes.put(key, size);
+		long sizeDelta = size - (oldSize != null ? oldSize : 0);
+		mSize += sizeDelta;
+		mStore.onScopeSizeChanged(this, sizeDelta);
+	}
+
+	/**
+	 * Removes a value. The removed value is not closed.
+	 *
+	 * @param key key
+	 * @param <T> value type
+	 * @return removed value or {@code null} if there was no value
+	 */
+	@Nullable
+	@SuppressWarnings("unchecked")
+	public <T> T remove(@NonNull String key) {
+		Object value = mValues.remove(key);
+		Long size = mSizes.remove(key);
+		if (size != null) {
+			mSize -= size;
+			mStore.onScopeSizeChanged(this, -size);
+		}
+		return (T) value;
+	}
+
+	/**
+	 * Returns a total size of values.
+	 *
+	 * @return size in bytes
+	 */
+	public long getSize() {
+		return mSize;
+	}
+
+	/**
+	 * Returns {@code true} if the scope has been cleared because its screen has been removed or the scope has been evicted.
+	 *
+	 * @return true if the scope has been cleared
+	 */
+	public boolean isCleared() {
+		return mCleared;
+	}
+
+	void clear() {
+		mCleared = true;
+		for (Object value : mValues.values()) {
+			close(value);
+		}
+		mValues.clear();
+		mSizes.clear();
+		mSize = 0;
+	}
+
+	private static void close(@NonNull Object value) {
+		if (value instanceof Closeable) {
+			try {
+				((Closeable) value).close();
+			} catch (IOException e) {
+				// ignore, the value is dropped anyway
+			}
+		}
+	}
+}
@@ -0,0 +1,284 @@
+package me.aartikov.alligator.scopes;
+
+import android.app.Activity;
+import android.app.Application;
+import android.content.ComponentCallbacks2;
+import android.content.res.Configuration;
+import android.os.Bundle;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.fragment.app.Fragment;
+import androidx.fragment.app.FragmentActivity;
+import androidx.fragment.app.FragmentManager;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+
+/**
+ * Keeps {@link ScreenScope}s of fragment screens. A scope id is saved to fragment arguments, so a scope is found again after a fragment is detached or recreated.
+ * Scopes are created and cleared by {@link me.aartikov.alligator.navigators.DefaultFragmentNavigator} and {@link me.aartikov.alligator.screenswitchers.FragmentScreenSwitcher}
+ * when the store is passed to them.
+ * <p>
+ * Register the store with {@link Application#registerActivityLifecycleCallbacks} as well. Then a scope is also cleared when its fragment is destroyed
+ * without coming back: the fragment or its parent is removing, or its activity is finishing. It covers fragments that are not removed by navigators,
+ * for example tabs of a screen switcher.
+ * <p>
+ * The store has a size limit. When it is exceeded the least recently used scopes are evicted. Register the store with {@code Application.registerComponentCallbacks}
+ * to evict scopes on memory pressure as well. Scopes don't survive process death: a restored fragment gets an empty scope.
+ */
+public class ScreenScopeStore implements ComponentCallbacks2, Application.ActivityLifecycleCallbacks {
+	private static final String KEY_SCOPE_ID = "me.aartikov.alligator.KEY_SCOPE_ID";
+	private static final String KEY_SCOPE_CLEARED = "me.aartikov.alligator.KEY_SCOPE_CLEARED";
+	private static final long DEFAULT_MAX_SIZE = 8 * 1024 * 1024;
+
+	private final Map<String, ScreenScope> mScopes = new LinkedHashMap<>(16, 0.75f, true);    // access order, the eldest scope is the least recently used one
+	private long mMaxSize;
+	private long mTotalSize;
+	private FragmentCallbacks mFragmentCallbacks = new FragmentCallbacks();
+
+	public ScreenScopeStore() {
+		this(DEFAULT_MAX_SIZE);
+	}
+
+	/**
+	 * @param maxSize maximal total size of all scopes in bytes
+	 */
+	public ScreenScopeStore(long maxSize) {
+		mMaxSize = maxSize;
+	}
+
+	public long getMaxSize() {
+		return mMaxSize;
+	}
+
+	/**
+	 * Sets a maximal total size of all scopes. By default it is 8 MB.
+	 *
+	 * @param maxSize size in bytes
+	 */
+	public void setMaxSize(long maxSize) {
+		mMaxSize = maxSize;
+		trimToSize(mMaxSize, null);
+	}
+
+	/**
+	 * Returns a total size of all scopes.
+	 *
+	 * @return size in bytes
+	 */
+	public long getTotalSize() {
+		return mTotalSize;
+	}
+
+	public int getScopeCount() {
+		return mScopes.size();
+	}
+
+	/**
+	 * Returns a scope of a fragment. If the scope has been evicted or lost after process death a new empty scope with the same id is created.
+	 * For a fragment that has been removed a cleared scope is returned, values put to it are ignored.
+	 *
+	 * @param fragment fragment
+	 * @return scope or {@code null} if the fragment was not created with this store
+	 */
+	@Nullable
+	public ScreenScope getScope(@NonNull Fragment fragment) {
+		String scopeId = getScopeId(fragment);
+		if (scopeId == null) {
+			return null;
+		}
+
+		ScreenScope scope = mScopes.get(scopeId);
+		if (scope == null && isScopeCleared(fragment)) {
+			scope = new ScreenScope(scopeId, this);
+			scope.clear();    // not stored, so the scope of a removed fragment is not recreated
+		} else if (scope == null) {
+			scope = new ScreenScope(scopeId, this);
+			mScopes.put(scopeId, scope);
+		}
+		return scope;
+	}
+
+	/**
+	 * Creates a scope for a new fragment. Is called by navigators before a fragment is added.
+	 *
+	 * @param fragment fragment that is not added yet
+	 */
+	public void createScope(@NonNull Fragment fragment) {
+		if (getScopeId(fragment) != null) {
+			return;
+		}
+
+		Bundle arguments = fragment.getArguments();
+		if (arguments == null) {
+			arguments = new Bundle();
+			fragment.setArguments(arguments);
+		}
+		String scopeId = UUID.randomUUID().toString();    // unique across process restarts
+		arguments.putString(KEY_SCOPE_ID, scopeId);
+		mScopes.put(scopeId, new ScreenScope(scopeId, this));
+	}
+
+	/**
+	 * Copies scope keys from old fragment arguments to new ones, so a fragment keeps its scope when its arguments are replaced.
+	 *
+	 * @param oldArguments previous arguments of a fragment
+	 * @param newArguments arguments that replace them
+	 */
+	public static void copyScopeArguments(@NonNull Bundle oldArguments, @NonNull Bundle newArguments) {
+		if (oldArguments.containsKey(KEY_SCOPE_ID)) {
+			newArguments.putString(KEY_SCOPE_ID, oldArguments.getString(KEY_SCOPE_ID));
+		}
+		if (oldArguments.containsKey(KEY_SCOPE_CLEARED)) {
+			newArguments.putBoolean(KEY_SCOPE_CLEARED, oldArguments.getBoolean(KEY_SCOPE_CLEARED));
+		}
+	}
+
+	/**
+	 * Clears a scope of a fragment that is removed from a back stack.
+	 *
+	 * @param fragment removed fragment
+	 */
+	public void clearScope(@NonNull Fragment fragment) {
+		String scopeId = getScopeId(fragment);
+		if (scopeId == null) {
+			return;
+		}
+
+		fragment.getArguments().putBoolean(KEY_SCOPE_CLEARED, true);
+		ScreenScope scope = mScopes.remove(scopeId);
+		if (scope != null) {
+			clearRemovedScope(scope);
+		}
+	}
+
+	/**
+	 * Clears all scopes.
+	 */
+	public void clear() {
+		List<ScreenScope> scopes = new ArrayList<>(mScopes.values());
+		mScopes.clear();
+		for (ScreenScope scope : scopes) {
+			clearRemovedScope(scope);
+		}
+	}
+
+	@Override
+	public void onTrimMemory(int level) {
+		if (level >= TRIM_MEMORY_COMPLETE || level == TRIM_MEMORY_RUNNING_CRITICAL) {
+			clear();
+		} else if (level >= TRIM_MEMORY_BACKGROUND || level == TRIM_MEMORY_RUNNING_LOW) {
+			trimToSize(mMaxSize / 2, null);
+		}
+	}
+
+	@Override
+	public void onLowMemory() {
+		clear();
+	}
+
+	@Override
+	public void onConfigurationChanged(Configuration newConfig) {
+	}
+
+	@Override
+	public void onActivityCreated(Activity activity, Bundle savedInstanceState) {
+		if (activity instanceof FragmentActivity) {
+			((FragmentActivity) activity).getSupportFragmentManager().registerFragmentLifecycleCallbacks(mFragmentCallbacks, true);
+		}
+	}
+
+	@Override
+	public void onActivityStarted(Activity activity) {
+	}
+
+	@Override
+	public void onActivityResumed(Activity activity) {
+	}
+
+	@Override
+	public void onActivityPaused(Activity activity) {
+	}
+
+	@Override
+	public void onActivityStopped(Activity activity) {
+	}
+
+	@Override
+	public void onActivitySaveInstanceState(Activity activity, Bundle outState) {
+	}
+
+	@Override
+	public void onActivityDestroyed(Activity activity) {
+	}
+
+	void onScopeSizeChanged(@NonNull ScreenScope scope, long sizeDelta) {
+		if (!mScopes.containsKey(scope.getId())) {
+			return;
+		}
+
+		mTotalSize += sizeDelta;
+		if (sizeDelta > 0) {
+			trimToSize(mMaxSize, scope);
+		}
+	}
+
+	private void trimToSize(long maxSize, @Nullable ScreenScope activeScope) {
+		Iterator<ScreenScope> iterator = mScopes.values().iterator();
+		while (mTotalSize > maxSize && iterator.hasNext()) {
+			ScreenScope scope = iterator.next();
+			if (scope == activeScope) {
+				continue;
+			}
+			iterator.remove();
+			clearRemovedScope(scope);
+		}
+	}
+
+	private void clearRemovedScope(@NonNull ScreenScope scope) {
+		mTotalSize -= scope.getSize();
+		scope.clear();
+	}
+
+	@Nullable
+	private static String getScopeId(@NonNull Fragment fragment) {
+		Bundle arguments = fragment.getArguments();
+		return arguments != null ? arguments.getString(KEY_SCOPE_ID) : null;
+	}
+
+	private static boolean isScopeCleared(@NonNull Fragment fragment) {
+		Bundle arguments = fragment.getArguments();
+		return arguments != null && arguments.getBoolean(KEY_SCOPE_CLEARED);
+	}
+
+	// Child fragments of a removing fragment are not marked as removing themselves.
+	private static boolean isDestroyedForever(@NonNull Fragment fragment) {
+		Activity activity = fragment.getActivity();
+		if (activity != null && activity.isFinishing()) {
+			return true;
+		}
+
+		for (Fragment f = fragment; f != null; f = f.getParentFragment()) {
+			if (f.isRemoving()) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private class FragmentCallbacks extends FragmentManager.FragmentLifecycleCallbacks {
+		@Override
+		public void onFragmentDestroyed(@NonNull FragmentManager fm, @NonNull Fragment f) {
+			// A fragment destroyed because of a configuration change is restored, so its scope is kept.
+			if (isDestroyedForever(f)) {
+				clearScope(f);
+			}
+		}
+	}
+}
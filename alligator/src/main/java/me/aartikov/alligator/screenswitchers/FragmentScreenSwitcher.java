@@ -19,6 +19,7 @@ import me.aartikov.alligator.exceptions.ScreenRegistrationException;
 import me.aartikov.alligator.helpers.FragmentSwitcher;
 import me.aartikov.alligator.listeners.ScreenSwitchingListener;
 import me.aartikov.alligator.navigationfactories.NavigationFactory;
+import me.aartikov.alligator.scopes.ScreenScopeStore;
 
 
 /**
@@ -36,6 +37,8 @@ public class FragmentScreenSwitcher implements ScreenSwitcher {
 	private ScreenResolver mScreenResolver;
 	private AnimationProvider mAnimationProvider;
 	private Map<Screen, Fragment> mFragmentMap;
+	@Nullable
+	private ScreenScopeStore mScreenScopeStore;
 
 	/**
 	 * @param navigationFactory navigation factory used to create fragments
@@ -60,6 +63,16 @@ public class FragmentScreenSwitcher implements ScreenSwitcher {
 		this(navigationFactory, fragmentManager, containerId, createDefaultAnimationProvider());
 	}
 
+	/**
+	 * Sets a store of screen scopes. A scope is created together with a fragment. Switched fragments are never removed, so a scope is cleared by the store
+	 * registered with {@code Application.registerActivityLifecycleCallbacks} when a fragment is destroyed with its parent fragment or activity.
+	 *
+	 * @param screenScopeStore store of screen scopes or {@code null} to not create scopes
+	 */
+	public void setScreenScopeStore(@Nullable ScreenScopeStore screenScopeStore) {
+		mScreenScopeStore = screenScopeStore;
+	}
+
 	@Override
 	public void switchTo(Screen screen, ScreenSwitchingListener listener, @Nullable AnimationData animationData) throws NavigationException {
 		Screen currentScreen = getCurrentScreen();
@@ -129,6 +142,9 @@ public class FragmentScreenSwitcher implements ScreenSwitcher {
 			} catch (Exception e) {
 				throw new ScreenRegistrationException(e.getMessage());
 			}
+			if (mScreenScopeStore != null) {
+				mScreenScopeStore.createScope(fragment);
+			}
 			mFragmentMap.put(screen, fragment);
 		}
 		return fragment;
@@ -0,0 +1,145 @@
+package me.aartikov.alligator;
+
+import android.app.Activity;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.annotation.Config;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import me.aartikov.alligator.ActivityResultHandler.CoalescingMode;
+import me.aartikov.alligator.TestScreens.ActivityScreen;
+import me.aartikov.alligator.TestScreens.SingleTopActivityScreen;
+import me.aartikov.alligator.destinations.ActivityDestination;
+import me.aartikov.alligator.listeners.ScreenResultListener;
+import me.aartikov.alligator.navigationfactories.RegistryNavigationFactory;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+@RunWith(RobolectricTestRunner.class)
+@Config(sdk = 28)
+public class ActivityResultHandlerTest {
+	private RegistryNavigationFactory mNavigationFactory;
+	private ActivityResultHandler mActivityResultHandler;
+	private List<String> mDeliveredResults = new ArrayList<>();
+	private List<String> mDroppedResults = new ArrayList<>();
+
+	public static class ValueResult implements ScreenResult, Serializable {
+		final String mValue;
+
+		ValueResult(String value) {
+			mValue = value;
+		}
+	}
+
+	@Before
+	public void setUp() {
+		mNavigationFactory = new RegistryNavigationFactory();
+		mNavigationFactory.registerActivityForResult(ActivityScreen.class, TestActivity.class, ValueResult.class);
+		mNavigationFactory.registerActivityForResult(SingleTopActivityScreen.class, TestActivity.class, ValueResult.class);
+		mActivityResultHandler = new ActivityResultHandler(mNavigationFactory);
+		mActivityResultHandler.setDroppedResultListener(new ActivityResultHandler.DroppedResultListener() {
+			@Override
+			public void onScreenResultDropped(@NonNull Class<? extends Screen> screenClass, @Nullable ScreenResult screenResult) {
+				mDroppedResults.add(format(screenClass, screenResult));
+			}
+		});
+	}
+
+	@Test
+	public void latestWinsKeepsOnlyLatestResultOfScreen() {
+		sendResult(ActivityScreen.class, "a1");
+		sendResult(SingleTopActivityScreen.class, "b1");
+		sendResult(ActivityScreen.class, "a2");
+
+		assertEquals(2, mActivityResultHandler.getPendingScreenResultCount());
+		setListener();
+		assertEquals(Arrays.asList("SingleTopActivityScreen b1", "ActivityScreen a2"), mDeliveredResults);
+	}
+
+	@Test
+	public void latestWinsDoesNotReplaceResultWithNull() {
+		sendResult(ActivityScreen.class, "a1");
+		sendResult(ActivityScreen.class, null);
+
+		setListener();
+		assertEquals(Arrays.asList("ActivityScreen a1"), mDeliveredResults);
+	}
+
+	@Test
+	public void keepAllKeepsEveryResultInOrder() {
+		mActivityResultHandler.setCoalescingMode(CoalescingMode.KEEP_ALL);
+		sendResult(ActivityScreen.class, "a1");
+		sendResult(SingleTopActivityScreen.class, "b1");
+		sendResult(ActivityScreen.class, "a2");
+
+		setListener();
+		assertEquals(Arrays.asList("ActivityScreen a1", "SingleTopActivityScreen b1", "ActivityScreen a2"), mDeliveredResults);
+	}
+
+	@Test
+	public void fullQueueReportsDroppedResult() {
+		mActivityResultHandler.setCoalescingMode(CoalescingMode.KEEP_ALL);
+		mActivityResultHandler.setMaxPendingScreenResults(2);
+		sendResult(ActivityScreen.class, "a1");
+		sendResult(ActivityScreen.class, "a2");
+		sendResult(ActivityScreen.class, "a3");
+
+		assertEquals(Arrays.asList("ActivityScreen a1"), mDroppedResults);
+		setListener();
+		assertEquals(Arrays.asList("ActivityScreen a2", "ActivityScreen a3"), mDeliveredResults);
+	}
+
+	@Test
+	public void reducingQueueSizeReportsDroppedResults() {
+		mActivityResultHandler.setCoalescingMode(CoalescingMode.KEEP_ALL);
+		sendResult(ActivityScreen.class, "a1");
+		sendResult(ActivityScreen.class, "a2");
+		sendResult(ActivityScreen.class, "a3");
+
+		mActivityResultHandler.setMaxPendingScreenResults(1);
+
+		assertEquals(Arrays.asList("ActivityScreen a1", "ActivityScreen a2"), mDroppedResults);
+		assertEquals(1, mActivityResultHandler.getPendingScreenResultCount());
+	}
+
+	@Test
+	public void resultIsDeliveredImmediatelyWhenListenerIsSet() {
+		setListener();
+		sendResult(ActivityScreen.class, "a1");
+
+		assertEquals(Arrays.asList("ActivityScreen a1"), mDeliveredResults);
+		assertEquals(0, mActivityResultHandler.getPendingScreenResultCount());
+		assertTrue(mDroppedResults.isEmpty());
+	}
+
+	private void sendResult(@NonNull Class<? extends Screen> screenClass, @Nullable String value) {
+		ActivityDestination destination = (ActivityDestination) mNavigationFactory.getDestination(screenClass);
+		ActivityResult activityResult = value != null ? destination.createActivityResult(new ValueResult(value)) : new ActivityResult(Activity.RESULT_CANCELED, null);
+		mActivityResultHandler.onActivityResult(destination.getRequestCode(), activityResult.getResultCode(), activityResult.getIntent());
+	}
+
+	private void setListener() {
+		mActivityResultHandler.setScreenResultListener(new ScreenResultListener() {
+			@Override
+			public void onScreenResult(Class<? extends Screen> screenClass, @Nullable ScreenResult result) {
+				mDeliveredResults.add(format(screenClass, result));
+			}
+		});
+	}
+
+	@NonNull
+	private static String format(@NonNull Class<? extends Screen> screenClass, @Nullable ScreenResult screenResult) {
+		return screenClass.getSimpleName() + " " + (screenResult != null ? ((ValueResult) screenResult).mValue : null);
+	}
+}
@@ -0,0 +1,123 @@
+package me.aartikov.alligator;
+
+import androidx.annotation.NonNull;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.Robolectric;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.android.controller.ActivityController;
+import org.robolectric.annotation.Config;
+
+import me.aartikov.alligator.TestScreens.FragmentScreen;
+import me.aartikov.alligator.commands.Command;
+import me.aartikov.alligator.exceptions.NavigationException;
+import me.aartikov.alligator.listeners.CommandExecutionListener;
+import me.aartikov.alligator.listeners.NavigationErrorListener;
+import me.aartikov.alligator.navigationfactories.RegistryNavigationFactory;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+@RunWith(RobolectricTestRunner.class)
+@Config(sdk = 28)
+public class CommandExecutionListenerTest {
+	private AndroidNavigator mAndroidNavigator;
+	private NavigationException mNavigationError;
+	private int mExecutedCommandCount;
+
+	private static class ThrowingListener implements CommandExecutionListener {
+		@Override
+		public void onCommandQueued(@NonNull Command command) {
+			throw new IllegalStateException("onCommandQueued");
+		}
+
+		@Override
+		public void onCommandExecutionStarted(@NonNull Command command) {
+			throw new IllegalStateException("onCommandExecutionStarted");
+		}
+
+		@Override
+		public void onCommandExecuted(@NonNull Command command) {
+			throw new IllegalStateException("onCommandExecuted");
+		}
+
+		@Override
+		public void onCommandFailed(@NonNull Command command, @NonNull Exception exception) {
+			throw new IllegalStateException("onCommandFailed");
+		}
+	}
+
+	private class CountingListener implements CommandExecutionListener {
+		@Override
+		public void onCommandQueued(@NonNull Command command) {
+		}
+
+		@Override
+		public void onCommandExecutionStarted(@NonNull Command command) {
+		}
+
+		@Override
+		public void onCommandExecuted(@NonNull Command command) {
+			mExecutedCommandCount++;
+		}
+
+		@Override
+		public void onCommandFailed(@NonNull Command command, @NonNull Exception exception) {
+		}
+	}
+
+	@Before
+	public void setUp() {
+		RegistryNavigationFactory navigationFactory = new RegistryNavigationFactory();
+		navigationFactory.registerFragment(FragmentScreen.class, TestFragment.class);
+		mAndroidNavigator = new AndroidNavigator(navigationFactory);
+		mAndroidNavigator.addCommandExecutionListener(new ThrowingListener());
+		mAndroidNavigator.addCommandExecutionListener(new CountingListener());
+	}
+
+	@Test
+	public void throwingListenerDoesNotFailExecutedCommands() {
+		ActivityController<TestActivity> controller = Robolectric.buildActivity(TestActivity.class).setup();
+		mAndroidNavigator.goForward(new FragmentScreen(1));
+		mAndroidNavigator.goForward(new FragmentScreen(2));
+
+		mAndroidNavigator.bind(createNavigationContext(controller.get(), true));
+
+		String journal = mAndroidNavigator.getNavigationJournal().dump();
+		assertEquals(2, mExecutedCommandCount);
+		assertFalse(journal, journal.contains("FAILED"));
+		assertEquals(journal, 4, journal.split("\n").length);
+	}
+
+	@Test
+	public void throwingListenerDoesNotSkipNavigationErrorListener() {
+		ActivityController<TestActivity> controller = Robolectric.buildActivity(TestActivity.class).setup();
+		mAndroidNavigator.goForward(new FragmentScreen(1));
+
+		mAndroidNavigator.bind(createNavigationContext(controller.get(), false));
+
+		String journal = mAndroidNavigator.getNavigationJournal().dump();
+		assertNotNull(mNavigationError);
+		assertTrue(journal, journal.contains("FAILED"));
+		assertFalse(journal, journal.contains("EXECUTED"));
+	}
+
+	@NonNull
+	private NavigationContext createNavigationContext(@NonNull TestActivity activity, boolean withFragmentNavigation) {
+		NavigationContext.Builder builder = new NavigationContext.Builder(activity, mAndroidNavigator.getNavigationFactory())
+				.navigationErrorListener(new NavigationErrorListener() {
+					@Override
+					public void onNavigationError(@NonNull NavigationException e) {
+						mNavigationError = e;
+					}
+				});
+		if (withFragmentNavigation) {
+			builder.fragmentNavigation(activity.getSupportFragmentManager(), TestActivity.CONTAINER_ID);
+		}
+		return builder.build();
+	}
+}
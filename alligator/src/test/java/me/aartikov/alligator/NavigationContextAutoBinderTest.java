@@ -0,0 +1,97 @@
+package me.aartikov.alligator;
+
+import android.app.Application;
+import android.os.Bundle;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.appcompat.app.AppCompatActivity;
+import androidx.fragment.app.Fragment;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.Robolectric;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.RuntimeEnvironment;
+import org.robolectric.android.controller.ActivityController;
+import org.robolectric.annotation.Config;
+
+import me.aartikov.alligator.TestScreens.FragmentScreen;
+import me.aartikov.alligator.exceptions.NavigationException;
+import me.aartikov.alligator.listeners.NavigationErrorListener;
+import me.aartikov.alligator.navigationfactories.RegistryNavigationFactory;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+@RunWith(RobolectricTestRunner.class)
+@Config(sdk = 28)
+public class NavigationContextAutoBinderTest {
+	private Application mApplication;
+	private AndroidNavigator mAndroidNavigator;
+	private NavigationContextAutoBinder mAutoBinder;
+	private NavigationException mNavigationError;
+
+	@Before
+	public void setUp() {
+		RegistryNavigationFactory navigationFactory = new RegistryNavigationFactory();
+		navigationFactory.registerFragment(FragmentScreen.class, TestFragment.class);
+		mAndroidNavigator = new AndroidNavigator(navigationFactory);
+		mAutoBinder = new NavigationContextAutoBinder(mAndroidNavigator, new NavigationContextFactory() {
+			@Override
+			@Nullable
+			public NavigationContext createNavigationContext(@NonNull AppCompatActivity activity) {
+				return new NavigationContext.Builder(activity, mAndroidNavigator.getNavigationFactory())
+						.fragmentNavigation(activity.getSupportFragmentManager(), TestActivity.CONTAINER_ID)
+						.navigationErrorListener(new NavigationErrorListener() {
+							@Override
+							public void onNavigationError(@NonNull NavigationException e) {
+								mNavigationError = e;
+							}
+						})
+						.build();
+			}
+		});
+		mApplication = RuntimeEnvironment.application;
+		mApplication.registerActivityLifecycleCallbacks(mAutoBinder);
+	}
+
+	@After
+	public void tearDown() {
+		mApplication.unregisterActivityLifecycleCallbacks(mAutoBinder);
+	}
+
+	@Test
+	public void executesQueuedCommandsWhenRestartedActivityIsResumed() {
+		ActivityController<TestActivity> controller = Robolectric.buildActivity(TestActivity.class).setup();
+		controller.pause().saveInstanceState(new Bundle()).stop();
+
+		mAndroidNavigator.goForward(new FragmentScreen(1));
+		controller.restart();
+		controller.resume();
+
+		assertNull(mNavigationError);
+		assertEquals(new FragmentScreen(1), getCurrentScreen(controller.get()));
+	}
+
+	@Test
+	public void executesQueuedCommandsWhenRecreatedActivityIsResumed() {
+		ActivityController<TestActivity> controller = Robolectric.buildActivity(TestActivity.class).setup();
+		mAndroidNavigator.goForward(new FragmentScreen(1));
+		controller.pause();
+
+		mAndroidNavigator.goForward(new FragmentScreen(2));
+		controller.recreate();
+
+		assertNull(mNavigationError);
+		assertEquals(new FragmentScreen(2), getCurrentScreen(controller.get()));
+	}
+
+	@Nullable
+	private FragmentScreen getCurrentScreen(@NonNull TestActivity activity) {
+		Fragment fragment = activity.getSupportFragmentManager().findFragmentById(TestActivity.CONTAINER_ID);
+		return fragment != null ? mAndroidNavigator.getScreenResolver().<FragmentScreen>getScreen(fragment) : null;
+	}
+}
@@ -0,0 +1,211 @@
+package me.aartikov.alligator;
+
+import android.app.Application;
+import android.content.ComponentName;
+import android.content.Intent;
+import android.os.Bundle;
+
+import androidx.annotation.NonNull;
+import androidx.fragment.app.Fragment;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.Robolectric;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.RuntimeEnvironment;
+import org.robolectric.android.controller.ActivityController;
+import org.robolectric.annotation.Config;
+
+import me.aartikov.alligator.TestScreens.ActivityScreen;
+import me.aartikov.alligator.TestScreens.FragmentScreen;
+import me.aartikov.alligator.TestScreens.SingleTopActivityScreen;
+import me.aartikov.alligator.TestScreens.SingleTopFragmentScreen;
+import me.aartikov.alligator.animations.TransitionAnimation;
+import me.aartikov.alligator.converters.FragmentConverter;
+import me.aartikov.alligator.destinations.ActivityDestination;
+import me.aartikov.alligator.exceptions.NavigationException;
+import me.aartikov.alligator.helpers.FragmentStack;
+import me.aartikov.alligator.listeners.NavigationErrorListener;
+import me.aartikov.alligator.navigationfactories.RegistryNavigationFactory;
+import me.aartikov.alligator.scopes.ScreenScope;
+import me.aartikov.alligator.scopes.ScreenScopeStore;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.robolectric.Shadows.shadowOf;
+
+@RunWith(RobolectricTestRunner.class)
+@Config(sdk = 28)
+public class SingleTopNavigationTest {
+	private static final String KEY_VALUE = "value";
+	private static final String KEY_VALUE_PREFIX = "value_";
+
+	private Application mApplication;
+	private RegistryNavigationFactory mNavigationFactory;
+	private AndroidNavigator mAndroidNavigator;
+	private ScreenScopeStore mScreenScopeStore;
+	private NavigationException mNavigationError;
+	private ActivityController<TestActivity> mController;
+
+	public static class NewScreenFragment extends TestFragment implements OnNewScreenListener {
+		private Screen mNewScreen;
+
+		@Override
+		public void onNewScreen(@NonNull Screen screen) {
+			mNewScreen = screen;
+		}
+	}
+
+	// Puts arguments under its own keys, one of them depends on a value, so stale keys can be detected.
+	private static class ValueFragmentConverter implements FragmentConverter<SingleTopFragmentScreen> {
+		@Override
+		@NonNull
+		public Fragment createFragment(@NonNull SingleTopFragmentScreen screen) {
+			Bundle arguments = new Bundle();
+			arguments.putInt(KEY_VALUE, screen.getValue());
+			arguments.putBoolean(KEY_VALUE_PREFIX + screen.getValue(), true);
+			Fragment fragment = new NewScreenFragment();
+			fragment.setArguments(arguments);
+			return fragment;
+		}
+
+		@Override
+		@NonNull
+		public SingleTopFragmentScreen getScreen(@NonNull Fragment fragment) {
+			return new SingleTopFragmentScreen(fragment.getArguments().getInt(KEY_VALUE));
+		}
+	}
+
+	@Before
+	public void setUp() {
+		mApplication = RuntimeEnvironment.application;
+		shadowOf(mApplication.getPackageManager()).addActivityIfNotPresent(new ComponentName(mApplication, TestActivity.class));
+		mNavigationFactory = new RegistryNavigationFactory();
+		mNavigationFactory.registerActivity(ActivityScreen.class, TestActivity.class);
+		mNavigationFactory.registerActivity(SingleTopActivityScreen.class, TestActivity.class);
+		mNavigationFactory.registerFragment(FragmentScreen.class, TestFragment.class);
+		mNavigationFactory.registerFragment(SingleTopFragmentScreen.class, new ValueFragmentConverter());
+		mAndroidNavigator = new AndroidNavigator(mNavigationFactory);
+		mScreenScopeStore = new ScreenScopeStore();
+	}
+
+	@Test
+	public void singleTopFragmentScreenIsDeliveredToCurrentFragment() {
+		launch(new ActivityScreen(1));
+		mAndroidNavigator.goForward(new SingleTopFragmentScreen(1));
+		Fragment fragment = getCurrentFragment();
+		ScreenScope scope = mScreenScopeStore.getScope(fragment);
+
+		mAndroidNavigator.goForward(new SingleTopFragmentScreen(2));
+
+		assertNull(mNavigationError);
+		assertSame(fragment, getCurrentFragment());
+		assertEquals(1, getFragmentCount());
+		assertEquals(new SingleTopFragmentScreen(2), ((NewScreenFragment) fragment).mNewScreen);
+		assertEquals(new SingleTopFragmentScreen(2), mAndroidNavigator.getScreenResolver().getScreen(fragment));
+		assertTrue(fragment.getArguments().getBoolean(KEY_VALUE_PREFIX + 2));
+		assertFalse(fragment.getArguments().containsKey(KEY_VALUE_PREFIX + 1));
+		assertSame(scope, mScreenScopeStore.getScope(fragment));
+	}
+
+	@Test
+	public void replaceDeliversSingleTopFragmentScreen() {
+		launch(new ActivityScreen(1));
+		mAndroidNavigator.goForward(new FragmentScreen(1));
+		mAndroidNavigator.goForward(new SingleTopFragmentScreen(1));
+		Fragment fragment = getCurrentFragment();
+
+		mAndroidNavigator.replace(new SingleTopFragmentScreen(2));
+
+		assertNull(mNavigationError);
+		assertSame(fragment, getCurrentFragment());
+		assertEquals(2, getFragmentCount());
+		assertEquals(new SingleTopFragmentScreen(2), mAndroidNavigator.getScreenResolver().getScreen(fragment));
+	}
+
+	@Test
+	public void singleTopIsRequestedPerCall() {
+		launch(new ActivityScreen(1));
+		mAndroidNavigator.goForward(new FragmentScreen(1));
+		Fragment fragment = getCurrentFragment();
+
+		mAndroidNavigator.goForwardSingleTop(new FragmentScreen(2));
+
+		assertNull(mNavigationError);
+		assertSame(fragment, getCurrentFragment());
+		assertEquals(1, getFragmentCount());
+		assertEquals(new FragmentScreen(2), mAndroidNavigator.getScreenResolver().getScreen(fragment));
+
+		mAndroidNavigator.goForward(new FragmentScreen(3));
+
+		assertNotSame(fragment, getCurrentFragment());
+		assertEquals(2, getFragmentCount());
+	}
+
+	@Test
+	public void fragmentWithoutArgumentsGetsScreen() {
+		launch(new ActivityScreen(1));
+		Fragment fragment = new TestFragment();
+		new FragmentStack(mController.get().getSupportFragmentManager(), TestActivity.CONTAINER_ID).push(fragment, TransitionAnimation.DEFAULT);
+		assertNull(fragment.getArguments());
+
+		mAndroidNavigator.goForwardSingleTop(new FragmentScreen(2));
+
+		assertNull(mNavigationError);
+		assertSame(fragment, getCurrentFragment());
+		assertEquals(new FragmentScreen(2), mAndroidNavigator.getScreenResolver().getScreen(fragment));
+	}
+
+	@Test
+	public void singleTopActivityScreenIsDeliveredWithNewIntent() {
+		launch(new SingleTopActivityScreen(1));
+
+		mAndroidNavigator.goForward(new SingleTopActivityScreen(2));
+
+		assertNull(mNavigationError);
+		Intent intent = shadowOf(mApplication).getNextStartedActivity();
+		assertTrue((intent.getFlags() & Intent.FLAG_ACTIVITY_SINGLE_TOP) != 0);
+		mController.newIntent(intent);
+		assertEquals(new SingleTopActivityScreen(2), mAndroidNavigator.getScreenResolver().getScreen(mController.get(), intent));
+		assertEquals(new SingleTopActivityScreen(2), mAndroidNavigator.getScreenResolver().getScreen(mController.get()));
+	}
+
+	@Test
+	public void activityScreenIsStartedAsNewActivity() {
+		launch(new ActivityScreen(1));
+
+		mAndroidNavigator.goForward(new ActivityScreen(2));
+
+		Intent intent = shadowOf(mApplication).getNextStartedActivity();
+		assertEquals(0, intent.getFlags() & Intent.FLAG_ACTIVITY_SINGLE_TOP);
+	}
+
+	private void launch(@NonNull Screen screen) {
+		ActivityDestination destination = (ActivityDestination) mNavigationFactory.getDestination(screen.getClass());
+		mController = Robolectric.buildActivity(TestActivity.class, destination.createIntent(mApplication, screen, null)).setup();
+		TestActivity activity = mController.get();
+		mAndroidNavigator.bind(new NavigationContext.Builder(activity, mNavigationFactory)
+				.fragmentNavigation(activity.getSupportFragmentManager(), TestActivity.CONTAINER_ID)
+				.screenScopeStore(mScreenScopeStore)
+				.navigationErrorListener(new NavigationErrorListener() {
+					@Override
+					public void onNavigationError(@NonNull NavigationException e) {
+						mNavigationError = e;
+					}
+				})
+				.build());
+	}
+
+	private Fragment getCurrentFragment() {
+		return mController.get().getSupportFragmentManager().findFragmentById(TestActivity.CONTAINER_ID);
+	}
+
+	private int getFragmentCount() {
+		return new FragmentStack(mController.get().getSupportFragmentManager(), TestActivity.CONTAINER_ID).getFragments().size();
+	}
+}
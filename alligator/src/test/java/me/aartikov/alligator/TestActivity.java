@@ -0,0 +1,29 @@
+package me.aartikov.alligator;
+
+import android.content.Intent;
+import android.os.Bundle;
+import android.widget.FrameLayout;
+
+import androidx.appcompat.app.AppCompatActivity;
+
+/**
+ * Activity with a single fragment container for navigation tests.
+ */
+public class TestActivity extends AppCompatActivity {
+	public static final int CONTAINER_ID = 1;
+
+	@Override
+	protected void onCreate(Bundle savedInstanceState) {
+		setTheme(androidx.appcompat.R.style.Theme_AppCompat_Light_NoActionBar);
+		super.onCreate(savedInstanceState);
+		FrameLayout container = new FrameLayout(this);
+		container.setId(CONTAINER_ID);
+		setContentView(container);
+	}
+
+	@Override
+	protected void onNewIntent(Intent intent) {
+		super.onNewIntent(intent);
+		setIntent(intent);
+	}
+}
@@ -0,0 +1,9 @@
+package me.aartikov.alligator;
+
+import androidx.fragment.app.Fragment;
+
+/**
+ * Fragment without a view for navigation tests.
+ */
+public class TestFragment extends Fragment {
+}
@@ -0,0 +1,62 @@
+package me.aartikov.alligator;
+
+import java.io.Serializable;
+
+/**
+ * Screens for navigation tests. Screens of the same class are distinguished by a value.
+ */
+public class TestScreens {
+	public static abstract class ValueScreen implements Screen, Serializable {
+		private int mValue;
+
+		ValueScreen(int value) {
+			mValue = value;
+		}
+
+		public int getValue() {
+			return mValue;
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			return o != null && o.getClass() == getClass() && ((ValueScreen) o).mValue == mValue;
+		}
+
+		@Override
+		public int hashCode() {
+			return 31 * getClass().hashCode() + mValue;
+		}
+
+		@Override
+		public String toString() {
+			return getClass().getSimpleName() + "(" + mValue + ")";
+		}
+	}
+
+	public static class ActivityScreen extends ValueScreen {
+		public ActivityScreen(int value) {
+			super(value);
+		}
+	}
+
+	public static class SingleTopActivityScreen extends ValueScreen implements SingleTopScreen {
+		public SingleTopActivityScreen(int value) {
+			super(value);
+		}
+	}
+
+	public static class FragmentScreen extends ValueScreen {
+		public FragmentScreen(int value) {
+			super(value);
+		}
+	}
+
+	public static class SingleTopFragmentScreen extends ValueScreen implements SingleTopScreen {
+		public SingleTopFragmentScreen(int value) {
+			super(value);
+		}
+	}
+
+	private TestScreens() {
+	}
+}
@@ -0,0 +1,104 @@
+package me.aartikov.alligator.deeplinks;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.annotation.Config;
+
+import me.aartikov.alligator.Screen;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Measures deep link matching with thousands of registered patterns. An average match is expected to take microseconds.
+ */
+@RunWith(RobolectricTestRunner.class)
+@Config(sdk = 28)
+public class RegistryDeepLinkRouterBenchmarkTest {
+	private static final int SECTION_COUNT = 2500;
+	private static final int WARM_UP_ITERATIONS = 20000;
+	private static final int MEASURED_ITERATIONS = 200000;
+	private static final long MAX_AVERAGE_MATCH_TIME_NANOS = 50000;
+
+	private RegistryDeepLinkRouter mRouter;
+	private String[] mUrls;
+
+	@Before
+	public void setUp() {
+		mRouter = new RegistryDeepLinkRouter();
+		DeepLinkScreenFactory<ItemScreen> screenFactory = new DeepLinkScreenFactory<ItemScreen>() {
+			@Override
+			public ItemScreen createScreen(DeepLinkParameters parameters) {
+				return new ItemScreen(parameters.get("id"));
+			}
+		};
+		for (int i = 0; i < SECTION_COUNT; i++) {
+			mRouter.registerDeepLink("https://example.com/section" + i + "/items/{id}", screenFactory);
+			mRouter.registerDeepLink("myapp://section" + i + "/{category}/items/{id}", screenFactory);
+		}
+
+		mUrls = new String[64];
+		for (int i = 0; i < mUrls.length; i++) {
+			int section = i * (SECTION_COUNT / mUrls.length);
+			mUrls[i] = i % 2 == 0
+					? "https://example.com/section" + section + "/items/" + i + "?source=push"
+					: "myapp://section" + section + "/books/items/" + i;
+		}
+	}
+
+	@Test
+	public void matchesRegisteredPatterns() {
+		DeepLinkMatch match = mRouter.match("https://example.com/section42/items/7?source=push");
+		assertNotNull(match);
+		assertEquals("7", match.<ItemScreen>getScreen().mId);
+		assertEquals("push", match.getParameters().get("source"));
+
+		match = mRouter.match("myapp://section42/books/items/8");
+		assertNotNull(match);
+		assertEquals("books", match.getParameters().get("category"));
+
+		assertNull(mRouter.match("https://example.com/section42/items"));
+		assertNull(mRouter.match("https://example.com/section" + SECTION_COUNT + "/items/7"));
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void rejectsParametersInAuthority() {
+		mRouter.registerDeepLink("https://{host}/items/{id}", new DeepLinkScreenFactory<ItemScreen>() {
+			@Override
+			public ItemScreen createScreen(DeepLinkParameters parameters) {
+				return new ItemScreen(parameters.get("id"));
+			}
+		});
+	}
+
+	@Test
+	public void matchingTakesMicroseconds() {
+		for (int i = 0; i < WARM_UP_ITERATIONS; i++) {
+			assertNotNull(mRouter.match(mUrls[i % mUrls.length]));
+		}
+
+		long startTime = System.nanoTime();
+		int matchCount = 0;
+		for (int i = 0; i < MEASURED_ITERATIONS; i++) {
+			if (mRouter.match(mUrls[i % mUrls.length]) != null) {
+				matchCount++;
+			}
+		}
+		long averageTime = (System.nanoTime() - startTime) / MEASURED_ITERATIONS;
+
+		assertEquals(MEASURED_ITERATIONS, matchCount);
+		assertTrue("Average match time with " + 2 * SECTION_COUNT + " patterns is " + averageTime + " ns", averageTime < MAX_AVERAGE_MATCH_TIME_NANOS);
+	}
+
+	private static class ItemScreen implements Screen {
+		final String mId;
+
+		ItemScreen(String id) {
+			mId = id;
+		}
+	}
+}
@@ -0,0 +1,127 @@
+package me.aartikov.alligator.diagnostics;
+
+import androidx.annotation.NonNull;
+
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+
+import me.aartikov.alligator.TestScreens.ActivityScreen;
+import me.aartikov.alligator.TestScreens.FragmentScreen;
+import me.aartikov.alligator.commands.BackCommand;
+import me.aartikov.alligator.commands.Command;
+import me.aartikov.alligator.commands.ForwardCommand;
+import me.aartikov.alligator.commands.ReplaceCommand;
+import me.aartikov.alligator.diagnostics.NavigationJournal.EventType;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class NavigationJournalTest {
+	private static final int BINARY_FORMAT_MAGIC = 0x414c4e4a;
+
+	@Test
+	public void dumpsEventsFromOldestToNewest() {
+		NavigationJournal journal = new NavigationJournal(4);
+		Command forwardCommand = new ForwardCommand(new FragmentScreen(1), null);
+		journal.record(EventType.QUEUED, forwardCommand, 0);
+		journal.record(EventType.EXECUTED, forwardCommand, 5000);
+		journal.record(EventType.FAILED, new BackCommand(null, null), 7000);
+
+		String[] lines = journal.dump().split("\n");
+
+		assertEquals(3, journal.getSize());
+		assertEquals(3, lines.length);
+		assertTrue(lines[0], lines[0].endsWith(" QUEUED ForwardCommand FragmentScreen"));
+		assertTrue(lines[1], lines[1].endsWith(" EXECUTED ForwardCommand FragmentScreen 5us"));
+		assertTrue(lines[2], lines[2].endsWith(" FAILED BackCommand 7us"));
+	}
+
+	@Test
+	public void overwritesOldestEventsWhenFull() {
+		NavigationJournal journal = new NavigationJournal(3);
+		for (int i = 1; i <= 5; i++) {
+			journal.record(EventType.EXECUTED, new ForwardCommand(new FragmentScreen(i), null), i * 1000);
+		}
+
+		String[] lines = journal.dump().split("\n");
+
+		assertEquals(3, journal.getSize());
+		assertEquals(3, lines.length);
+		assertTrue(lines[0], lines[0].endsWith(" 3us"));
+		assertTrue(lines[1], lines[1].endsWith(" 4us"));
+		assertTrue(lines[2], lines[2].endsWith(" 5us"));
+	}
+
+	@Test
+	public void clearRemovesAllEvents() {
+		NavigationJournal journal = new NavigationJournal(2);
+		journal.record(EventType.QUEUED, new BackCommand(null, null), 0);
+		journal.record(EventType.EXECUTED, new BackCommand(null, null), 0);
+		journal.record(EventType.QUEUED, new BackCommand(null, null), 0);
+
+		journal.clear();
+
+		assertEquals(0, journal.getSize());
+		assertEquals("", journal.dump());
+	}
+
+	@Test
+	public void writesEventsInBinaryFormatAfterWraparound() throws IOException {
+		NavigationJournal journal = new NavigationJournal(3);
+		journal.record(EventType.QUEUED, new BackCommand(null, null), 0);
+		journal.record(EventType.EXECUTED, new ForwardCommand(new FragmentScreen(1), null), 1000);
+		journal.record(EventType.QUEUED, new ReplaceCommand(new ActivityScreen(1), null), 0);
+		journal.record(EventType.FAILED, new ReplaceCommand(new ActivityScreen(1), null), 2000);
+
+		DataInputStream in = writeAndOpen(journal);
+
+		assertEquals(BINARY_FORMAT_MAGIC, in.readInt());
+		assertEquals(NavigationJournal.BINARY_FORMAT_VERSION, in.readInt());
+		String[] classNames = new String[in.readInt()];
+		for (int i = 0; i < classNames.length; i++) {
+			classNames[i] = in.readUTF();
+		}
+		assertEquals(4, classNames.length);    // BackCommand is overwritten
+
+		assertEquals(3, in.readInt());
+		assertEvent(in, classNames, EventType.EXECUTED, ForwardCommand.class, FragmentScreen.class, 1000);
+		assertEvent(in, classNames, EventType.QUEUED, ReplaceCommand.class, ActivityScreen.class, 0);
+		assertEvent(in, classNames, EventType.FAILED, ReplaceCommand.class, ActivityScreen.class, 2000);
+		assertEquals(-1, in.read());
+	}
+
+	@Test
+	public void writesScreenIndexMinusOneForCommandsWithoutScreen() throws IOException {
+		NavigationJournal journal = new NavigationJournal(1);
+		journal.record(EventType.QUEUED, new BackCommand(null, null), 0);
+
+		DataInputStream in = writeAndOpen(journal);
+		in.readInt();
+		in.readInt();
+		assertEquals(1, in.readInt());
+		assertEquals(BackCommand.class.getName(), in.readUTF());
+		assertEquals(1, in.readInt());
+		assertEquals(EventType.QUEUED.ordinal(), in.readByte());
+		assertEquals(0, in.readShort());
+		assertEquals(-1, in.readShort());
+	}
+
+	@NonNull
+	private static DataInputStream writeAndOpen(@NonNull NavigationJournal journal) throws IOException {
+		ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+		journal.writeTo(outputStream);
+		return new DataInputStream(new ByteArrayInputStream(outputStream.toByteArray()));
+	}
+
+	private static void assertEvent(@NonNull DataInputStream in, @NonNull String[] classNames, @NonNull EventType eventType, @NonNull Class<?> commandClass, @NonNull Class<?> screenClass, long duration) throws IOException {
+		assertEquals(eventType.ordinal(), in.readByte());
+		assertEquals(commandClass.getName(), classNames[in.readShort()]);
+		assertEquals(screenClass.getName(), classNames[in.readShort()]);
+		assertTrue(in.readLong() > 0);
+		assertEquals(duration, in.readLong());
+	}
+}
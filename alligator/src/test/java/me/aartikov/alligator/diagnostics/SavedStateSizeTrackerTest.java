@@ -0,0 +1,76 @@
+package me.aartikov.alligator.diagnostics;
+
+import android.app.Application;
+import android.os.Bundle;
+
+import androidx.annotation.NonNull;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.Robolectric;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.RuntimeEnvironment;
+import org.robolectric.android.controller.ActivityController;
+import org.robolectric.annotation.Config;
+import org.robolectric.shadows.ShadowLooper;
+
+import me.aartikov.alligator.Screen;
+import me.aartikov.alligator.TestActivity;
+import me.aartikov.alligator.TestFragment;
+import me.aartikov.alligator.TestScreens.ActivityScreen;
+import me.aartikov.alligator.navigationfactories.RegistryNavigationFactory;
+
+import static org.junit.Assert.assertTrue;
+
+@RunWith(RobolectricTestRunner.class)
+@Config(sdk = 28)
+public class SavedStateSizeTrackerTest {
+	private static final int FRAGMENT_STATE_SIZE = 20 * 1024;
+
+	private Application mApplication;
+	private SavedStateSizeTracker mTracker;
+
+	public static class LargeStateFragment extends TestFragment {
+		@Override
+		public void onSaveInstanceState(@NonNull Bundle outState) {
+			super.onSaveInstanceState(outState);
+			outState.putByteArray("data", new byte[FRAGMENT_STATE_SIZE]);
+		}
+	}
+
+	@Before
+	public void setUp() {
+		RegistryNavigationFactory navigationFactory = new RegistryNavigationFactory();
+		navigationFactory.registerActivity(ActivityScreen.class, TestActivity.class);
+		mTracker = new SavedStateSizeTracker(navigationFactory, new SavedStateSizeListener() {
+			@Override
+			public void onWarnThresholdExceeded(@NonNull Class<? extends Screen> screenClass, @NonNull SavedStateSizeTracker.StateType stateType, int size) {
+			}
+		});
+		mApplication = RuntimeEnvironment.application;
+		mApplication.registerActivityLifecycleCallbacks(mTracker);
+	}
+
+	@After
+	public void tearDown() {
+		mApplication.unregisterActivityLifecycleCallbacks(mTracker);
+	}
+
+	@Test
+	public void activitySavedStateIncludesFragmentStates() {
+		ActivityController<TestActivity> controller = Robolectric.buildActivity(TestActivity.class).setup();
+		controller.get().getSupportFragmentManager()
+				.beginTransaction()
+				.add(TestActivity.CONTAINER_ID, new LargeStateFragment())
+				.commitNow();
+
+		ShadowLooper.pauseMainLooper();
+		controller.pause().stop().saveInstanceState(new Bundle());
+		ShadowLooper.unPauseMainLooper();
+
+		int totalSize = mTracker.getTotalSavedStateSize();
+		assertTrue("Total saved state size is " + totalSize, totalSize > FRAGMENT_STATE_SIZE);
+	}
+}
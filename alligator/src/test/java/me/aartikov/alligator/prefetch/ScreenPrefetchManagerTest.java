@@ -0,0 +1,75 @@
+package me.aartikov.alligator.prefetch;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.annotation.Config;
+
+import java.io.Serializable;
+
+import me.aartikov.alligator.Screen;
+import me.aartikov.alligator.TestScreens.ActivityScreen;
+import me.aartikov.alligator.commands.ForwardCommand;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+@RunWith(RobolectricTestRunner.class)
+@Config(sdk = 28)
+public class ScreenPrefetchManagerTest {
+	private ScreenPrefetchManager mPrefetchManager;
+
+	public static class PlainScreen implements Screen, Serializable {
+	}
+
+	private static class ClassNamePrefetcher<ScreenT extends Screen> implements ScreenPrefetcher<ScreenT, String> {
+		@Override
+		@Nullable
+		public String prefetch(@NonNull ScreenT screen) {
+			return screen.getClass().getSimpleName() + " " + screen.hashCode();
+		}
+
+		@Override
+		public void release(@NonNull String data) {
+		}
+	}
+
+	@Before
+	public void setUp() {
+		mPrefetchManager = new ScreenPrefetchManager();
+		mPrefetchManager.registerPrefetcher(PlainScreen.class, new ClassNamePrefetcher<PlainScreen>());
+		mPrefetchManager.registerPrefetcher(ActivityScreen.class, new ClassNamePrefetcher<ActivityScreen>());
+	}
+
+	@Test
+	public void matchesRestoredCopyOfScreenWithoutEqualsByClass() {
+		PlainScreen screen = new PlainScreen();
+		queueForward(screen);
+
+		String data = mPrefetchManager.takePrefetchedData(new PlainScreen());
+
+		assertEquals("PlainScreen " + screen.hashCode(), data);
+		assertNull(mPrefetchManager.takePrefetchedData(new PlainScreen()));
+	}
+
+	@Test
+	public void matchesScreenWithEqualsByValue() {
+		ActivityScreen screen = new ActivityScreen(1);
+		queueForward(screen);
+
+		assertNull(mPrefetchManager.takePrefetchedData(new ActivityScreen(2)));
+		String data = mPrefetchManager.takePrefetchedData(new ActivityScreen(1));
+
+		assertEquals("ActivityScreen " + screen.hashCode(), data);
+	}
+
+	private void queueForward(@NonNull Screen screen) {
+		ForwardCommand command = new ForwardCommand(screen, null);
+		mPrefetchManager.onCommandQueued(command);
+		mPrefetchManager.onCommandExecuted(command);
+	}
+}
@@ -0,0 +1,99 @@
+package me.aartikov.alligator.stress;
+
+import androidx.annotation.NonNull;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.annotation.Config;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import me.aartikov.alligator.core.DestinationKind;
+import me.aartikov.alligator.core.stress.StressCommand;
+import me.aartikov.alligator.core.trace.NavigationTrace;
+import me.aartikov.alligator.core.trace.NavigationTraceReplayer;
+import me.aartikov.alligator.core.trace.ReplayReport;
+import me.aartikov.alligator.core.trace.StandInTraceScreenFactory;
+import me.aartikov.alligator.stress.StressScreens.MainActivityScreen;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Replays a trace recorded in an app on {@link me.aartikov.alligator.AndroidNavigator}. The app's screen classes are not available, so they are replaced with
+ * {@link StandInScreens}.
+ */
+@RunWith(RobolectricTestRunner.class)
+@Config(sdk = 28)
+public class AndroidNavigatorReplayTest {
+	private static final String CATALOG = "com.example.shop.CatalogScreen";
+	private static final String PRODUCT = "com.example.shop.ProductScreen";
+	private static final String FILTER_DIALOG = "com.example.shop.FilterDialogScreen";
+	private static final String CART_ACTIVITY = "com.example.shop.CartActivityScreen";
+	private static final String CHECKOUT_STEP = "com.example.shop.CheckoutStepScreen";
+	private static final String PAYMENT_STEP = "com.example.shop.PaymentStepScreen";
+
+	private static final int ITERATION_COUNT = 5;
+	private static final int WARM_UP_ITERATION_COUNT = 1;
+
+	@Test
+	public void replaysRecordedTraceWithStandIns() throws IOException {
+		NavigationTrace trace = writeAndRead(createTrace());
+		StandInTraceScreenFactory screenFactory = new StandInTraceScreenFactory(trace);
+		StandInScreens.addTo(screenFactory);
+		NavigationTraceReplayer replayer = new NavigationTraceReplayer(trace, screenFactory,
+				AndroidStressTarget.factory(StressScreens.createNavigationFactory(), new MainActivityScreen(0)));
+		replayer.setIterationCount(ITERATION_COUNT);
+		replayer.setWarmUpIterationCount(WARM_UP_ITERATION_COUNT);
+
+		ReplayReport report = replayer.run();
+
+		assertEquals(report.toString(), 0, report.getSkippedCommandCount());
+		assertEquals(report.toString(), 0, report.getFailedCommandCount());
+	}
+
+	@NonNull
+	private static NavigationTrace createTrace() {
+		NavigationTrace trace = new NavigationTrace();
+		trace.setDestinationKind(CATALOG, DestinationKind.FRAGMENT, false);
+		trace.setDestinationKind(PRODUCT, DestinationKind.FRAGMENT, false);
+		trace.setDestinationKind(FILTER_DIALOG, DestinationKind.DIALOG_FRAGMENT, false);
+		trace.setDestinationKind(CART_ACTIVITY, DestinationKind.ACTIVITY, false);
+		trace.setDestinationKind(CHECKOUT_STEP, DestinationKind.FRAGMENT, true);
+		trace.setDestinationKind(PAYMENT_STEP, DestinationKind.FRAGMENT, true);
+
+		add(trace, StressCommand.Type.GO_FORWARD, CATALOG);
+		add(trace, StressCommand.Type.GO_FORWARD, PRODUCT);
+		add(trace, StressCommand.Type.GO_FORWARD, FILTER_DIALOG);
+		add(trace, StressCommand.Type.GO_BACK);
+		add(trace, StressCommand.Type.GO_FORWARD, CART_ACTIVITY);
+		add(trace, StressCommand.Type.GO_FORWARD, CHECKOUT_STEP);
+		add(trace, StressCommand.Type.GO_FORWARD, PAYMENT_STEP);
+		add(trace, StressCommand.Type.GO_BACK);
+		add(trace, StressCommand.Type.FINISH);
+		add(trace, StressCommand.Type.GO_BACK);
+		add(trace, StressCommand.Type.GO_BACK_TO, CATALOG);
+		add(trace, StressCommand.Type.REPLACE, PRODUCT);
+		add(trace, StressCommand.Type.SET_BACK_STACK, CATALOG, PRODUCT);
+		add(trace, StressCommand.Type.RESET, CATALOG);
+		return trace;
+	}
+
+	private static void add(@NonNull NavigationTrace trace, @NonNull StressCommand.Type commandType, @NonNull String... screenClassNames) {
+		List<String> names = screenClassNames.length == 0 ? Collections.<String>emptyList() : Arrays.asList(screenClassNames);
+		trace.add(new NavigationTrace.Entry(commandType, names, trace.getSize() * 100L, 0, false));
+	}
+
+	// Destination kinds should survive the binary format, because recorded traces are usually pulled from devices as files.
+	@NonNull
+	private static NavigationTrace writeAndRead(@NonNull NavigationTrace trace) throws IOException {
+		ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+		trace.writeTo(outputStream);
+		return NavigationTrace.readFrom(new ByteArrayInputStream(outputStream.toByteArray()));
+	}
+}
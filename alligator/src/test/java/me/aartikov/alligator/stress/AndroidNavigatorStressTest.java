@@ -0,0 +1,41 @@
+package me.aartikov.alligator.stress;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.annotation.Config;
+
+import me.aartikov.alligator.core.stress.NavigationStressRunner;
+import me.aartikov.alligator.core.stress.StressReport;
+import me.aartikov.alligator.navigationfactories.NavigationFactoryDestinationResolver;
+import me.aartikov.alligator.navigationfactories.RegistryNavigationFactory;
+import me.aartikov.alligator.stress.StressScreens.MainActivityScreen;
+
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Executes random command sequences on {@link me.aartikov.alligator.AndroidNavigator} and compares its state with the reference model after every command.
+ */
+@RunWith(RobolectricTestRunner.class)
+@Config(sdk = 28)
+public class AndroidNavigatorStressTest {
+	private static final long SEED = 42;
+	private static final int SEQUENCE_COUNT = 20;
+	private static final int SEQUENCE_LENGTH = 40;
+
+	@Test
+	public void androidNavigatorMatchesModel() {
+		RegistryNavigationFactory navigationFactory = StressScreens.createNavigationFactory();
+		MainActivityScreen rootScreen = new MainActivityScreen(0);
+		NavigationStressRunner runner = new NavigationStressRunner(new NavigationFactoryDestinationResolver(navigationFactory), rootScreen,
+				StressScreens.createScreens(), AndroidStressTarget.factory(navigationFactory, rootScreen));
+		runner.setSwitchedScreens(StressScreens.createTabScreens());
+		runner.setSeed(SEED);
+		runner.setSequenceCount(SEQUENCE_COUNT);
+		runner.setSequenceLength(SEQUENCE_LENGTH);
+
+		StressReport report = runner.run();
+
+		assertTrue(report.toString(), report.isSuccessful());
+	}
+}
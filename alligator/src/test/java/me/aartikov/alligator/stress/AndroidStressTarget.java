@@ -0,0 +1,306 @@
+package me.aartikov.alligator.stress;
+
+import android.app.Activity;
+import android.app.Application;
+import android.content.ComponentName;
+import android.content.Intent;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.fragment.app.DialogFragment;
+import androidx.fragment.app.Fragment;
+import androidx.fragment.app.FragmentManager;
+
+import org.robolectric.Robolectric;
+import org.robolectric.RuntimeEnvironment;
+import org.robolectric.android.controller.ActivityController;
+import org.robolectric.shadows.ShadowLooper;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.List;
+
+import me.aartikov.alligator.ActivityTracker;
+import me.aartikov.alligator.AndroidNavigator;
+import me.aartikov.alligator.BackStackNavigator;
+import me.aartikov.alligator.NavigationContext;
+import me.aartikov.alligator.Screen;
+import me.aartikov.alligator.ScreenResolver;
+import me.aartikov.alligator.core.ActivityState;
+import me.aartikov.alligator.core.NavigationState;
+import me.aartikov.alligator.core.stress.StressTarget;
+import me.aartikov.alligator.destinations.ActivityDestination;
+import me.aartikov.alligator.exceptions.NavigationException;
+import me.aartikov.alligator.helpers.DialogFragmentStack;
+import me.aartikov.alligator.helpers.FragmentStack;
+import me.aartikov.alligator.listeners.NavigationErrorListener;
+import me.aartikov.alligator.navigationfactories.NavigationFactory;
+
+import static org.robolectric.Shadows.shadowOf;
+
+/**
+ * {@link StressTarget} backed by {@link AndroidNavigator} with a real {@link NavigationContext}, activities and fragments run by Robolectric.
+ * After every navigator call the target runs main thread tasks and moves started and finished activities through their lifecycle the way the system does,
+ * so the call returns when the command is completed. Errors passed to {@link NavigationErrorListener} are rethrown.
+ */
+public class AndroidStressTarget implements StressTarget {
+	@Nullable
+	private static AndroidStressTarget sCurrentTarget;
+
+	private Application mApplication;
+	private NavigationFactory mNavigationFactory;
+	private AndroidNavigator mAndroidNavigator;
+	private BackStackNavigator mNavigator;
+	private ActivityTracker mActivityTracker;
+	private List<ActivityController<? extends StressActivity>> mControllers = new ArrayList<>();    // ordered from the bottom to the top
+	@Nullable
+	private NavigationException mNavigationError;
+
+	/**
+	 * @param navigationFactory  navigation factory with screens represented by {@link StressActivity}, {@link StressFragment} and {@link StressDialogFragment}
+	 * @param rootActivityScreen screen of the first activity
+	 */
+	public AndroidStressTarget(@NonNull NavigationFactory navigationFactory, @NonNull Screen rootActivityScreen) {
+		sCurrentTarget = this;
+		mApplication = RuntimeEnvironment.application;
+		mNavigationFactory = navigationFactory;
+		mAndroidNavigator = new AndroidNavigator(navigationFactory);
+		mNavigator = createCompletingNavigator();
+		mActivityTracker = new ActivityTracker(navigationFactory);
+		mApplication.registerActivityLifecycleCallbacks(mActivityTracker);
+		for (Class<?> activityClass : StressActivity.ACTIVITY_CLASSES) {
+			shadowOf(mApplication.getPackageManager()).addActivityIfNotPresent(new ComponentName(mApplication, activityClass));
+		}
+
+		ActivityDestination destination = (ActivityDestination) navigationFactory.getDestination(rootActivityScreen.getClass());
+		if (destination == null) {
+			throw new IllegalArgumentException("Screen " + rootActivityScreen.getClass().getSimpleName() + " is not registered as an activity.");
+		}
+		launch(destination.createIntent(mApplication, rootActivityScreen, null));
+		completeCommands();
+	}
+
+	@NonNull
+	public static StressTarget.Factory factory(@NonNull final NavigationFactory navigationFactory, @NonNull final Screen rootActivityScreen) {
+		return new StressTarget.Factory() {
+			@Override
+			@NonNull
+			public StressTarget create() {
+				return new AndroidStressTarget(navigationFactory, rootActivityScreen);
+			}
+		};
+	}
+
+	@NonNull
+	static AndroidStressTarget getCurrentTarget() {
+		if (sCurrentTarget == null) {
+			throw new IllegalStateException("There is no stress target.");
+		}
+		return sCurrentTarget;
+	}
+
+	@NonNull
+	NavigationFactory getNavigationFactory() {
+		return mNavigationFactory;
+	}
+
+	@NonNull
+	AndroidNavigator getAndroidNavigator() {
+		return mAndroidNavigator;
+	}
+
+	@NonNull
+	NavigationContext createNavigationContext(@NonNull StressActivity activity) {
+		FragmentManager fragmentManager = activity.getSupportFragmentManager();
+		return new NavigationContext.Builder(activity, mNavigationFactory)
+				.fragmentNavigation(fragmentManager, StressActivity.FRAGMENT_CONTAINER_ID)
+				.flowFragmentNavigation(fragmentManager, StressActivity.FLOW_FRAGMENT_CONTAINER_ID)
+				.screenSwitcher(activity.getScreenSwitcher())
+				.activityTracker(mActivityTracker)
+				.navigationErrorListener(new NavigationErrorListener() {
+					@Override
+					public void onNavigationError(@NonNull NavigationException e) {
+						mNavigationError = e;
+					}
+				})
+				.build();
+	}
+
+	@Override
+	@NonNull
+	public BackStackNavigator getNavigator() {
+		return mNavigator;
+	}
+
+	@Override
+	@Nullable
+	public NavigationState getState() {
+		ScreenResolver screenResolver = mAndroidNavigator.getScreenResolver();
+		List<ActivityState> activities = new ArrayList<>();
+		for (ActivityController<? extends StressActivity> controller : mControllers) {
+			StressActivity activity = controller.get();
+			FragmentManager fragmentManager = activity.getSupportFragmentManager();
+			ActivityState activityState = new ActivityState(screenResolver.<Screen>getScreen(activity));
+			for (Fragment fragment : new FragmentStack(fragmentManager, StressActivity.FRAGMENT_CONTAINER_ID).getFragments()) {
+				activityState.getFragments().push(screenResolver.<Screen>getScreen(fragment));
+			}
+			for (Fragment fragment : new FragmentStack(fragmentManager, StressActivity.FLOW_FRAGMENT_CONTAINER_ID).getFragments()) {
+				activityState.getFlowFragments().push(screenResolver.<Screen>getScreen(fragment));
+			}
+			for (DialogFragment dialogFragment : new DialogFragmentStack(fragmentManager).getDialogFragments()) {
+				activityState.getDialogFragments().push(screenResolver.<Screen>getScreen(dialogFragment));
+			}
+			Fragment switchedFragment = activity.getScreenSwitcher().getCurrentFragment();
+			if (switchedFragment != null) {
+				activityState.setSwitchedScreen(screenResolver.<Screen>getScreen(switchedFragment));
+			}
+			activities.add(activityState);
+		}
+		return new NavigationState(activities);
+	}
+
+	@Override
+	public void release() {
+		for (ActivityController<? extends StressActivity> controller : mControllers) {
+			controller.get().finish();
+		}
+		while (!mControllers.isEmpty()) {
+			destroyFinishedActivities();
+		}
+		mApplication.unregisterActivityLifecycleCallbacks(mActivityTracker);
+		sCurrentTarget = null;
+	}
+
+	// Every call is followed by completeCommands, so latency of a command includes fragment transactions and activity lifecycle.
+	@NonNull
+	private BackStackNavigator createCompletingNavigator() {
+		return (BackStackNavigator) Proxy.newProxyInstance(BackStackNavigator.class.getClassLoader(), new Class<?>[]{BackStackNavigator.class}, new InvocationHandler() {
+			@Override
+			public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+				Object result;
+				try {
+					result = method.invoke(mAndroidNavigator, args);
+				} catch (InvocationTargetException e) {
+					throw e.getCause();
+				}
+				completeCommands();
+				return result;
+			}
+		});
+	}
+
+	private void completeCommands() {
+		while (true) {
+			ShadowLooper.idleMainLooper();
+			Intent intent = shadowOf(mApplication).getNextStartedActivity();
+			if (intent != null) {
+				start(intent);
+			} else if (!destroyFinishedActivities()) {
+				break;
+			}
+		}
+
+		if (mNavigationError != null) {
+			NavigationException error = mNavigationError;
+			mNavigationError = null;
+			throw new IllegalStateException("Navigation error: " + error.getMessage(), error);
+		}
+	}
+
+	private void start(@NonNull Intent intent) {
+		Class<? extends StressActivity> activityClass = getActivityClass(intent);
+		int flags = intent.getFlags();
+		if ((flags & Intent.FLAG_ACTIVITY_CLEAR_TASK) != 0) {
+			for (ActivityController<? extends StressActivity> controller : mControllers) {
+				controller.get().finish();
+			}
+			launch(intent);
+			return;
+		}
+
+		if ((flags & Intent.FLAG_ACTIVITY_CLEAR_TOP) != 0) {
+			int index = lastIndexOf(activityClass);
+			if (index != -1) {
+				for (int i = index + 1; i < mControllers.size(); i++) {
+					mControllers.get(i).get().finish();
+				}
+				destroyFinishedActivities();
+				deliverNewIntent(intent);
+				return;
+			}
+		}
+
+		if ((flags & Intent.FLAG_ACTIVITY_SINGLE_TOP) != 0 && lastIndexOf(activityClass) == mControllers.size() - 1) {
+			deliverNewIntent(intent);
+			return;
+		}
+		launch(intent);
+	}
+
+	private void launch(@NonNull Intent intent) {
+		ActivityController<? extends StressActivity> previousController = getTopController();
+		if (previousController != null) {
+			previousController.pause();
+		}
+		mControllers.add(Robolectric.buildActivity(getActivityClass(intent), intent).setup());
+		if (previousController != null) {
+			previousController.stop();
+		}
+	}
+
+	private void deliverNewIntent(@NonNull Intent intent) {
+		getTopController().pause().newIntent(intent).resume();
+	}
+
+	// A finishing top activity is paused before the activity below it is resumed, as in the system.
+	private boolean destroyFinishedActivities() {
+		boolean destroyed = false;
+		for (int i = mControllers.size() - 2; i >= 0; i--) {
+			ActivityController<? extends StressActivity> controller = mControllers.get(i);
+			if (controller.get().isFinishing()) {
+				mControllers.remove(i);
+				controller.destroy();
+				destroyed = true;
+			}
+		}
+
+		ActivityController<? extends StressActivity> topController = getTopController();
+		if (topController != null && topController.get().isFinishing()) {
+			topController.pause();
+			mControllers.remove(mControllers.size() - 1);
+			ActivityController<? extends StressActivity> nextController = getTopController();
+			if (nextController != null) {
+				nextController.restart().resume();
+			}
+			topController.stop().destroy();
+			destroyed = true;
+		}
+		return destroyed;
+	}
+
+	@Nullable
+	private ActivityController<? extends StressActivity> getTopController() {
+		return mControllers.isEmpty() ? null : mControllers.get(mControllers.size() - 1);
+	}
+
+	private int lastIndexOf(@NonNull Class<? extends Activity> activityClass) {
+		for (int i = mControllers.size() - 1; i >= 0; i--) {
+			if (mControllers.get(i).get().getClass() == activityClass) {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	@NonNull
+	private Class<? extends StressActivity> getActivityClass(@NonNull Intent intent) {
+		try {
+			return Class.forName(intent.getComponent().getClassName()).asSubclass(StressActivity.class);
+		} catch (ClassNotFoundException e) {
+			throw new IllegalStateException("Unknown activity " + intent.getComponent().getClassName(), e);
+		}
+	}
+}
@@ -0,0 +1,101 @@
+package me.aartikov.alligator.stress;
+
+import androidx.annotation.NonNull;
+
+import java.util.Arrays;
+import java.util.List;
+
+import me.aartikov.alligator.FlowScreen;
+import me.aartikov.alligator.Screen;
+import me.aartikov.alligator.core.DestinationKind;
+import me.aartikov.alligator.core.trace.StandInTraceScreenFactory;
+import me.aartikov.alligator.navigationfactories.RegistryNavigationFactory;
+import me.aartikov.alligator.stress.StressScreens.ValueScreen;
+
+/**
+ * Stand-in screens for replaying traces recorded in an app. They are public and have constructors without arguments, so {@link StandInTraceScreenFactory} can create them.
+ */
+public class StandInScreens {
+	public static class ActivityStandIn1 extends ValueScreen {
+		public ActivityStandIn1() {
+			super(0);
+		}
+	}
+
+	public static class ActivityStandIn2 extends ValueScreen {
+		public ActivityStandIn2() {
+			super(0);
+		}
+	}
+
+	public static class ActivityStandIn3 extends ValueScreen {
+		public ActivityStandIn3() {
+			super(0);
+		}
+	}
+
+	public static class FragmentStandIn1 extends ValueScreen {
+		public FragmentStandIn1() {
+			super(0);
+		}
+	}
+
+	public static class FragmentStandIn2 extends ValueScreen {
+		public FragmentStandIn2() {
+			super(0);
+		}
+	}
+
+	public static class FragmentStandIn3 extends ValueScreen {
+		public FragmentStandIn3() {
+			super(0);
+		}
+	}
+
+	public static class FlowStandIn1 extends ValueScreen implements FlowScreen {
+		public FlowStandIn1() {
+			super(0);
+		}
+	}
+
+	public static class FlowStandIn2 extends ValueScreen implements FlowScreen {
+		public FlowStandIn2() {
+			super(0);
+		}
+	}
+
+	public static class DialogStandIn1 extends ValueScreen {
+		public DialogStandIn1() {
+			super(0);
+		}
+	}
+
+	public static class DialogStandIn2 extends ValueScreen {
+		public DialogStandIn2() {
+			super(0);
+		}
+	}
+
+	static void register(@NonNull RegistryNavigationFactory navigationFactory) {
+		navigationFactory.registerActivity(ActivityStandIn1.class, StressActivity.StandInActivity1.class);
+		navigationFactory.registerActivity(ActivityStandIn2.class, StressActivity.StandInActivity2.class);
+		navigationFactory.registerActivity(ActivityStandIn3.class, StressActivity.StandInActivity3.class);
+		navigationFactory.registerFragment(FragmentStandIn1.class, StressFragment.class);
+		navigationFactory.registerFragment(FragmentStandIn2.class, StressFragment.class);
+		navigationFactory.registerFragment(FragmentStandIn3.class, StressFragment.class);
+		navigationFactory.registerFragment(FlowStandIn1.class, StressFragment.class);
+		navigationFactory.registerFragment(FlowStandIn2.class, StressFragment.class);
+		navigationFactory.registerDialogFragment(DialogStandIn1.class, StressDialogFragment.class);
+		navigationFactory.registerDialogFragment(DialogStandIn2.class, StressDialogFragment.class);
+	}
+
+	static void addTo(@NonNull StandInTraceScreenFactory screenFactory) {
+		screenFactory.addStandIns(DestinationKind.ACTIVITY, Arrays.<Class<? extends Screen>>asList(ActivityStandIn1.class, ActivityStandIn2.class, ActivityStandIn3.class));
+		screenFactory.addStandIns(DestinationKind.FRAGMENT, Arrays.<Class<? extends Screen>>asList(FragmentStandIn1.class, FragmentStandIn2.class, FragmentStandIn3.class,
+				FlowStandIn1.class, FlowStandIn2.class));
+		screenFactory.addStandIns(DestinationKind.DIALOG_FRAGMENT, Arrays.<Class<? extends Screen>>asList(DialogStandIn1.class, DialogStandIn2.class));
+	}
+
+	private StandInScreens() {
+	}
+}
@@ -0,0 +1,82 @@
+package me.aartikov.alligator.stress;
+
+import android.content.Intent;
+import android.os.Bundle;
+import android.widget.FrameLayout;
+import android.widget.LinearLayout;
+
+import androidx.appcompat.app.AppCompatActivity;
+
+import me.aartikov.alligator.screenswitchers.FragmentScreenSwitcher;
+
+/**
+ * Activity with containers for usual fragments, flow fragments and switched fragments. It is bound to {@link AndroidStressTarget#getCurrentTarget()}.
+ */
+public abstract class StressActivity extends AppCompatActivity {
+	static final int FRAGMENT_CONTAINER_ID = 1;
+	static final int FLOW_FRAGMENT_CONTAINER_ID = 2;
+	static final int SWITCHER_CONTAINER_ID = 3;
+
+	static final Class<?>[] ACTIVITY_CLASSES = {MainActivity.class, SecondActivity.class, SingleTopActivity.class,
+			StandInActivity1.class, StandInActivity2.class, StandInActivity3.class};
+
+	private FragmentScreenSwitcher mScreenSwitcher;
+
+	@Override
+	protected void onCreate(Bundle savedInstanceState) {
+		setTheme(androidx.appcompat.R.style.Theme_AppCompat_Light_NoActionBar);
+		super.onCreate(savedInstanceState);
+
+		LinearLayout layout = new LinearLayout(this);
+		for (int containerId : new int[]{FRAGMENT_CONTAINER_ID, FLOW_FRAGMENT_CONTAINER_ID, SWITCHER_CONTAINER_ID}) {
+			FrameLayout container = new FrameLayout(this);
+			container.setId(containerId);
+			layout.addView(container);
+		}
+		setContentView(layout);
+
+		AndroidStressTarget target = AndroidStressTarget.getCurrentTarget();
+		mScreenSwitcher = new FragmentScreenSwitcher(target.getNavigationFactory(), getSupportFragmentManager(), SWITCHER_CONTAINER_ID);
+	}
+
+	@Override
+	protected void onNewIntent(Intent intent) {
+		super.onNewIntent(intent);
+		setIntent(intent);
+	}
+
+	@Override
+	protected void onResumeFragments() {
+		super.onResumeFragments();
+		AndroidStressTarget target = AndroidStressTarget.getCurrentTarget();
+		target.getAndroidNavigator().bind(target.createNavigationContext(this));
+	}
+
+	@Override
+	protected void onPause() {
+		AndroidStressTarget.getCurrentTarget().getAndroidNavigator().unbind(this);
+		super.onPause();
+	}
+
+	FragmentScreenSwitcher getScreenSwitcher() {
+		return mScreenSwitcher;
+	}
+
+	public static class MainActivity extends StressActivity {
+	}
+
+	public static class SecondActivity extends StressActivity {
+	}
+
+	public static class SingleTopActivity extends StressActivity {
+	}
+
+	public static class StandInActivity1 extends StressActivity {
+	}
+
+	public static class StandInActivity2 extends StressActivity {
+	}
+
+	public static class StandInActivity3 extends StressActivity {
+	}
+}
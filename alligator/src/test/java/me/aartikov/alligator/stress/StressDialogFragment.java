@@ -0,0 +1,9 @@
+package me.aartikov.alligator.stress;
+
+import androidx.fragment.app.DialogFragment;
+
+/**
+ * Dialog fragment that represents any dialog screen in stress tests.
+ */
+public class StressDialogFragment extends DialogFragment {
+}
@@ -0,0 +1,9 @@
+package me.aartikov.alligator.stress;
+
+import androidx.fragment.app.Fragment;
+
+/**
+ * Fragment without a view that represents any fragment screen in stress tests.
+ */
+public class StressFragment extends Fragment {
+}
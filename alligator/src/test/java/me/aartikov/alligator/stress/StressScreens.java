@@ -0,0 +1,118 @@
+package me.aartikov.alligator.stress;
+
+import androidx.annotation.NonNull;
+
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.List;
+
+import me.aartikov.alligator.FlowScreen;
+import me.aartikov.alligator.Screen;
+import me.aartikov.alligator.SingleTopScreen;
+import me.aartikov.alligator.navigationfactories.RegistryNavigationFactory;
+
+/**
+ * Screens for stress tests of {@code AndroidNavigator}. Screens of the same class are distinguished by a value, so single top delivery and back stack diffs are exercised.
+ */
+class StressScreens {
+	static abstract class ValueScreen implements Screen, Serializable {
+		private int mValue;
+
+		ValueScreen(int value) {
+			mValue = value;
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			return o != null && o.getClass() == getClass() && ((ValueScreen) o).mValue == mValue;
+		}
+
+		@Override
+		public int hashCode() {
+			return 31 * getClass().hashCode() + mValue;
+		}
+
+		@Override
+		public String toString() {
+			return getClass().getSimpleName() + "(" + mValue + ")";
+		}
+	}
+
+	static class MainActivityScreen extends ValueScreen {
+		MainActivityScreen(int value) {
+			super(value);
+		}
+	}
+
+	static class SecondActivityScreen extends ValueScreen {
+		SecondActivityScreen(int value) {
+			super(value);
+		}
+	}
+
+	static class SingleTopActivityScreen extends ValueScreen implements SingleTopScreen {
+		SingleTopActivityScreen(int value) {
+			super(value);
+		}
+	}
+
+	static class FragmentScreen extends ValueScreen {
+		FragmentScreen(int value) {
+			super(value);
+		}
+	}
+
+	static class SingleTopFragmentScreen extends ValueScreen implements SingleTopScreen {
+		SingleTopFragmentScreen(int value) {
+			super(value);
+		}
+	}
+
+	static class StepFlowScreen extends ValueScreen implements FlowScreen {
+		StepFlowScreen(int value) {
+			super(value);
+		}
+	}
+
+	static class DialogScreen extends ValueScreen {
+		DialogScreen(int value) {
+			super(value);
+		}
+	}
+
+	static class TabScreen extends ValueScreen {
+		TabScreen(int value) {
+			super(value);
+		}
+	}
+
+	@NonNull
+	static RegistryNavigationFactory createNavigationFactory() {
+		RegistryNavigationFactory navigationFactory = new RegistryNavigationFactory();
+		navigationFactory.registerActivity(MainActivityScreen.class, StressActivity.MainActivity.class);
+		navigationFactory.registerActivity(SecondActivityScreen.class, StressActivity.SecondActivity.class);
+		navigationFactory.registerActivity(SingleTopActivityScreen.class, StressActivity.SingleTopActivity.class);
+		navigationFactory.registerFragment(FragmentScreen.class, StressFragment.class);
+		navigationFactory.registerFragment(SingleTopFragmentScreen.class, StressFragment.class);
+		navigationFactory.registerFragment(StepFlowScreen.class, StressFragment.class);
+		navigationFactory.registerFragment(TabScreen.class, StressFragment.class);
+		navigationFactory.registerDialogFragment(DialogScreen.class, StressDialogFragment.class);
+		StandInScreens.register(navigationFactory);
+		return navigationFactory;
+	}
+
+	@NonNull
+	static List<Screen> createScreens() {
+		return Arrays.<Screen>asList(new MainActivityScreen(1), new SecondActivityScreen(1), new SecondActivityScreen(2), new SingleTopActivityScreen(1),
+				new FragmentScreen(1), new FragmentScreen(2), new SingleTopFragmentScreen(1), new SingleTopFragmentScreen(2),
+				new StepFlowScreen(1), new StepFlowScreen(2), new DialogScreen(1), new DialogScreen(2));
+	}
+
+	@NonNull
+	static List<Screen> createTabScreens() {
+		return Arrays.<Screen>asList(new TabScreen(1), new TabScreen(2), new TabScreen(3));
+	}
+
+	private StressScreens() {
+	}
+}
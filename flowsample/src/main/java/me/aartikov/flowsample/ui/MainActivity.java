@@ -17,6 +17,7 @@ import me.aartikov.flowsample.screens.TestFlowScreen;
 public class MainActivity extends AppCompatActivity {
 	private Navigator mNavigator = SampleApplication.getNavigator();
 	private NavigationContextBinder mNavigationContextBinder = SampleApplication.getNavigationContextBinder();
+	private NavigationContext mNavigationContext;
 
 	@Override
 	protected void onCreate(Bundle savedInstanceState) {
@@ -32,22 +33,29 @@ public class MainActivity extends AppCompatActivity {
 	}
 
 	private void bindNavigationContext() {
-		NavigationContext.Builder builder = new NavigationContext.Builder(this, SampleApplication.getNavigationFactory());
+		if (mNavigationContext == null) {
+			mNavigationContext = new NavigationContext.Builder(this, SampleApplication.getNavigationFactory())
+					.flowFragmentNavigation(getSupportFragmentManager(), R.id.flow_fragment_container)
+					.transitionAnimationProvider(new SampleTransitionAnimationProvider())
+					.transitionListener(((transitionType, destinationType, screenClassFrom, screenClassTo) -> {
+						if (destinationType == DestinationType.FLOW_FRAGMENT) {
+							updateFragmentNavigation();    // a current flow fragment has been changed, so a child fragment container is changed too.
+						}
+					}))
+					.build();
+		}
+
+		updateFragmentNavigation();
+		mNavigationContextBinder.bind(mNavigationContext);
+	}
 
+	private void updateFragmentNavigation() {
 		Fragment currentFlowFragment = getCurrentFlowFragment();
 		if (currentFlowFragment instanceof ContainerIdProvider) {
-			builder.fragmentNavigation(currentFlowFragment.getChildFragmentManager(), ((ContainerIdProvider) currentFlowFragment).getContainerId());
+			mNavigationContext.setFragmentNavigation(currentFlowFragment.getChildFragmentManager(), ((ContainerIdProvider) currentFlowFragment).getContainerId());
+		} else {
+			mNavigationContext.setFragmentNavigation(null, 0);
 		}
-
-		builder.flowFragmentNavigation(getSupportFragmentManager(), R.id.flow_fragment_container)
-				.transitionAnimationProvider(new SampleTransitionAnimationProvider())
-				.transitionListener(((transitionType, destinationType, screenClassFrom, screenClassTo) -> {
-					if (destinationType == DestinationType.FLOW_FRAGMENT) {
-						bindNavigationContext();    // rebind NavigationContext because a current flow fragment has been changed.
-					}
-				}));
-
-		mNavigationContextBinder.bind(builder.build());
 	}
 
 	private void setInitialFragmentIfRequired() {
@@ -7,7 +7,6 @@ import android.widget.ImageView;
 import android.widget.TextView;
 import android.widget.Toast;
 
-import androidx.annotation.Nullable;
 import androidx.appcompat.app.AppCompatActivity;
 
 import com.squareup.picasso.Picasso;
@@ -18,10 +17,8 @@ import me.aartikov.alligator.ActivityResultHandler;
 import me.aartikov.alligator.NavigationContext;
 import me.aartikov.alligator.NavigationContextBinder;
 import me.aartikov.alligator.Navigator;
-import me.aartikov.alligator.Screen;
-import me.aartikov.alligator.ScreenResult;
 import me.aartikov.alligator.annotations.RegisterScreen;
-import me.aartikov.alligator.listeners.ScreenResultListener;
+import me.aartikov.alligator.listeners.ScreenResultRouter;
 import me.aartikov.screenresultsample.R;
 import me.aartikov.screenresultsample.SampleApplication;
 import me.aartikov.screenresultsample.screens.ImagePickerScreen;
@@ -30,10 +27,11 @@ import me.aartikov.screenresultsample.screens.MessageInputScreen;
 
 
 @RegisterScreen(MainScreen.class)
-public class MainActivity extends AppCompatActivity implements ScreenResultListener {
+public class MainActivity extends AppCompatActivity {
 	private Navigator mNavigator = SampleApplication.getNavigator();
 	private NavigationContextBinder mNavigationContextBinder = SampleApplication.getNavigationContextBinder();
 	private ActivityResultHandler mActivityResultHandler = SampleApplication.getActivityResultHandler();
+	private ScreenResultRouter mScreenResultRouter;
 
 	@BindView(R.id.input_message_button)
 	Button mInputMessageButton;
@@ -56,35 +54,38 @@ public class MainActivity extends AppCompatActivity implements ScreenResultListe
 		// goForward works as startActivityForResult here
 		mInputMessageButton.setOnClickListener(v -> mNavigator.goForward(new MessageInputScreen()));
 		mPickImageButton.setOnClickListener(v -> mNavigator.goForward(new ImagePickerScreen()));
+
+		// results are routed to typed listeners, routes are validated once here
+		mScreenResultRouter = new ScreenResultRouter(SampleApplication.getNavigationFactory())
+				.addRoute(MessageInputScreen.class, MessageInputScreen.Result.class, this::onMessageInputted)
+				.addRoute(ImagePickerScreen.class, ImagePickerScreen.Result.class, this::onImagePicked);
 	}
 
 	private void onMessageInputted(MessageInputScreen.Result messageInputResult) {
+		if (messageInputResult == null) {
+			showCancelledMessage();
+			return;
+		}
 		mMessageTextView.setText(getString(R.string.inputted_message_template, messageInputResult.getMessage()));
 	}
 
 	private void onImagePicked(ImagePickerScreen.Result imagePickerResult) {
-		Picasso.with(this).load(imagePickerResult.getUri()).into(mImageView);
-	}
-
-	@Override
-	public void onScreenResult(Class<? extends Screen> screenClass, @Nullable ScreenResult result) {
-		if (result == null) {
-			Toast.makeText(MainActivity.this, getString(R.string.cancelled), Toast.LENGTH_SHORT).show();
+		if (imagePickerResult == null) {
+			showCancelledMessage();
 			return;
 		}
+		Picasso.with(this).load(imagePickerResult.getUri()).into(mImageView);
+	}
 
-		if (result instanceof MessageInputScreen.Result) {
-			onMessageInputted((MessageInputScreen.Result) result);
-		} else if (result instanceof ImagePickerScreen.Result) {
-			onImagePicked((ImagePickerScreen.Result) result);
-		}
+	private void showCancelledMessage() {
+		Toast.makeText(MainActivity.this, getString(R.string.cancelled), Toast.LENGTH_SHORT).show();
 	}
 
 	@Override
 	protected void onResumeFragments() {
 		super.onResumeFragments();
 		NavigationContext navigationContext = new NavigationContext.Builder(this, SampleApplication.getNavigationFactory())
-				.screenResultListener(this)      // set ScreenResultListener
+				.screenResultListener(mScreenResultRouter)      // set ScreenResultListener
 				.build();
 		mNavigationContextBinder.bind(navigationContext);
 	}
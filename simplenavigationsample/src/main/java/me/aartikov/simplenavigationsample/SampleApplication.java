@@ -8,6 +8,7 @@ import me.aartikov.alligator.Navigator;
 import me.aartikov.alligator.ScreenResolver;
 import me.aartikov.alligator.navigationfactories.GeneratedNavigationFactory;
 import me.aartikov.alligator.navigationfactories.NavigationFactory;
+import me.aartikov.alligator.navigationfactories.ScreenFragmentFactoryInstaller;
 
 
 public class SampleApplication extends Application {
@@ -17,6 +18,7 @@ public class SampleApplication extends Application {
 	public void onCreate() {
 		super.onCreate();
 		sAndroidNavigator = new AndroidNavigator(new GeneratedNavigationFactory()); // It is ok if GeneratedNavigationFactory is not defined. Just build the project to generate it.
+		registerActivityLifecycleCallbacks(new ScreenFragmentFactoryInstaller(sAndroidNavigator.getNavigationFactory()));    // fragments are restored without reflection on API 29+
 	}
 
 	// In a real application use dependency injection framework to provide these objects.